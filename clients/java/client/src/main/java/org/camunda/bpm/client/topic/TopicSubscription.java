@@ -113,6 +113,11 @@ public interface TopicSubscription {
    */
   List<String> getTenantIdIn();
 
+  /**
+   * @return the partitions of the external tasks which are supposed to be fetched and locked
+   */
+  List<Integer> getPartitionIn();
+
   /**
    * @return whether or not custom extension properties defined in the external
    *         task activity are included. The default is <code>false</code>,
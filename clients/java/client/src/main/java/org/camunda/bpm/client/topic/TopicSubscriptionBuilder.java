@@ -125,6 +125,13 @@ public interface TopicSubscriptionBuilder {
    */
   TopicSubscriptionBuilder tenantIdIn(String... tenantIds);
 
+  /**
+   * @param partitions to filter for external tasks that are supposed to be fetched and locked;
+   *                   requires the process engine to assign external tasks to partitions
+   * @return the builder
+   */
+  TopicSubscriptionBuilder partitionIn(Integer... partitions);
+
   /**
    * @param includeExtensionProperties
    *          whether or not to include custom extension properties for fetched
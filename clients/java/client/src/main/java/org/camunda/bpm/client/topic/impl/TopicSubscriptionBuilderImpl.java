@@ -46,6 +46,7 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
   protected Map<String, Object> processVariables;
   protected boolean withoutTenantId;
   protected List<String> tenantIds;
+  protected List<Integer> partitions;
   protected ExternalTaskHandler externalTaskHandler;
   protected TopicSubscriptionManager topicSubscriptionManager;
   protected boolean includeExtensionProperties;
@@ -144,6 +145,12 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
     return this;
   }
 
+  public TopicSubscriptionBuilder partitionIn(Integer... partitions) {
+    ensureNotNull(partitions, "partitions");
+    this.partitions = Arrays.asList(partitions);
+    return this;
+  }
+
   public TopicSubscriptionBuilder includeExtensionProperties(boolean includeExtensionProperties) {
     this.includeExtensionProperties = includeExtensionProperties;
     return this;
@@ -181,6 +188,9 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
     if (tenantIds != null) {
       subscription.setTenantIdIn(tenantIds);
     }
+    if (partitions != null) {
+      subscription.setPartitionIn(partitions);
+    }
     if(processDefinitionVersionTag != null) {
       subscription.setProcessDefinitionVersionTag(processDefinitionVersionTag);
     }
@@ -43,6 +43,7 @@ public class TopicSubscriptionImpl implements TopicSubscription {
   protected Map<String, Object> processVariables;
   protected boolean withoutTenantId;
   protected List<String> tenantIdIn;
+  protected List<Integer> partitionIn;
   protected boolean includeExtensionProperties;
 
   public TopicSubscriptionImpl(String topicName, Long lockDuration, ExternalTaskHandler externalTaskHandler,
@@ -163,6 +164,15 @@ public class TopicSubscriptionImpl implements TopicSubscription {
     return this;
   }
 
+  public List<Integer> getPartitionIn() {
+    return partitionIn;
+  }
+
+  public TopicSubscription setPartitionIn(List<Integer> partitions) {
+    this.partitionIn = partitions;
+    return this;
+  }
+
   public boolean isIncludeExtensionProperties() {
     return includeExtensionProperties;
   }
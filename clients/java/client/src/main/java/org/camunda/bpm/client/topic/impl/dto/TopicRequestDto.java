@@ -39,6 +39,7 @@ public class TopicRequestDto {
   protected Map<String, Object> processVariables;
   protected boolean withoutTenantId;
   protected List<String> tenantIdIn;
+  protected List<Integer> partitionIn;
   protected boolean includeExtensionProperties;
 
   public TopicRequestDto(String topicName, long lockDuration, List<String> variables, String businessKey) {
@@ -136,6 +137,14 @@ public class TopicRequestDto {
     this.tenantIdIn = tenantIdIn;
   }
 
+  public List<Integer> getPartitionIn() {
+    return partitionIn;
+  }
+
+  public void setPartitionIn(List<Integer> partitionIn) {
+    this.partitionIn = partitionIn;
+  }
+
   public boolean isIncludeExtensionProperties() {
     return includeExtensionProperties;
   }
@@ -174,6 +183,9 @@ public class TopicRequestDto {
     if (topicSubscription.getTenantIdIn() != null) {
       topicRequestDto.setTenantIdIn(topicSubscription.getTenantIdIn());
     }
+    if (topicSubscription.getPartitionIn() != null) {
+      topicRequestDto.setPartitionIn(topicSubscription.getPartitionIn());
+    }
     if(topicSubscription.getProcessDefinitionVersionTag() != null) {
       topicRequestDto.setProcessDefinitionVersionTag(topicSubscription.getProcessDefinitionVersionTag());
     }
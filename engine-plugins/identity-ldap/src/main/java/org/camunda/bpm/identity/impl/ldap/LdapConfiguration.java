@@ -67,6 +67,15 @@ public class LdapConfiguration {
 
   protected boolean authorizationCheckEnabled = true;
 
+  protected boolean connectionPoolEnabled = false;
+  protected int connectionPoolMaxSize = 10;
+  protected long connectionPoolValidationIntervalMillis = 30 * 1000;
+
+  protected int searchCacheSize = 0;
+  protected long searchCacheExpirationTimeMillis = 5 * 60 * 1000;
+
+  protected int countPageSize = 500;
+
   // getters / setters //////////////////////////////////////
 
   public String getInitialContextFactory() {
@@ -284,4 +293,74 @@ public class LdapConfiguration {
     this.authorizationCheckEnabled = authorizationCheckEnabled;
   }
 
+  public boolean isConnectionPoolEnabled() {
+    return connectionPoolEnabled;
+  }
+
+  /**
+   * If enabled, the LDAP contexts bound with the manager DN are reused across commands
+   * instead of opening a new connection per command.
+   */
+  public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+    this.connectionPoolEnabled = connectionPoolEnabled;
+  }
+
+  public int getConnectionPoolMaxSize() {
+    return connectionPoolMaxSize;
+  }
+
+  /**
+   * The maximum number of idle contexts kept in the connection pool.
+   */
+  public void setConnectionPoolMaxSize(int connectionPoolMaxSize) {
+    this.connectionPoolMaxSize = connectionPoolMaxSize;
+  }
+
+  public long getConnectionPoolValidationIntervalMillis() {
+    return connectionPoolValidationIntervalMillis;
+  }
+
+  /**
+   * Pooled contexts that were idle for longer than this interval are validated before reuse.
+   */
+  public void setConnectionPoolValidationIntervalMillis(long connectionPoolValidationIntervalMillis) {
+    this.connectionPoolValidationIntervalMillis = connectionPoolValidationIntervalMillis;
+  }
+
+  public int getSearchCacheSize() {
+    return searchCacheSize;
+  }
+
+  /**
+   * The maximum number of cached search results, covering user, group and group
+   * membership lookups. Caching is disabled if the value is less than or equal to zero.
+   */
+  public void setSearchCacheSize(int searchCacheSize) {
+    this.searchCacheSize = searchCacheSize;
+  }
+
+  public long getSearchCacheExpirationTimeMillis() {
+    return searchCacheExpirationTimeMillis;
+  }
+
+  /**
+   * The time after which cached search results expire.
+   */
+  public void setSearchCacheExpirationTimeMillis(long searchCacheExpirationTimeMillis) {
+    this.searchCacheExpirationTimeMillis = searchCacheExpirationTimeMillis;
+  }
+
+  public int getCountPageSize() {
+    return countPageSize;
+  }
+
+  /**
+   * The page size of the paged results control used to count users and groups.
+   * Only the id attribute is fetched for counting. If the value is less than or equal
+   * to zero, counts are computed from the full query results.
+   */
+  public void setCountPageSize(int countPageSize) {
+    this.countPageSize = countPageSize;
+  }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.identity.impl.ldap;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import javax.naming.NamingException;
+import javax.naming.ldap.LdapContext;
+
+import org.camunda.bpm.identity.impl.ldap.util.LdapPluginLogger;
+
+/**
+ * <p>Pool of LDAP contexts bound with the manager DN, shared by all
+ * {@link LdapIdentityProviderSession sessions} of a process engine.</p>
+ *
+ * <p>
+ *   Avoids a new connection, TLS handshake and bind per command. Contexts that were idle
+ *   for longer than the validation interval are checked with a lookup of the root DSE
+ *   before they are handed out; broken contexts are discarded. At most
+ *   {@link LdapConfiguration#getConnectionPoolMaxSize()} idle contexts are kept.
+ * </p>
+ */
+public class LdapContextPool {
+
+  protected int maxSize;
+  protected long validationIntervalMillis;
+
+  protected Deque<PooledContext> idleContexts = new ArrayDeque<>();
+
+  public LdapContextPool(int maxSize, long validationIntervalMillis) {
+    this.maxSize = maxSize;
+    this.validationIntervalMillis = validationIntervalMillis;
+  }
+
+  /**
+   * @param contextFactory opens a new context if no valid idle context is available
+   */
+  public LdapContext borrowContext(Supplier<LdapContext> contextFactory) {
+    PooledContext pooledContext;
+    while ((pooledContext = pollIdleContext()) != null) {
+      if (isValid(pooledContext)) {
+        return pooledContext.context;
+      }
+      closeContext(pooledContext.context);
+    }
+    return contextFactory.get();
+  }
+
+  public void returnContext(LdapContext context) {
+    try {
+      // request controls are stateful and must not leak into the next session
+      context.setRequestControls(null);
+    }
+    catch (NamingException e) {
+      closeContext(context);
+      return;
+    }
+
+    synchronized (this) {
+      if (idleContexts.size() < maxSize) {
+        idleContexts.push(new PooledContext(context, System.currentTimeMillis()));
+        return;
+      }
+    }
+    closeContext(context);
+  }
+
+  public void close() {
+    PooledContext pooledContext;
+    while ((pooledContext = pollIdleContext()) != null) {
+      closeContext(pooledContext.context);
+    }
+  }
+
+  public synchronized int getIdleCount() {
+    return idleContexts.size();
+  }
+
+  protected synchronized PooledContext pollIdleContext() {
+    return idleContexts.poll();
+  }
+
+  protected boolean isValid(PooledContext pooledContext) {
+    if (System.currentTimeMillis() - pooledContext.idleSince < validationIntervalMillis) {
+      return true;
+    }
+    try {
+      pooledContext.context.getAttributes("", new String[] { "objectClass" });
+      return true;
+    }
+    catch (NamingException e) {
+      LdapPluginLogger.INSTANCE.discardingInvalidPooledContext(e);
+      return false;
+    }
+  }
+
+  protected void closeContext(LdapContext context) {
+    try {
+      context.close();
+    }
+    catch (Exception e) {
+      LdapPluginLogger.INSTANCE.exceptionWhenClosingLdapCOntext(e);
+    }
+  }
+
+  protected static class PooledContext {
+
+    protected LdapContext context;
+    protected long idleSince;
+
+    protected PooledContext(LdapContext context, long idleSince) {
+      this.context = context;
+      this.idleSince = idleSince;
+    }
+  }
+
+}
@@ -27,13 +27,26 @@ import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 public class LdapIdentityProviderFactory implements SessionFactory {
 
   protected LdapConfiguration ldapConfiguration;
-  
+
+  protected LdapContextPool contextPool;
+  protected LdapSearchCache searchCache;
+
   public Class<?> getSessionType() {
     return ReadOnlyIdentityProvider.class;
   }
 
   public Session openSession() {
-    return new LdapIdentityProviderSession(ldapConfiguration);
+    return new LdapIdentityProviderSession(ldapConfiguration, contextPool, searchCache);
+  }
+
+  /**
+   * Closes the pooled contexts when the process engine is closed.
+   */
+  @Override
+  public void close() {
+    if (contextPool != null) {
+      contextPool.close();
+    }
   }
   
   public LdapConfiguration getLdapConfiguration() {
@@ -42,6 +55,36 @@ public class LdapIdentityProviderFactory implements SessionFactory {
   
   public void setLdapConfiguration(LdapConfiguration ldapConfiguration) {
     this.ldapConfiguration = ldapConfiguration;
+
+    if (ldapConfiguration.isConnectionPoolEnabled()) {
+      contextPool = new LdapContextPool(ldapConfiguration.getConnectionPoolMaxSize(),
+          ldapConfiguration.getConnectionPoolValidationIntervalMillis());
+    }
+    else {
+      contextPool = null;
+    }
+
+    if (ldapConfiguration.getSearchCacheSize() > 0) {
+      searchCache = new LdapSearchCache(ldapConfiguration.getSearchCacheSize(),
+          ldapConfiguration.getSearchCacheExpirationTimeMillis());
+    }
+    else {
+      searchCache = null;
+    }
+  }
+
+  /**
+   * @return the pool of manager contexts or null if pooling is disabled
+   */
+  public LdapContextPool getContextPool() {
+    return contextPool;
+  }
+
+  /**
+   * @return the search cache or null if caching is disabled
+   */
+  public LdapSearchCache getSearchCache() {
+    return searchCache;
   }
 
 }
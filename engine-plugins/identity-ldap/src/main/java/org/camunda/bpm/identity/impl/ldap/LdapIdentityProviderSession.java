@@ -20,11 +20,15 @@ import static org.camunda.bpm.engine.authorization.Permissions.READ;
 import static org.camunda.bpm.engine.authorization.Resources.GROUP;
 import static org.camunda.bpm.engine.authorization.Resources.USER;
 
+import java.io.IOException;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,10 +38,13 @@ import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 import javax.naming.directory.Attribute;
 import javax.naming.directory.Attributes;
+import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
 import javax.naming.ldap.Control;
 import javax.naming.ldap.InitialLdapContext;
 import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
 import javax.naming.ldap.SortControl;
 
 import org.camunda.bpm.engine.BadUserRequestException;
@@ -74,8 +81,24 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   protected LdapConfiguration ldapConfiguration;
   protected LdapContext initialContext;
 
+  protected LdapContextPool contextPool;
+  protected LdapSearchCache searchCache;
+
+  /** sort attributes of the request controls currently set on the context, part of the cache key */
+  protected String sortKey = "";
+
   public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration) {
+    this(ldapConfiguration, null, null);
+  }
+
+  /**
+   * @param contextPool the pool to borrow the manager context from, may be null
+   * @param searchCache the cache for search results, may be null
+   */
+  public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration, LdapContextPool contextPool, LdapSearchCache searchCache) {
     this.ldapConfiguration = ldapConfiguration;
+    this.contextPool = contextPool;
+    this.searchCache = searchCache;
   }
 
   // Session Lifecycle //////////////////////////////////
@@ -86,12 +109,22 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   public void close() {
     if (initialContext != null) {
-      try {
-        initialContext.close();
-      } catch (Exception e) {
-        // ignore
-        LdapPluginLogger.INSTANCE.exceptionWhenClosingLdapCOntext(e);
+      if (contextPool != null) {
+        contextPool.returnContext(initialContext);
+      } else {
+        closeContext(initialContext);
       }
+      initialContext = null;
+      sortKey = "";
+    }
+  }
+
+  protected void closeContext(LdapContext context) {
+    try {
+      context.close();
+    } catch (Exception e) {
+      // ignore
+      LdapPluginLogger.INSTANCE.exceptionWhenClosingLdapCOntext(e);
     }
   }
 
@@ -132,10 +165,106 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   protected void ensureContextInitialized() {
     if(initialContext == null) {
-      initialContext = openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword());
+      if (contextPool != null) {
+        initialContext = contextPool.borrowContext(() -> openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword()));
+      } else {
+        initialContext = openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword());
+      }
+    }
+  }
+
+  /**
+   * Performs a search with the configured search controls. If the search cache is enabled,
+   * the results are served from and added to the cache.
+   */
+  protected NamingEnumeration<SearchResult> search(String baseDn, String filter) throws NamingException {
+    if (searchCache == null) {
+      return initialContext.search(baseDn, filter, ldapConfiguration.getSearchControls());
+    }
+
+    String cacheKey = baseDn + "|" + filter + "|" + sortKey;
+    List<SearchResult> results = searchCache.get(cacheKey);
+    if (results == null) {
+      results = new ArrayList<>();
+      NamingEnumeration<SearchResult> enumeration = initialContext.search(baseDn, filter, ldapConfiguration.getSearchControls());
+      try {
+        while (enumeration.hasMoreElements()) {
+          results.add(enumeration.nextElement());
+        }
+      } finally {
+        enumeration.close();
+      }
+      results = Collections.unmodifiableList(results);
+      searchCache.put(cacheKey, results);
+    }
+    return new SearchResultEnumeration(results);
+  }
+
+  /**
+   * Counts the entries matching the filter using the paged results control, fetching only
+   * the id attribute. Entries the predicate rejects are not counted.
+   */
+  protected long countByPagedSearch(String baseDn, String filter, String idAttribute, Predicate<String> predicate) {
+    SearchControls searchControls = ldapConfiguration.getSearchControls();
+    searchControls.setReturningAttributes(new String[] { idAttribute });
+
+    NamingEnumeration<SearchResult> enumeration = null;
+    try {
+      long count = 0;
+      byte[] cookie = null;
+      do {
+        initialContext.setRequestControls(new Control[] {
+            new PagedResultsControl(ldapConfiguration.getCountPageSize(), cookie, Control.NONCRITICAL) });
+
+        enumeration = initialContext.search(baseDn, filter, searchControls);
+        while (enumeration.hasMoreElements()) {
+          SearchResult result = enumeration.nextElement();
+          String id = getStringAttributeValue(idAttribute, result.getAttributes());
+          if (id != null && predicate.test(id)) {
+            count++;
+          }
+        }
+        enumeration.close();
+        enumeration = null;
+
+        // a server not supporting paging returns all entries at once and no response control
+        cookie = getPagedResultsCookie(initialContext.getResponseControls());
+      } while (cookie != null && cookie.length > 0);
+
+      return count;
+
+    } catch (NamingException | IOException e) {
+      throw new IdentityProviderException("Could not count entries", e);
+
+    } finally {
+      try {
+        if (enumeration != null) {
+          enumeration.close();
+        }
+        initialContext.setRequestControls(null);
+        sortKey = "";
+      } catch (Exception e) {
+        // ignore silently
+      }
     }
   }
 
+  protected byte[] getPagedResultsCookie(Control[] responseControls) {
+    if (responseControls != null) {
+      for (Control control : responseControls) {
+        if (control instanceof PagedResultsResponseControl) {
+          return ((PagedResultsResponseControl) control).getCookie();
+        }
+      }
+    }
+    return null;
+  }
+
+  protected boolean isCountByPagedSearch() {
+    // with a cache, counting from the cached results is cheaper than a new search
+    return ldapConfiguration.getCountPageSize() > 0 && searchCache == null;
+  }
+
   // Users /////////////////////////////////////////////////
 
   public User findUserById(String userId) {
@@ -159,6 +288,14 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   public long findUserCountByQueryCriteria(LdapUserQueryImpl query) {
     ensureContextInitialized();
+    if (query.getGroupId() == null && isCountByPagedSearch()) {
+      String userBaseDn = composeDn(ldapConfiguration.getUserSearchBase(), ldapConfiguration.getBaseDn());
+      return countByPagedSearch(userBaseDn, getUserSearchFilter(query), ldapConfiguration.getUserIdAttribute(), userId -> {
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+        return isAuthenticatedUser(user) || isAuthorized(READ, USER, userId);
+      });
+    }
     return findUserByQueryCriteria(query).size();
   }
 
@@ -181,7 +318,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
     NamingEnumeration<SearchResult> enumeration = null;
     try {
-      enumeration = initialContext.search(baseDn, groupSearchFilter, ldapConfiguration.getSearchControls());
+      enumeration = search(baseDn, groupSearchFilter);
 
       List<String> groupMemberList = new ArrayList<>();
 
@@ -241,7 +378,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
     try {
 
       String filter = getUserSearchFilter(query);
-      enumeration = initialContext.search(userBaseDn, filter, ldapConfiguration.getSearchControls());
+      enumeration = search(userBaseDn, filter);
 
       // perform client-side paging
       int resultCount = 0;
@@ -338,7 +475,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
       try {
         // bind authenticate for user + supplied password
-        openContext(user.getDn(), password);
+        closeContext(openContext(user.getDn(), password));
         return true;
 
       } catch(LdapAuthenticationException e) {
@@ -412,6 +549,11 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   public long findGroupCountByQueryCriteria(LdapGroupQuery ldapGroupQuery) {
     ensureContextInitialized();
+    if (isCountByPagedSearch()) {
+      String groupBaseDn = composeDn(ldapConfiguration.getGroupSearchBase(), ldapConfiguration.getBaseDn());
+      return countByPagedSearch(groupBaseDn, getGroupSearchFilter(ldapGroupQuery), ldapConfiguration.getGroupIdAttribute(),
+          groupId -> isAuthorized(READ, GROUP, groupId));
+    }
     return findGroupByQueryCriteria(ldapGroupQuery).size();
   }
 
@@ -428,7 +570,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
     try {
 
       String filter = getGroupSearchFilter(query);
-      enumeration = initialContext.search(groupBaseDn, filter, ldapConfiguration.getSearchControls());
+      enumeration = search(groupBaseDn, filter);
 
       // perform client-side paging
       int resultCount = 0;
@@ -599,6 +741,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
     try {
       List<Control> controls = new ArrayList<>();
+      StringBuilder sortAttributes = new StringBuilder();
 
       List<QueryOrderingProperty> orderBy = query.getOrderingProperties();
       if(orderBy != null) {
@@ -606,20 +749,25 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
           String propertyName = orderingProperty.getQueryProperty().getName();
           if(UserQueryProperty.USER_ID.getName().equals(propertyName)) {
             controls.add(new SortControl(ldapConfiguration.getUserIdAttribute(), Control.CRITICAL));
+            sortAttributes.append(ldapConfiguration.getUserIdAttribute()).append(',');
 
           } else if(UserQueryProperty.EMAIL.getName().equals(propertyName)) {
             controls.add(new SortControl(ldapConfiguration.getUserEmailAttribute(), Control.CRITICAL));
+            sortAttributes.append(ldapConfiguration.getUserEmailAttribute()).append(',');
 
           } else if(UserQueryProperty.FIRST_NAME.getName().equals(propertyName)) {
             controls.add(new SortControl(ldapConfiguration.getUserFirstnameAttribute(), Control.CRITICAL));
+            sortAttributes.append(ldapConfiguration.getUserFirstnameAttribute()).append(',');
 
           } else if(UserQueryProperty.LAST_NAME.getName().equals(propertyName)) {
             controls.add(new SortControl(ldapConfiguration.getUserLastnameAttribute(), Control.CRITICAL));
+            sortAttributes.append(ldapConfiguration.getUserLastnameAttribute()).append(',');
           }
         }
       }
 
       initialContext.setRequestControls(controls.toArray(new Control[0]));
+      sortKey = sortAttributes.toString();
 
     } catch (Exception e) {
       throw new IdentityProviderException("Exception while setting paging settings", e);
@@ -708,4 +856,36 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
     // since multi-tenancy is not supported for the LDAP plugin, always return null
     return null;
   }
+  /**
+   * Enumerates search results served from the {@link LdapSearchCache}.
+   */
+  protected static class SearchResultEnumeration implements NamingEnumeration<SearchResult> {
+
+    protected Iterator<SearchResult> iterator;
+
+    public SearchResultEnumeration(List<SearchResult> results) {
+      this.iterator = results.iterator();
+    }
+
+    public SearchResult next() {
+      return iterator.next();
+    }
+
+    public boolean hasMore() {
+      return iterator.hasNext();
+    }
+
+    public void close() {
+      // nothing to do
+    }
+
+    public boolean hasMoreElements() {
+      return iterator.hasNext();
+    }
+
+    public SearchResult nextElement() {
+      return iterator.next();
+    }
+  }
+
 }
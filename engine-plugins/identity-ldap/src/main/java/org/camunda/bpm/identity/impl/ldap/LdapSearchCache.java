@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.identity.impl.ldap;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.naming.directory.SearchResult;
+
+/**
+ * <p>Caches the results of LDAP searches for a limited time, shared by all
+ * {@link LdapIdentityProviderSession sessions} of a process engine.</p>
+ *
+ * <p>
+ *   Since every user, group and group membership lookup is a search, the cache covers all
+ *   of them. Results are cached before authorization checks are applied, so the same entry
+ *   can serve different users. The least recently used entries are evicted once the
+ *   maximum size is reached; {@link #clear()} invalidates all entries, e.g. after changes
+ *   in the directory that must become visible before the entries expire.
+ * </p>
+ */
+public class LdapSearchCache {
+
+  protected long expirationTimeMillis;
+  protected Map<String, CacheEntry> entries;
+
+  public LdapSearchCache(final int maxSize, long expirationTimeMillis) {
+    this.expirationTimeMillis = expirationTimeMillis;
+    this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * @return the cached results or null if there are none or they expired
+   */
+  public synchronized List<SearchResult> get(String key) {
+    CacheEntry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expirationTime <= System.currentTimeMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.results;
+  }
+
+  public synchronized void put(String key, List<SearchResult> results) {
+    entries.put(key, new CacheEntry(results, System.currentTimeMillis() + expirationTimeMillis));
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  protected static class CacheEntry {
+
+    protected List<SearchResult> results;
+    protected long expirationTime;
+
+    protected CacheEntry(List<SearchResult> results, long expirationTime) {
+      this.results = results;
+      this.expirationTime = expirationTime;
+    }
+  }
+
+}
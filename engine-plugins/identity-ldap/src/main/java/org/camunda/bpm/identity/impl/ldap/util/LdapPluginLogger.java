@@ -77,4 +77,9 @@ public class LdapPluginLogger extends BaseLogger {
     // log sensitive data only on FINE
     logDebug("006", summary);
   }
+
+  public void discardingInvalidPooledContext(Exception e)
+  {
+    logDebug("007", "Discarding pooled LDAP context that failed validation", e);
+  }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.identity.impl.ldap;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.identity.Group;
+import org.camunda.bpm.engine.identity.User;
+import org.camunda.bpm.engine.impl.test.ResourceProcessEngineTestCase;
+
+/**
+ * Represents a test case where pooling of LDAP contexts and caching of search results are enabled.
+ */
+public class LdapConnectionPoolAndCacheTest extends ResourceProcessEngineTestCase {
+
+  public LdapConnectionPoolAndCacheTest() {
+    super("camunda.ldap.pool.cache.cfg.xml");
+  }
+
+  protected static LdapTestEnvironment ldapTestEnvironment;
+
+  protected LdapIdentityProviderFactory identityProviderFactory;
+
+  @Override
+  protected void setUp() throws Exception {
+    if(ldapTestEnvironment == null) {
+      ldapTestEnvironment = new LdapTestEnvironment();
+      ldapTestEnvironment.init();
+    }
+    super.setUp();
+    identityProviderFactory = (LdapIdentityProviderFactory) processEngineConfiguration.getIdentityProviderSessionFactory();
+    identityProviderFactory.getSearchCache().clear();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    if(ldapTestEnvironment != null) {
+      ldapTestEnvironment.shutdown();
+      ldapTestEnvironment = null;
+    }
+    super.tearDown();
+  }
+
+  public void testContextIsReturnedToPool() {
+    identityService.createUserQuery().userId("roman").singleResult();
+    assertEquals(1, identityProviderFactory.getContextPool().getIdleCount());
+
+    identityService.createGroupQuery().list();
+    identityService.createUserQuery().list();
+
+    // the pooled context was reused
+    assertEquals(1, identityProviderFactory.getContextPool().getIdleCount());
+  }
+
+  public void testPoolIsClosedWithFactory() {
+    identityService.createUserQuery().userId("roman").singleResult();
+    assertEquals(1, identityProviderFactory.getContextPool().getIdleCount());
+
+    identityProviderFactory.close();
+
+    assertEquals(0, identityProviderFactory.getContextPool().getIdleCount());
+  }
+
+  public void testCheckPasswordWithPool() {
+    assertTrue(identityService.checkPassword("roman", "roman"));
+    assertFalse(identityService.checkPassword("roman", "wrong"));
+
+    // the user context is not pooled
+    assertEquals(1, identityProviderFactory.getContextPool().getIdleCount());
+  }
+
+  public void testSearchResultsAreCached() {
+    List<User> users = identityService.createUserQuery().list();
+    int cacheSize = identityProviderFactory.getSearchCache().size();
+    assertTrue(cacheSize > 0);
+
+    List<User> cachedUsers = identityService.createUserQuery().list();
+    assertEquals(cacheSize, identityProviderFactory.getSearchCache().size());
+    assertEquals(users.size(), cachedUsers.size());
+    assertEquals(users.size(), identityService.createUserQuery().count());
+  }
+
+  public void testSortedSearchIsCachedSeparately() {
+    identityService.createUserQuery().list();
+    int cacheSize = identityProviderFactory.getSearchCache().size();
+
+    identityService.createUserQuery().orderByUserLastName().asc().list();
+    assertEquals(cacheSize + 1, identityProviderFactory.getSearchCache().size());
+  }
+
+  public void testGroupMembershipIsCached() {
+    List<Group> groups = identityService.createGroupQuery().groupMember("roman").list();
+    int cacheSize = identityProviderFactory.getSearchCache().size();
+
+    assertEquals(groups.size(), identityService.createGroupQuery().groupMember("roman").list().size());
+    assertEquals(cacheSize, identityProviderFactory.getSearchCache().size());
+
+    identityProviderFactory.getSearchCache().clear();
+    assertEquals(0, identityProviderFactory.getSearchCache().size());
+    assertEquals(groups.size(), identityService.createGroupQuery().groupMember("roman").count());
+  }
+
+  public void testCountByPagedSearch() {
+    final LdapConfiguration configuration = identityProviderFactory.getLdapConfiguration();
+    final int pageSize = configuration.getCountPageSize();
+    configuration.setCountPageSize(2);
+    try {
+      long userCount = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+        LdapIdentityProviderSession session = new LdapIdentityProviderSession(configuration);
+        try {
+          return session.findUserCountByQueryCriteria(new LdapUserQueryImpl());
+        } finally {
+          session.close();
+        }
+      });
+      long groupCount = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+        LdapIdentityProviderSession session = new LdapIdentityProviderSession(configuration);
+        try {
+          return session.findGroupCountByQueryCriteria(new LdapGroupQuery());
+        } finally {
+          session.close();
+        }
+      });
+
+      assertEquals(identityService.createUserQuery().list().size(), userCount);
+      assertEquals(identityService.createGroupQuery().list().size(), groupCount);
+    } finally {
+      configuration.setCountPageSize(pageSize);
+    }
+  }
+
+}
@@ -50,6 +50,7 @@
     {"name": "Group"},
     {"name": "Historic Activity Instance"},
     {"name": "Historic Batch"},
+    {"name": "Historic Change Feed"},
     {"name": "Historic Decision Definition"},
     {"name": "Historic Decision Instance"},
     {"name": "Historic Decision Requirements Definition"},
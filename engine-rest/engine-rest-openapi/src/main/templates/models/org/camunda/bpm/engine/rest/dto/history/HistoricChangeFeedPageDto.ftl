@@ -0,0 +1,17 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "results"
+      type = "array"
+      itemType = "object"
+      desc = "The history entries of this page, ordered by the time of the change and their id." />
+
+  <@lib.property
+      name = "continuationToken"
+      type = "string"
+      last = true
+      desc = "The token to pass to the next request to continue reading after the last entry of this page." />
+
+</@lib.dto>
+</#macro>
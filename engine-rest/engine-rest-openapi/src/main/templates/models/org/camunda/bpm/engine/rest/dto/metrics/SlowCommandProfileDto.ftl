@@ -0,0 +1,52 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+    <@lib.property
+        name = "id"
+        type = "string"
+        desc = "The id of the profile, unique within the process engine."/>
+
+    <@lib.property
+        name = "commandName"
+        type = "string"
+        desc = "The simple class name of the profiled command."/>
+
+    <@lib.property
+        name = "threadName"
+        type = "string"
+        desc = "The name of the thread that executed the command."/>
+
+    <@lib.property
+        name = "startTime"
+        type = "string"
+        format = "date-time"
+        desc = "The time the command was started."/>
+
+    <@lib.property
+        name = "duration"
+        type = "integer"
+        format = "int64"
+        desc = "The wall time of the command including flush and commit in microseconds."/>
+
+    <@lib.property
+        name = "failed"
+        type = "boolean"
+        desc = "`true` if the command failed with an exception."/>
+
+    <@lib.property
+        name = "droppedEntryCount"
+        type = "integer"
+        format = "int64"
+        desc = "The number of entries that were not retained because the profile was full."/>
+
+    <@lib.property
+        name = "entries"
+        type = "array"
+        dto = "SlowCommandProfileEntryDto"
+        last = true
+        desc = "The atomic operations, delegate and listener invocations, nested commands and SQL statements
+                of the command in the order they were started."/>
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,59 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+    <@lib.property
+        name = "type"
+        type = "string"
+        enumValues = ['"operation"', '"delegate"', '"command"', '"sql"']
+        desc = "The type of the entry: an atomic operation, an invocation of user code like a delegate,
+                listener, script or expression, a nested command or a SQL statement."/>
+
+    <@lib.property
+        name = "name"
+        type = "string"
+        desc = "The name of the operation, the class name of the invoked user code or the expression,
+                the simple class name of the command or the MyBatis statement id."/>
+
+    <@lib.property
+        name = "activityId"
+        type = "string"
+        desc = "The id of the activity an operation was performed in."/>
+
+    <@lib.property
+        name = "processInstanceId"
+        type = "string"
+        desc = "The id of the process instance an operation was performed in."/>
+
+    <@lib.property
+        name = "processDefinitionId"
+        type = "string"
+        desc = "The id of the process definition an operation was performed in."/>
+
+    <@lib.property
+        name = "detail"
+        type = "string"
+        desc = "Additional information like the number of rows of a SQL statement."/>
+
+    <@lib.property
+        name = "depth"
+        type = "integer"
+        format = "int32"
+        desc = "The nesting depth. An entry of depth `n + 1` was performed within the closest preceding
+                entry of depth `n`."/>
+
+    <@lib.property
+        name = "startOffset"
+        type = "integer"
+        format = "int64"
+        desc = "The time between the start of the command and the start of the entry in microseconds."/>
+
+    <@lib.property
+        name = "duration"
+        type = "integer"
+        format = "int64"
+        last = true
+        desc = "The duration of the entry in microseconds."/>
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,13 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+    <@lib.property
+        name = "filterIds"
+        type = "array"
+        itemType = "string"
+        desc = "The ids of the filters to count the results of."
+        last = true
+    />
+
+</@lib.dto>
+</#macro>
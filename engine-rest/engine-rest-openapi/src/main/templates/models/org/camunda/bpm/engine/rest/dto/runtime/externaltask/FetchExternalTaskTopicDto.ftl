@@ -28,6 +28,14 @@
         defaultValue = 'false'
         desc = "If `true` only local variables will be fetched." />
 
+    <@lib.property
+        name = "lazyVariables"
+        type = "boolean"
+        defaultValue = 'false'
+        desc = "If `true`, the values of variables that are stored as binary data (e.g. byte arrays, files and
+                serialized values such as custom objects, JSON or XML) are not fetched. Instead, the response
+                contains references to these variables in the `variableReferences` property." />
+
     <@lib.property
         name = "businessKey"
         type = "string"
@@ -72,6 +80,13 @@
         itemType = "string"
         desc = "Filter tasks based on tenant ids." />
 
+    <@lib.property
+        name = "partitionIn"
+        type = "array"
+        itemType = "integer"
+        desc = "Filter tasks based on partitions. External tasks are only assigned to partitions if the
+                process engine configuration property `externalTaskPartitionCount` is set." />
+
     <@lib.property
         name = "processVariables"
         type = "object"
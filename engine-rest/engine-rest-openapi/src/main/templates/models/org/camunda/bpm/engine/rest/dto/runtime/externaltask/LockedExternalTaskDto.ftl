@@ -102,10 +102,19 @@
       type = "object"
       dto = "VariableValueDto"
       additionalProperties = true
-      last = true
       desc = "A JSON object containing a property for each of the requested variables. The key is the variable name,
               the value is a JSON object of serialized variable values with the following properties:" />
 
+  <@lib.property
+      name = "variableReferences"
+      type = "object"
+      dto = "VariableReferenceDto"
+      additionalProperties = true
+      last = true
+      desc = "A JSON object containing a property for each of the requested variables that were fetched lazily
+              (see `lazyVariables`). The key is the variable name, the value is a JSON object referencing the variable
+              instance whose value can be fetched on demand via the variable instance endpoints." />
+
 </@lib.dto>
 
 </#macro>
\ No newline at end of file
@@ -0,0 +1,27 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "id"
+      type = "string"
+      desc = "The id of the variable instance." />
+
+  <@lib.property
+      name = "name"
+      type = "string"
+      desc = "The name of the variable." />
+
+  <@lib.property
+      name = "type"
+      type = "string"
+      desc = "The value type of the variable." />
+
+  <@lib.property
+      name = "executionId"
+      type = "string"
+      last = true
+      desc = "The id of the execution the variable is set on." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,67 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "countFilterResults"
+      tag = "Filter"
+      summary = "Count Filter Results"
+      desc = "Executes the saved queries of several filters in a single request and returns the
+              number of results of each filter. Filters with the same query are only counted once."
+  />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "FilterCountRequestDto"
+      examples = ['"example-1": {
+                     "summary": "request",
+                     "description": "POST `/filter/count`",
+                     "value": {
+                       "filterIds": ["aFilterId", "anotherFilterId"]
+                     }
+                   }']
+  />
+
+  "responses": {
+
+    <@lib.response
+        code = "200"
+        flatType = "integer"
+        additionalProperties = true
+        desc = "Request successful. The result count of each filter by filter id."
+        examples = ['"example-1": {
+                       "summary": "response",
+                       "value": {
+                         "aFilterId": 12,
+                         "anotherFilterId": 3
+                       }
+                     }']
+    />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if no filter ids are given. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+    />
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        desc = "The authenticated user is unauthorized to read one of the filters.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+    />
+
+    <@lib.response
+        code = "404"
+        dto = "ExceptionDto"
+        desc = "One of the filters with the given ids does not exist.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true
+    />
+
+  }
+
+}
+</#macro>
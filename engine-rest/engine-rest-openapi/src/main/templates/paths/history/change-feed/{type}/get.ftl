@@ -0,0 +1,96 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "getHistoricChangeFeed"
+      tag = "Historic Change Feed"
+      summary = "Get Changes"
+      desc = "Retrieves the next page of history entries of the given change feed type. The entries
+              are ordered by the time of the change and their id. To continue reading, pass the
+              `continuationToken` of the response in the next request. If no new entries exist,
+              the result list is empty and the given token is returned unchanged. Entries younger
+              than the safety lag of the process engine (one minute by default) are not returned
+              yet, since their transactions may still commit after newer entries." />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "type"
+        location = "path"
+        type = "string"
+        required = true
+        enumValues = ['"process-instance-started"', '"process-instance-completed"',
+                      '"activity-instance-started"', '"activity-instance-completed"',
+                      '"task-instance-started"', '"task-instance-completed"',
+                      '"variable-update"', '"user-operation"']
+        desc = "The type of the change feed to read from." />
+
+    <@lib.parameter
+        name = "continuationToken"
+        location = "query"
+        type = "string"
+        desc = "The continuation token of the previously fetched page. If not provided,
+                the feed is read from the beginning." />
+
+    <@lib.parameter
+        name = "maxResults"
+        location = "query"
+        type = "integer"
+        format = "int32"
+        defaultValue = "1000"
+        last = true
+        desc = "The maximum number of entries to return." />
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "HistoricChangeFeedPageDto"
+        desc = "Request successful. Depending on the type, the results are of the same format as
+                the historic process instance, activity instance, task instance, detail or user
+                operation log endpoints return."
+        examples = ['"example-1": {
+                       "summary": "GET `/history/change-feed/process-instance-completed?maxResults=1`",
+                       "value": {
+                                  "results": [
+                                    {
+                                      "id":"7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                                      "businessKey":null,
+                                      "processDefinitionId":"invoice:1:7bf79f13-ef95-11e6-b6e6-34f39ab71d4e",
+                                      "processDefinitionKey":"invoice",
+                                      "processDefinitionName":"Invoice Receipt",
+                                      "processDefinitionVersion":1,
+                                      "startTime":"2017-02-10T14:33:19.000+0200",
+                                      "endTime":"2017-02-10T14:35:02.000+0200",
+                                      "removalTime": null,
+                                      "durationInMillis":103000,
+                                      "startUserId":null,
+                                      "startActivityId":"StartEvent_1",
+                                      "deleteReason":null,
+                                      "rootProcessInstanceId": "7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                                      "superProcessInstanceId":null,
+                                      "superCaseInstanceId":null,
+                                      "caseInstanceId":null,
+                                      "tenantId":null,
+                                      "state":"COMPLETED"
+                                    }
+                                  ],
+                                  "continuationToken": "1486730102000:7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e"
+                                }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if the change feed type is unknown, the continuation token is invalid or
+                `maxResults` is not positive. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error
+                response format." />
+
+  }
+}
+
+</#macro>
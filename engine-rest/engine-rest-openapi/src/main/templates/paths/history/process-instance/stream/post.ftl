@@ -0,0 +1,65 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamHistoricProcessInstances"
+      tag = "Historic Process Instance"
+      summary = "Stream Historic Process Instances"
+      desc = "Streams all historic process instances that fulfill the given parameters as
+              newline delimited JSON, one historic process instance per line. The results
+              are fetched from the database in batches, so the response is sent in chunks
+              and its size is not limited by memory. Takes the same request body as the
+              [Get Process Instances (POST)](${docsUrl}/reference/rest/history/process-instance/post-process-instance-query/)
+              method. Without sorting, the results are ordered by id."
+  />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "batchSize"
+        location = "query"
+        type = "integer"
+        format = "int32"
+        defaultValue = "1000"
+        desc = "The number of historic process instances fetched from the database at once."
+        last = true
+    />
+
+  ],
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "HistoricProcessInstanceQueryDto"
+      examples = ['"example-1": {
+                     "summary": "POST `/history/process-instance/stream`",
+                     "value": {
+                       "finished": true,
+                       "processDefinitionKey": "invoice"
+                     }
+                   }']
+  />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        mediaType = "application/x-ndjson"
+        binary = true
+        desc = "Request successful. Each line of the response body is a historic process instance
+                as returned by the
+                [Get Process Instances (POST)](${docsUrl}/reference/rest/history/process-instance/post-process-instance-query/)
+                method."
+    />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`, or if the batch size is not positive. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true
+    />
+
+  }
+}
+</#macro>
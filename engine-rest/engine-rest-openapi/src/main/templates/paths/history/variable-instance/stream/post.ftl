@@ -0,0 +1,66 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamHistoricVariableInstances"
+      tag = "Historic Variable Instance"
+      summary = "Stream Variable Instances"
+      desc = "Streams all historic variable instances that fulfill the given parameters as
+              newline delimited JSON, one historic variable instance per line. The results
+              are fetched from the database in batches, so the response is sent in chunks
+              and its size is not limited by memory. Takes the same request body as the
+              [Get Variable Instances (POST)](${docsUrl}/reference/rest/history/variable-instance/post-variable-instance-query/)
+              method. Without sorting, the results are ordered by id."
+  />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "batchSize"
+        location = "query"
+        type = "integer"
+        format = "int32"
+        defaultValue = "1000"
+        desc = "The number of historic variable instances fetched from the database at once."
+    />
+
+    <#assign last = true >
+    <#include "/lib/commons/deserialize-values-parameter.ftl">
+
+  ],
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "HistoricVariableInstanceQueryDto"
+      examples = ['"example-1": {
+                     "summary": "POST `/history/variable-instance/stream`",
+                     "value": {
+                       "processDefinitionKey": "invoice"
+                     }
+                   }']
+  />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        mediaType = "application/x-ndjson"
+        binary = true
+        desc = "Request successful. Each line of the response body is a historic variable instance
+                as returned by the
+                [Get Variable Instances (POST)](${docsUrl}/reference/rest/history/variable-instance/post-variable-instance-query/)
+                method."
+    />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`, or if the batch size is not positive. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true
+    />
+
+  }
+}
+</#macro>
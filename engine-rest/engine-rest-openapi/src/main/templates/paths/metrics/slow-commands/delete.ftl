@@ -0,0 +1,23 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "clearSlowCommandProfiles"
+      tag = "Metrics"
+      summary = "Clear Slow Command Profiles"
+      desc = "Discards all slow command profiles retained by the process engine." />
+
+  "responses": {
+
+    <@lib.response
+        code = "204"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        last = true
+        desc = "If the user who performs the operation is not a <b>camunda-admin</b> user." />
+
+  }
+}
+</#macro>
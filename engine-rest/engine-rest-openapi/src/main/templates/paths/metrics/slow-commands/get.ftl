@@ -0,0 +1,65 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "getSlowCommandProfiles"
+      tag = "Metrics"
+      summary = "Get Slow Command Profiles"
+      desc = "Retrieves the profiles of the commands that took longer than the slow command threshold,
+              newest first. Profiles are only recorded if slow command profiling is enabled in the
+              process engine configuration and are kept in memory of the process engine." />
+
+  "responses": {
+
+    <@lib.response
+        code = "200"
+        dto = "SlowCommandProfileDto"
+        array = true
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "GET /metrics/slow-commands",
+                       "value": [
+                                  {
+                                    "id": "42",
+                                    "commandName": "StartProcessInstanceCmd",
+                                    "threadName": "http-nio-8080-exec-1",
+                                    "startTime": "2022-01-01T10:00:00.000+0200",
+                                    "duration": 1520345,
+                                    "failed": false,
+                                    "droppedEntryCount": 0,
+                                    "entries": [
+                                      {
+                                        "type": "operation",
+                                        "name": "activity-execute",
+                                        "activityId": "serviceTask",
+                                        "processInstanceId": "aProcessInstanceId",
+                                        "processDefinitionId": "aProcessDefinitionId",
+                                        "detail": null,
+                                        "depth": 0,
+                                        "startOffset": 1203,
+                                        "duration": 1500120
+                                      },
+                                      {
+                                        "type": "delegate",
+                                        "name": "org.example.SlowDelegate",
+                                        "activityId": null,
+                                        "processInstanceId": null,
+                                        "processDefinitionId": null,
+                                        "detail": null,
+                                        "depth": 1,
+                                        "startOffset": 1250,
+                                        "duration": 1500030
+                                      }
+                                    ]
+                                  }
+                                ]
+                     }']/>
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        last = true
+        desc = "If the user who performs the operation is not a <b>camunda-admin</b> user." />
+
+  }
+}
+</#macro>
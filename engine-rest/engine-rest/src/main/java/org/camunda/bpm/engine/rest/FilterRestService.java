@@ -18,6 +18,7 @@ package org.camunda.bpm.engine.rest;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
 import org.camunda.bpm.engine.rest.dto.ResourceOptionsDto;
+import org.camunda.bpm.engine.rest.dto.runtime.FilterCountRequestDto;
 import org.camunda.bpm.engine.rest.dto.runtime.FilterDto;
 import org.camunda.bpm.engine.rest.sub.runtime.FilterResource;
 
@@ -26,6 +27,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
+import java.util.Map;
 
 @Produces(MediaType.APPLICATION_JSON)
 public interface FilterRestService {
@@ -45,6 +47,12 @@ public interface FilterRestService {
   @Produces(MediaType.APPLICATION_JSON)
   CountResultDto getFiltersCount(@Context UriInfo uriInfo);
 
+  @POST
+  @Path("/count")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  Map<String, Long> countFilterResults(FilterCountRequestDto countRequest);
+
   @POST
   @Path("/create")
   @Consumes(MediaType.APPLICATION_JSON)
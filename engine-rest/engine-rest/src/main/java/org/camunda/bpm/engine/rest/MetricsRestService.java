@@ -30,6 +30,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
 import org.camunda.bpm.engine.rest.dto.metrics.MetricsIntervalResultDto;
+import org.camunda.bpm.engine.rest.dto.metrics.SlowCommandProfileDto;
 
 import org.camunda.bpm.engine.rest.sub.metrics.MetricsResource;
 
@@ -52,4 +53,13 @@ public interface MetricsRestService {
   @DELETE
   @Path("/task-worker")
   Response deleteTaskMetrics(@QueryParam("date") String dateString);
+
+  @GET
+  @Path("/slow-commands")
+  @Produces(MediaType.APPLICATION_JSON)
+  List<SlowCommandProfileDto> getSlowCommandProfiles();
+
+  @DELETE
+  @Path("/slow-commands")
+  Response clearSlowCommandProfiles();
 }
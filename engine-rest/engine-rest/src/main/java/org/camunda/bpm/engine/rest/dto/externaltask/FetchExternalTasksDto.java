@@ -85,10 +85,12 @@ public class FetchExternalTasksDto {
     protected HashMap<String, Object> processVariables;
     protected boolean deserializeValues = false;
     protected boolean localVariables = false;
+    protected boolean lazyVariables = false;
     protected boolean includeExtensionProperties = false;
 
     protected boolean withoutTenantId;
     protected String[] tenantIdIn;
+    protected Integer[] partitionIn;
 
     public String getTopicName() {
       return topicName;
@@ -162,6 +164,12 @@ public class FetchExternalTasksDto {
     public void setLocalVariables(boolean localVariables) {
       this.localVariables = localVariables;
     }
+    public boolean isLazyVariables() {
+      return lazyVariables;
+    }
+    public void setLazyVariables(boolean lazyVariables) {
+      this.lazyVariables = lazyVariables;
+    }
     public boolean isWithoutTenantId() {
       return withoutTenantId;
     }
@@ -174,6 +182,12 @@ public class FetchExternalTasksDto {
     public void setTenantIdIn(String[] tenantIdIn) {
       this.tenantIdIn = tenantIdIn;
     }
+    public Integer[] getPartitionIn() {
+      return partitionIn;
+    }
+    public void setPartitionIn(Integer[] partitionIn) {
+      this.partitionIn = partitionIn;
+    }
     public boolean isIncludeExtensionProperties() {
       return includeExtensionProperties;
     }
@@ -228,6 +242,10 @@ public class FetchExternalTasksDto {
           topicFetchBuilder = topicFetchBuilder.localVariables();
         }
 
+        if (topicDto.isLazyVariables()) {
+          topicFetchBuilder = topicFetchBuilder.lazyVariables();
+        }
+
         if (TRUE.equals(topicDto.isWithoutTenantId())) {
           topicFetchBuilder = topicFetchBuilder.withoutTenantId();
         }
@@ -236,6 +254,10 @@ public class FetchExternalTasksDto {
           topicFetchBuilder = topicFetchBuilder.tenantIdIn(topicDto.getTenantIdIn());
         }
 
+        if (topicDto.getPartitionIn() != null) {
+          topicFetchBuilder = topicFetchBuilder.partitionIn(topicDto.getPartitionIn());
+        }
+
         if(topicDto.getProcessDefinitionVersionTag() != null) {
           topicFetchBuilder = topicFetchBuilder.processDefinitionVersionTag(topicDto.getProcessDefinitionVersionTag());
         }
@@ -47,6 +47,7 @@ public class LockedExternalTaskDto {
   protected String topicName;
   protected String tenantId;
   protected Map<String, VariableValueDto> variables;
+  protected Map<String, VariableReferenceDto> variableReferences;
   protected long priority;
   protected String businessKey;
   protected Map<String, String> extensionProperties;
@@ -99,6 +100,9 @@ public class LockedExternalTaskDto {
   public Map<String, VariableValueDto> getVariables() {
     return variables;
   }
+  public Map<String, VariableReferenceDto> getVariableReferences() {
+    return variableReferences;
+  }
 
   public long getPriority() {
     return priority;
@@ -134,6 +138,7 @@ public class LockedExternalTaskDto {
     dto.workerId = task.getWorkerId();
     dto.tenantId = task.getTenantId();
     dto.variables = VariableValueDto.fromMap(task.getVariables());
+    dto.variableReferences = VariableReferenceDto.fromMap(task.getVariableReferences());
     dto.priority = task.getPriority();
     dto.businessKey = task.getBusinessKey();
     dto.extensionProperties = task.getExtensionProperties();
@@ -170,6 +175,7 @@ public class LockedExternalTaskDto {
         + ", topicName=" + topicName
         + ", tenantId=" + tenantId
         + ", variables=" + variables
+        + ", variableReferences=" + variableReferences
         + ", priority=" + priority
         + ", businessKey=" + businessKey + "]";
   }
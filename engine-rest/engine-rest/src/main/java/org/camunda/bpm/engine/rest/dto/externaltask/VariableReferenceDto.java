@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.externaltask;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.camunda.bpm.engine.externaltask.VariableReference;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+
+public class VariableReferenceDto {
+
+  protected String id;
+  protected String name;
+  protected String type;
+  protected String executionId;
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getExecutionId() {
+    return executionId;
+  }
+
+  public static VariableReferenceDto fromVariableReference(VariableReference variableReference) {
+    VariableReferenceDto dto = new VariableReferenceDto();
+    dto.id = variableReference.getId();
+    dto.name = variableReference.getName();
+    dto.type = VariableValueDto.toRestApiTypeName(variableReference.getTypeName());
+    dto.executionId = variableReference.getExecutionId();
+    return dto;
+  }
+
+  public static Map<String, VariableReferenceDto> fromMap(Map<String, VariableReference> variableReferences) {
+    Map<String, VariableReferenceDto> dtos = new HashMap<>();
+
+    if (variableReferences != null) {
+      for (Map.Entry<String, VariableReference> entry : variableReferences.entrySet()) {
+        dtos.put(entry.getKey(), fromVariableReference(entry.getValue()));
+      }
+    }
+
+    return dtos;
+  }
+
+  @Override
+  public String toString() {
+    return "VariableReferenceDto [id=" + id
+        + ", name=" + name
+        + ", type=" + type
+        + ", executionId=" + executionId + "]";
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.metrics;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.management.SlowCommandProfile;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+
+public class SlowCommandProfileDto {
+
+  protected String id;
+  protected String commandName;
+  protected String threadName;
+  protected Date startTime;
+  protected long duration;
+  protected boolean failed;
+  protected long droppedEntryCount;
+  protected List<SlowCommandProfileEntryDto> entries;
+
+  public static SlowCommandProfileDto fromSlowCommandProfile(SlowCommandProfile profile) {
+    SlowCommandProfileDto dto = new SlowCommandProfileDto();
+    dto.id = profile.getId();
+    dto.commandName = profile.getCommandName();
+    dto.threadName = profile.getThreadName();
+    dto.startTime = profile.getStartTime();
+    dto.duration = profile.getDuration();
+    dto.failed = profile.isFailed();
+    dto.droppedEntryCount = profile.getDroppedEntryCount();
+
+    dto.entries = new ArrayList<>();
+    for (SlowCommandProfileEntry entry : profile.getEntries()) {
+      dto.entries.add(SlowCommandProfileEntryDto.fromSlowCommandProfileEntry(entry));
+    }
+    return dto;
+  }
+
+  public static List<SlowCommandProfileDto> fromSlowCommandProfiles(List<SlowCommandProfile> profiles) {
+    List<SlowCommandProfileDto> dtos = new ArrayList<>();
+    for (SlowCommandProfile profile : profiles) {
+      dtos.add(fromSlowCommandProfile(profile));
+    }
+    return dtos;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getCommandName() {
+    return commandName;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  public Date getStartTime() {
+    return startTime;
+  }
+
+  public long getDuration() {
+    return duration;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+
+  public long getDroppedEntryCount() {
+    return droppedEntryCount;
+  }
+
+  public List<SlowCommandProfileEntryDto> getEntries() {
+    return entries;
+  }
+
+}
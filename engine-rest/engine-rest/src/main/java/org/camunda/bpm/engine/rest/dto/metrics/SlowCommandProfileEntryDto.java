@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.metrics;
+
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+
+public class SlowCommandProfileEntryDto {
+
+  protected String type;
+  protected String name;
+  protected String activityId;
+  protected String processInstanceId;
+  protected String processDefinitionId;
+  protected String detail;
+  protected int depth;
+  protected long startOffset;
+  protected long duration;
+
+  public static SlowCommandProfileEntryDto fromSlowCommandProfileEntry(SlowCommandProfileEntry entry) {
+    SlowCommandProfileEntryDto dto = new SlowCommandProfileEntryDto();
+    dto.type = entry.getType();
+    dto.name = entry.getName();
+    dto.activityId = entry.getActivityId();
+    dto.processInstanceId = entry.getProcessInstanceId();
+    dto.processDefinitionId = entry.getProcessDefinitionId();
+    dto.detail = entry.getDetail();
+    dto.depth = entry.getDepth();
+    dto.startOffset = entry.getStartOffset();
+    dto.duration = entry.getDuration();
+    return dto;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getActivityId() {
+    return activityId;
+  }
+
+  public String getProcessInstanceId() {
+    return processInstanceId;
+  }
+
+  public String getProcessDefinitionId() {
+    return processDefinitionId;
+  }
+
+  public String getDetail() {
+    return detail;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  public long getStartOffset() {
+    return startOffset;
+  }
+
+  public long getDuration() {
+    return duration;
+  }
+
+}
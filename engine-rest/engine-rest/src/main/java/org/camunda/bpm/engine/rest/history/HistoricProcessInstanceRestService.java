@@ -20,6 +20,7 @@ import java.util.List;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -38,6 +39,7 @@ import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
+import org.camunda.bpm.engine.rest.util.NdjsonStreamingOutput;
 import org.camunda.bpm.engine.rest.dto.history.batch.removaltime.SetRemovalTimeToHistoricProcessInstancesDto;
 import org.camunda.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
 
@@ -76,6 +78,17 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Streams all historic process instances matching the query as newline delimited JSON.
+   * The results are fetched in batches of the given size.
+   */
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(NdjsonStreamingOutput.MEDIA_TYPE)
+  Response streamHistoricProcessInstances(HistoricProcessInstanceQueryDto query,
+      @QueryParam("batchSize") @DefaultValue("1000") int batchSize);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
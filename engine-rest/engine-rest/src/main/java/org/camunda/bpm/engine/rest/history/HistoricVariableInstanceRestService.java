@@ -22,10 +22,12 @@ import org.camunda.bpm.engine.rest.dto.history.HistoricVariableInstanceDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricVariableInstanceQueryDto;
 import org.camunda.bpm.engine.rest.sub.VariableResource;
 import org.camunda.bpm.engine.rest.sub.history.HistoricVariableInstanceResource;
+import org.camunda.bpm.engine.rest.util.NdjsonStreamingOutput;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -70,6 +72,19 @@ public interface HistoricVariableInstanceRestService {
       @QueryParam("maxResults") Integer maxResults,
       @QueryParam(VariableResource.DESERIALIZE_VALUES_QUERY_PARAM) @DefaultValue("true") boolean deserializeValues);
 
+  /**
+   * Streams all historic variable instances matching the query as newline delimited JSON.
+   * The results are fetched in batches of the given size.
+   */
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(NdjsonStreamingOutput.MEDIA_TYPE)
+  Response streamHistoricVariableInstances(
+      HistoricVariableInstanceQueryDto query,
+      @QueryParam("batchSize") @DefaultValue("1000") int batchSize,
+      @QueryParam(VariableResource.DESERIALIZE_VALUES_QUERY_PARAM) @DefaultValue("true") boolean deserializeValues);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
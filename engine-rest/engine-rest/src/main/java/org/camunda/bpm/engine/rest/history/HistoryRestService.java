@@ -82,4 +82,7 @@ public interface HistoryRestService {
 
   @Path(HistoryCleanupRestService.PATH)
   HistoryCleanupRestService getHistoryCleanupRestService();
+
+  @Path(HistoricChangeFeedRestService.PATH)
+  HistoricChangeFeedRestService getChangeFeedService();
 }
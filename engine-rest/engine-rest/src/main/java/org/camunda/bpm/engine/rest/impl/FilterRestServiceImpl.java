@@ -21,11 +21,13 @@ import org.camunda.bpm.engine.EntityTypes;
 import org.camunda.bpm.engine.FilterService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.filter.Filter;
 import org.camunda.bpm.engine.filter.FilterQuery;
 import org.camunda.bpm.engine.rest.FilterRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
 import org.camunda.bpm.engine.rest.dto.ResourceOptionsDto;
+import org.camunda.bpm.engine.rest.dto.runtime.FilterCountRequestDto;
 import org.camunda.bpm.engine.rest.dto.runtime.FilterDto;
 import org.camunda.bpm.engine.rest.dto.runtime.FilterQueryDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -40,6 +42,7 @@ import javax.ws.rs.core.UriInfo;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.camunda.bpm.engine.authorization.Authorization.ANY;
 import static org.camunda.bpm.engine.authorization.Permissions.CREATE;
@@ -65,11 +68,20 @@ public class FilterRestServiceImpl extends AbstractAuthorizedRestResource implem
 
     List<Filter> matchingFilters = executeFilterQuery(query, firstResult, maxResults);
 
+    Map<String, Long> itemCounts = null;
+    if (itemCount != null && itemCount) {
+      List<String> filterIds = new ArrayList<String>();
+      for (Filter filter : matchingFilters) {
+        filterIds.add(filter.getId());
+      }
+      itemCounts = filterService.countAll(filterIds);
+    }
+
     List<FilterDto> filters = new ArrayList<FilterDto>();
     for (Filter filter : matchingFilters) {
       FilterDto dto = FilterDto.fromFilter(filter);
-      if (itemCount != null && itemCount) {
-        dto.setItemCount(filterService.count(filter.getId()));
+      if (itemCounts != null) {
+        dto.setItemCount(itemCounts.get(filter.getId()));
       }
       filters.add(dto);
     }
@@ -101,6 +113,19 @@ public class FilterRestServiceImpl extends AbstractAuthorizedRestResource implem
     return new CountResultDto(query.count());
   }
 
+  public Map<String, Long> countFilterResults(FilterCountRequestDto countRequest) {
+    if (countRequest == null || countRequest.getFilterIds() == null) {
+      throw new InvalidRequestException(Response.Status.BAD_REQUEST, "No filter ids given to count");
+    }
+
+    try {
+      return getProcessEngine().getFilterService().countAll(countRequest.getFilterIds());
+    }
+    catch (NullValueException e) {
+      throw new InvalidRequestException(Response.Status.NOT_FOUND, e, e.getMessage());
+    }
+  }
+
   public FilterDto createFilter(FilterDto filterDto) {
     FilterService filterService = getProcessEngine().getFilterService();
 
@@ -29,6 +29,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.camunda.bpm.engine.management.MetricsQuery;
 import org.camunda.bpm.engine.rest.dto.metrics.MetricsIntervalResultDto;
+import org.camunda.bpm.engine.rest.dto.metrics.SlowCommandProfileDto;
 import org.camunda.bpm.engine.management.MetricIntervalValue;
 import org.camunda.bpm.engine.rest.dto.converter.DateConverter;
 import org.camunda.bpm.engine.rest.dto.converter.IntegerConverter;
@@ -100,6 +101,18 @@ public class MetricsRestServiceImpl extends AbstractRestProcessEngineAware imple
     return Response.noContent().build();
   }
 
+  @Override
+  public List<SlowCommandProfileDto> getSlowCommandProfiles() {
+    return SlowCommandProfileDto.fromSlowCommandProfiles(processEngine.getManagementService().getSlowCommandProfiles());
+  }
+
+  @Override
+  public Response clearSlowCommandProfiles() {
+    processEngine.getManagementService().clearSlowCommandProfiles();
+
+    return Response.noContent().build();
+  }
+
   protected void applyQueryParams(MetricsQuery query, MultivaluedMap<String, String> queryParameters) {
     if(queryParameters.getFirst(QUERY_PARAM_START_DATE) != null) {
       Date startDate = dateConverter.convertQueryParameterToType(queryParameters.getFirst(QUERY_PARAM_START_DATE));
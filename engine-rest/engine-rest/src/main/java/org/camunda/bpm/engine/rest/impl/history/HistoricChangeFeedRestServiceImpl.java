@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.impl.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricChangeFeedBuilder;
+import org.camunda.bpm.engine.history.HistoricChangeFeedPage;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.history.HistoricDetail;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricTaskInstance;
+import org.camunda.bpm.engine.history.UserOperationLogEntry;
+import org.camunda.bpm.engine.rest.dto.history.HistoricActivityInstanceDto;
+import org.camunda.bpm.engine.rest.dto.history.HistoricChangeFeedPageDto;
+import org.camunda.bpm.engine.rest.dto.history.HistoricDetailDto;
+import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
+import org.camunda.bpm.engine.rest.dto.history.HistoricTaskInstanceDto;
+import org.camunda.bpm.engine.rest.dto.history.UserOperationLogEntryDto;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.history.HistoricChangeFeedRestService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class HistoricChangeFeedRestServiceImpl implements HistoricChangeFeedRestService {
+
+  protected ObjectMapper objectMapper;
+  protected ProcessEngine processEngine;
+
+  public HistoricChangeFeedRestServiceImpl(ObjectMapper objectMapper, ProcessEngine processEngine) {
+    this.objectMapper = objectMapper;
+    this.processEngine = processEngine;
+  }
+
+  @Override
+  public HistoricChangeFeedPageDto fetchChanges(String type, String continuationToken, Integer maxResults) {
+    HistoricChangeFeedType<?> feedType = HistoricChangeFeedType.forName(type);
+    if (feedType == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "Unknown change feed type '" + type + "'");
+    }
+
+    HistoricChangeFeedBuilder<?> builder = processEngine.getHistoryService()
+        .createHistoricChangeFeed(feedType)
+        .continueAfter(continuationToken);
+    if (maxResults != null) {
+      builder.maxResults(maxResults);
+    }
+
+    HistoricChangeFeedPage<?> page = builder.fetch();
+
+    List<Object> results = new ArrayList<>();
+    for (Object result : page.getResults()) {
+      results.add(toDto(result));
+    }
+
+    return new HistoricChangeFeedPageDto(results, page.getContinuationToken());
+  }
+
+  protected Object toDto(Object result) {
+    if (result instanceof HistoricProcessInstance) {
+      return HistoricProcessInstanceDto.fromHistoricProcessInstance((HistoricProcessInstance) result);
+
+    } else if (result instanceof HistoricActivityInstance) {
+      HistoricActivityInstanceDto dto = new HistoricActivityInstanceDto();
+      HistoricActivityInstanceDto.fromHistoricActivityInstance(dto, (HistoricActivityInstance) result);
+      return dto;
+
+    } else if (result instanceof HistoricTaskInstance) {
+      return HistoricTaskInstanceDto.fromHistoricTaskInstance((HistoricTaskInstance) result);
+
+    } else if (result instanceof HistoricDetail) {
+      return HistoricDetailDto.fromHistoricDetail((HistoricDetail) result);
+
+    } else {
+      return UserOperationLogEntryDto.map((UserOperationLogEntry) result);
+    }
+  }
+}
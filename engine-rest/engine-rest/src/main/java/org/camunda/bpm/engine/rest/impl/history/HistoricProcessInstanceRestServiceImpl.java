@@ -39,6 +39,7 @@ import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.history.HistoricProcessInstanceRestService;
 import org.camunda.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
 import org.camunda.bpm.engine.rest.sub.history.impl.HistoricProcessInstanceResourceImpl;
+import org.camunda.bpm.engine.rest.util.NdjsonStreamingOutput;
 import org.camunda.bpm.engine.rest.util.URLEncodingUtil;
 
 import javax.ws.rs.core.MediaType;
@@ -51,6 +52,7 @@ import javax.ws.rs.core.Variant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
   public class HistoricProcessInstanceRestServiceImpl implements HistoricProcessInstanceRestService {
 
@@ -107,6 +109,17 @@ import java.util.List;
     return query.listPage(firstResult, maxResults);
   }
 
+  @Override
+  public Response streamHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, int batchSize) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    Stream<HistoricProcessInstanceDto> results = query.stream(batchSize)
+        .map(HistoricProcessInstanceDto::fromHistoricProcessInstance);
+
+    return Response.ok(NdjsonStreamingOutput.of(objectMapper, results), NdjsonStreamingOutput.MEDIA_TYPE).build();
+  }
+
   @Override
   public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
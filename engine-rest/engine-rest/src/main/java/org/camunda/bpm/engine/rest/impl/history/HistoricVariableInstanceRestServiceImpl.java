@@ -26,10 +26,13 @@ import org.camunda.bpm.engine.rest.dto.history.HistoricVariableInstanceQueryDto;
 import org.camunda.bpm.engine.rest.history.HistoricVariableInstanceRestService;
 import org.camunda.bpm.engine.rest.sub.history.HistoricVariableInstanceResource;
 import org.camunda.bpm.engine.rest.sub.history.impl.HistoricVariableInstanceResourceImpl;
+import org.camunda.bpm.engine.rest.util.NdjsonStreamingOutput;
 
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class HistoricVariableInstanceRestServiceImpl implements HistoricVariableInstanceRestService {
 
@@ -88,6 +91,23 @@ public class HistoricVariableInstanceRestServiceImpl implements HistoricVariable
     return query.listPage(firstResult, maxResults);
   }
 
+  @Override
+  public Response streamHistoricVariableInstances(HistoricVariableInstanceQueryDto queryDto, int batchSize,
+      boolean deserializeObjectValues) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricVariableInstanceQuery query = queryDto.toQuery(processEngine);
+    query.disableBinaryFetching();
+
+    if (!deserializeObjectValues) {
+      query.disableCustomObjectDeserialization();
+    }
+
+    Stream<HistoricVariableInstanceDto> results = query.stream(batchSize)
+        .map(HistoricVariableInstanceDto::fromHistoricVariableInstance);
+
+    return Response.ok(NdjsonStreamingOutput.of(objectMapper, results), NdjsonStreamingOutput.MEDIA_TYPE).build();
+  }
+
   @Override
   public CountResultDto getHistoricVariableInstancesCount(UriInfo uriInfo) {
     HistoricVariableInstanceQueryDto queryDto = new HistoricVariableInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
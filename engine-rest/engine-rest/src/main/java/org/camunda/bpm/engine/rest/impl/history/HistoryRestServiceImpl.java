@@ -22,6 +22,7 @@ import org.camunda.bpm.engine.rest.history.HistoricBatchRestService;
 import org.camunda.bpm.engine.rest.history.HistoricCaseActivityInstanceRestService;
 import org.camunda.bpm.engine.rest.history.HistoricCaseDefinitionRestService;
 import org.camunda.bpm.engine.rest.history.HistoricCaseInstanceRestService;
+import org.camunda.bpm.engine.rest.history.HistoricChangeFeedRestService;
 import org.camunda.bpm.engine.rest.history.HistoricDecisionDefinitionRestService;
 import org.camunda.bpm.engine.rest.history.HistoricDecisionInstanceRestService;
 import org.camunda.bpm.engine.rest.history.HistoricDecisionStatisticsRestService;
@@ -124,4 +125,9 @@ public class HistoryRestServiceImpl extends AbstractRestProcessEngineAware imple
   public HistoryCleanupRestService getHistoryCleanupRestService() {
     return new HistoryCleanupRestServiceImpl(getObjectMapper(), getProcessEngine());
   }
+
+  @Override
+  public HistoricChangeFeedRestService getChangeFeedService() {
+    return new HistoricChangeFeedRestServiceImpl(getObjectMapper(), getProcessEngine());
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes the elements of a stream as newline delimited JSON, one object per line.
+ * The elements are serialized while the stream is consumed, so the response is
+ * sent in chunks and never materialized as a whole.
+ */
+public class NdjsonStreamingOutput<T> implements StreamingOutput {
+
+  public static final String MEDIA_TYPE = "application/x-ndjson";
+
+  protected static final byte[] LINE_SEPARATOR = new byte[] { '\n' };
+
+  protected ObjectWriter writer;
+  protected Iterator<T> results;
+
+  public NdjsonStreamingOutput(ObjectMapper objectMapper, Iterator<T> results) {
+    this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.results = results;
+  }
+
+  public void write(OutputStream output) throws IOException {
+    while (results.hasNext()) {
+      writer.writeValue(output, results.next());
+      output.write(LINE_SEPARATOR);
+    }
+    output.flush();
+  }
+
+  /**
+   * Creates a streaming output for the given results. The first element is fetched
+   * eagerly so that an invalid query fails with a regular error response before
+   * the response is committed.
+   */
+  public static <T> NdjsonStreamingOutput<T> of(ObjectMapper objectMapper, Stream<T> results) {
+    Iterator<T> iterator = results.iterator();
+    iterator.hasNext();
+    return new NdjsonStreamingOutput<>(objectMapper, iterator);
+  }
+
+}
@@ -39,6 +39,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,7 @@ import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
 import org.camunda.bpm.engine.externaltask.UpdateExternalTaskRetriesBuilder;
+import org.camunda.bpm.engine.externaltask.VariableReference;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.ExternalTaskQueryImpl;
 import org.camunda.bpm.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -80,6 +82,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
+import org.mockito.Matchers;
 
 import io.restassured.http.ContentType;
 
@@ -144,6 +147,8 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
     when(fetchTopicBuilder.variables(any(String[].class))).thenReturn(fetchTopicBuilder);
     when(fetchTopicBuilder.enableCustomObjectDeserialization()).thenReturn(fetchTopicBuilder);
     when(fetchTopicBuilder.localVariables()).thenReturn(fetchTopicBuilder);
+    when(fetchTopicBuilder.lazyVariables()).thenReturn(fetchTopicBuilder);
+    when(fetchTopicBuilder.partitionIn(Matchers.<Integer>anyVararg())).thenReturn(fetchTopicBuilder);
     when(fetchTopicBuilder.topic(any(String.class), anyLong())).thenReturn(fetchTopicBuilder);
     when(fetchTopicBuilder.businessKey(any(String.class))).thenReturn(fetchTopicBuilder);
     when(fetchTopicBuilder.processDefinitionId(any(String.class))).thenReturn(fetchTopicBuilder);
@@ -489,6 +494,87 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
   }
 
 
+  @Test
+  public void testLazyVariables() {
+    // given
+    VariableReference variableReference = mock(VariableReference.class);
+    when(variableReference.getId()).thenReturn(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID);
+    when(variableReference.getName()).thenReturn(MockProvider.EXAMPLE_VARIABLE_INSTANCE_NAME);
+    when(variableReference.getTypeName()).thenReturn(ValueType.BYTES.getName());
+    when(variableReference.getExecutionId()).thenReturn(MockProvider.EXAMPLE_EXECUTION_ID);
+    when(lockedExternalTaskMock.getVariableReferences())
+      .thenReturn(Collections.singletonMap(MockProvider.EXAMPLE_VARIABLE_INSTANCE_NAME, variableReference));
+    when(fetchTopicBuilder.execute()).thenReturn(Arrays.asList(lockedExternalTaskMock));
+
+    // when
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("maxTasks", 5);
+    parameters.put("workerId", "aWorkerId");
+
+    Map<String, Object> topicParameter = new HashMap<>();
+    topicParameter.put("topicName", "aTopicName");
+    topicParameter.put("lockDuration", 12354L);
+    topicParameter.put("lazyVariables", true);
+    parameters.put("topics", Arrays.asList(topicParameter));
+
+    String referencePath = "[0].variableReferences." + MockProvider.EXAMPLE_VARIABLE_INSTANCE_NAME;
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body(referencePath + ".id", equalTo(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID))
+      .body(referencePath + ".name", equalTo(MockProvider.EXAMPLE_VARIABLE_INSTANCE_NAME))
+      .body(referencePath + ".type", equalTo("Bytes"))
+      .body(referencePath + ".executionId", equalTo(MockProvider.EXAMPLE_EXECUTION_ID))
+    .when()
+      .post(FETCH_EXTERNAL_TASK_URL);
+
+    InOrder inOrder = inOrder(fetchTopicBuilder, externalTaskService);
+    inOrder.verify(externalTaskService).fetchAndLock(5, "aWorkerId", false);
+    inOrder.verify(fetchTopicBuilder).topic("aTopicName", 12354L);
+    inOrder.verify(fetchTopicBuilder).lazyVariables();
+    inOrder.verify(fetchTopicBuilder).execute();
+    verifyNoMoreInteractions(fetchTopicBuilder, externalTaskService);
+  }
+
+  @Test
+  public void testFetchAndLockByPartition() {
+    // given
+    when(fetchTopicBuilder.execute()).thenReturn(Arrays.asList(lockedExternalTaskMock));
+
+    // when
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("maxTasks", 5);
+    parameters.put("workerId", "aWorkerId");
+
+    Map<String, Object> topicParameter = new HashMap<>();
+    topicParameter.put("topicName", "aTopicName");
+    topicParameter.put("lockDuration", 12354L);
+    topicParameter.put("partitionIn", Arrays.asList(1, 3));
+    parameters.put("topics", Arrays.asList(topicParameter));
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+    .when()
+      .post(FETCH_EXTERNAL_TASK_URL);
+
+    InOrder inOrder = inOrder(fetchTopicBuilder, externalTaskService);
+    inOrder.verify(externalTaskService).fetchAndLock(5, "aWorkerId", false);
+    inOrder.verify(fetchTopicBuilder).topic("aTopicName", 12354L);
+    inOrder.verify(fetchTopicBuilder).partitionIn(1, 3);
+    inOrder.verify(fetchTopicBuilder).execute();
+    verifyNoMoreInteractions(fetchTopicBuilder, externalTaskService);
+  }
+
   @Test
   public void testComplete() {
     Map<String, String> parameters = new HashMap<>();
@@ -132,6 +132,7 @@ public class FilterRestServiceInteractionTest extends AbstractRestServiceTest {
   public static final String EXECUTE_SINGLE_RESULT_FILTER_URL = SINGLE_FILTER_URL + "/singleResult";
   public static final String EXECUTE_LIST_FILTER_URL = SINGLE_FILTER_URL + "/list";
   public static final String EXECUTE_COUNT_FILTER_URL = SINGLE_FILTER_URL + "/count";
+  public static final String COUNT_FILTERS_RESULTS_URL = FILTER_URL + "/count";
 
   public static final TaskQuery extendingQuery = new TaskQueryImpl().taskName(MockProvider.EXAMPLE_TASK_NAME);
   public static final TaskQueryDto extendingQueryDto = TaskQueryDto.fromQuery(extendingQuery);
@@ -1204,6 +1205,57 @@ public class FilterRestServiceInteractionTest extends AbstractRestServiceTest {
     verify(filterServiceMock).count(eq(EXAMPLE_FILTER_ID), any(Query.class));
   }
 
+  @Test
+  public void testCountFilterResults() {
+    Map<String, Long> counts = new HashMap<>();
+    counts.put(EXAMPLE_FILTER_ID, 3L);
+    counts.put(MockProvider.ANOTHER_EXAMPLE_FILTER_ID, 5L);
+    List<String> filterIds = Arrays.asList(EXAMPLE_FILTER_ID, MockProvider.ANOTHER_EXAMPLE_FILTER_ID);
+    when(filterServiceMock.countAll(filterIds)).thenReturn(counts);
+
+    given()
+      .header(ACCEPT_JSON_HEADER)
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(Collections.singletonMap("filterIds", filterIds))
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body(EXAMPLE_FILTER_ID, equalTo(3))
+      .body(MockProvider.ANOTHER_EXAMPLE_FILTER_ID, equalTo(5))
+    .when()
+      .post(COUNT_FILTERS_RESULTS_URL);
+
+    verify(filterServiceMock).countAll(filterIds);
+  }
+
+  @Test
+  public void testCountFilterResultsWithoutFilterIds() {
+    given()
+      .header(ACCEPT_JSON_HEADER)
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(EMPTY_JSON_OBJECT)
+    .then().expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+    .when()
+      .post(COUNT_FILTERS_RESULTS_URL);
+
+    verify(filterServiceMock, never()).countAll(anyListOf(String.class));
+  }
+
+  @Test
+  public void testCountFilterResultsOfNonExistingFilter() {
+    doThrow(new NullValueException("No filter found"))
+      .when(filterServiceMock).countAll(anyListOf(String.class));
+
+    given()
+      .header(ACCEPT_JSON_HEADER)
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(Collections.singletonMap("filterIds", Collections.singletonList(MockProvider.NON_EXISTING_ID)))
+    .then().expect()
+      .statusCode(Status.NOT_FOUND.getStatusCode())
+    .when()
+      .post(COUNT_FILTERS_RESULTS_URL);
+  }
+
   @Test
   public void testExecuteCountWithExtendingQuery() {
     given()
@@ -23,6 +23,7 @@ import static io.restassured.path.json.JsonPath.from;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
@@ -80,6 +81,11 @@ public class FilterRestServiceQueryTest extends AbstractRestServiceTest {
     when(filterService.count(eq(MockProvider.EXAMPLE_FILTER_ID))).thenReturn((long) mockedFilterItemCount);
     when(filterService.getFilter(eq(MockProvider.ANOTHER_EXAMPLE_FILTER_ID))).thenReturn(anotherMockedFilter);
     when(filterService.count(eq(MockProvider.ANOTHER_EXAMPLE_FILTER_ID))).thenReturn((long) anotherMockedFilterItemCount);
+
+    Map<String, Long> itemCounts = new HashMap<>();
+    itemCounts.put(MockProvider.EXAMPLE_FILTER_ID, (long) mockedFilterItemCount);
+    itemCounts.put(MockProvider.ANOTHER_EXAMPLE_FILTER_ID, (long) anotherMockedFilterItemCount);
+    when(filterService.countAll(anyListOf(String.class))).thenReturn(itemCounts);
   }
 
   @Test
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.Date;
 import javax.ws.rs.core.Response.Status;
 
@@ -35,6 +36,8 @@ import org.camunda.bpm.engine.AuthorizationException;
 import org.camunda.bpm.engine.ManagementService;
 import org.camunda.bpm.engine.management.Metrics;
 import org.camunda.bpm.engine.management.MetricsQuery;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.junit.Before;
@@ -51,6 +54,7 @@ public class MetricsRestServiceInteractionTest extends AbstractRestServiceTest {
 
   public static final String METRICS_URL = TEST_RESOURCE_ROOT_PATH + MetricsRestService.PATH;
   public static final String DELETE_UTW_URL = METRICS_URL + "/task-worker";
+  public static final String SLOW_COMMANDS_URL = METRICS_URL + "/slow-commands";
   public static final String SINGLE_METER_URL = METRICS_URL + "/{name}";
   public static final String SUM_URL = SINGLE_METER_URL + "/sum";
 
@@ -423,4 +427,62 @@ public class MetricsRestServiceInteractionTest extends AbstractRestServiceTest {
       .delete(DELETE_UTW_URL);
   }
 
+  @Test
+  public void testGetSlowCommandProfiles() {
+    SlowCommandProfileEntry entry = mock(SlowCommandProfileEntry.class);
+    when(entry.getType()).thenReturn(SlowCommandProfileEntry.TYPE_DELEGATE);
+    when(entry.getName()).thenReturn("org.example.SlowDelegate");
+    when(entry.getActivityId()).thenReturn("serviceTask");
+    when(entry.getDepth()).thenReturn(1);
+    when(entry.getDuration()).thenReturn(1500L);
+
+    SlowCommandProfile profile = mock(SlowCommandProfile.class);
+    when(profile.getId()).thenReturn("1");
+    when(profile.getCommandName()).thenReturn("StartProcessInstanceCmd");
+    when(profile.getDuration()).thenReturn(2000L);
+    when(profile.getEntries()).thenReturn(Collections.singletonList(entry));
+
+    when(managementServiceMock.getSlowCommandProfiles()).thenReturn(Collections.singletonList(profile));
+
+    given()
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("[0].id", equalTo("1"))
+      .body("[0].commandName", equalTo("StartProcessInstanceCmd"))
+      .body("[0].duration", equalTo(2000))
+      .body("[0].failed", equalTo(false))
+      .body("[0].entries[0].type", equalTo("delegate"))
+      .body("[0].entries[0].name", equalTo("org.example.SlowDelegate"))
+      .body("[0].entries[0].activityId", equalTo("serviceTask"))
+      .body("[0].entries[0].depth", equalTo(1))
+      .body("[0].entries[0].duration", equalTo(1500))
+    .when()
+      .get(SLOW_COMMANDS_URL);
+  }
+
+  @Test
+  public void testClearSlowCommandProfiles() {
+    given()
+    .then().expect()
+      .statusCode(Status.NO_CONTENT.getStatusCode())
+    .when()
+      .delete(SLOW_COMMANDS_URL);
+
+    verify(managementServiceMock, times(1)).clearSlowCommandProfiles();
+  }
+
+  @Test
+  public void testGetSlowCommandProfilesThrowsAuthorizationException() {
+    String message = "expected exception";
+    doThrow(new AuthorizationException(message)).when(managementServiceMock).getSlowCommandProfiles();
+
+    given()
+    .then().expect()
+      .statusCode(Status.FORBIDDEN.getStatusCode())
+      .body("type", equalTo(AuthorizationException.class.getSimpleName()))
+      .body("message", equalTo(message))
+    .when()
+      .get(SLOW_COMMANDS_URL);
+  }
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.history;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.path.json.JsonPath.from;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.history.HistoricChangeFeedBuilder;
+import org.camunda.bpm.engine.history.HistoricChangeFeedPage;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.rest.AbstractRestServiceTest;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.helper.MockProvider;
+import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+public class HistoricChangeFeedRestServiceTest extends AbstractRestServiceTest {
+
+  @ClassRule
+  public static TestContainerRule rule = new TestContainerRule();
+
+  protected static final String CHANGE_FEED_URL = TEST_RESOURCE_ROOT_PATH + "/history/change-feed/{type}";
+
+  protected HistoryService historyServiceMock;
+  protected HistoricChangeFeedBuilder<?> builderMock;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUpRuntimeData() {
+    historyServiceMock = mock(HistoryService.class);
+    when(processEngine.getHistoryService()).thenReturn(historyServiceMock);
+
+    HistoricChangeFeedPage<HistoricProcessInstance> page = mock(HistoricChangeFeedPage.class);
+    List<HistoricProcessInstance> results = Collections.singletonList(MockProvider.createMockHistoricProcessInstance());
+    when(page.getResults()).thenReturn(results);
+    when(page.getContinuationToken()).thenReturn("1000:anId");
+
+    builderMock = mock(HistoricChangeFeedBuilder.class);
+    doReturn(builderMock).when(builderMock).continueAfter(any());
+    doReturn(builderMock).when(builderMock).maxResults(anyInt());
+    doReturn(page).when(builderMock).fetch();
+    doReturn(builderMock).when(historyServiceMock).createHistoricChangeFeed(any());
+  }
+
+  @Test
+  public void shouldFetchChanges() {
+    Response response = given()
+        .pathParam("type", "process-instance-started")
+        .queryParam("continuationToken", "500:anotherId")
+        .queryParam("maxResults", 10)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType(ContentType.JSON)
+      .when()
+        .get(CHANGE_FEED_URL);
+
+    verify(historyServiceMock).createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED);
+    verify(builderMock).continueAfter("500:anotherId");
+    verify(builderMock).maxResults(10);
+
+    String content = response.asString();
+    assertThat(from(content).getString("continuationToken")).isEqualTo("1000:anId");
+    assertThat(from(content).getList("results")).hasSize(1);
+    assertThat(from(content).getString("results[0].id")).isEqualTo(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+  }
+
+  @Test
+  public void shouldUseDefaultMaxResults() {
+    given()
+        .pathParam("type", "process-instance-started")
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when()
+        .get(CHANGE_FEED_URL);
+
+    verify(builderMock).continueAfter(null);
+    verify(builderMock, never()).maxResults(anyInt());
+  }
+
+  @Test
+  public void shouldRejectUnknownType() {
+    given()
+        .pathParam("type", "unknown")
+      .then().expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode())
+        .contentType(ContentType.JSON)
+        .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+        .body("message", equalTo("Unknown change feed type 'unknown'"))
+      .when()
+        .get(CHANGE_FEED_URL);
+
+    verify(historyServiceMock, never()).createHistoricChangeFeed(any());
+  }
+
+}
@@ -79,6 +79,7 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
 
   protected static final String HISTORIC_PROCESS_INSTANCE_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/history/process-instance";
   protected static final String HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/count";
+  protected static final String HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/stream";
 
   protected HistoricProcessInstanceQuery mockedQuery;
 
@@ -135,6 +136,30 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     verifyNoMoreInteractions(mockedQuery);
   }
 
+  @Test
+  public void testStreamQuery() {
+    List<HistoricProcessInstance> instances = MockProvider.createMockHistoricProcessInstances();
+    when(mockedQuery.stream(500)).thenReturn(instances.stream());
+
+    Response response = given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .queryParam("batchSize", 500)
+      .body(EMPTY_JSON_OBJECT)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType("application/x-ndjson")
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    String[] lines = response.asString().split("\n");
+    assertThat(lines).hasSize(instances.size());
+    assertThat(from(lines[0]).getString("id")).isEqualTo(instances.get(0).getId());
+
+    verify(mockedQuery).stream(500);
+    verifyNoMoreInteractions(mockedQuery);
+  }
+
   @Test
   public void testInvalidVariableRequests() {
     // invalid comparator
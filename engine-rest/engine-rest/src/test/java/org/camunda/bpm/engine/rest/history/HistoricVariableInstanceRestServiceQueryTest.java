@@ -70,6 +70,8 @@ public class HistoricVariableInstanceRestServiceQueryTest extends AbstractRestSe
 
   protected static final String HISTORIC_VARIABLE_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_VARIABLE_INSTANCE_RESOURCE_URL + "/count";
 
+  protected static final String HISTORIC_VARIABLE_INSTANCE_STREAM_RESOURCE_URL = HISTORIC_VARIABLE_INSTANCE_RESOURCE_URL + "/stream";
+
   protected HistoricVariableInstanceQuery mockedQuery;
   protected HistoricVariableInstance mockInstance;
   protected MockHistoricVariableInstanceBuilder mockInstanceBuilder;
@@ -1023,4 +1025,29 @@ public class HistoricVariableInstanceRestServiceQueryTest extends AbstractRestSe
     verify(mockedQuery).matchVariableNamesIgnoreCase();
     verify(mockedQuery).variableNameLike("aVariableName");
   }
+
+  @Test
+  public void testStreamQuery() {
+    when(mockedQuery.stream(1000)).thenReturn(Collections.singletonList(mockInstance).stream());
+
+    Response response = given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(EMPTY_JSON_OBJECT)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType("application/x-ndjson")
+      .when()
+        .post(HISTORIC_VARIABLE_INSTANCE_STREAM_RESOURCE_URL);
+
+    String content = response.asString().trim();
+    assertThat(content).doesNotContain("\n");
+    assertThat(from(content).getString("id")).isEqualTo(mockInstance.getId());
+    assertThat(from(content).getString("name")).isEqualTo(mockInstance.getName());
+
+    verify(mockedQuery).disableBinaryFetching();
+    verify(mockedQuery, never()).disableCustomObjectDeserialization();
+    verify(mockedQuery).stream(1000);
+  }
+
 }
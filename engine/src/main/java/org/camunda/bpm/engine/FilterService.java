@@ -17,6 +17,7 @@
 package org.camunda.bpm.engine;
 
 import java.util.List;
+import java.util.Map;
 
 import org.camunda.bpm.engine.authorization.Permissions;
 import org.camunda.bpm.engine.authorization.Resources;
@@ -231,4 +232,20 @@ public interface FilterService {
    */
   Long count(String filterId, Query<?, ?> extendingQuery);
 
+  /**
+   * Executes the queries of the given filters in a single command and returns their result counts.
+   * Filters with the same query are only counted once.
+   *
+   * @param filterIds the ids of the filters
+   * @return the result count of each filter by filter id, in the order of the given ids
+   * @throws AuthorizationException if the user has no {@link Permissions#READ} permissions on {@link Resources#FILTER}
+   *   for one of the filters.
+   * @throws BadUserRequestException
+   *  <ul><li>When a filter query uses expressions and expression evaluation is deactivated for stored queries.
+   *  Expression evaluation can be activated by setting the process engine configuration properties
+   *  <code>enableExpressionsInAdhocQueries</code> (default <code>false</code>) and
+   *  <code>enableExpressionsInStoredQueries</code> (default <code>true</code>) to <code>true</code>.
+   */
+  Map<String, Long> countAll(List<String> filterIds);
+
 }
@@ -34,6 +34,8 @@ import org.camunda.bpm.engine.history.HistoricCaseActivityInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricCaseActivityStatisticsQuery;
 import org.camunda.bpm.engine.history.HistoricCaseInstance;
 import org.camunda.bpm.engine.history.HistoricCaseInstanceQuery;
+import org.camunda.bpm.engine.history.HistoricChangeFeedBuilder;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
 import org.camunda.bpm.engine.history.HistoricDecisionInstance;
 import org.camunda.bpm.engine.history.HistoricDecisionInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricDetail;
@@ -824,4 +826,16 @@ public interface HistoryService {
    */
   void clearAnnotationForOperationLogById(String operationId);
 
+  /**
+   * <p>Creates a change feed over the history of the given type. The feed returns the
+   * history entries in the order they were created or completed and can be fetched
+   * incrementally with continuation tokens, e.g. by data warehouse exports that only
+   * load the changes since their last run.</p>
+   *
+   * @param type the kind of history entries to fetch, see {@link HistoricChangeFeedType}
+   *
+   * @since 7.17
+   */
+  <T> HistoricChangeFeedBuilder<T> createHistoricChangeFeed(HistoricChangeFeedType<T> type);
+
 }
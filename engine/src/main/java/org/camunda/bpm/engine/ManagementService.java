@@ -39,9 +39,12 @@ import org.camunda.bpm.engine.management.ActivityStatisticsQuery;
 import org.camunda.bpm.engine.management.DeploymentStatisticsQuery;
 import org.camunda.bpm.engine.management.JobDefinition;
 import org.camunda.bpm.engine.management.JobDefinitionQuery;
+import org.camunda.bpm.engine.management.HistogramSnapshot;
+import org.camunda.bpm.engine.management.Metrics;
 import org.camunda.bpm.engine.management.MetricsQuery;
 import org.camunda.bpm.engine.management.ProcessDefinitionStatisticsQuery;
 import org.camunda.bpm.engine.management.SchemaLogQuery;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
 import org.camunda.bpm.engine.management.TableMetaData;
 import org.camunda.bpm.engine.management.TablePage;
 import org.camunda.bpm.engine.management.TablePageQuery;
@@ -1278,6 +1281,39 @@ public interface ManagementService {
    */
   void reportDbMetricsNow();
 
+  /**
+   * Returns snapshots of the latency histograms this engine records in memory, such as
+   * {@link Metrics#COMMAND_DURATION} or {@link Metrics#JOB_EXECUTION_DURATION}. The
+   * histograms are not persisted and cover the time since the engine was started.
+   *
+   * @return the histogram snapshots by histogram name; empty if metrics are disabled
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  Map<String, HistogramSnapshot> getMetricHistograms();
+
+  /**
+   * Returns the profiles of the commands that took longer than the slow command
+   * threshold, recorded if slow command profiling is enabled in the process engine
+   * configuration. The profiles are kept in memory; when the configured capacity is
+   * exceeded, the oldest profile is discarded.
+   *
+   * @return the profiles, newest first; empty if slow command profiling is disabled
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  List<SlowCommandProfile> getSlowCommandProfiles();
+
+  /**
+   * Discards all retained slow command profiles.
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  void clearSlowCommandProfiles();
+
   /**
    * Calculates the number of unique task workers based on user task assignees.
    *
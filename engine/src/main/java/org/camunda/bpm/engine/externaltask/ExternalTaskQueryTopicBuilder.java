@@ -126,6 +126,18 @@ public interface ExternalTaskQueryTopicBuilder extends ExternalTaskQueryBuilder
    */
   public ExternalTaskQueryTopicBuilder tenantIdIn(String... tenantIds);
 
+  /**
+   * Define partitions to filter external tasks by. External tasks are assigned to a
+   * partition on creation if partitioning is enabled by the process engine configuration
+   * property <code>externalTaskPartitionCount</code>. By fetching disjoint partitions, workers
+   * avoid competing for the same tasks. Tasks that have been created while partitioning
+   * was disabled do not belong to any partition and are not fetched by this filter.
+   *
+   * @param partitions the partitions to filter by
+   * @return this builder
+   */
+  public ExternalTaskQueryTopicBuilder partitionIn(Integer... partitions);
+
   /**
    * Enable deserialization of variable values that are custom objects. By default, the query
    * will not attempt to deserialize the value of these variables.
@@ -147,4 +159,15 @@ public interface ExternalTaskQueryTopicBuilder extends ExternalTaskQueryBuilder
    * @return this builder
    */
   public ExternalTaskQueryTopicBuilder includeExtensionProperties();
+
+  /**
+   * Define whether variables that are stored as binary data (byte arrays, files and serialized
+   * values such as custom objects, JSON or XML) are fetched lazily for all tasks of the current topic.
+   * The values of such variables are not loaded; instead, the locked tasks provide
+   * {@link LockedExternalTask#getVariableReferences() references} to them, so that a worker
+   * can load only the values it actually needs.
+   *
+   * @return this builder
+   */
+  public ExternalTaskQueryTopicBuilder lazyVariables();
 }
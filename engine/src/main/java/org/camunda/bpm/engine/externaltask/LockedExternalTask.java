@@ -115,6 +115,18 @@ public interface LockedExternalTask {
    */
   VariableMap getVariables();
 
+  /**
+   * Returns references to the variables that were fetched lazily, i.e. whose values
+   * have not been loaded because the fetch instructions indicated to fetch variables
+   * lazily. Such variables are not contained in {@link #getVariables()}; their values
+   * can be loaded on demand by means of the referenced variable instance.
+   *
+   * @return a map of variable references by variable name, never <code>null</code>
+   *
+   * @see ExternalTaskQueryTopicBuilder#lazyVariables()
+   */
+  Map<String, VariableReference> getVariableReferences();
+
   /**
    * @return the id of the tenant the task belongs to. Can be <code>null</code>
    * if the task belongs to no single tenant.
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.externaltask;
+
+/**
+ * Reference to a variable of a locked external task whose value has not been fetched.
+ * The value can be loaded on demand, e.g. by querying the variable instance with the
+ * given id.
+ *
+ * @see ExternalTaskQueryTopicBuilder#lazyVariables()
+ */
+public interface VariableReference {
+
+  /**
+   * @return the id of the referenced variable instance
+   */
+  String getId();
+
+  /**
+   * @return the name of the variable
+   */
+  String getName();
+
+  /**
+   * @return the name of the value type of the variable
+   */
+  String getTypeName();
+
+  /**
+   * @return the id of the execution the variable is set on
+   */
+  String getExecutionId();
+
+}
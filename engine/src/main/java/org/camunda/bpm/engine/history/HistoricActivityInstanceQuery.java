@@ -150,4 +150,12 @@ public interface HistoricActivityInstanceQuery extends Query<HistoricActivityIns
    */
   HistoricActivityInstanceQuery orderByTenantId();
 
+  /**
+   * Only select historic activity instances with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  HistoricActivityInstanceQuery afterId(String id);
+
 }
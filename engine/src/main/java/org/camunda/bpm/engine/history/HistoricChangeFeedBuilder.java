@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.history;
+
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+
+/**
+ * Fetches the entries of a history change feed page by page. Each page returns a
+ * continuation token that marks the position after its last entry. Passing the
+ * token to the next fetch returns the following entries without duplicates, even
+ * if several entries share the same timestamp.
+ *
+ * <p>The time of an entry is set when the change happens, not when it is committed.
+ * To not skip entries of transactions that commit after newer entries, the feed only
+ * returns entries older than the safety lag of the process engine configuration
+ * (<code>historicChangeFeedSafetyLagInMillis</code>, one minute by default). Entries of
+ * transactions that take longer than the lag can still be skipped.</p>
+ *
+ * @param <T> the type of the feed entries
+ */
+public interface HistoricChangeFeedBuilder<T> {
+
+  /**
+   * Continue the feed after the position described by the given token.
+   * If no token is given, the feed starts with its oldest entry.
+   *
+   * @param continuationToken a token returned by {@link HistoricChangeFeedPage#getContinuationToken()}
+   */
+  HistoricChangeFeedBuilder<T> continueAfter(String continuationToken);
+
+  /**
+   * Sets the maximum number of entries per page.
+   */
+  HistoricChangeFeedBuilder<T> maxResults(int maxResults);
+
+  /**
+   * Fetches the next page of the feed.
+   *
+   * @throws BadUserRequestException when the continuation token is invalid or the maximum
+   *   number of results is not positive
+   * @throws AuthorizationException when the user has no {@link Permissions#READ_HISTORY}
+   *   permission on any {@link Resources#PROCESS_DEFINITION} and {@link Resources#DECISION_DEFINITION}
+   *   or no {@link Permissions#READ} permission on any {@link Resources#TENANT}
+   */
+  HistoricChangeFeedPage<T> fetch();
+
+}
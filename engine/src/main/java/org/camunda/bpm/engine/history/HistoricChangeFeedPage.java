@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.history;
+
+import java.util.List;
+
+/**
+ * A page of a history change feed.
+ *
+ * @param <T> the type of the feed entries
+ */
+public interface HistoricChangeFeedPage<T> {
+
+  /**
+   * @return the entries of this page in feed order
+   */
+  List<T> getResults();
+
+  /**
+   * @return the token to fetch the entries after this page. If the page is empty,
+   * this is the token the page was fetched with, so a consumer can keep polling
+   * with it. Null if the feed is empty and no token was given.
+   */
+  String getContinuationToken();
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.history;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Identifies a change feed over a history table. The entries of a feed are
+ * ordered by the time of the change (e.g. the end time for completed process
+ * instances) and their id.
+ *
+ * @param <T> the type of the feed entries
+ *
+ * @see HistoryService#createHistoricChangeFeed(HistoricChangeFeedType)
+ */
+public final class HistoricChangeFeedType<T> {
+
+  /** historic process instances ordered by start time */
+  public static final HistoricChangeFeedType<HistoricProcessInstance> PROCESS_INSTANCE_STARTED =
+      new HistoricChangeFeedType<>("process-instance-started", HistoricProcessInstance.class);
+
+  /** completed historic process instances ordered by end time */
+  public static final HistoricChangeFeedType<HistoricProcessInstance> PROCESS_INSTANCE_COMPLETED =
+      new HistoricChangeFeedType<>("process-instance-completed", HistoricProcessInstance.class);
+
+  /** historic activity instances ordered by start time */
+  public static final HistoricChangeFeedType<HistoricActivityInstance> ACTIVITY_INSTANCE_STARTED =
+      new HistoricChangeFeedType<>("activity-instance-started", HistoricActivityInstance.class);
+
+  /** completed historic activity instances ordered by end time */
+  public static final HistoricChangeFeedType<HistoricActivityInstance> ACTIVITY_INSTANCE_COMPLETED =
+      new HistoricChangeFeedType<>("activity-instance-completed", HistoricActivityInstance.class);
+
+  /** historic task instances ordered by start time */
+  public static final HistoricChangeFeedType<HistoricTaskInstance> TASK_INSTANCE_STARTED =
+      new HistoricChangeFeedType<>("task-instance-started", HistoricTaskInstance.class);
+
+  /** completed historic task instances ordered by end time */
+  public static final HistoricChangeFeedType<HistoricTaskInstance> TASK_INSTANCE_COMPLETED =
+      new HistoricChangeFeedType<>("task-instance-completed", HistoricTaskInstance.class);
+
+  /** historic variable updates ordered by the time of the update */
+  public static final HistoricChangeFeedType<HistoricVariableUpdate> VARIABLE_UPDATE =
+      new HistoricChangeFeedType<>("variable-update", HistoricVariableUpdate.class);
+
+  /** user operation log entries ordered by timestamp */
+  public static final HistoricChangeFeedType<UserOperationLogEntry> USER_OPERATION =
+      new HistoricChangeFeedType<>("user-operation", UserOperationLogEntry.class);
+
+  protected static final List<HistoricChangeFeedType<?>> VALUES = Collections.unmodifiableList(Arrays.asList(
+      PROCESS_INSTANCE_STARTED, PROCESS_INSTANCE_COMPLETED,
+      ACTIVITY_INSTANCE_STARTED, ACTIVITY_INSTANCE_COMPLETED,
+      TASK_INSTANCE_STARTED, TASK_INSTANCE_COMPLETED,
+      VARIABLE_UPDATE, USER_OPERATION));
+
+  protected final String name;
+  protected final Class<T> resultType;
+
+  private HistoricChangeFeedType(String name, Class<T> resultType) {
+    this.name = name;
+    this.resultType = resultType;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Class<T> getResultType() {
+    return resultType;
+  }
+
+  public String toString() {
+    return name;
+  }
+
+  /**
+   * @return all change feed types
+   */
+  public static List<HistoricChangeFeedType<?>> values() {
+    return VALUES;
+  }
+
+  /**
+   * @return the change feed type with the given name or null if no such type exists
+   */
+  public static HistoricChangeFeedType<?> forName(String name) {
+    for (HistoricChangeFeedType<?> type : VALUES) {
+      if (type.getName().equals(name)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+}
@@ -377,4 +377,13 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
    * this exception, {@link #or()} must be invoked first.
    * */
   HistoricProcessInstanceQuery endOr();
+
+  /**
+   * Only select historic process instances with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  HistoricProcessInstanceQuery afterId(String id);
+
 }
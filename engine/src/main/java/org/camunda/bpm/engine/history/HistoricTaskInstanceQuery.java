@@ -471,4 +471,12 @@ public interface HistoricTaskInstanceQuery  extends Query<HistoricTaskInstanceQu
    * */
   HistoricTaskInstanceQuery endOr();
 
+  /**
+   * Only select historic task instances with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  HistoricTaskInstanceQuery afterId(String id);
+
 }
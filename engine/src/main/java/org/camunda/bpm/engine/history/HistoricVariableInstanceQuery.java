@@ -117,4 +117,12 @@ public interface HistoricVariableInstanceQuery extends Query<HistoricVariableIns
    */
   HistoricVariableInstanceQuery includeDeleted();
 
+  /**
+   * Only select historic variable instances with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  HistoricVariableInstanceQuery afterId(String id);
+
 }
@@ -25,10 +25,17 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.QueryValidators.AdhocQueryValidator;
@@ -56,6 +63,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_ASC = "asc";
   public static final String SORTORDER_DESC = "desc";
 
+  /** the batch size used by {@link #stream()} */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
   protected enum ResultType {
     LIST, LIST_PAGE, LIST_IDS, LIST_DEPLOYMENT_ID_MAPPINGS, SINGLE_RESULT, COUNT
   }
@@ -69,6 +79,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   protected boolean maxResultsLimitEnabled;
 
+  /** keyset condition: only results with an id greater than this one are selected */
+  protected String afterId;
+
   protected AbstractQuery() {
   }
 
@@ -150,6 +163,58 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return (List<U>) executeResult(resultType);
   }
 
+  public void forEach(int batchSize, Consumer<U> consumer) {
+    ensureNotNull("consumer", consumer);
+    Iterator<U> results = iterator(batchSize);
+    while (results.hasNext()) {
+      consumer.accept(results.next());
+    }
+  }
+
+  public Stream<U> stream() {
+    return stream(DEFAULT_BATCH_SIZE);
+  }
+
+  public Stream<U> stream(int batchSize) {
+    Spliterator<U> spliterator = Spliterators.spliteratorUnknownSize(iterator(batchSize), Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  protected Iterator<U> iterator(int batchSize) {
+    if (batchSize <= 0) {
+      throw new BadUserRequestException("Batch size must be greater than 0 but was " + batchSize);
+    }
+    return new QueryBatchIterator<>(this, batchSize);
+  }
+
+  /**
+   * Fetches a batch of results that starts after the result with the given id. Only
+   * used if no ordering is specified, i.e. results are ordered by id.
+   */
+  protected List<U> listPageAfter(String keysetId, int batchSize) {
+    String initialAfterId = afterId;
+    afterId = keysetId;
+    try {
+      return listPage(0, batchSize);
+    } finally {
+      afterId = initialAfterId;
+    }
+  }
+
+  /**
+   * @return the id of the given result used as keyset for the next batch or
+   * <code>null</code> if the query doesn't support keyset pagination, i.e. the
+   * mapping doesn't select <code>RES.ID_ &gt; #{afterId}</code>. Batches are
+   * fetched by offset then.
+   */
+  protected String getKeysetId(U result) {
+    return null;
+  }
+
+  public String getAfterId() {
+    return afterId;
+  }
+
   public Object executeResult(ResultType resultType) {
 
     if (commandExecutor != null) {
@@ -20,6 +20,7 @@ import java.util.UUID;
 
 import org.camunda.bpm.engine.ProcessEngineBootstrapCommand;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.InitializeJobPartitionsCmd;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
@@ -60,6 +61,10 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
       createHistoryCleanupJob(commandContext);
     }
 
+    if (isJobExecutorPartitioningEnabled(commandContext)) {
+      initializeJobPartitions(commandContext);
+    }
+
     initializeTelemetryProperty(commandContext);
     // installationId needs to be updated in the telemetry data
     updateTelemetryData(commandContext);
@@ -108,6 +113,20 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
         .isHistoryCleanupEnabled();
   }
 
+  protected boolean isJobExecutorPartitioningEnabled(CommandContext commandContext) {
+    return commandContext.getProcessEngineConfiguration()
+        .getJobExecutorPartitionCount() > 0;
+  }
+
+  /**
+   * Creates the lease properties of the job partitions, so that job executors of
+   * multiple nodes don't try to create them concurrently on first acquisition.
+   */
+  protected void initializeJobPartitions(CommandContext commandContext) {
+    int partitionCount = commandContext.getProcessEngineConfiguration().getJobExecutorPartitionCount();
+    new InitializeJobPartitionsCmd(partitionCount).execute(commandContext);
+  }
+
   public void initializeTelemetryProperty(CommandContext commandContext) {
     try {
 
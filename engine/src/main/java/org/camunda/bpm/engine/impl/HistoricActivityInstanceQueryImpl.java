@@ -70,6 +70,17 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
       .findHistoricActivityInstanceCountByQueryCriteria(this);
   }
 
+  public HistoricActivityInstanceQuery afterId(String id) {
+    ensureNotNull("id", id);
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(HistoricActivityInstance result) {
+    return result.getId();
+  }
+
   @Override
   public List<HistoricActivityInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
@@ -383,6 +383,20 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
       .findHistoricProcessInstanceCountByQueryCriteria(this);
   }
 
+  public HistoricProcessInstanceQuery afterId(String id) {
+    ensureNotNull("id", id);
+    if (isOrQueryActive) {
+      throw new ProcessEngineException("Invalid query usage: cannot set afterId() within 'or' query");
+    }
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(HistoricProcessInstance result) {
+    return result.getId();
+  }
+
   public List<HistoricProcessInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
     ensureVariablesInitialized();
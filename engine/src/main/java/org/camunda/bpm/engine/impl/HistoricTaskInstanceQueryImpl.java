@@ -123,6 +123,20 @@ public class HistoricTaskInstanceQueryImpl extends AbstractQuery<HistoricTaskIns
       .findHistoricTaskInstanceCountByQueryCriteria(this);
   }
 
+  public HistoricTaskInstanceQuery afterId(String id) {
+    ensureNotNull("id", id);
+    if (isOrQueryActive) {
+      throw new ProcessEngineException("Invalid query usage: cannot set afterId() within 'or' query");
+    }
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(HistoricTaskInstance result) {
+    return result.getId();
+  }
+
   @Override
   public List<HistoricTaskInstance> executeList(CommandContext commandContext, Page page) {
     ensureVariablesInitialized();
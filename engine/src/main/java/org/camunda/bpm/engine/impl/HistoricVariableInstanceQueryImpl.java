@@ -231,6 +231,17 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     return commandContext.getHistoricVariableInstanceManager().findHistoricVariableInstanceCountByQueryCriteria(this);
   }
 
+  public HistoricVariableInstanceQuery afterId(String id) {
+    ensureNotNull("id", id);
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(HistoricVariableInstance result) {
+    return result.getId();
+  }
+
   public List<HistoricVariableInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
     ensureVariablesInitialized();
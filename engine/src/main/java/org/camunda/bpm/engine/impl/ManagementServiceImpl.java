@@ -37,6 +37,7 @@ import org.camunda.bpm.engine.impl.batch.DeleteBatchCmd;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cmd.ActivateBatchCmd;
+import org.camunda.bpm.engine.impl.cmd.ClearSlowCommandProfilesCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteJobCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteLicenseKeyCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteMetricsCmd;
@@ -50,6 +51,8 @@ import org.camunda.bpm.engine.impl.cmd.GetPropertiesCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTableCountCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTableMetaDataCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTableNameCmd;
+import org.camunda.bpm.engine.impl.cmd.GetMetricHistogramsCmd;
+import org.camunda.bpm.engine.impl.cmd.GetSlowCommandProfilesCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTelemetryDataCmd;
 import org.camunda.bpm.engine.impl.cmd.GetUniqueTaskWorkerCountCmd;
 import org.camunda.bpm.engine.impl.cmd.IsTelemetryEnabledCmd;
@@ -86,9 +89,11 @@ import org.camunda.bpm.engine.impl.telemetry.dto.LicenseKeyDataImpl;
 import org.camunda.bpm.engine.management.ActivityStatisticsQuery;
 import org.camunda.bpm.engine.management.DeploymentStatisticsQuery;
 import org.camunda.bpm.engine.management.JobDefinitionQuery;
+import org.camunda.bpm.engine.management.HistogramSnapshot;
 import org.camunda.bpm.engine.management.MetricsQuery;
 import org.camunda.bpm.engine.management.ProcessDefinitionStatisticsQuery;
 import org.camunda.bpm.engine.management.SchemaLogQuery;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
 import org.camunda.bpm.engine.management.TableMetaData;
 import org.camunda.bpm.engine.management.TablePageQuery;
 import org.camunda.bpm.engine.management.UpdateJobDefinitionSuspensionStateSelectBuilder;
@@ -498,6 +503,20 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
     commandExecutor.execute(new ReportDbMetricsCmd());
   }
 
+  public Map<String, HistogramSnapshot> getMetricHistograms() {
+    return commandExecutor.execute(new GetMetricHistogramsCmd());
+  }
+
+  @Override
+  public List<SlowCommandProfile> getSlowCommandProfiles() {
+    return commandExecutor.execute(new GetSlowCommandProfilesCmd());
+  }
+
+  @Override
+  public void clearSlowCommandProfiles() {
+    commandExecutor.execute(new ClearSlowCommandProfilesCmd());
+  }
+
   @Override
   public long getUniqueTaskWorkerCount(Date startTime, Date endTime) {
     return commandExecutor.execute(new GetUniqueTaskWorkerCountCmd(startTime, endTime));
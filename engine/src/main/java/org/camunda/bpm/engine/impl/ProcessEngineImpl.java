@@ -42,6 +42,7 @@ import org.camunda.bpm.engine.impl.history.event.SimpleIpBasedProvider;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
 import org.camunda.bpm.engine.impl.metrics.reporter.DbMetricsReporter;
 import org.camunda.bpm.engine.impl.telemetry.reporter.TelemetryReporter;
 import org.camunda.bpm.engine.impl.util.CompositeCondition;
@@ -117,6 +118,11 @@ public class ProcessEngineImpl implements ProcessEngine {
 
     ProcessEngines.registerProcessEngine(this);
 
+    CommandStatisticsRecorder commandStatisticsRecorder = processEngineConfiguration.getCommandStatisticsRecorder();
+    if (commandStatisticsRecorder != null) {
+      commandStatisticsRecorder.registerMBean(name != null ? name : ProcessEngines.NAME_DEFAULT);
+    }
+
     if ((jobExecutor != null)) {
       // register process engine with Job Executor
       jobExecutor.registerProcessEngine(this);
@@ -176,6 +182,11 @@ public class ProcessEngineImpl implements ProcessEngine {
       telemetryReporter.stop();
     }
 
+    CommandStatisticsRecorder commandStatisticsRecorder = processEngineConfiguration.getCommandStatisticsRecorder();
+    if (commandStatisticsRecorder != null) {
+      commandStatisticsRecorder.unregisterMBean();
+    }
+
     if ((jobExecutor != null)) {
       // unregister process engine with Job Executor
       jobExecutor.unregisterProcessEngine(this);
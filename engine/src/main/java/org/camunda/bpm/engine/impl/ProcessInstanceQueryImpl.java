@@ -321,6 +321,20 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
       .findProcessInstanceCountByQueryCriteria(this);
   }
 
+  public ProcessInstanceQuery afterId(String id) {
+    ensureNotNull("id", id);
+    if (isOrQueryActive) {
+      throw new ProcessEngineException("Invalid query usage: cannot set afterId() within 'or' query");
+    }
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(ProcessInstance result) {
+    return result.getId();
+  }
+
   @Override
   public List<ProcessInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
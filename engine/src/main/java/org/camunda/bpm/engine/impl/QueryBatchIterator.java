@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily iterates over the results of a query by fetching them in batches.
+ * Only the current batch is held in memory; the next batch is fetched
+ * once the current one is consumed.
+ *
+ * @see AbstractQuery#forEach(int, java.util.function.Consumer)
+ * @see AbstractQuery#stream(int)
+ */
+public class QueryBatchIterator<U> implements Iterator<U> {
+
+  protected final AbstractQuery<?, U> query;
+  protected final int batchSize;
+
+  protected Iterator<U> currentBatch = Collections.emptyIterator();
+  protected U lastResult;
+  protected int position;
+  protected boolean exhausted;
+
+  public QueryBatchIterator(AbstractQuery<?, U> query, int batchSize) {
+    this.query = query;
+    this.batchSize = batchSize;
+  }
+
+  public boolean hasNext() {
+    while (!currentBatch.hasNext() && !exhausted) {
+      List<U> batch = fetchNextBatch();
+      exhausted = batch.size() < batchSize;
+      currentBatch = batch.iterator();
+    }
+    return currentBatch.hasNext();
+  }
+
+  /**
+   * Seeks past the id of the last result of the previous batch if the query supports
+   * keyset pagination and no ordering is specified. Otherwise pages by offset.
+   */
+  protected List<U> fetchNextBatch() {
+    if (lastResult != null && query.getOrderingProperties().isEmpty()) {
+      String keysetId = query.getKeysetId(lastResult);
+      if (keysetId != null) {
+        return query.listPageAfter(keysetId, batchSize);
+      }
+    }
+    return query.listPage(position, batchSize);
+  }
+
+  public U next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    lastResult = currentBatch.next();
+    position++;
+    return lastResult;
+  }
+
+}
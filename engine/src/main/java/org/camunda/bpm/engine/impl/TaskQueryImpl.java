@@ -1461,6 +1461,21 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
 
   //results ////////////////////////////////////////////////////////////////
 
+  @Override
+  public TaskQuery afterId(String id) {
+    ensureNotNull("id", id);
+    if (isOrQueryActive) {
+      throw new ProcessEngineException("Invalid query usage: cannot set afterId() within 'or' query");
+    }
+    this.afterId = id;
+    return this;
+  }
+
+  @Override
+  protected String getKeysetId(Task result) {
+    return result.getId();
+  }
+
   @Override
   public List<Task> executeList(CommandContext commandContext, Page page) {
     ensureOrExpressionsEvaluated();
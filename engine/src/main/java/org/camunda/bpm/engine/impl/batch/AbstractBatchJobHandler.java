@@ -16,6 +16,8 @@
  */
 package org.camunda.bpm.engine.impl.batch;
 
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
@@ -40,6 +42,29 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
 
   public abstract JobDeclaration<BatchJobContext, MessageEntity> getJobDeclaration();
 
+  /**
+   * Records the execution time per invocation of the batch job if the invocations per batch job
+   * are adapted. The deletes and updates of the job are flushed on commit, so the duration is
+   * measured until the transaction is committed.
+   */
+  @Override
+  public void preExecute(BatchJobConfiguration configuration, JobEntity jobEntity, CommandContext commandContext) {
+    ProcessEngineConfigurationImpl engineConfiguration = commandContext.getProcessEngineConfiguration();
+    if (!engineConfiguration.isAdaptiveInvocationsPerBatchJob()) {
+      return;
+    }
+
+    // read before the execution since the handler deletes the configuration
+    int invocations = countInvocations(configuration, commandContext);
+    String jobDefinitionId = jobEntity.getJobDefinitionId();
+    BatchJobExecutionTimes executionTimes = engineConfiguration.getBatchJobExecutionTimes();
+    long start = System.currentTimeMillis();
+
+    commandContext.getTransactionContext()
+      .addTransactionListener(TransactionState.COMMITTED,
+          context -> executionTimes.record(jobDefinitionId, System.currentTimeMillis() - start, invocations));
+  }
+
   @Override
   public boolean createJobs(BatchEntity batch) {
     T configuration = readConfiguration(batch.getConfigurationBytes());
@@ -58,7 +83,7 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     }
 
     int batchJobsPerSeed = batch.getBatchJobsPerSeed();
-    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+    int invocationsPerBatchJob = adaptInvocationsPerBatchJob(batch);
 
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
 
@@ -74,12 +99,79 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
       }
     }
 
+    if (Context.getProcessEngineConfiguration().isAdaptiveInvocationsPerBatchJob()) {
+      // the remaining jobs depend on the adapted invocations per batch job
+      int remainingJobs = 0;
+      if (deploymentAware) {
+        for (DeploymentMapping mapping : idMappings) {
+          remainingJobs += countJobs(mapping.getCount(), invocationsPerBatchJob);
+        }
+      } else {
+        remainingJobs = countJobs(ids.size(), invocationsPerBatchJob);
+      }
+      batch.setTotalJobs(batch.getJobsCreated() + remainingJobs);
+    }
+
     // update batch configuration
     batch.setConfigurationBytes(writeConfiguration(configuration));
 
     return deploymentAware ? idMappings.isEmpty() : ids.isEmpty();
   }
 
+  /**
+   * Adapts the invocations per batch job of the batch to the average invocation time of its
+   * batch jobs, such that a batch job takes about the configured target duration. The value
+   * changes by at most factor two per seed job execution to dampen outliers.
+   *
+   * @return the invocations per batch job for the jobs to create
+   */
+  protected int adaptInvocationsPerBatchJob(BatchEntity batch) {
+    ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
+    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+
+    if (!engineConfiguration.isAdaptiveInvocationsPerBatchJob()) {
+      return invocationsPerBatchJob;
+    }
+
+    Double averageInvocationTime = engineConfiguration.getBatchJobExecutionTimes()
+        .getAverageInvocationTime(batch.getBatchJobDefinitionId());
+
+    if (averageInvocationTime != null) {
+      double targetInvocations = engineConfiguration.getAdaptiveBatchJobTargetDuration() / Math.max(averageInvocationTime, 0.01);
+      targetInvocations = Math.min(targetInvocations, invocationsPerBatchJob * 2.0);
+      targetInvocations = Math.max(targetInvocations, invocationsPerBatchJob / 2.0);
+
+      invocationsPerBatchJob = (int) Math.round(targetInvocations);
+      invocationsPerBatchJob = Math.min(invocationsPerBatchJob, engineConfiguration.getMaxInvocationsPerBatchJob());
+      invocationsPerBatchJob = Math.max(invocationsPerBatchJob, engineConfiguration.getMinInvocationsPerBatchJob());
+      invocationsPerBatchJob = Math.max(invocationsPerBatchJob, 1);
+
+      batch.setInvocationsPerBatchJob(invocationsPerBatchJob);
+    }
+
+    return invocationsPerBatchJob;
+  }
+
+  protected int countJobs(int invocations, int invocationsPerBatchJob) {
+    return (invocations + invocationsPerBatchJob - 1) / invocationsPerBatchJob;
+  }
+
+  /**
+   * @return the number of invocations the batch job with the given configuration executes
+   */
+  public int countInvocations(BatchJobConfiguration configuration, CommandContext commandContext) {
+    ByteArrayEntity configurationEntity = commandContext
+        .getDbEntityManager()
+        .selectById(ByteArrayEntity.class, configuration.getConfigurationByteArrayId());
+
+    if (configurationEntity == null) {
+      return 0;
+    }
+
+    List<String> ids = readConfiguration(configurationEntity.getBytes()).getIds();
+    return ids != null ? ids.size() : 0;
+  }
+
   protected void sanitizeMappings(DeploymentMappings idMappings, List<String> ids) {
     // for mixed version SeedJob execution, there might be ids that have been processed
     // without updating the mappings, this is corrected here,
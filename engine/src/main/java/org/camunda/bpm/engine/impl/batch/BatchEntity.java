@@ -247,6 +247,8 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
   public Object getPersistentState() {
     HashMap<String, Object> persistentState = new HashMap<>();
     persistentState.put("jobsCreated", jobsCreated);
+    persistentState.put("totalJobs", totalJobs);
+    persistentState.put("invocationsPerBatchJob", invocationsPerBatchJob);
     return persistentState;
   }
 
@@ -356,6 +358,10 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
     jobDefinitionManager.delete(getMonitorJobDefinition());
     jobDefinitionManager.delete(getBatchJobDefinition());
 
+    commandContext.getProcessEngineConfiguration()
+      .getBatchJobExecutionTimes()
+      .remove(batchJobDefinitionId);
+
     commandContext.getBatchManager().delete(this);
     configuration.deleteByteArrayValue();
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Tracks the average execution time of a single invocation of the batch jobs of each batch,
+ * measured on this process engine. The averages are used by the seed job to adapt the number of
+ * invocations per batch job to a target duration.</p>
+ *
+ * <p>The average is exponentially weighted so that it follows changes in the cost of the
+ * invocations, e.g. when the processed instances become larger.</p>
+ *
+ * @see org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#isAdaptiveInvocationsPerBatchJob()
+ */
+public class BatchJobExecutionTimes {
+
+  /** weight of a new measurement */
+  protected static final double SMOOTHING_FACTOR = 0.3;
+
+  protected Map<String, Double> averageInvocationTimes = new ConcurrentHashMap<>();
+
+  /**
+   * @param batchJobDefinitionId identifies the batch
+   * @param durationInMillis the execution time of the batch job
+   * @param invocations the number of invocations executed by the batch job
+   */
+  public void record(String batchJobDefinitionId, long durationInMillis, int invocations) {
+    if (batchJobDefinitionId == null || invocations <= 0) {
+      return;
+    }
+
+    double invocationTime = (double) durationInMillis / invocations;
+    averageInvocationTimes.merge(batchJobDefinitionId, invocationTime,
+        (average, measurement) -> average + SMOOTHING_FACTOR * (measurement - average));
+  }
+
+  /**
+   * @return the average execution time of an invocation in milliseconds or null
+   * if no batch job of the batch was executed by this process engine yet
+   */
+  public Double getAverageInvocationTime(String batchJobDefinitionId) {
+    return averageInvocationTimes.get(batchJobDefinitionId);
+  }
+
+  public void remove(String batchJobDefinitionId) {
+    if (batchJobDefinitionId != null) {
+      averageInvocationTimes.remove(batchJobDefinitionId);
+    }
+  }
+
+}
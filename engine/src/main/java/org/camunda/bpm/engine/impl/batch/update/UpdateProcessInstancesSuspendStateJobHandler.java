@@ -18,14 +18,12 @@ package org.camunda.bpm.engine.impl.batch.update;
 
 import java.util.List;
 import org.camunda.bpm.engine.batch.Batch;
-import org.camunda.bpm.engine.impl.UpdateProcessInstancesSuspensionStateBuilderImpl;
 import org.camunda.bpm.engine.impl.batch.AbstractBatchJobHandler;
 import org.camunda.bpm.engine.impl.batch.BatchJobConfiguration;
 import org.camunda.bpm.engine.impl.batch.BatchJobContext;
 import org.camunda.bpm.engine.impl.batch.BatchJobDeclaration;
-import org.camunda.bpm.engine.impl.cmd.UpdateProcessInstancesSuspendStateCmd;
+import org.camunda.bpm.engine.impl.cmd.UpdateProcessInstancesSuspendStateBulkCmd;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
-import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
@@ -62,11 +60,8 @@ public class UpdateProcessInstancesSuspendStateJobHandler extends AbstractBatchJ
 
     UpdateProcessInstancesSuspendStateBatchConfiguration batchConfiguration = readConfiguration(configurationEntity.getBytes());
 
-    CommandExecutor commandExecutor = commandContext.getProcessEngineConfiguration()
-        .getCommandExecutorTxRequired();
-    commandContext.executeWithOperationLogPrevented(new UpdateProcessInstancesSuspendStateCmd(
-        commandExecutor,
-        new UpdateProcessInstancesSuspensionStateBuilderImpl(batchConfiguration.getIds()),
+    commandContext.executeWithOperationLogPrevented(new UpdateProcessInstancesSuspendStateBulkCmd(
+        batchConfiguration.getIds(),
         batchConfiguration.getSuspended()));
   }
 
@@ -40,4 +40,9 @@ public class ActivityBehaviorInvocation extends DelegateInvocation {
     behaviorInstance.execute(execution);
   }
 
+  @Override
+  public String getTargetName() {
+    return behaviorInstance.getClass().getName();
+  }
+
 }
@@ -43,4 +43,9 @@ public class ActivityBehaviorSignalInvocation extends DelegateInvocation {
     behaviorInstance.signal(execution, signalName, signalData);
   }
 
+  @Override
+  public String getTargetName() {
+    return behaviorInstance.getClass().getName();
+  }
+
 }
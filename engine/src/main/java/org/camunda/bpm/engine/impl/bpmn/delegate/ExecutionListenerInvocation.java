@@ -40,4 +40,9 @@ public class ExecutionListenerInvocation extends DelegateInvocation {
     executionListenerInstance.notify(execution);
   }
 
+  @Override
+  public String getTargetName() {
+    return executionListenerInstance.getClass().getName();
+  }
+
 }
@@ -40,4 +40,9 @@ public class JavaDelegateInvocation extends DelegateInvocation {
     delegateInstance.execute(execution);
   }
 
+  @Override
+  public String getTargetName() {
+    return delegateInstance.getClass().getName();
+  }
+
 }
@@ -18,6 +18,7 @@ package org.camunda.bpm.engine.impl.cfg;
 
 
 import static org.camunda.bpm.engine.impl.cmd.HistoryCleanupCmd.MAX_THREADS_NUMBER;
+import static org.camunda.bpm.engine.impl.cmd.HistoryCleanupCmd.MAX_THREADS_NUMBER_REMOVAL_TIME_BASED;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import javax.naming.InitialContext;
@@ -40,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -50,6 +52,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -100,6 +103,7 @@ import org.camunda.bpm.engine.impl.RuntimeServiceImpl;
 import org.camunda.bpm.engine.impl.ServiceImpl;
 import org.camunda.bpm.engine.impl.TaskServiceImpl;
 import org.camunda.bpm.engine.impl.application.ProcessApplicationManager;
+import org.camunda.bpm.engine.impl.batch.BatchJobExecutionTimes;
 import org.camunda.bpm.engine.impl.batch.BatchJobHandler;
 import org.camunda.bpm.engine.impl.batch.BatchMonitorJobHandler;
 import org.camunda.bpm.engine.impl.batch.BatchSeedJobHandler;
@@ -131,6 +135,7 @@ import org.camunda.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
 import org.camunda.bpm.engine.impl.cfg.multitenancy.TenantCommandChecker;
 import org.camunda.bpm.engine.impl.cfg.multitenancy.TenantIdProvider;
 import org.camunda.bpm.engine.impl.cfg.standalone.StandaloneTransactionContextFactory;
+import org.camunda.bpm.engine.impl.cmd.DeleteProcessInstancesCmd;
 import org.camunda.bpm.engine.impl.cmd.HistoryCleanupCmd;
 import org.camunda.bpm.engine.impl.cmmn.CaseServiceImpl;
 import org.camunda.bpm.engine.impl.cmmn.deployer.CmmnDeployer;
@@ -143,6 +148,7 @@ import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.camunda.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
 import org.camunda.bpm.engine.impl.db.DbIdGenerator;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
@@ -169,6 +175,7 @@ import org.camunda.bpm.engine.impl.event.EventHandlerImpl;
 import org.camunda.bpm.engine.impl.event.EventType;
 import org.camunda.bpm.engine.impl.event.SignalEventHandler;
 import org.camunda.bpm.engine.impl.externaltask.DefaultExternalTaskPriorityProvider;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.form.deployer.CamundaFormDefinitionDeployer;
 import org.camunda.bpm.engine.impl.form.engine.FormEngine;
 import org.camunda.bpm.engine.impl.form.engine.HtmlFormEngine;
@@ -217,6 +224,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContextFactory;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutorImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandInterceptor;
+import org.camunda.bpm.engine.impl.interceptor.CommandStatisticsInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.CrdbTransactionRetryInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.DelegateInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
@@ -248,6 +256,9 @@ import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHelp
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupJobHandler;
 import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
 import org.camunda.bpm.engine.impl.metrics.MetricsReporterIdProvider;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfiler;
+import org.camunda.bpm.engine.impl.metrics.command.SqlStatisticsInterceptor;
 import org.camunda.bpm.engine.impl.metrics.parser.MetricsBpmnParseListener;
 import org.camunda.bpm.engine.impl.metrics.parser.MetricsCmmnTransformListener;
 import org.camunda.bpm.engine.impl.metrics.reporter.DbMetricsReporter;
@@ -302,6 +313,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.HistoricActivityInstanceMa
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricBatchManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricCaseActivityInstanceManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricCaseInstanceManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricChangeFeedManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricExternalTaskLogManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricIdentityLinkLogManager;
@@ -318,6 +330,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.MeterLogManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.PropertyManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ReportManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceManager;
@@ -517,9 +530,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected Long jobExecutorPriorityRangeMin = null;
   protected Long jobExecutorPriorityRangeMax = null;
 
+  /**
+   * The number of partitions jobs are assigned to on creation, based on the hash
+   * of their process instance id. Job executors lease a fair share of the partitions
+   * and only acquire jobs from their leased partitions, so that nodes of a cluster do
+   * not compete for the same jobs. Partitioning is disabled if the value is less than
+   * or equal to zero. All nodes of a cluster must use the same value.
+   */
+  protected int jobExecutorPartitionCount = 0;
+
   // EXTERNAL TASK /////////////////////////////////////////////////////////////
   protected PriorityProvider<ExternalTaskActivityBehavior> externalTaskPriorityProvider;
 
+  /**
+   * The number of partitions external tasks are assigned to on creation, based on the
+   * hash of their process instance id. Workers can restrict fetching to a set of
+   * partitions to avoid competing for the same tasks. Partitioning is disabled if
+   * the value is less than or equal to zero.
+   */
+  protected int externalTaskPartitionCount = 0;
+
   // MYBATIS SQL SESSION FACTORY //////////////////////////////////////////////
 
   protected SqlSessionFactory sqlSessionFactory;
@@ -557,6 +587,94 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected Map<String, Integer> invocationsPerBatchJobByBatchType;
 
+  /**
+   * If enabled, the seed job adapts the invocations per batch job of a batch so that
+   * its batch jobs take about {@link #adaptiveBatchJobTargetDuration} milliseconds,
+   * based on the execution times measured by this process engine.
+   */
+  protected boolean adaptiveInvocationsPerBatchJob = false;
+
+  protected long adaptiveBatchJobTargetDuration = 2000;
+
+  /**
+   * Bounds of the invocations per batch job when adapted.
+   */
+  protected int minInvocationsPerBatchJob = 1;
+  protected int maxInvocationsPerBatchJob = 1000;
+
+  protected BatchJobExecutionTimes batchJobExecutionTimes = new BatchJobExecutionTimes();
+
+  /**
+   * If true, the execution, flush and commit time as well as the SQL statements
+   * of every command are recorded, see {@link CommandStatisticsRecorder}.
+   */
+  protected boolean commandStatisticsEnabled = false;
+
+  /**
+   * Number of the most recent command executions kept by the {@link CommandStatisticsRecorder}.
+   */
+  protected int commandStatisticsCapacity = 1000;
+
+  protected CommandStatisticsRecorder commandStatisticsRecorder;
+
+  /**
+   * If true, commands are profiled and the profiles of commands that take longer
+   * than {@link #slowCommandThreshold} are retained, see {@link SlowCommandProfiler}.
+   */
+  protected boolean slowCommandProfilingEnabled = false;
+
+  /**
+   * Minimum duration in milliseconds of a command whose profile is retained.
+   */
+  protected long slowCommandThreshold = 1000;
+
+  /**
+   * Number of retained slow command profiles.
+   */
+  protected int slowCommandProfileCapacity = 100;
+
+  /**
+   * Fraction of the commands that are profiled, between 0 and 1.
+   */
+  protected double slowCommandProfilingSamplingRate = 1.0;
+
+  protected SlowCommandProfiler slowCommandProfiler;
+
+  /**
+   * If true, the count and result pages of task filters with the property
+   * {@value FilterResultCache#CACHE_RESULTS_PROPERTY} are cached, see {@link FilterResultCache}.
+   */
+  protected boolean filterResultCacheEnabled = false;
+
+  /**
+   * Time in milliseconds a cached filter result is used. Bounds how long task
+   * changes can remain invisible in cached filter results.
+   */
+  protected long filterResultCacheTimeToLive = 5000;
+
+  /**
+   * Maximum number of cached filter results.
+   */
+  protected int filterResultCacheMaxEntries = 10000;
+
+  protected FilterResultCache filterResultCache;
+
+  /**
+   * If true, {@link DeleteProcessInstancesCmd} deletes process instances with set-based
+   * statements when no listeners, output mappings, history or authorization checks apply,
+   * see {@link ExecutionManager#deleteProcessInstancesInBulk(List, boolean)}. Activity
+   * instance end metrics are not reported for instances deleted this way.
+   */
+  protected boolean bulkProcessInstanceDeletionEnabled = false;
+
+  /**
+   * If true, updates of entities implementing {@link HasDbChangedProperties} (executions,
+   * tasks and jobs) only write the columns whose persistent state changed since the entity
+   * was loaded. Since the update statements then vary per entity, fewer of them can be
+   * grouped into a single JDBC batch.
+   */
+  protected boolean dbEntityPartialUpdatesEnabled = false;
+
   /**
    * seconds to wait between polling for batch completion
    */
@@ -888,6 +1006,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected boolean isUseSharedSqlSessionFactory = false;
 
+  /**
+   * The number of rows the JDBC driver fetches per round trip; null keeps the driver default.
+   * Increasing it speeds up large reads, e.g. when streaming query results in big batches.
+   */
+  protected Integer jdbcFetchSize;
+
   //History cleanup configuration
   protected String historyCleanupBatchWindowStartTime;
   protected String historyCleanupBatchWindowEndTime = "00:00";
@@ -947,6 +1071,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    * Size of batch in which history cleanup data will be deleted. {@link HistoryCleanupBatch#MAX_BATCH_SIZE} must be respected.
    */
   private int historyCleanupBatchSize = 500;
+
+  /**
+   * If enabled, the removal-time-based history cleanup adapts the batch size of each job to the
+   * observed duration of its runs: it grows while full runs complete within
+   * {@link #historyCleanupAdaptiveBatchDurationInMillis} and shrinks when they take longer.
+   */
+  protected boolean historyCleanupAdaptiveBatchSizeEnabled = false;
+
+  /**
+   * Upper bound of the adaptive batch size. Removal-time-based cleanup deletes with
+   * range statements instead of id lists, so the bound may exceed {@link HistoryCleanupHandler#MAX_BATCH_SIZE}.
+   */
+  protected int historyCleanupAdaptiveBatchSizeMax = 10000;
+
+  /**
+   * Target duration of a history cleanup run, including the flush of the delete statements.
+   */
+  protected long historyCleanupAdaptiveBatchDurationInMillis = 1000;
+
+  /**
+   * If enabled, the removal-time-based history cleanup maintains the monthly partitions of the
+   * history tables converted by <code>db/partitioning/postgres_history_partitioning.sql</code>
+   * and drops expired partitions instead of deleting their rows. Only supported on PostgreSQL.
+   * The maintenance runs in a separate transaction, failures are logged and don't fail the cleanup.
+   * Note that the script replaces the primary keys of the converted tables by unique indexes
+   * including <code>REMOVAL_TIME_</code>, since partitioned tables require the partition key in
+   * unique indexes and the removal time of rows of running process instances is null.
+   */
+  protected boolean historyPartitioningEnabled = false;
+
+  /**
+   * Number of months after the current month for which history partitions are created in advance.
+   * Should cover the longest history time to live, rows of months without a partition are
+   * kept in the default partition.
+   */
+  protected int historyPartitioningMonthsAhead = 12;
+
+  /**
+   * History change feeds only return entries whose time is older than this lag. The time of a
+   * history entry is set when the change happens, not when its transaction commits, so an entry
+   * may become visible after newer entries were already read. The lag must exceed the duration
+   * of the longest transaction writing history, otherwise such entries can be skipped.
+   */
+  protected long historicChangeFeedSafetyLagInMillis = 60000;
+
   /**
    * Indicates the minimal amount of data to trigger the history cleanup.
    */
@@ -1044,6 +1213,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Database type needs to be detected before CommandExecutors are initialized
     initDataSource();
 
+    initCommandStatistics();
+    initSlowCommandProfiler();
+    initFilterResultCache();
     initCommandExecutors();
     initServices();
     initIdGenerator();
@@ -1126,9 +1298,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initHistoryCleanupStrategy();
 
     //validate number of threads
-    if (historyCleanupDegreeOfParallelism < 1 || historyCleanupDegreeOfParallelism > MAX_THREADS_NUMBER) {
+    int maxThreadsNumber = HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED.equals(historyCleanupStrategy)
+        ? MAX_THREADS_NUMBER_REMOVAL_TIME_BASED : MAX_THREADS_NUMBER;
+    if (historyCleanupDegreeOfParallelism < 1 || historyCleanupDegreeOfParallelism > maxThreadsNumber) {
       throw LOG.invalidPropertyValue("historyCleanupDegreeOfParallelism", String.valueOf(historyCleanupDegreeOfParallelism),
-        String.format("value for number of threads for history cleanup should be between 1 and %s", HistoryCleanupCmd.MAX_THREADS_NUMBER));
+        String.format("value for number of threads for history cleanup should be between 1 and %s", maxThreadsNumber));
     }
 
     if (historyCleanupBatchWindowStartTime != null) {
@@ -1146,6 +1320,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
           String.format("value for batch size should be between 1 and %s", HistoryCleanupHandler.MAX_BATCH_SIZE));
     }
 
+    if (historyCleanupAdaptiveBatchSizeMax < historyCleanupBatchSize) {
+      throw LOG.invalidPropertyValue("historyCleanupAdaptiveBatchSizeMax", String.valueOf(historyCleanupAdaptiveBatchSizeMax),
+          "value for the maximum adaptive batch size must not be less than historyCleanupBatchSize");
+    }
+
     if (historyCleanupBatchThreshold < 0) {
       throw LOG.invalidPropertyValue("historyCleanupBatchThreshold", String.valueOf(historyCleanupBatchThreshold),
           "History cleanup batch threshold cannot be negative.");
@@ -1432,6 +1611,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initCommandExecutorDbSchemaOperations();
   }
 
+  protected void initCommandStatistics() {
+    if (commandStatisticsEnabled && commandStatisticsRecorder == null) {
+      commandStatisticsRecorder = new CommandStatisticsRecorder(commandStatisticsCapacity);
+    }
+  }
+
+  protected void initFilterResultCache() {
+    if (filterResultCacheEnabled && filterResultCache == null) {
+      filterResultCache = new FilterResultCache(filterResultCacheTimeToLive, filterResultCacheMaxEntries);
+    }
+  }
+
+  protected void initSlowCommandProfiler() {
+    if (slowCommandProfilingEnabled && slowCommandProfiler == null) {
+      slowCommandProfiler = new SlowCommandProfiler(slowCommandThreshold, slowCommandProfileCapacity, slowCommandProfilingSamplingRate);
+    }
+  }
+
   protected void initActualCommandExecutor() {
     actualCommandExecutor = new CommandExecutorImpl();
   }
@@ -1443,6 +1640,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       } else {
         commandInterceptorsTxRequired = new ArrayList<>();
       }
+      if (commandStatisticsRecorder != null) {
+        commandInterceptorsTxRequired.add(new CommandStatisticsInterceptor(commandStatisticsRecorder, false));
+      }
       commandInterceptorsTxRequired.addAll(getDefaultCommandInterceptorsTxRequired());
       if (customPostCommandInterceptorsTxRequired != null) {
         commandInterceptorsTxRequired.addAll(customPostCommandInterceptorsTxRequired);
@@ -1458,6 +1658,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       } else {
         commandInterceptorsTxRequiresNew = new ArrayList<>();
       }
+      if (commandStatisticsRecorder != null) {
+        commandInterceptorsTxRequiresNew.add(new CommandStatisticsInterceptor(commandStatisticsRecorder, true));
+      }
       commandInterceptorsTxRequiresNew.addAll(getDefaultCommandInterceptorsTxRequiresNew());
       if (customPostCommandInterceptorsTxRequiresNew != null) {
         commandInterceptorsTxRequiresNew.addAll(customPostCommandInterceptorsTxRequiresNew);
@@ -1743,11 +1946,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
           configuration = parser.parse();
 
           configuration.setDefaultStatementTimeout(jdbcStatementTimeout);
+          configuration.setDefaultFetchSize(jdbcFetchSize);
 
           if (isJdbcBatchProcessing()) {
             configuration.setDefaultExecutorType(ExecutorType.BATCH);
           }
 
+          if (isSqlStatisticsRequired()) {
+            initSqlStatistics(configuration);
+          }
+
           sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
 
           if (isUseSharedSqlSessionFactory) {
@@ -1760,10 +1968,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         } finally {
           IoUtil.closeSilently(inputStream);
         }
+      } else if (isSqlStatisticsRequired()) {
+        // a shared or custom session factory may have been built without statistics
+        initSqlStatistics(sqlSessionFactory.getConfiguration());
       }
     }
   }
 
+  protected boolean isSqlStatisticsRequired() {
+    return commandStatisticsRecorder != null || slowCommandProfiler != null;
+  }
+
+  protected void initSqlStatistics(Configuration configuration) {
+    for (Interceptor interceptor : configuration.getInterceptors()) {
+      if (interceptor instanceof SqlStatisticsInterceptor) {
+        return;
+      }
+    }
+    configuration.addInterceptor(new SqlStatisticsInterceptor());
+  }
+
   public static void initSqlSessionFactoryProperties(Properties properties, String databaseTablePrefix, String databaseType) {
 
     if (databaseType != null) {
@@ -1865,6 +2089,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       addSessionFactory(new GenericManagerFactory(JobDefinitionManager.class));
       addSessionFactory(new GenericManagerFactory(ProcessDefinitionManager.class));
       addSessionFactory(new GenericManagerFactory(PropertyManager.class));
+      addSessionFactory(new GenericManagerFactory(HistoryPartitionManager.class));
       addSessionFactory(new GenericManagerFactory(ResourceManager.class));
       addSessionFactory(new GenericManagerFactory(ByteArrayManager.class));
       addSessionFactory(new GenericManagerFactory(TableDataManager.class));
@@ -1895,6 +2120,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       addSessionFactory(new GenericManagerFactory(CamundaFormDefinitionManager.class));
 
       addSessionFactory(new GenericManagerFactory(OptimizeManager.class));
+      addSessionFactory(new GenericManagerFactory(HistoricChangeFeedManager.class));
 
       sessionFactories.put(ReadOnlyIdentityProvider.class, identityProviderSessionFactory);
 
@@ -2428,6 +2654,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_INSTANCES);
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+
+    metricsRegistry.createHistogram(Metrics.COMMAND_DURATION);
+    metricsRegistry.createHistogram(Metrics.JOB_EXECUTION_DURATION);
+    metricsRegistry.createHistogram(Metrics.JOB_ACQUISITION_DURATION);
+    metricsRegistry.createHistogram(Metrics.FLUSH_DURATION);
   }
 
   protected void initSerialization() {
@@ -3109,6 +3340,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getJobExecutorPartitionCount() {
+    return jobExecutorPartitionCount;
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutorPartitionCount(int jobExecutorPartitionCount) {
+    this.jobExecutorPartitionCount = jobExecutorPartitionCount;
+    return this;
+  }
+
   public PriorityProvider<ExternalTaskActivityBehavior> getExternalTaskPriorityProvider() {
     return externalTaskPriorityProvider;
   }
@@ -3117,6 +3357,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.externalTaskPriorityProvider = externalTaskPriorityProvider;
   }
 
+  public int getExternalTaskPartitionCount() {
+    return externalTaskPartitionCount;
+  }
+
+  public void setExternalTaskPartitionCount(int externalTaskPartitionCount) {
+    this.externalTaskPartitionCount = externalTaskPartitionCount;
+  }
+
   public IdGenerator getIdGenerator() {
     return idGenerator;
   }
@@ -3890,6 +4138,177 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.invocationsPerBatchJob = invocationsPerBatchJob;
   }
 
+  public boolean isAdaptiveInvocationsPerBatchJob() {
+    return adaptiveInvocationsPerBatchJob;
+  }
+
+  public ProcessEngineConfigurationImpl setAdaptiveInvocationsPerBatchJob(boolean adaptiveInvocationsPerBatchJob) {
+    this.adaptiveInvocationsPerBatchJob = adaptiveInvocationsPerBatchJob;
+    return this;
+  }
+
+  public long getAdaptiveBatchJobTargetDuration() {
+    return adaptiveBatchJobTargetDuration;
+  }
+
+  public ProcessEngineConfigurationImpl setAdaptiveBatchJobTargetDuration(long adaptiveBatchJobTargetDuration) {
+    this.adaptiveBatchJobTargetDuration = adaptiveBatchJobTargetDuration;
+    return this;
+  }
+
+  public int getMinInvocationsPerBatchJob() {
+    return minInvocationsPerBatchJob;
+  }
+
+  public ProcessEngineConfigurationImpl setMinInvocationsPerBatchJob(int minInvocationsPerBatchJob) {
+    this.minInvocationsPerBatchJob = minInvocationsPerBatchJob;
+    return this;
+  }
+
+  public int getMaxInvocationsPerBatchJob() {
+    return maxInvocationsPerBatchJob;
+  }
+
+  public ProcessEngineConfigurationImpl setMaxInvocationsPerBatchJob(int maxInvocationsPerBatchJob) {
+    this.maxInvocationsPerBatchJob = maxInvocationsPerBatchJob;
+    return this;
+  }
+
+  public BatchJobExecutionTimes getBatchJobExecutionTimes() {
+    return batchJobExecutionTimes;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchJobExecutionTimes(BatchJobExecutionTimes batchJobExecutionTimes) {
+    this.batchJobExecutionTimes = batchJobExecutionTimes;
+    return this;
+  }
+
+  public boolean isCommandStatisticsEnabled() {
+    return commandStatisticsEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setCommandStatisticsEnabled(boolean commandStatisticsEnabled) {
+    this.commandStatisticsEnabled = commandStatisticsEnabled;
+    return this;
+  }
+
+  public int getCommandStatisticsCapacity() {
+    return commandStatisticsCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setCommandStatisticsCapacity(int commandStatisticsCapacity) {
+    this.commandStatisticsCapacity = commandStatisticsCapacity;
+    return this;
+  }
+
+  public CommandStatisticsRecorder getCommandStatisticsRecorder() {
+    return commandStatisticsRecorder;
+  }
+
+  public ProcessEngineConfigurationImpl setCommandStatisticsRecorder(CommandStatisticsRecorder commandStatisticsRecorder) {
+    this.commandStatisticsRecorder = commandStatisticsRecorder;
+    return this;
+  }
+
+  public boolean isSlowCommandProfilingEnabled() {
+    return slowCommandProfilingEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setSlowCommandProfilingEnabled(boolean slowCommandProfilingEnabled) {
+    this.slowCommandProfilingEnabled = slowCommandProfilingEnabled;
+    return this;
+  }
+
+  public long getSlowCommandThreshold() {
+    return slowCommandThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setSlowCommandThreshold(long slowCommandThreshold) {
+    this.slowCommandThreshold = slowCommandThreshold;
+    return this;
+  }
+
+  public int getSlowCommandProfileCapacity() {
+    return slowCommandProfileCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setSlowCommandProfileCapacity(int slowCommandProfileCapacity) {
+    this.slowCommandProfileCapacity = slowCommandProfileCapacity;
+    return this;
+  }
+
+  public double getSlowCommandProfilingSamplingRate() {
+    return slowCommandProfilingSamplingRate;
+  }
+
+  public ProcessEngineConfigurationImpl setSlowCommandProfilingSamplingRate(double slowCommandProfilingSamplingRate) {
+    this.slowCommandProfilingSamplingRate = slowCommandProfilingSamplingRate;
+    return this;
+  }
+
+  public SlowCommandProfiler getSlowCommandProfiler() {
+    return slowCommandProfiler;
+  }
+
+  public ProcessEngineConfigurationImpl setSlowCommandProfiler(SlowCommandProfiler slowCommandProfiler) {
+    this.slowCommandProfiler = slowCommandProfiler;
+    return this;
+  }
+
+  public boolean isFilterResultCacheEnabled() {
+    return filterResultCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setFilterResultCacheEnabled(boolean filterResultCacheEnabled) {
+    this.filterResultCacheEnabled = filterResultCacheEnabled;
+    return this;
+  }
+
+  public long getFilterResultCacheTimeToLive() {
+    return filterResultCacheTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setFilterResultCacheTimeToLive(long filterResultCacheTimeToLive) {
+    this.filterResultCacheTimeToLive = filterResultCacheTimeToLive;
+    return this;
+  }
+
+  public int getFilterResultCacheMaxEntries() {
+    return filterResultCacheMaxEntries;
+  }
+
+  public ProcessEngineConfigurationImpl setFilterResultCacheMaxEntries(int filterResultCacheMaxEntries) {
+    this.filterResultCacheMaxEntries = filterResultCacheMaxEntries;
+    return this;
+  }
+
+  public FilterResultCache getFilterResultCache() {
+    return filterResultCache;
+  }
+
+  public ProcessEngineConfigurationImpl setFilterResultCache(FilterResultCache filterResultCache) {
+    this.filterResultCache = filterResultCache;
+    return this;
+  }
+
+  public boolean isBulkProcessInstanceDeletionEnabled() {
+    return bulkProcessInstanceDeletionEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setBulkProcessInstanceDeletionEnabled(boolean bulkProcessInstanceDeletionEnabled) {
+    this.bulkProcessInstanceDeletionEnabled = bulkProcessInstanceDeletionEnabled;
+    return this;
+  }
+
+  public boolean isDbEntityPartialUpdatesEnabled() {
+    return dbEntityPartialUpdatesEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setDbEntityPartialUpdatesEnabled(boolean dbEntityPartialUpdatesEnabled) {
+    this.dbEntityPartialUpdatesEnabled = dbEntityPartialUpdatesEnabled;
+    return this;
+  }
+
   public int getBatchPollTime() {
     return batchPollTime;
   }
@@ -4297,6 +4716,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       // ACT-233: connection pool of Ibatis is not properely initialized if this is not called!
       ((PooledDataSource) dataSource).forceCloseAll();
     }
+
+    if (sessionFactories != null) {
+      // a factory may be registered for multiple session types
+      for (SessionFactory sessionFactory : new HashSet<>(sessionFactories.values())) {
+        sessionFactory.close();
+      }
+    }
   }
 
   public MetricsRegistry getMetricsRegistry() {
@@ -4636,6 +5062,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return isUseSharedSqlSessionFactory;
   }
 
+  public Integer getJdbcFetchSize() {
+    return jdbcFetchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcFetchSize(Integer jdbcFetchSize) {
+    this.jdbcFetchSize = jdbcFetchSize;
+    return this;
+  }
+
   public boolean getDisableStrictCallActivityValidation() {
     return disableStrictCallActivityValidation;
   }
@@ -4804,6 +5239,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.historyCleanupBatchSize = historyCleanupBatchSize;
   }
 
+  public boolean isHistoryCleanupAdaptiveBatchSizeEnabled() {
+    return historyCleanupAdaptiveBatchSizeEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupAdaptiveBatchSizeEnabled(boolean historyCleanupAdaptiveBatchSizeEnabled) {
+    this.historyCleanupAdaptiveBatchSizeEnabled = historyCleanupAdaptiveBatchSizeEnabled;
+    return this;
+  }
+
+  public int getHistoryCleanupAdaptiveBatchSizeMax() {
+    return historyCleanupAdaptiveBatchSizeMax;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupAdaptiveBatchSizeMax(int historyCleanupAdaptiveBatchSizeMax) {
+    this.historyCleanupAdaptiveBatchSizeMax = historyCleanupAdaptiveBatchSizeMax;
+    return this;
+  }
+
+  public long getHistoryCleanupAdaptiveBatchDurationInMillis() {
+    return historyCleanupAdaptiveBatchDurationInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupAdaptiveBatchDurationInMillis(long historyCleanupAdaptiveBatchDurationInMillis) {
+    this.historyCleanupAdaptiveBatchDurationInMillis = historyCleanupAdaptiveBatchDurationInMillis;
+    return this;
+  }
+
+  public boolean isHistoryPartitioningEnabled() {
+    return historyPartitioningEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryPartitioningEnabled(boolean historyPartitioningEnabled) {
+    this.historyPartitioningEnabled = historyPartitioningEnabled;
+    return this;
+  }
+
+  public int getHistoryPartitioningMonthsAhead() {
+    return historyPartitioningMonthsAhead;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryPartitioningMonthsAhead(int historyPartitioningMonthsAhead) {
+    this.historyPartitioningMonthsAhead = historyPartitioningMonthsAhead;
+    return this;
+  }
+
+  public long getHistoricChangeFeedSafetyLagInMillis() {
+    return historicChangeFeedSafetyLagInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoricChangeFeedSafetyLagInMillis(long historicChangeFeedSafetyLagInMillis) {
+    this.historicChangeFeedSafetyLagInMillis = historicChangeFeedSafetyLagInMillis;
+    return this;
+  }
+
   public int getHistoryCleanupBatchThreshold() {
     return historyCleanupBatchThreshold;
   }
@@ -18,8 +18,11 @@ package org.camunda.bpm.engine.impl.cmd;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import org.camunda.bpm.engine.BadUserRequestException;
@@ -29,6 +32,8 @@ import org.camunda.bpm.engine.history.UserOperationLogEntry;
 import org.camunda.bpm.engine.impl.ProcessInstanceModificationBuilderImpl;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.auth.AuthorizationCommandChecker;
+import org.camunda.bpm.engine.impl.cfg.multitenancy.TenantCommandChecker;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
@@ -114,6 +119,57 @@ public abstract class AbstractDeleteProcessInstanceCmd {
             null, null, Collections.singletonList(PropertyChange.EMPTY_CHANGE));
   }
 
+  /**
+   * @return true if process instances can be deleted with set-based statements, i.e.
+   * bulk deletion is enabled, no history is produced and the deletion requires no
+   * authorization or tenant checks
+   */
+  protected boolean isBulkDeletionApplicable(CommandContext commandContext) {
+    ProcessEngineConfigurationImpl configuration = commandContext.getProcessEngineConfiguration();
+    if (!configuration.isBulkProcessInstanceDeletionEnabled()
+        || !HistoryLevel.HISTORY_LEVEL_NONE.equals(configuration.getHistoryLevel())
+        || commandContext.getAuthorizationManager().isAuthCheckExecuted()
+        || commandContext.getTenantManager().isTenantCheckEnabled()) {
+      return false;
+    }
+
+    // custom checkers could veto the deletion of an instance
+    for (CommandChecker checker : configuration.getCommandCheckers()) {
+      if (!(checker instanceof AuthorizationCommandChecker) && !(checker instanceof TenantCommandChecker)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Deletes the process instances that qualify for bulk deletion.
+   *
+   * @return the ids of the process instances that have to be deleted one by one
+   */
+  protected List<String> deleteProcessInstancesInBulk(CommandContext commandContext, List<String> processInstanceIds) {
+
+    List<String> deletedProcessInstanceIds = commandContext
+        .getExecutionManager()
+        .deleteProcessInstancesInBulk(processInstanceIds, skipCustomListeners);
+
+    Set<String> deletedIds = new HashSet<>(deletedProcessInstanceIds);
+    List<String> remainingProcessInstanceIds = new ArrayList<>();
+    for (String processInstanceId : processInstanceIds) {
+      if (!deletedIds.contains(processInstanceId)) {
+        remainingProcessInstanceIds.add(processInstanceId);
+      }
+    }
+
+    for (String processInstanceId : deletedProcessInstanceIds) {
+      commandContext.getOperationLogManager()
+          .logProcessInstanceOperation(UserOperationLogEntry.OPERATION_TYPE_DELETE, processInstanceId,
+              null, null, Collections.singletonList(PropertyChange.EMPTY_CHANGE));
+    }
+
+    return remainingProcessInstanceIds;
+  }
+
   public void triggerHistoryEvent(List<ProcessInstance> subProcesslist) {
     ProcessEngineConfigurationImpl configuration = Context.getProcessEngineConfiguration();
     HistoryLevel historyLevel = configuration.getHistoryLevel();
@@ -22,6 +22,7 @@ import java.io.Serializable;
 
 import org.camunda.bpm.engine.filter.Filter;
 import org.camunda.bpm.engine.impl.AbstractQuery;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.FilterEntity;
 import org.camunda.bpm.engine.query.Query;
@@ -63,7 +64,10 @@ public abstract class AbstractExecuteFilterCmd implements Serializable {
   }
 
   protected Query<?, ?> getFilterQuery(CommandContext commandContext) {
-    Filter filter = getFilter(commandContext);
+    return getFilterQuery(getFilter(commandContext));
+  }
+
+  protected Query<?, ?> getFilterQuery(Filter filter) {
     Query<?, ?> query = filter.getQuery();
     if (query instanceof TaskQuery) {
       ((TaskQuery) query).initializeFormKeys();
@@ -71,4 +75,15 @@ public abstract class AbstractExecuteFilterCmd implements Serializable {
     return query;
   }
 
+  /**
+   * @return the filter result cache if results of the given filter can be cached, null otherwise
+   */
+  protected FilterResultCache getFilterResultCache(CommandContext commandContext, Filter filter) {
+    FilterResultCache cache = commandContext.getProcessEngineConfiguration().getFilterResultCache();
+    if (cache != null && extendingQuery == null && FilterResultCache.isCacheable(filter)) {
+      return cache;
+    }
+    return null;
+  }
+
 }
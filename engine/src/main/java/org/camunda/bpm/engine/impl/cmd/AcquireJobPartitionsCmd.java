@@ -0,0 +1,297 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Determines the job partitions the job executor may acquire jobs from.</p>
+ *
+ * <p>
+ *   Every job executor announces its presence with a heartbeat property and leases
+ *   a fair share of the partitions (the partition count divided by the number of live
+ *   job executors, rounded up) through one property per partition. Leases and heartbeats
+ *   are renewed during job acquisition. If a job executor stops renewing, its heartbeat
+ *   and leases expire and the remaining job executors take over its partitions.
+ *   Job executors holding more than their fair share release the surplus, so that
+ *   newly started job executors get partitions assigned.
+ * </p>
+ *
+ * <p>
+ *   Missing lease properties are created in a separate transaction, a concurrent
+ *   creation by another node leaves the partitions unacquired for the current cycle.
+ *   Concurrent modifications of the same lease are detected by optimistic locking;
+ *   the partition is not returned and its lease is re-evaluated in the next acquisition
+ *   cycle. The command must therefore run in its own transaction, so that the returned
+ *   partitions reflect the flushed leases.
+ *   Partitions only reduce the contention between job executors, locking the
+ *   jobs themselves still guarantees that a job is executed only once.
+ * </p>
+ */
+public class AcquireJobPartitionsCmd implements Command<List<Integer>>, OptimisticLockingListener {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final String PARTITION_PROPERTY_PREFIX = "jobexecutor.partition.";
+  public static final String HEARTBEAT_PROPERTY_PREFIX = "jobexecutor.node.";
+
+  protected static final String LEASE_SEPARATOR = "|";
+  protected static final int MAX_PROPERTY_NAME_LENGTH = 64;
+
+  protected JobExecutor jobExecutor;
+  protected int partitionCount;
+
+  protected List<Integer> ownedPartitions;
+
+  public AcquireJobPartitionsCmd(JobExecutor jobExecutor, int partitionCount) {
+    this.jobExecutor = jobExecutor;
+    this.partitionCount = partitionCount;
+  }
+
+  public List<Integer> execute(CommandContext commandContext) {
+    PropertyManager propertyManager = commandContext.getPropertyManager();
+
+    long now = ClockUtil.getCurrentTime().getTime();
+    String lockOwner = jobExecutor.getLockOwner();
+    int leaseTime = jobExecutor.getPartitionLeaseTimeInMillis();
+
+    int liveJobExecutors = renewHeartbeat(propertyManager, lockOwner, now, leaseTime);
+    int fairShare = (partitionCount + liveJobExecutors - 1) / liveJobExecutors;
+
+    Map<Integer, PropertyEntity> leases = findLeases(propertyManager);
+    if (leases.size() < partitionCount) {
+      initializeLeases(commandContext);
+      findMissingLeases(propertyManager, leases);
+    }
+
+    ownedPartitions = new ArrayList<>();
+    List<Integer> availablePartitions = new ArrayList<>();
+
+    for (int partition = 0; partition < partitionCount; partition++) {
+      PropertyEntity lease = leases.get(partition);
+      if (lease == null) {
+        // created concurrently by another node, acquired in the next cycle
+        continue;
+      }
+
+      if (getExpirationTime(lease) <= now) {
+        availablePartitions.add(partition);
+      }
+      else if (lockOwner.equals(getLeaseOwner(lease))) {
+        ownedPartitions.add(partition);
+      }
+    }
+
+    // release the surplus
+    while (ownedPartitions.size() > fairShare) {
+      Integer partition = ownedPartitions.remove(ownedPartitions.size() - 1);
+      leases.get(partition).setValue("");
+    }
+
+    // renew the owned leases
+    for (Integer partition : ownedPartitions) {
+      PropertyEntity lease = leases.get(partition);
+      if (isRenewalDue(getExpirationTime(lease), now, leaseTime)) {
+        lease.setValue(createLease(lockOwner, now + leaseTime));
+      }
+    }
+
+    // claim available partitions up to the fair share
+    for (Integer partition : availablePartitions) {
+      if (ownedPartitions.size() >= fairShare) {
+        break;
+      }
+      leases.get(partition).setValue(createLease(lockOwner, now + leaseTime));
+      ownedPartitions.add(partition);
+    }
+
+    commandContext
+      .getDbEntityManager()
+      .registerOptimisticLockingListener(this);
+
+    return ownedPartitions;
+  }
+
+  /**
+   * Renews the heartbeat of the job executor and removes expired heartbeats of other job executors.
+   *
+   * @return the number of live job executors, including this one
+   */
+  protected int renewHeartbeat(PropertyManager propertyManager, String lockOwner, long now, int leaseTime) {
+    String heartbeatName = getHeartbeatPropertyName(lockOwner);
+    PropertyEntity heartbeat = null;
+    int liveJobExecutors = 1;
+
+    for (PropertyEntity property : propertyManager.findPropertiesByNamePrefix(HEARTBEAT_PROPERTY_PREFIX)) {
+      if (heartbeatName.equals(property.getName())) {
+        heartbeat = property;
+      }
+      else if (parseLong(property.getValue()) > now) {
+        liveJobExecutors++;
+      }
+      else {
+        propertyManager.deleteProperty(property);
+      }
+    }
+
+    if (heartbeat == null) {
+      propertyManager.insert(new PropertyEntity(heartbeatName, Long.toString(now + leaseTime)));
+    }
+    else if (isRenewalDue(parseLong(heartbeat.getValue()), now, leaseTime)) {
+      heartbeat.setValue(Long.toString(now + leaseTime));
+    }
+
+    return liveJobExecutors;
+  }
+
+  /**
+   * Creates the missing leases in a separate transaction, so that a duplicate insert
+   * caused by a concurrent creation doesn't fail the acquisition.
+   */
+  protected void initializeLeases(CommandContext commandContext) {
+    try {
+      commandContext.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequiresNew()
+        .execute(new InitializeJobPartitionsCmd(partitionCount));
+    }
+    catch (RuntimeException e) {
+      LOG.exceptionWhileInitializingJobPartitions(e);
+    }
+  }
+
+  protected Map<Integer, PropertyEntity> findLeases(PropertyManager propertyManager) {
+    Map<Integer, PropertyEntity> leases = new HashMap<>();
+    for (PropertyEntity property : propertyManager.findPropertiesByNamePrefix(PARTITION_PROPERTY_PREFIX)) {
+      Integer partition = getPartition(property);
+      if (partition != null) {
+        leases.put(partition, property);
+      }
+    }
+    return leases;
+  }
+
+  protected void findMissingLeases(PropertyManager propertyManager, Map<Integer, PropertyEntity> leases) {
+    for (int partition = 0; partition < partitionCount; partition++) {
+      if (!leases.containsKey(partition)) {
+        // selected by id, a repeated selection by prefix returns the cached result of the session
+        PropertyEntity lease = propertyManager.findPropertyById(getPartitionPropertyName(partition));
+        if (lease != null) {
+          leases.put(partition, lease);
+        }
+      }
+    }
+  }
+
+  protected Integer getPartition(PropertyEntity property) {
+    String name = property.getName();
+    if (name == null || !name.startsWith(PARTITION_PROPERTY_PREFIX)) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(name.substring(PARTITION_PROPERTY_PREFIX.length()));
+    }
+    catch (NumberFormatException e) {
+      // not a lease property
+      return null;
+    }
+  }
+
+  /**
+   * Leases are renewed once a quarter of the lease time has passed, so that they
+   * survive a few idle acquisition cycles without renewal.
+   */
+  protected boolean isRenewalDue(long expirationTime, long now, int leaseTime) {
+    return expirationTime - now < leaseTime * 3L / 4;
+  }
+
+  protected String createLease(String lockOwner, long expirationTime) {
+    return expirationTime + LEASE_SEPARATOR + lockOwner;
+  }
+
+  protected long getExpirationTime(PropertyEntity lease) {
+    String value = lease.getValue();
+    int separator = value != null ? value.indexOf(LEASE_SEPARATOR) : -1;
+    return separator > 0 ? parseLong(value.substring(0, separator)) : 0;
+  }
+
+  protected String getLeaseOwner(PropertyEntity lease) {
+    String value = lease.getValue();
+    int separator = value != null ? value.indexOf(LEASE_SEPARATOR) : -1;
+    return separator > 0 ? value.substring(separator + 1) : null;
+  }
+
+  protected long parseLong(String value) {
+    try {
+      return Long.parseLong(value);
+    }
+    catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  public static String getPartitionPropertyName(int partition) {
+    return PARTITION_PROPERTY_PREFIX + partition;
+  }
+
+  public static String getHeartbeatPropertyName(String lockOwner) {
+    String name = HEARTBEAT_PROPERTY_PREFIX + lockOwner;
+    if (name.length() > MAX_PROPERTY_NAME_LENGTH) {
+      // the name column is limited in size, custom lock owners may exceed it
+      name = HEARTBEAT_PROPERTY_PREFIX + UUID.nameUUIDFromBytes(lockOwner.getBytes(StandardCharsets.UTF_8));
+    }
+    return name;
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return PropertyEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    if (operation instanceof DbEntityOperation) {
+      // another job executor modified the lease or heartbeat concurrently;
+      // the lease state is re-evaluated in the next acquisition cycle
+      Integer partition = getPartition((PropertyEntity) ((DbEntityOperation) operation).getEntity());
+      if (partition != null && ownedPartitions != null) {
+        ownedPartitions.remove(partition);
+      }
+      return OptimisticLockingResult.IGNORE;
+    }
+    return OptimisticLockingResult.THROW;
+  }
+
+}
@@ -61,9 +61,24 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     acquiredJobs = new AcquiredJobs(numJobsToAcquire);
 
-    List<AcquirableJobEntity> jobs = commandContext
-      .getJobManager()
-      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+    List<AcquirableJobEntity> jobs;
+
+    int partitionCount = commandContext.getProcessEngineConfiguration().getJobExecutorPartitionCount();
+    if (partitionCount > 0) {
+      // the leases are flushed in their own transaction, so that only successfully leased partitions are returned
+      List<Integer> partitions = commandContext.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequiresNew()
+        .execute(new AcquireJobPartitionsCmd(jobExecutor, partitionCount));
+      acquiredJobs.setPartitions(partitions);
+      jobs = commandContext
+        .getJobManager()
+        .findNextJobsToExecute(new Page(0, numJobsToAcquire), partitions);
+    }
+    else {
+      jobs = commandContext
+        .getJobManager()
+        .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+    }
 
     Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<String, List<String>>();
 
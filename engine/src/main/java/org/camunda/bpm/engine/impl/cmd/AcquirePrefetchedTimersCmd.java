@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers.PrefetchedTimer;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Converts the leases of due prefetched timers into regular job locks.
+ * Timers that were modified or deleted since they were prefetched are skipped,
+ * the leases of modified timers are released.
+ */
+public class AcquirePrefetchedTimersCmd implements Command<AcquiredJobs>, OptimisticLockingListener {
+
+  protected JobExecutor jobExecutor;
+  protected List<PrefetchedTimer> timers;
+
+  protected AcquiredJobs acquiredJobs;
+
+  public AcquirePrefetchedTimersCmd(JobExecutor jobExecutor, List<PrefetchedTimer> timers) {
+    this.jobExecutor = jobExecutor;
+    this.timers = timers;
+  }
+
+  public AcquiredJobs execute(CommandContext commandContext) {
+    acquiredJobs = new AcquiredJobs(timers.size());
+
+    Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<>();
+    Date lockExpirationTime = new Date(ClockUtil.getCurrentTime().getTime() + jobExecutor.getLockTimeInMillis());
+
+    for (PrefetchedTimer timer : timers) {
+      AcquirableJobEntity job = commandContext.getDbEntityManager().selectById(AcquirableJobEntity.class, timer.getId());
+
+      if (job == null) {
+        // deleted since it was prefetched
+        continue;
+      }
+      if (job.getRevision() != timer.getRevision()) {
+        // modified since it was prefetched, e.g. its due date was changed
+        ReleasePrefetchedTimersCmd.releaseLease(job, jobExecutor);
+        continue;
+      }
+
+      job.setLockOwner(jobExecutor.getLockOwner());
+      job.setLockExpirationTime(lockExpirationTime);
+
+      if (job.isExclusive()) {
+        exclusiveJobsByProcessInstance.computeIfAbsent(job.getProcessInstanceId(), id -> new ArrayList<>()).add(job.getId());
+      }
+      else {
+        acquiredJobs.addJobIdBatch(job.getId());
+      }
+    }
+
+    for (List<String> jobIds : exclusiveJobsByProcessInstance.values()) {
+      acquiredJobs.addJobIdBatch(jobIds);
+    }
+
+    commandContext
+      .getDbEntityManager()
+      .registerOptimisticLockingListener(this);
+
+    return acquiredJobs;
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return true;
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return AcquirableJobEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    if (operation instanceof DbEntityOperation) {
+      String jobId = ((DbEntityOperation) operation).getEntity().getId();
+      if (acquiredJobs.contains(jobId)) {
+        acquiredJobs.removeJobId(jobId);
+      }
+      // else the lease of a modified timer could not be released, it expires on its own
+      return OptimisticLockingResult.IGNORE;
+    }
+    return OptimisticLockingResult.THROW;
+  }
+
+}
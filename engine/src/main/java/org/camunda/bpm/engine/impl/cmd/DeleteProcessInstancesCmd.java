@@ -43,7 +43,13 @@ public class DeleteProcessInstancesCmd extends AbstractDeleteProcessInstanceCmd
   }
 
   public Void execute(CommandContext commandContext) {
-    for (String processInstanceId : this.processInstanceIds) {
+    List<String> remainingProcessInstanceIds = processInstanceIds;
+
+    if (isBulkDeletionApplicable(commandContext)) {
+      remainingProcessInstanceIds = deleteProcessInstancesInBulk(commandContext, processInstanceIds);
+    }
+
+    for (String processInstanceId : remainingProcessInstanceIds) {
       deleteProcessInstance(commandContext, processInstanceId, deleteReason, skipCustomListeners, externallyTerminated, false, skipSubprocesses);
     }
     return null;
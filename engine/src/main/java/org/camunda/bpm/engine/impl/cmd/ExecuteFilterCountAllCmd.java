@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.filter.Filter;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.FilterEntity;
+
+/**
+ * Counts the results of several filters in one command. Filters with the
+ * same resource type, query and result caching share a single count query.
+ */
+public class ExecuteFilterCountAllCmd implements Command<Map<String, Long>>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected List<String> filterIds;
+
+  public ExecuteFilterCountAllCmd(List<String> filterIds) {
+    this.filterIds = filterIds;
+  }
+
+  public Map<String, Long> execute(CommandContext commandContext) {
+    ensureNotNull("No filter ids given to execute", "filterIds", filterIds);
+
+    Map<String, Long> counts = new LinkedHashMap<>();
+    Map<String, Long> countsByQuery = new HashMap<>();
+
+    for (String filterId : filterIds) {
+      if (counts.containsKey(filterId)) {
+        continue;
+      }
+
+      ExecuteFilterCountCmd countCmd = new ExecuteFilterCountCmd(filterId);
+      Filter filter = countCmd.getFilter(commandContext);
+
+      // a cached count must not be shared with filters that expect the current count
+      boolean cached = countCmd.getFilterResultCache(commandContext, filter) != null;
+      String query = filter.getResourceType() + ":" + cached + ":" + ((FilterEntity) filter).getQueryInternal();
+      Long count = countsByQuery.get(query);
+      if (count == null) {
+        count = countCmd.count(commandContext, filter);
+        countsByQuery.put(query, count);
+      }
+
+      counts.put(filterId, count);
+    }
+
+    return counts;
+  }
+
+}
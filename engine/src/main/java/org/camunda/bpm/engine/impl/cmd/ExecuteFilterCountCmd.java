@@ -17,8 +17,10 @@
 package org.camunda.bpm.engine.impl.cmd;
 
 import org.camunda.bpm.engine.filter.Filter;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.FilterEntity;
 import org.camunda.bpm.engine.query.Query;
 
 /**
@@ -38,7 +40,23 @@ public class ExecuteFilterCountCmd extends AbstractExecuteFilterCmd implements C
 
   public Long execute(CommandContext commandContext) {
     Filter filter = getFilter(commandContext);
-    return filter.getQuery().count();
+    return count(commandContext, filter);
+  }
+
+  protected Long count(CommandContext commandContext, Filter filter) {
+    FilterResultCache cache = getFilterResultCache(commandContext, filter);
+    if (cache == null) {
+      return filter.getQuery().count();
+    }
+
+    FilterResultCache.Key key = cache.countKey(commandContext, (FilterEntity) filter);
+    Long count = cache.getCount(key);
+    if (count == null) {
+      long generation = cache.getGeneration();
+      count = filter.getQuery().count();
+      cache.putCount(key, count, generation);
+    }
+    return count;
   }
 
 }
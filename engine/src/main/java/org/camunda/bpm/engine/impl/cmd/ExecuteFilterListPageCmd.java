@@ -16,12 +16,21 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.camunda.bpm.engine.filter.Filter;
 import org.camunda.bpm.engine.impl.AbstractQuery;
+import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.FilterEntity;
 import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.task.Task;
 
 /**
  * @author Sebastian Menski
@@ -46,9 +55,59 @@ public class ExecuteFilterListPageCmd extends AbstractExecuteFilterCmd implement
   }
 
   public List<?> execute(CommandContext commandContext) {
-    Query<?, ?> query = getFilterQuery(commandContext);
+    Filter filter = getFilter(commandContext);
+    Query<?, ?> query = getFilterQuery(filter);
     ((AbstractQuery) query).enableMaxResultsLimit();
-    return query.listPage(firstResult, maxResults);
+
+    FilterResultCache cache = getFilterResultCache(commandContext, filter);
+    if (cache == null) {
+      return query.listPage(firstResult, maxResults);
+    }
+
+    FilterResultCache.Key key = cache.pageKey(commandContext, (FilterEntity) filter, firstResult, maxResults);
+    List<String> taskIds = cache.getPage(key);
+    if (taskIds != null) {
+      return findTasksById(taskIds);
+    }
+
+    long generation = cache.getGeneration();
+    List<?> tasks = query.listPage(firstResult, maxResults);
+
+    taskIds = new ArrayList<>(tasks.size());
+    for (Object task : tasks) {
+      taskIds.add(((Task) task).getId());
+    }
+    cache.putPage(key, taskIds, generation);
+
+    return tasks;
+  }
+
+  /**
+   * Fetches the tasks with the given ids in the order of the ids. Tasks
+   * which no longer exist are skipped.
+   */
+  protected List<Task> findTasksById(List<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    TaskQueryImpl query = new TaskQueryImpl();
+    query.taskIdIn(taskIds.toArray(new String[0]));
+    query.initializeFormKeys();
+
+    Map<String, Task> tasksById = new HashMap<>();
+    for (Task task : query.list()) {
+      tasksById.put(task.getId(), task);
+    }
+
+    List<Task> tasks = new ArrayList<>(taskIds.size());
+    for (String taskId : taskIds) {
+      Task task = tasksById.get(taskId);
+      if (task != null) {
+        tasks.add(task);
+      }
+    }
+    return tasks;
   }
 
 }
@@ -35,6 +35,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
 import org.camunda.bpm.engine.impl.jobexecutor.JobFailureCollector;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.camunda.bpm.engine.management.Metrics;
 
 /**
  * @author Tom Baeyens
@@ -107,7 +108,12 @@ public class ExecuteJobsCmd implements Command<Void>, Serializable {
 
       commandContext.setCurrentJob(job);
 
-      job.execute(commandContext);
+      long startTime = System.nanoTime();
+      try {
+        job.execute(commandContext);
+      } finally {
+        recordJobExecutionDuration(processEngineConfiguration, startTime);
+      }
 
     } catch (Throwable t) {
       String failedActivityId = Context.getCommandInvocationContext()
@@ -126,4 +132,11 @@ public class ExecuteJobsCmd implements Command<Void>, Serializable {
     return null;
   }
 
+  protected void recordJobExecutionDuration(ProcessEngineConfigurationImpl processEngineConfiguration, long startTime) {
+    if (processEngineConfiguration.isMetricsEnabled() && processEngineConfiguration.getMetricsRegistry() != null) {
+      long durationInMicros = (System.nanoTime() - startTime) / 1000;
+      processEngineConfiguration.getMetricsRegistry().recordValue(Metrics.JOB_EXECUTION_DURATION, durationInMicros);
+    }
+  }
+
 }
@@ -87,7 +87,7 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
       if (execution != null) {
         entity.lock(workerId, fetchInstruction.getLockDuration());
         LockedExternalTaskImpl resultTask = LockedExternalTaskImpl.fromEntity(entity, fetchInstruction.getVariablesToFetch(), fetchInstruction.isLocalVariables(),
-              fetchInstruction.isDeserializeVariables(), fetchInstruction.isIncludeExtensionProperties());
+              fetchInstruction.isDeserializeVariables(), fetchInstruction.isIncludeExtensionProperties(), fetchInstruction.isLazyVariables());
         result.add(resultTask);
       } else {
         LOG.logTaskWithoutExecution(workerId);
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.history.HistoricChangeFeedPage;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.history.HistoricChangeFeedPageImpl;
+import org.camunda.bpm.engine.impl.history.HistoricChangeFeedToken;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricChangeFeedManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+
+public class FetchHistoricChangeFeedCmd<T> implements Command<HistoricChangeFeedPage<T>> {
+
+  private final static CommandLogger LOG = ProcessEngineLogger.CMD_LOGGER;
+
+  protected HistoricChangeFeedType<T> type;
+  protected String continuationToken;
+  protected int maxResults;
+
+  public FetchHistoricChangeFeedCmd(HistoricChangeFeedType<T> type, String continuationToken, int maxResults) {
+    this.type = type;
+    this.continuationToken = continuationToken;
+    this.maxResults = maxResults;
+  }
+
+  public HistoricChangeFeedPage<T> execute(CommandContext commandContext) {
+    ensureNotNull(BadUserRequestException.class, "type", type);
+    if (maxResults <= 0) {
+      throw new BadUserRequestException("Max results must be greater than 0 but was " + maxResults);
+    }
+
+    HistoricChangeFeedToken after = null;
+    if (continuationToken != null) {
+      after = HistoricChangeFeedToken.parse(continuationToken);
+    }
+
+    HistoricChangeFeedManager changeFeedManager = commandContext.getHistoricChangeFeedManager();
+    List<T> results = changeFeedManager.findChanges(type, after, maxResults);
+
+    if (type == HistoricChangeFeedType.VARIABLE_UPDATE) {
+      fetchVariableValues(results, commandContext);
+    }
+
+    String nextToken = continuationToken;
+    if (!results.isEmpty()) {
+      nextToken = changeFeedManager.createToken(type, results.get(results.size() - 1)).toString();
+    }
+
+    return new HistoricChangeFeedPageImpl<>(results, nextToken);
+  }
+
+  protected void fetchVariableValues(List<T> variableUpdates, CommandContext commandContext) {
+    List<HistoricDetailVariableInstanceUpdateEntity> fetchedUpdates = new ArrayList<>();
+    List<String> byteArrayIds = new ArrayList<>();
+
+    for (T variableUpdate : variableUpdates) {
+      if (variableUpdate instanceof HistoricDetailVariableInstanceUpdateEntity) {
+        HistoricDetailVariableInstanceUpdateEntity entity = (HistoricDetailVariableInstanceUpdateEntity) variableUpdate;
+
+        // binary values (e.g. files or bytes) are not fetched
+        if (!AbstractTypedValueSerializer.BINARY_VALUE_TYPES.contains(entity.getSerializer().getType().getName())) {
+          fetchedUpdates.add(entity);
+          if (entity.getByteArrayValueId() != null) {
+            byteArrayIds.add(entity.getByteArrayValueId());
+          }
+        }
+      }
+    }
+
+    if (!byteArrayIds.isEmpty()) {
+      // pre-fetch all byte arrays into the entity cache to avoid one query per variable
+      commandContext.getOptimizeManager().fetchHistoricVariableUpdateByteArrays(byteArrayIds);
+    }
+
+    for (HistoricDetailVariableInstanceUpdateEntity entity : fetchedUpdates) {
+      try {
+        entity.getTypedValue(false);
+      } catch (Exception e) {
+        // do not fail if one of the variables fails to load
+        LOG.exceptionWhileGettingValueForVariable(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.metrics.Histogram;
+import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
+import org.camunda.bpm.engine.management.HistogramSnapshot;
+
+public class GetMetricHistogramsCmd implements Command<Map<String, HistogramSnapshot>> {
+
+  @Override
+  public Map<String, HistogramSnapshot> execute(CommandContext commandContext) {
+    commandContext.getAuthorizationManager().checkCamundaAdmin();
+
+    ProcessEngineConfigurationImpl engineConfiguration = commandContext.getProcessEngineConfiguration();
+    MetricsRegistry metricsRegistry = engineConfiguration.getMetricsRegistry();
+
+    if (!engineConfiguration.isMetricsEnabled() || metricsRegistry == null) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+    for (Histogram histogram : metricsRegistry.getHistograms().values()) {
+      snapshots.put(histogram.getName(), histogram.getSnapshot());
+    }
+    return snapshots;
+  }
+
+}
@@ -53,6 +53,12 @@ public class HistoryCleanupCmd implements Command<Job> {
 
   public static final int MAX_THREADS_NUMBER = 8;
 
+  /**
+   * The removal-time-based strategy slices the work by the minute of the removal time,
+   * so that up to one job per minute can run in parallel.
+   */
+  public static final int MAX_THREADS_NUMBER_REMOVAL_TIME_BASED = 60;
+
   private boolean immediatelyDue;
 
   public HistoryCleanupCmd(boolean immediatelyDue) {
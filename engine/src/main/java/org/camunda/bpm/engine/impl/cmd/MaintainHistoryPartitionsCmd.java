@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.Date;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
+
+/**
+ * Drops the expired partitions of the partitioned history tables and creates the upcoming ones.
+ * Executed in a transaction of its own, so that the locks required by the DDL statements are
+ * released before the history cleanup deletes rows.
+ */
+public class MaintainHistoryPartitionsCmd implements Command<Void> {
+
+  protected Date now;
+
+  public MaintainHistoryPartitionsCmd(Date now) {
+    this.now = now;
+  }
+
+  public Void execute(CommandContext commandContext) {
+    HistoryPartitionManager partitionManager = commandContext.getHistoryPartitionManager();
+    partitionManager.dropExpiredPartitions(now);
+    partitionManager.createPartitions(now, commandContext.getProcessEngineConfiguration().getHistoryPartitioningMonthsAhead());
+    return null;
+  }
+
+}
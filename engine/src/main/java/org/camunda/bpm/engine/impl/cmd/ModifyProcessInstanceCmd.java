@@ -63,6 +63,9 @@ public class ModifyProcessInstanceCmd implements Command<Void> {
 
     checkUpdateProcessInstance(processInstance, commandContext);
 
+    // load the runtime state of the whole process instance at once
+    executionManager.findProcessInstanceWithRuntimeState(processInstanceId);
+
     processInstance.setPreserveScope(true);
 
     List<AbstractProcessInstanceModificationCommand> instructions = builder.getModificationOperations();
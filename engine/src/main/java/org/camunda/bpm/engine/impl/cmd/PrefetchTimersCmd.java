@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers.PrefetchedTimer;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Leases timers that become due within the prefetch window of the job executor,
+ * so that they can be executed at their due date instead of in the next acquisition
+ * cycle after it.</p>
+ *
+ * <p>
+ *   The lease is an ordinary job lock that expires one prefetch window after the due
+ *   date. If the job executor fails before executing the timer, the lock expires and
+ *   the timer is acquired by another job executor.
+ * </p>
+ *
+ * <p>
+ *   If job partitioning is enabled, only timers of the given partitions are leased.
+ *   The partitions must already be leased by the job executor, i.e. they are the
+ *   partitions of the current acquisition cycle.
+ * </p>
+ */
+public class PrefetchTimersCmd implements Command<List<PrefetchedTimer>>, OptimisticLockingListener {
+
+  protected JobExecutor jobExecutor;
+  protected int numTimersToPrefetch;
+  protected List<Integer> partitions;
+
+  protected List<PrefetchedTimer> prefetchedTimers;
+
+  /**
+   * @param partitions the job partitions leased by the job executor or null
+   *   if job partitioning is disabled
+   */
+  public PrefetchTimersCmd(JobExecutor jobExecutor, int numTimersToPrefetch, List<Integer> partitions) {
+    this.jobExecutor = jobExecutor;
+    this.numTimersToPrefetch = numTimersToPrefetch;
+    this.partitions = partitions;
+  }
+
+  public List<PrefetchedTimer> execute(CommandContext commandContext) {
+    long now = ClockUtil.getCurrentTime().getTime();
+    int prefetchTime = jobExecutor.getTimerPrefetchTimeInMillis();
+
+    List<AcquirableJobEntity> timers = commandContext
+      .getJobManager()
+      .findNextTimersToPrefetch(new Page(0, numTimersToPrefetch), new Date(now + prefetchTime), partitions);
+
+    prefetchedTimers = new ArrayList<>();
+    for (AcquirableJobEntity timer : timers) {
+      long duedate = timer.getDuedate().getTime();
+      timer.setLockOwner(jobExecutor.getLockOwner());
+      timer.setLockExpirationTime(new Date(duedate + prefetchTime));
+
+      prefetchedTimers.add(new PrefetchedTimer(timer.getId(), timer.getRevisionNext(), duedate, timer.getPartition()));
+    }
+
+    commandContext
+      .getDbEntityManager()
+      .registerOptimisticLockingListener(this);
+
+    return prefetchedTimers;
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return true;
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return AcquirableJobEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    if (operation instanceof DbEntityOperation) {
+      // the timer was leased concurrently by another job executor
+      String timerId = ((DbEntityOperation) operation).getEntity().getId();
+      prefetchedTimers.removeIf(timer -> timer.getId().equals(timerId));
+      return OptimisticLockingResult.IGNORE;
+    }
+    return OptimisticLockingResult.THROW;
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers.PrefetchedTimer;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Releases the leases of prefetched timers, so that they can be acquired by
+ * any job executor before the leases expire. Returns the released timers, which
+ * the job executor must drop.</p>
+ *
+ * <p>
+ *   If only modified timers are released, timers that are unchanged since they were
+ *   prefetched keep their lease. This detects timers whose due date was changed,
+ *   that were suspended or deleted after they were prefetched.
+ * </p>
+ */
+public class ReleasePrefetchedTimersCmd implements Command<List<PrefetchedTimer>>, OptimisticLockingListener {
+
+  protected JobExecutor jobExecutor;
+  protected List<PrefetchedTimer> timers;
+  protected boolean modifiedOnly;
+
+  public ReleasePrefetchedTimersCmd(JobExecutor jobExecutor, List<PrefetchedTimer> timers, boolean modifiedOnly) {
+    this.jobExecutor = jobExecutor;
+    this.timers = timers;
+    this.modifiedOnly = modifiedOnly;
+  }
+
+  public List<PrefetchedTimer> execute(CommandContext commandContext) {
+    if (timers.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<String> timerIds = new ArrayList<>();
+    for (PrefetchedTimer timer : timers) {
+      timerIds.add(timer.getId());
+    }
+
+    Map<String, AcquirableJobEntity> jobs = new HashMap<>();
+    for (AcquirableJobEntity job : commandContext.getJobManager().findAcquirableJobsByIds(timerIds)) {
+      jobs.put(job.getId(), job);
+    }
+
+    List<PrefetchedTimer> releasedTimers = new ArrayList<>();
+    for (PrefetchedTimer timer : timers) {
+      AcquirableJobEntity job = jobs.get(timer.getId());
+
+      if (job == null) {
+        // deleted since it was prefetched
+        releasedTimers.add(timer);
+      }
+      else if (!modifiedOnly || job.getRevision() != timer.getRevision()) {
+        releaseLease(job, jobExecutor);
+        releasedTimers.add(timer);
+      }
+    }
+
+    commandContext
+      .getDbEntityManager()
+      .registerOptimisticLockingListener(this);
+
+    return releasedTimers;
+  }
+
+  /**
+   * Unlocks the job if it is still leased by the job executor. A modification of the
+   * timer doesn't change its lock, and no job executor acquires a timer while it is
+   * leased, so an unexpired lock of the job executor is the lease of the prefetched timer.
+   */
+  public static void releaseLease(AcquirableJobEntity job, JobExecutor jobExecutor) {
+    if (jobExecutor.getLockOwner().equals(job.getLockOwner())
+        && job.getLockExpirationTime() != null
+        && job.getLockExpirationTime().after(ClockUtil.getCurrentTime())) {
+      job.setLockOwner(null);
+      job.setLockExpirationTime(null);
+    }
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return true;
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return AcquirableJobEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    if (operation instanceof DbEntityOperation) {
+      // the timer was modified concurrently, its lease expires on its own
+      return OptimisticLockingResult.IGNORE;
+    }
+    return OptimisticLockingResult.THROW;
+  }
+
+}
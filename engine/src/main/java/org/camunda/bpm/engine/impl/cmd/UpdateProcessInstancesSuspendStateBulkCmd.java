@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsNull;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventProcessor;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.producer.HistoryEventProducer;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+
+/**
+ * Updates the suspension state of a set of process instances with one bulk
+ * update per table and chunk of process instance ids instead of executing
+ * one {@link AbstractSetProcessInstanceStateCmd} per process instance.
+ *
+ * Does not write user operation log entries.
+ */
+public class UpdateProcessInstancesSuspendStateBulkCmd implements Command<Void> {
+
+  protected List<String> processInstanceIds;
+  protected boolean suspending;
+
+  public UpdateProcessInstancesSuspendStateBulkCmd(List<String> processInstanceIds, boolean suspending) {
+    this.processInstanceIds = processInstanceIds;
+    this.suspending = suspending;
+  }
+
+  @Override
+  public Void execute(CommandContext commandContext) {
+    ensureNotEmpty(BadUserRequestException.class, "Process Instance ids", processInstanceIds);
+    ensureNotContainsNull(BadUserRequestException.class, "Cannot be null.", "Process Instance ids", processInstanceIds);
+
+    checkAuthorization(commandContext);
+
+    SuspensionState suspensionState = suspending ? SuspensionState.SUSPENDED : SuspensionState.ACTIVE;
+
+    List<List<String>> partitions = CollectionUtil.partition(processInstanceIds, DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS);
+    for (List<String> partition : partitions) {
+      updateSuspensionState(commandContext, partition, suspensionState);
+      triggerHistoryEvents(commandContext, partition);
+    }
+
+    return null;
+  }
+
+  protected void checkAuthorization(CommandContext commandContext) {
+    for (CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      for (String processInstanceId : processInstanceIds) {
+        checker.checkUpdateProcessInstanceSuspensionStateById(processInstanceId);
+      }
+    }
+  }
+
+  protected void updateSuspensionState(CommandContext commandContext, List<String> processInstanceIds, SuspensionState suspensionState) {
+    commandContext.getExecutionManager().updateExecutionSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+    commandContext.getTaskManager().updateTaskSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+    commandContext.getExternalTaskManager().updateExternalTaskSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+    commandContext.getJobManager().updateJobSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+  }
+
+  protected void triggerHistoryEvents(CommandContext commandContext, List<String> processInstanceIds) {
+    HistoryLevel historyLevel = commandContext.getProcessEngineConfiguration().getHistoryLevel();
+    if (!historyLevel.isHistoryEventProduced(HistoryEventTypes.PROCESS_INSTANCE_UPDATE, null)) {
+      return;
+    }
+
+    ProcessInstanceQueryImpl query = new ProcessInstanceQueryImpl();
+    query.processInstanceIds(new HashSet<>(processInstanceIds));
+    List<ProcessInstance> processInstances = commandContext.getExecutionManager()
+        .findProcessInstancesByQueryCriteria(query, null);
+
+    final String state = suspending ? HistoricProcessInstance.STATE_SUSPENDED : HistoricProcessInstance.STATE_ACTIVE;
+    for (final ProcessInstance processInstance : processInstances) {
+      if (historyLevel.isHistoryEventProduced(HistoryEventTypes.PROCESS_INSTANCE_UPDATE, processInstance)) {
+        HistoryEventProcessor.processHistoryEvents(new HistoryEventProcessor.HistoryEventCreator() {
+          @Override
+          public HistoryEvent createHistoryEvent(HistoryEventProducer producer) {
+            HistoricProcessInstanceEventEntity processInstanceUpdateEvt = (HistoricProcessInstanceEventEntity)
+                producer.createProcessInstanceUpdateEvt((DelegateExecution) processInstance);
+            processInstanceUpdateEvt.setState(state);
+            return processInstanceUpdateEvt;
+          }
+        });
+      }
+    }
+  }
+
+}
@@ -40,4 +40,9 @@ public class CaseExecutionListenerInvocation extends DelegateInvocation {
     listenerInstance.notify(caseExecution);
   }
 
+  @Override
+  public String getTargetName() {
+    return listenerInstance.getClass().getName();
+  }
+
 }
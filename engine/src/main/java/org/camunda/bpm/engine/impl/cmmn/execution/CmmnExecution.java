@@ -136,6 +136,9 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
    */
   protected boolean entryCriterionSatisfied = false;
 
+  /** lazily built from the sentry parts of this case execution */
+  protected transient CmmnSentryPartIndex sentryPartIndex;
+
   public CmmnExecution() {
   }
 
@@ -252,6 +255,8 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
         }
 
       }
+
+      sentryPartIndex = null;
     }
   }
 
@@ -336,10 +341,11 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
     // the following steps are a workaround, because setVariable()
     // does not check nor fire a sentry!!!
     Set<String> affectedSentries = new HashSet<String>();
-    List<CmmnSentryPart> sentryParts = collectSentryParts(getSentries());
-    for (CmmnSentryPart sentryPart : sentryParts) {
-      if (isNotSatisfiedIfPartOnly(sentryPart)) {
-        affectedSentries.add(sentryPart.getSentryId());
+    Map<String, List<CmmnSentryPart>> sentries = getSentries();
+    for (String sentryId : getSentryPartIndex().getSentriesWithIfPart()) {
+      List<CmmnSentryPart> sentryParts = sentries.get(sentryId);
+      if (sentryParts.size() == 1 && isNotSatisfiedIfPartOnly(sentryParts.get(0))) {
+        affectedSentries.add(sentryId);
       }
     }
 
@@ -356,16 +362,30 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
   public void handleVariableTransition(String variableName, String transition) {
     Map<String, List<CmmnSentryPart>> sentries = collectAllSentries();
 
-    List<CmmnSentryPart> sentryParts = collectSentryParts(sentries);
+    List<CmmnExecution> executions = new ArrayList<CmmnExecution>();
+    collectCaseExecutionsInExecutionTree(executions);
+    executions.add(this);
 
-    List<String> affectedSentries = collectAffectedSentriesWithVariableOnParts(variableName, transition, sentryParts);
+    List<String> affectedSentries = collectAffectedSentriesWithVariableOnParts(variableName, transition, executions);
 
     List<CmmnSentryPart> affectedSentryParts = getAffectedSentryParts(sentries,affectedSentries);
     forceUpdateOnCaseSentryParts(affectedSentryParts);
 
-    List<String> allSentries = new ArrayList<String>(sentries.keySet());
+    // a sentry without if part can only become satisfied if one of its parts has
+    // been satisfied right now, all other sentries have been checked before
+    Set<String> sentriesToCheck = new HashSet<String>(affectedSentries);
+    for (CmmnExecution execution : executions) {
+      sentriesToCheck.addAll(execution.getSentryPartIndex().getSentriesWithIfPart());
+    }
+
+    List<String> candidateSentries = new ArrayList<String>();
+    for (String sentryId : sentries.keySet()) {
+      if (sentriesToCheck.contains(sentryId)) {
+        candidateSentries.add(sentryId);
+      }
+    }
 
-    List<String> satisfiedSentries = getSatisfiedSentriesInExecutionTree(allSentries, sentries);
+    List<String> satisfiedSentries = getSatisfiedSentriesInExecutionTree(candidateSentries, sentries);
 
     List<CmmnSentryPart> satisfiedSentryParts = getAffectedSentryParts(sentries, satisfiedSentries);
     resetSentryParts(satisfiedSentryParts);
@@ -375,25 +395,24 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
   }
 
   protected List<String> collectAffectedSentries(CmmnExecution child, String transition) {
-    List<? extends CmmnSentryPart> sentryParts = getCaseSentryParts();
+    CmmnSentryPartIndex index = getSentryPartIndex();
 
     List<String> affectedSentries = new ArrayList<String>();
 
-    for (CmmnSentryPart sentryPart : sentryParts) {
+    collectAffectedSentries(affectedSentries, index.getPartsBySource(child.getActivityId()), transition);
+    // necessary for backward compatibility
+    collectAffectedSentries(affectedSentries, index.getPartsBySourceCaseExecutionId(child.getId()), transition);
 
-      // necessary for backward compatibility
-      String sourceCaseExecutionId = sentryPart.getSourceCaseExecutionId();
-      String sourceRef = sentryPart.getSource();
-      if (child.getActivityId().equals(sourceRef) || child.getId().equals(sourceCaseExecutionId)) {
+    return affectedSentries;
+  }
 
-        String standardEvent = sentryPart.getStandardEvent();
-        if (transition.equals(standardEvent)) {
-          addIdIfNotSatisfied(affectedSentries, sentryPart);
-        }
+  protected void collectAffectedSentries(List<String> affectedSentries, List<CmmnSentryPart> sentryParts, String transition) {
+    for (CmmnSentryPart sentryPart : sentryParts) {
+      String standardEvent = sentryPart.getStandardEvent();
+      if (transition.equals(standardEvent)) {
+        addIdIfNotSatisfied(affectedSentries, sentryPart);
       }
     }
-
-    return affectedSentries;
   }
 
   protected boolean isNotSatisfiedIfPartOnly(CmmnSentryPart sentryPart) {
@@ -416,20 +435,20 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
     }
   }
 
-  protected List<String> collectAffectedSentriesWithVariableOnParts(String variableName, String variableEvent, List<CmmnSentryPart> sentryParts) {
+  protected List<String> collectAffectedSentriesWithVariableOnParts(String variableName, String variableEvent, List<CmmnExecution> executions) {
 
     List<String> affectedSentries = new ArrayList<String>();
 
-    for (CmmnSentryPart sentryPart : sentryParts) {
+    for (CmmnExecution caseExecution : executions) {
+      for (CmmnSentryPart sentryPart : caseExecution.getSentryPartIndex().getVariableOnParts(variableName)) {
 
-      String sentryVariableName = sentryPart.getVariableName();
-      String sentryVariableEvent = sentryPart.getVariableEvent();
-      CmmnExecution execution = sentryPart.getCaseExecution();
-      if (VARIABLE_ON_PART.equals(sentryPart.getType()) && sentryVariableName.equals(variableName)
-        && sentryVariableEvent.equals(variableEvent)
-        && !hasVariableWithSameNameInParent(execution, sentryVariableName)) {
+        String sentryVariableEvent = sentryPart.getVariableEvent();
+        CmmnExecution execution = sentryPart.getCaseExecution();
+        if (sentryVariableEvent.equals(variableEvent)
+          && !hasVariableWithSameNameInParent(execution, variableName)) {
 
-        addIdIfNotSatisfied(affectedSentries, sentryPart);
+          addIdIfNotSatisfied(affectedSentries, sentryPart);
+        }
       }
     }
 
@@ -468,14 +487,6 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
     return affectedSentryParts;
   }
 
-  protected List<CmmnSentryPart> collectSentryParts(Map<String,List<CmmnSentryPart>> sentries) {
-    List<CmmnSentryPart> sentryParts = new ArrayList<CmmnSentryPart>();
-    for(String sentryId: sentries.keySet()) {
-      sentryParts.addAll(sentries.get(sentryId));
-    }
-    return sentryParts;
-  }
-
   protected void forceUpdateOnCaseSentryParts(List<CmmnSentryPart> sentryParts) {
     // set for each case sentry part forceUpdate flag to true to provoke
     // an OptimisticLockingException if different case sentry parts of the
@@ -646,6 +657,13 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
 
   public abstract List<? extends CmmnSentryPart> getCaseSentryParts();
 
+  protected CmmnSentryPartIndex getSentryPartIndex() {
+    if (sentryPartIndex == null) {
+      sentryPartIndex = new CmmnSentryPartIndex(getCaseSentryParts());
+    }
+    return sentryPartIndex;
+  }
+
   protected abstract List<? extends CmmnSentryPart> findSentry(String sentryId);
 
   protected abstract Map<String, List<CmmnSentryPart>> getSentries();
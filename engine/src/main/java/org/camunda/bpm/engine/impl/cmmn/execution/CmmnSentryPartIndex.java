@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmmn.execution;
+
+import static org.camunda.bpm.engine.impl.cmmn.model.CmmnSentryDeclaration.IF_PART;
+import static org.camunda.bpm.engine.impl.cmmn.model.CmmnSentryDeclaration.VARIABLE_ON_PART;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index over the sentry parts of a single case execution, so that a plan item
+ * transition or a variable event only visits the sentry parts it can affect.
+ *
+ * <p>The indexed attributes (source, source case execution, variable name and type)
+ * do not change after a sentry part has been created. The satisfied flag is not
+ * indexed and must be read from the sentry part itself.</p>
+ */
+public class CmmnSentryPartIndex {
+
+  protected Map<String, List<CmmnSentryPart>> partsBySource = new HashMap<String, List<CmmnSentryPart>>();
+  protected Map<String, List<CmmnSentryPart>> partsBySourceCaseExecutionId = new HashMap<String, List<CmmnSentryPart>>();
+  protected Map<String, List<CmmnSentryPart>> variableOnPartsByName = new HashMap<String, List<CmmnSentryPart>>();
+  protected Set<String> sentriesWithIfPart = new LinkedHashSet<String>();
+
+  public CmmnSentryPartIndex(List<? extends CmmnSentryPart> sentryParts) {
+    for (CmmnSentryPart sentryPart : sentryParts) {
+      if (sentryPart.getSource() != null) {
+        add(partsBySource, sentryPart.getSource(), sentryPart);
+      }
+
+      // necessary for backward compatibility
+      String sourceCaseExecutionId = sentryPart.getSourceCaseExecutionId();
+      if (sourceCaseExecutionId != null) {
+        add(partsBySourceCaseExecutionId, sourceCaseExecutionId, sentryPart);
+      }
+
+      if (VARIABLE_ON_PART.equals(sentryPart.getType())) {
+        add(variableOnPartsByName, sentryPart.getVariableName(), sentryPart);
+      } else if (IF_PART.equals(sentryPart.getType())) {
+        sentriesWithIfPart.add(sentryPart.getSentryId());
+      }
+    }
+  }
+
+  /**
+   * @return the sentry parts whose source is the given plan item (activity id)
+   */
+  public List<CmmnSentryPart> getPartsBySource(String activityId) {
+    return get(partsBySource, activityId);
+  }
+
+  /**
+   * @return the sentry parts which reference the given case execution as their source
+   */
+  public List<CmmnSentryPart> getPartsBySourceCaseExecutionId(String caseExecutionId) {
+    return get(partsBySourceCaseExecutionId, caseExecutionId);
+  }
+
+  /**
+   * @return the variable on parts listening to the given variable
+   */
+  public List<CmmnSentryPart> getVariableOnParts(String variableName) {
+    return get(variableOnPartsByName, variableName);
+  }
+
+  /**
+   * @return the ids of the sentries which have an if part
+   */
+  public Set<String> getSentriesWithIfPart() {
+    return sentriesWithIfPart;
+  }
+
+  protected void add(Map<String, List<CmmnSentryPart>> index, String key, CmmnSentryPart sentryPart) {
+    List<CmmnSentryPart> parts = index.get(key);
+    if (parts == null) {
+      parts = new ArrayList<CmmnSentryPart>();
+      index.put(key, parts);
+    }
+    parts.add(sentryPart);
+  }
+
+  protected List<CmmnSentryPart> get(Map<String, List<CmmnSentryPart>> index, String key) {
+    List<CmmnSentryPart> parts = index.get(key);
+    return parts != null ? parts : Collections.<CmmnSentryPart>emptyList();
+  }
+
+}
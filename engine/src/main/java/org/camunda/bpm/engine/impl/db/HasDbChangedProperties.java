@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db;
+
+import java.util.Set;
+
+/**
+ * Entities whose update statement only writes the columns of the persistent state
+ * properties that changed since the entity was loaded or last flushed. Columns that
+ * have no counterpart in the persistent state are always written.
+ */
+public interface HasDbChangedProperties {
+
+  /**
+   * Sets the keys of the persistent state that changed for the next update
+   * or <code>null</code> if all columns must be written.
+   */
+  void setChangedProperties(Set<String> changedProperties);
+
+  /**
+   * @return true if the column of the given persistent state property has to be
+   *   written by the next update
+   */
+  boolean isPropertyChanged(String property);
+
+}
@@ -59,6 +59,7 @@ import org.camunda.bpm.engine.impl.db.DbEntityLifecycleAware;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.EntityLoadListener;
 import org.camunda.bpm.engine.impl.db.FlushResult;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.HistoricEntity;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.PersistenceSession;
@@ -490,7 +491,11 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
     } else if(cachedDbEntity.getEntityState() == PERSISTENT && cachedDbEntity.isDirty()) {
       // object is dirty -> perform UPDATE
-      performEntityOperation(cachedDbEntity, UPDATE);
+      DbEntityOperation updateOperation = performEntityOperation(cachedDbEntity, UPDATE);
+      if (isPartialUpdateApplicable(cachedDbEntity)) {
+        // only write the columns of the changed properties
+        updateOperation.setChangedProperties(cachedDbEntity.determineChangedProperties());
+      }
 
     } else if(cachedDbEntity.getEntityState() == MERGED) {
       // perform UPDATE
@@ -622,12 +627,20 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return bulkOperation;
   }
 
-  protected void performEntityOperation(CachedDbEntity cachedDbEntity, DbOperationType type) {
+  protected DbEntityOperation performEntityOperation(CachedDbEntity cachedDbEntity, DbOperationType type) {
     DbEntityOperation dbOperation = new DbEntityOperation();
     dbOperation.setEntity(cachedDbEntity.getEntity());
     dbOperation.setFlushRelevantEntityReferences(cachedDbEntity.getFlushRelevantEntityReferences());
     dbOperation.setOperationType(type);
     dbOperationManager.addOperation(dbOperation);
+    return dbOperation;
+  }
+
+  protected boolean isPartialUpdateApplicable(CachedDbEntity cachedDbEntity) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    return processEngineConfiguration != null
+        && processEngineConfiguration.isDbEntityPartialUpdatesEnabled()
+        && cachedDbEntity.getEntity() instanceof HasDbChangedProperties;
   }
 
   public void close() {
@@ -17,6 +17,9 @@
 package org.camunda.bpm.engine.impl.db.entitymanager.cache;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.camunda.bpm.engine.impl.db.DbEntity;
@@ -57,6 +60,44 @@ public class CachedDbEntity implements Recyclable {
     return !dbEntity.getPersistentState().equals(copy);
   }
 
+  /**
+   * Determines the persistent state properties which changed since the entity was put
+   * into the cache or last flushed. A property counts as changed if its value differs or
+   * if it is only present in one of the two states.
+   *
+   * @return the names of the changed properties or null if the changes cannot be
+   * determined on property level (e.g. the entity was forced dirty or its persistent
+   * state is not a map).
+   */
+  @SuppressWarnings("unchecked")
+  public Set<String> determineChangedProperties() {
+    Object persistentState = dbEntity.getPersistentState();
+    if (!(persistentState instanceof Map) || !(copy instanceof Map)) {
+      return null;
+    }
+
+    Map<String, Object> currentState = (Map<String, Object>) persistentState;
+    Map<String, Object> previousState = (Map<String, Object>) copy;
+
+    Set<String> changedProperties = new HashSet<>();
+    for (Entry<String, Object> property : currentState.entrySet()) {
+      String name = property.getKey();
+      if (!previousState.containsKey(name) || !equals(property.getValue(), previousState.get(name))) {
+        changedProperties.add(name);
+      }
+    }
+    for (String name : previousState.keySet()) {
+      if (!currentState.containsKey(name)) {
+        changedProperties.add(name);
+      }
+    }
+    return changedProperties;
+  }
+
+  protected static boolean equals(Object a, Object b) {
+    return a == null ? b == null : a.equals(b);
+  }
+
   public void forceSetDirty() {
     // set the value of the copy to some value which will always be different from the new entity state.
     this.copy = -1;
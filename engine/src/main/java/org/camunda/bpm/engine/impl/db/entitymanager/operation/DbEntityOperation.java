@@ -38,8 +38,15 @@ public class DbEntityOperation extends DbOperation {
   
   protected DbOperation dependentOperation;
 
+  /**
+   * The persistent state properties changed by an update or null if all
+   * columns must be written.
+   */
+  protected Set<String> changedProperties;
+
   public void recycle() {
     entity = null;
+    changedProperties = null;
     super.recycle();
   }
 
@@ -60,6 +67,14 @@ public class DbEntityOperation extends DbOperation {
     return flushRelevantEntityReferences;
   }
 
+  public Set<String> getChangedProperties() {
+    return changedProperties;
+  }
+
+  public void setChangedProperties(Set<String> changedProperties) {
+    this.changedProperties = changedProperties;
+  }
+
   public String toString() {
     return operationType + " " + ClassNameUtil.getClassNameWithoutPackage(entity)+"["+entity.getId()+"]";
   }
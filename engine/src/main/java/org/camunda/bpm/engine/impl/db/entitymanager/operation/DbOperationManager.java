@@ -20,15 +20,15 @@ import static org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation
 import static org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType.INSERT;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.SortedMap;
 import java.util.SortedSet;
-import java.util.TreeMap;
 import java.util.TreeSet;
 
 import org.camunda.bpm.engine.impl.db.DbEntity;
@@ -54,64 +54,63 @@ public class DbOperationManager {
   public static Comparator<DbEntityOperation> MODIFICATION_OPERATION_COMPARATOR  = new DbEntityOperationComparator();
   public static Comparator<DbBulkOperation> BULK_OPERATION_COMPARATOR = new DbBulkOperationComparator();
 
-  // pre-sorted operation maps //////////////
+  // operation indexes (by type and entity id) //////////////
 
   /** INSERTs */
-  public SortedMap<Class<?>, SortedSet<DbEntityOperation>> inserts = new TreeMap<Class<?>, SortedSet<DbEntityOperation>>(INSERT_TYPE_COMPARATOR);
+  public Map<Class<?>, Map<String, DbEntityOperation>> inserts = new HashMap<Class<?>, Map<String, DbEntityOperation>>();
 
   /** UPDATEs of a single entity */
-  public SortedMap<Class<?>, SortedSet<DbEntityOperation>> updates = new TreeMap<Class<?>, SortedSet<DbEntityOperation>>(MODIFICATION_TYPE_COMPARATOR);
+  public Map<Class<?>, Map<String, DbEntityOperation>> updates = new HashMap<Class<?>, Map<String, DbEntityOperation>>();
 
   /** DELETEs of a single entity */
-  public SortedMap<Class<?>, SortedSet<DbEntityOperation>> deletes = new TreeMap<Class<?>, SortedSet<DbEntityOperation>>(MODIFICATION_TYPE_COMPARATOR);
+  public Map<Class<?>, Map<String, DbEntityOperation>> deletes = new HashMap<Class<?>, Map<String, DbEntityOperation>>();
 
   /** bulk modifications (DELETE, UPDATE) on an entity collection */
-  public SortedMap<Class<?>, SortedSet<DbBulkOperation>> bulkOperations = new TreeMap<Class<?>, SortedSet<DbBulkOperation>>(MODIFICATION_TYPE_COMPARATOR);
+  public Map<Class<?>, SortedSet<DbBulkOperation>> bulkOperations = new HashMap<Class<?>, SortedSet<DbBulkOperation>>();
 
   /** bulk modifications (DELETE, UPDATE) for which order of execution is important */
   public LinkedHashSet<DbBulkOperation> bulkOperationsInsertionOrder = new LinkedHashSet<DbBulkOperation>();
 
   public boolean addOperation(DbEntityOperation newOperation) {
     if(newOperation.getOperationType() == INSERT) {
-      return getInsertsForType(newOperation.getEntityType(), true)
-          .add(newOperation);
+      return addOperation(getInsertsForType(newOperation.getEntityType(), true), newOperation);
 
     } else if(newOperation.getOperationType() == DELETE) {
-      return getDeletesByType(newOperation.getEntityType(), true)
-          .add(newOperation);
+      return addOperation(getDeletesByType(newOperation.getEntityType(), true), newOperation);
 
     } else { // UPDATE
-      return getUpdatesByType(newOperation.getEntityType(), true)
-          .add(newOperation);
+      return addOperation(getUpdatesByType(newOperation.getEntityType(), true), newOperation);
 
     }
   }
 
-  protected SortedSet<DbEntityOperation> getDeletesByType(Class<? extends DbEntity> type, boolean create) {
-    SortedSet<DbEntityOperation> deletesByType = deletes.get(type);
-    if(deletesByType == null && create) {
-      deletesByType = new TreeSet<DbEntityOperation>(MODIFICATION_OPERATION_COMPARATOR);
-      deletes.put(type, deletesByType);
-    }
-    return deletesByType;
+  /**
+   * Only the first operation of a kind is kept for an entity.
+   */
+  protected boolean addOperation(Map<String, DbEntityOperation> operationsById, DbEntityOperation newOperation) {
+    return operationsById.putIfAbsent(newOperation.getEntity().getId(), newOperation) == null;
   }
 
-  protected SortedSet<DbEntityOperation> getUpdatesByType(Class<? extends DbEntity> type, boolean create) {
-    SortedSet<DbEntityOperation> updatesByType = updates.get(type);
-    if(updatesByType == null && create) {
-      updatesByType = new TreeSet<DbEntityOperation>(MODIFICATION_OPERATION_COMPARATOR);
-      updates.put(type, updatesByType);
-    }
-    return updatesByType;
+  protected Map<String, DbEntityOperation> getDeletesByType(Class<? extends DbEntity> type, boolean create) {
+    return getOperationsByType(deletes, type, create);
+  }
+
+  protected Map<String, DbEntityOperation> getUpdatesByType(Class<? extends DbEntity> type, boolean create) {
+    return getOperationsByType(updates, type, create);
+  }
+
+  protected Map<String, DbEntityOperation> getInsertsForType(Class<? extends DbEntity> type, boolean create) {
+    return getOperationsByType(inserts, type, create);
   }
 
-  protected SortedSet<DbEntityOperation> getInsertsForType(Class<? extends DbEntity> type, boolean create) {
-    SortedSet<DbEntityOperation> insertsByType = inserts.get(type);
-    if(insertsByType == null && create) {
-      insertsByType = new TreeSet<DbEntityOperation>(INSERT_OPERATION_COMPARATOR);
-      inserts.put(type, insertsByType);
+  protected Map<String, DbEntityOperation> getOperationsByType(Map<Class<?>, Map<String, DbEntityOperation>> operations,
+      Class<? extends DbEntity> type, boolean create) {
+    Map<String, DbEntityOperation> operationsByType = operations.get(type);
+    if(operationsByType == null && create) {
+      operationsByType = new HashMap<String, DbEntityOperation>();
+      operations.put(type, operationsByType);
     }
-    return insertsByType;
+    return operationsByType;
   }
 
   public boolean addOperation(DbBulkOperation newOperation) {
@@ -142,15 +141,8 @@ public class DbOperationManager {
   /** Adds the insert operations to the flush (in correct order).
    * @param operationsForFlush */
   protected void addSortedInserts(List<DbOperation> flush) {
-    for (Entry<Class<?>, SortedSet<DbEntityOperation>> operationsForType : inserts.entrySet()) {
-
-      // add inserts to flush
-      if(HasDbReferences.class.isAssignableFrom(operationsForType.getKey())) {
-        // if this type has self references, we need to resolve the reference order
-        flush.addAll(sortByReferences(operationsForType.getValue()));
-      } else {
-        flush.addAll(operationsForType.getValue());
-      }
+    for (Class<?> type : sortTypes(inserts.keySet(), INSERT_TYPE_COMPARATOR)) {
+      addSortedOperationsForType(type, inserts.get(type), INSERT_OPERATION_COMPARATOR, flush);
     }
   }
 
@@ -158,17 +150,17 @@ public class DbOperationManager {
    * @param flush */
   protected void addSortedModifications(List<DbOperation> flush) {
 
-    // calculate sorted set of all modified entity types
-    SortedSet<Class<?>> modifiedEntityTypes = new TreeSet<Class<?>>(MODIFICATION_TYPE_COMPARATOR);
+    // calculate sorted list of all modified entity types
+    Set<Class<?>> modifiedEntityTypes = new HashSet<Class<?>>();
     modifiedEntityTypes.addAll(updates.keySet());
     modifiedEntityTypes.addAll(deletes.keySet());
     modifiedEntityTypes.addAll(bulkOperations.keySet());
 
-    for (Class<?> type : modifiedEntityTypes) {
+    for (Class<?> type : sortTypes(modifiedEntityTypes, MODIFICATION_TYPE_COMPARATOR)) {
       // first perform entity UPDATES
-      addSortedModificationsForType(type, updates.get(type), flush);
+      addSortedOperationsForType(type, updates.get(type), MODIFICATION_OPERATION_COMPARATOR, flush);
       // next perform entity DELETES
-      addSortedModificationsForType(type, deletes.get(type), flush);
+      addSortedOperationsForType(type, deletes.get(type), MODIFICATION_OPERATION_COMPARATOR, flush);
       // last perform bulk operations
       SortedSet<DbBulkOperation> bulkOperationsForType = bulkOperations.get(type);
       if(bulkOperationsForType != null) {
@@ -182,8 +174,22 @@ public class DbOperationManager {
     }
   }
 
-  protected void addSortedModificationsForType(Class<?> type, SortedSet<DbEntityOperation> preSortedOperations, List<DbOperation> flush) {
-    if(preSortedOperations != null) {
+  /**
+   * The type order is only determined once per flush for the (few) distinct
+   * entity types instead of on every added operation.
+   */
+  protected List<Class<?>> sortTypes(Set<Class<?>> types, Comparator<Class<?>> typeComparator) {
+    List<Class<?>> sortedTypes = new ArrayList<Class<?>>(types);
+    Collections.sort(sortedTypes, typeComparator);
+    return sortedTypes;
+  }
+
+  protected void addSortedOperationsForType(Class<?> type, Map<String, DbEntityOperation> operationsById,
+      Comparator<DbEntityOperation> operationComparator, List<DbOperation> flush) {
+    if(operationsById != null) {
+      List<DbEntityOperation> preSortedOperations = new ArrayList<DbEntityOperation>(operationsById.values());
+      Collections.sort(preSortedOperations, operationComparator);
+
       if(HasDbReferences.class.isAssignableFrom(type)) {
         // if this type has self references, we need to resolve the reference order
         flush.addAll(sortByReferences(preSortedOperations));
@@ -193,62 +199,103 @@ public class DbOperationManager {
     }
   }
 
-
   /**
+   * Orders the operations topologically by their references in time linear to the
+   * number of operations and references. An INSERT is placed after the INSERTs of the
+   * entities it references, an UPDATE or DELETE is placed after the operations of the
+   * entities referencing it. Operations without such a dependency keep their relative
+   * pre-sorted order; references forming a cycle are ignored.
+   *
    * Assumptions:
-   * a) all operations in the set work on entities such that the entities implement {@link HasDbReferences}.
-   * b) all operations in the set work on the same type (ie. all operations are INSERTs or DELETEs).
+   * a) all operations in the list work on entities such that the entities implement {@link HasDbReferences}.
+   * b) all operations in the list work on the same type (ie. all operations are INSERTs or DELETEs).
    *
    */
-  protected List<DbEntityOperation> sortByReferences(SortedSet<DbEntityOperation> preSorted) {
-    // copy the pre-sorted set and apply final sorting to list
-    List<DbEntityOperation> opList = new ArrayList<DbEntityOperation>(preSorted);
+  protected List<DbEntityOperation> sortByReferences(List<DbEntityOperation> preSorted) {
+    int size = preSorted.size();
+    if (size < 2) {
+      return preSorted;
+    }
 
-    for (int i = 0; i < opList.size(); i++) {
+    Map<String, Integer> positionsById = new HashMap<String, Integer>();
+    for (int i = 0; i < size; i++) {
+      positionsById.put(preSorted.get(i).getEntity().getId(), i);
+    }
 
-      DbEntityOperation currentOperation = opList.get(i);
-      DbEntity currentEntity = currentOperation.getEntity();
-      Set<String> currentReferences = currentOperation.getFlushRelevantEntityReferences();
+    // positions of the operations which must be performed before the operation at a position
+    List<List<Integer>> predecessors = new ArrayList<List<Integer>>(Collections.<List<Integer>>nCopies(size, null));
+    for (int i = 0; i < size; i++) {
+      DbEntityOperation operation = preSorted.get(i);
+      Set<String> references = operation.getFlushRelevantEntityReferences();
+      if (references == null) {
+        continue;
+      }
 
-      // check whether this operation must be placed after another operation
-      int moveTo = i;
-      for(int k = i+1; k < opList.size(); k++) {
-        DbEntityOperation otherOperation = opList.get(k);
-        DbEntity otherEntity = otherOperation.getEntity();
-        Set<String> otherReferences = otherOperation.getFlushRelevantEntityReferences();
+      for (String reference : references) {
+        Integer referencedPosition = positionsById.get(reference);
+        if (referencedPosition != null && referencedPosition != i) {
+          if (operation.getOperationType() == INSERT) {
+            // we reference the other entity, so it needs to be inserted before us
+            addPredecessor(predecessors, i, referencedPosition);
+          } else {
+            // we reference the other entity, so we need to be modified before it
+            addPredecessor(predecessors, referencedPosition, i);
+          }
+        }
+      }
+    }
+
+    for (List<Integer> predecessorsOfOperation : predecessors) {
+      if (predecessorsOfOperation != null && predecessorsOfOperation.size() > 1) {
+        Collections.sort(predecessorsOfOperation);
+      }
+    }
 
-        if(currentOperation.getOperationType() == INSERT) {
+    // depth-first traversal emitting each operation after its predecessors
+    List<DbEntityOperation> sorted = new ArrayList<DbEntityOperation>(size);
+    boolean[] visited = new boolean[size];
+    int[] nextPredecessor = new int[size];
+    int[] stack = new int[size];
 
+    for (int root = 0; root < size; root++) {
+      if (visited[root]) {
+        continue;
+      }
 
-          // if we reference the other entity, we need to be inserted after that entity
-          if(currentReferences != null && currentReferences.contains(otherEntity.getId())) {
-            moveTo = k;
-            break; // we can only reference a single entity
-          }
+      int top = 0;
+      stack[top] = root;
+      visited[root] = true;
 
-        } else { // UPDATE or DELETE
+      while (top >= 0) {
+        int current = stack[top];
+        List<Integer> predecessorsOfCurrent = predecessors.get(current);
 
-          // if the other entity has a reference to us, we must be placed after the other entity
-          if(otherReferences != null && otherReferences.contains(currentEntity.getId())) {
-            moveTo = k;
-            // cannot break, there may be another entity further to the right which also references us
+        if (predecessorsOfCurrent != null && nextPredecessor[current] < predecessorsOfCurrent.size()) {
+          int predecessor = predecessorsOfCurrent.get(nextPredecessor[current]++);
+          if (!visited[predecessor]) {
+            visited[predecessor] = true;
+            stack[++top] = predecessor;
           }
-
+        } else {
+          sorted.add(preSorted.get(current));
+          top--;
         }
       }
-
-      if(moveTo > i) {
-        opList.remove(i);
-        opList.add(moveTo, currentOperation);
-        i--;
-      }
     }
 
-    return opList;
+    return sorted;
+  }
+
+  protected void addPredecessor(List<List<Integer>> predecessors, int position, int predecessorPosition) {
+    List<Integer> predecessorsOfOperation = predecessors.get(position);
+    if (predecessorsOfOperation == null) {
+      predecessorsOfOperation = new ArrayList<Integer>();
+      predecessors.set(position, predecessorsOfOperation);
+    }
+    predecessorsOfOperation.add(predecessorPosition);
   }
 
   protected void determineDependencies(List<DbOperation> flush) {
-    TreeSet<DbEntityOperation> defaultValue = new TreeSet<DbEntityOperation>();
     for (DbOperation operation : flush) {
       if (operation instanceof DbEntityOperation) {
         DbEntity entity = ((DbEntityOperation) operation).getEntity();
@@ -258,11 +305,13 @@ public class DbOperationManager {
           if (dependentEntities != null) {
             dependentEntities.forEach((id, type) -> {
 
-              deletes.getOrDefault(type, defaultValue).forEach(o -> {
-                if (id.equals(o.getEntity().getId())) {
-                  o.setDependency(operation);
+              Map<String, DbEntityOperation> deletesOfType = deletes.get(type);
+              if (deletesOfType != null) {
+                DbEntityOperation dependentDelete = deletesOfType.get(id);
+                if (dependentDelete != null) {
+                  dependentDelete.setDependency(operation);
                 }
-              });
+              }
             });
           }
 
@@ -253,7 +253,7 @@ public class BatchDbSqlSession extends DbSqlSession {
     ensureNotNull("no update statement for " + dbEntity.getClass() + " in the ibatis mapping files", "updateStatement", updateStatement);
 
     LOG.executeDatabaseOperation("UPDATE", dbEntity);
-    executeUpdate(updateStatement, dbEntity);
+    executeEntityUpdate(updateStatement, operation);
   }
 
   @Override
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.BoundSql;
@@ -49,6 +50,7 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.AbstractPersistenceSession;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.HasDbReferences;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
@@ -406,6 +408,28 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
     }
   }
 
+  /**
+   * Executes the update statement of an entity. If the operation carries the changed
+   * properties of an entity implementing {@link HasDbChangedProperties}, they are exposed
+   * to the mapping while the statement is bound so that only the changed columns are written.
+   */
+  protected int executeEntityUpdate(String updateStatement, DbEntityOperation operation) {
+    DbEntity dbEntity = operation.getEntity();
+    Set<String> changedProperties = operation.getChangedProperties();
+
+    if (changedProperties == null || !(dbEntity instanceof HasDbChangedProperties)) {
+      return executeUpdate(updateStatement, dbEntity);
+    }
+
+    HasDbChangedProperties partiallyUpdatedEntity = (HasDbChangedProperties) dbEntity;
+    partiallyUpdatedEntity.setChangedProperties(changedProperties);
+    try {
+      return executeUpdate(updateStatement, dbEntity);
+    } finally {
+      partiallyUpdatedEntity.setChangedProperties(null);
+    }
+  }
+
   public int update(String updateStatement, Object parameter) {
     return ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.update(updateStatement, parameter));
   }
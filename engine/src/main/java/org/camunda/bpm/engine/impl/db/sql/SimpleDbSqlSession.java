@@ -138,7 +138,7 @@ public class SimpleDbSqlSession extends DbSqlSession {
     LOG.executeDatabaseOperation("UPDATE", dbEntity);
 
     try {
-      int rowsAffected = executeUpdate(updateStatement, dbEntity);
+      int rowsAffected = executeEntityUpdate(updateStatement, operation);
       entityUpdatePerformed(operation, rowsAffected, null);
     } catch (Exception e) {
       entityUpdatePerformed(operation, 0, e);
@@ -17,8 +17,14 @@
 package org.camunda.bpm.engine.impl.delegate;
 
 import org.camunda.bpm.engine.delegate.BaseDelegateExecution;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.DelegateInterceptor;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileEntryImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfiler;
 import org.camunda.bpm.engine.impl.repository.ResourceDefinitionEntity;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
 
 /**
  * Provides context about the invocation of usercode and handles the actual
@@ -55,11 +61,36 @@ public abstract class DelegateInvocation {
    *           the exception thrown by the user code
    */
   public void proceed() throws Exception {
-    invoke();
+    SlowCommandProfileImpl profile = null;
+
+    // the command invocation context is only looked up if slow commands are profiled
+    ProcessEngineConfigurationImpl configuration = Context.getProcessEngineConfiguration();
+    if (configuration != null && configuration.getSlowCommandProfiler() != null) {
+      profile = SlowCommandProfiler.getCurrentProfile();
+    }
+
+    if (profile == null) {
+      invoke();
+    } else {
+      SlowCommandProfileEntryImpl entry = profile.enter(SlowCommandProfileEntry.TYPE_DELEGATE, getTargetName());
+      try {
+        invoke();
+      } finally {
+        profile.exit(entry);
+      }
+    }
   }
 
   protected abstract void invoke() throws Exception;
 
+  /**
+   * @return a description of the invoked user code, like the class name of a delegate
+   *   or an expression, used when profiling slow commands
+   */
+  public String getTargetName() {
+    return getClass().getSimpleName();
+  }
+
   /**
    * @return the result of the invocation (can be null if the invocation does
    *         not return a result)
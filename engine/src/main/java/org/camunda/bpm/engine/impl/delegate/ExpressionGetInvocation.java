@@ -40,4 +40,9 @@ public class ExpressionGetInvocation extends DelegateInvocation {
     invocationResult = valueExpression.getValue(elContext);
   }
 
+  @Override
+  public String getTargetName() {
+    return valueExpression.getExpressionString();
+  }
+
 }
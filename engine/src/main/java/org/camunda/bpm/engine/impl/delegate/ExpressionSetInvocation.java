@@ -43,4 +43,9 @@ public class ExpressionSetInvocation extends DelegateInvocation {
     valueExpression.setValue(elContext, value);
   }
 
+  @Override
+  public String getTargetName() {
+    return valueExpression.getExpressionString();
+  }
+
 }
@@ -47,4 +47,9 @@ public class ScriptInvocation extends DelegateInvocation {
       .execute(script, scope);
   }
 
+  @Override
+  public String getTargetName() {
+    return "script:" + script.getLanguage();
+  }
+
 }
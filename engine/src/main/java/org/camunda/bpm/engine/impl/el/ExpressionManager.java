@@ -57,6 +57,8 @@ public class ExpressionManager {
 
 
   protected List<FunctionMapper> functionMappers = new ArrayList<FunctionMapper>();
+  // shared by all contexts; sees function mappers added later on
+  protected FunctionMapper functionMapper = new CompositeFunctionMapper(functionMappers);
   protected ExpressionFactory expressionFactory;
   // Default implementation (does nothing)
   protected ELContext parsingElContext = new ProcessEngineElContext(functionMappers);
@@ -105,7 +107,7 @@ public class ExpressionManager {
 
   public ELContext createElContext(VariableContext variableContext) {
     ELResolver elResolver = getCachedElResolver();
-    ProcessEngineElContext elContext = new ProcessEngineElContext(functionMappers, elResolver);
+    ProcessEngineElContext elContext = new ProcessEngineElContext(functionMapper, elResolver);
     elContext.putContext(ExpressionFactory.class, expressionFactory);
     elContext.putContext(VariableContext.class, variableContext);
     return elContext;
@@ -113,7 +115,7 @@ public class ExpressionManager {
 
   protected ProcessEngineElContext createElContext(VariableScope variableScope) {
     ELResolver elResolver = getCachedElResolver();
-    ProcessEngineElContext elContext = new ProcessEngineElContext(functionMappers, elResolver);
+    ProcessEngineElContext elContext = new ProcessEngineElContext(functionMapper, elResolver);
     elContext.putContext(ExpressionFactory.class, expressionFactory);
     elContext.putContext(VariableScope.class, variableScope);
     return elContext;
@@ -18,15 +18,22 @@ package org.camunda.bpm.engine.impl.el;
 
 import java.util.List;
 
+import org.camunda.bpm.engine.delegate.VariableScope;
 import org.camunda.bpm.engine.impl.javax.el.ELContext;
 import org.camunda.bpm.engine.impl.javax.el.ELResolver;
+import org.camunda.bpm.engine.impl.javax.el.ExpressionFactory;
 import org.camunda.bpm.engine.impl.javax.el.FunctionMapper;
 import org.camunda.bpm.engine.impl.javax.el.VariableMapper;
+import org.camunda.bpm.engine.variable.context.VariableContext;
 
 
 /**
  * {@link ELContext} used by the process engine.
  *
+ * <p>The context objects looked up on every evaluation (the expression factory,
+ * the variable scope and the variable context) are held in fields, so that no
+ * context map needs to be allocated per context.</p>
+ *
  * @author Joram Barrez
  * @author Daniel Meyer
  */
@@ -36,6 +43,10 @@ public class ProcessEngineElContext extends ELContext {
 
   protected FunctionMapper functionMapper;
 
+  protected ExpressionFactory expressionFactory;
+  protected VariableScope variableScope;
+  protected VariableContext variableContext;
+
   public ProcessEngineElContext(List<FunctionMapper> functionMappers, ELResolver elResolver) {
     this(functionMappers);
     this.elResolver = elResolver;
@@ -43,7 +54,36 @@ public class ProcessEngineElContext extends ELContext {
 
 
   public ProcessEngineElContext(List<FunctionMapper> functionMappers) {
-    this.functionMapper = new CompositeFunctionMapper(functionMappers);
+    this(new CompositeFunctionMapper(functionMappers), null);
+  }
+
+  public ProcessEngineElContext(FunctionMapper functionMapper, ELResolver elResolver) {
+    this.functionMapper = functionMapper;
+    this.elResolver = elResolver;
+  }
+
+  public Object getContext(Class<?> key) {
+    if (key == ExpressionFactory.class) {
+      return expressionFactory;
+    } else if (key == VariableScope.class) {
+      return variableScope;
+    } else if (key == VariableContext.class) {
+      return variableContext;
+    } else {
+      return super.getContext(key);
+    }
+  }
+
+  public void putContext(Class<?> key, Object contextObject) {
+    if (key == ExpressionFactory.class) {
+      expressionFactory = (ExpressionFactory) contextObject;
+    } else if (key == VariableScope.class) {
+      variableScope = (VariableScope) contextObject;
+    } else if (key == VariableContext.class) {
+      variableContext = (VariableContext) contextObject;
+    } else {
+      super.putContext(key, contextObject);
+    }
   }
 
   public ELResolver getELResolver() {
@@ -21,11 +21,14 @@ import org.camunda.bpm.engine.delegate.VariableScope;
 import org.camunda.bpm.engine.impl.bpmn.behavior.ExternalTaskActivityBehavior;
 import org.camunda.bpm.engine.impl.cmmn.entity.runtime.CaseExecutionEntity;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.core.variable.CoreVariableInstance;
+import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
 import org.camunda.bpm.engine.impl.javax.el.ELContext;
 import org.camunda.bpm.engine.impl.javax.el.ELResolver;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import java.beans.FeatureDescriptor;
 import java.util.Iterator;
 import java.util.List;
@@ -79,6 +82,14 @@ public class VariableScopeElResolver extends ELResolver {
         } else if(LOGGED_IN_USER_KEY.equals(property)){
           context.setPropertyResolved(true);
           return Context.getCommandContext().getAuthenticatedUserId();
+        } else if (variableScope instanceof AbstractVariableScope) {
+          // look up the variable instance once instead of walking the scope hierarchy for hasVariable and getVariable
+          CoreVariableInstance variableInstance = ((AbstractVariableScope) variableScope).getVariableInstance(variable);
+          if (variableInstance != null) {
+            context.setPropertyResolved(true);
+            TypedValue typedValue = variableInstance.getTypedValue(true);
+            return typedValue != null ? typedValue.getValue() : null;
+          }
         } else {
           if (variableScope.hasVariable(variable)) {
             context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
@@ -130,6 +130,11 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
     return this;
   }
 
+  public ExternalTaskQueryTopicBuilder partitionIn(Integer... partitions) {
+    currentInstruction.setPartitions(partitions);
+    return this;
+  }
+
   protected void submitCurrentInstruction() {
     if (currentInstruction != null) {
       this.instructions.put(currentInstruction.getTopicName(), currentInstruction);
@@ -151,4 +156,9 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
     return this;
   }
 
+  public ExternalTaskQueryTopicBuilder lazyVariables() {
+    currentInstruction.setLazyVariables(true);
+    return this;
+  }
+
 }
@@ -19,15 +19,23 @@ package org.camunda.bpm.engine.impl.externaltask;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.externaltask.VariableReference;
 import org.camunda.bpm.engine.impl.bpmn.helper.BpmnProperties;
+import org.camunda.bpm.engine.impl.core.variable.CoreVariableInstance;
+import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
+import org.camunda.bpm.engine.variable.type.SerializableValueType;
 
 /**
  * @author Thorben Lindhauer
@@ -52,6 +60,7 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
   protected String tenantId;
   protected long priority;
   protected VariableMapImpl variables;
+  protected Map<String, VariableReference> variableReferences;
   protected String businessKey;
   protected Map<String, String> extensionProperties;
 
@@ -115,6 +124,10 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
     return variables;
   }
 
+  public Map<String, VariableReference> getVariableReferences() {
+    return variableReferences;
+  }
+
   public String getErrorDetails() {
     return errorDetails;
   }
@@ -145,11 +158,18 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
    * @param externalTaskEntity - source persistent entity to use for fields
    * @param variablesToFetch - list of variable names to fetch, if null then all variables will be fetched
    * @param isLocal - if true only local variables will be collected
+   * @param lazyVariables - if true, the values of variables that are stored as binary data
+   * (e.g. byte arrays, files and serialized objects) are not fetched; references to such variables are
+   * attached instead
    *
    * @return object with all fields copied from the ExternalTaskEntity, error details fetched from the
    * database and variables attached
    */
   public static LockedExternalTaskImpl fromEntity(ExternalTaskEntity externalTaskEntity, List<String> variablesToFetch, boolean isLocal, boolean deserializeVariables, boolean includeExtensionProperties) {
+    return fromEntity(externalTaskEntity, variablesToFetch, isLocal, deserializeVariables, includeExtensionProperties, false);
+  }
+
+  public static LockedExternalTaskImpl fromEntity(ExternalTaskEntity externalTaskEntity, List<String> variablesToFetch, boolean isLocal, boolean deserializeVariables, boolean includeExtensionProperties, boolean lazyVariables) {
     LockedExternalTaskImpl result = new LockedExternalTaskImpl();
     result.id = externalTaskEntity.getId();
     result.topicName = externalTaskEntity.getTopicName();
@@ -172,7 +192,13 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
 
     ExecutionEntity execution = externalTaskEntity.getExecution();
     result.variables = new VariableMapImpl();
-    execution.collectVariables(result.variables, variablesToFetch, isLocal, deserializeVariables);
+    result.variableReferences = new HashMap<>();
+    if (lazyVariables) {
+      collectVariablesLazily(execution, result, variablesToFetch, isLocal, deserializeVariables);
+    }
+    else {
+      execution.collectVariables(result.variables, variablesToFetch, isLocal, deserializeVariables);
+    }
 
     if(includeExtensionProperties) {
       result.extensionProperties = (Map<String, String>) execution.getActivity().getProperty(BpmnProperties.EXTENSION_PROPERTIES.getName());
@@ -183,4 +209,46 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
 
     return result;
   }
+
+  /**
+   * Works like {@link AbstractVariableScope#collectVariables(VariableMapImpl, Collection, boolean, boolean)}
+   * but does not fetch the values of variables that are stored as binary data. For these variables,
+   * only a reference is collected.
+   */
+  protected static void collectVariablesLazily(AbstractVariableScope variableScope, LockedExternalTaskImpl result, List<String> variablesToFetch, boolean isLocal, boolean deserializeVariables) {
+    boolean collectAll = (variablesToFetch == null);
+
+    List<CoreVariableInstance> localVariables = variableScope.getVariableInstancesLocal(variablesToFetch);
+    for (CoreVariableInstance variable : localVariables) {
+      String name = variable.getName();
+      if (!result.variables.containsKey(name)
+          && !result.variableReferences.containsKey(name)
+          && (collectAll || variablesToFetch.contains(name))) {
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) variable;
+        if (isStoredAsBinary(variableInstance)) {
+          result.variableReferences.put(name, VariableReferenceImpl.fromEntity(variableInstance));
+        }
+        else {
+          result.variables.put(name, variableInstance.getTypedValue(deserializeVariables));
+        }
+      }
+    }
+
+    if (!isLocal) {
+      AbstractVariableScope parentScope = variableScope.getParentVariableScope();
+      int collected = result.variables.size() + result.variableReferences.size();
+      // Do not propagate to parent if all variables in 'variablesToFetch' are already collected!
+      if (parentScope != null && (collectAll || collected < variablesToFetch.size())) {
+        collectVariablesLazily(parentScope, result, variablesToFetch, isLocal, deserializeVariables);
+      }
+    }
+  }
+
+  protected static boolean isStoredAsBinary(VariableInstanceEntity variableInstance) {
+    TypedValueSerializer<?> serializer = variableInstance.getSerializer();
+    return serializer != null
+        && (AbstractTypedValueSerializer.BINARY_VALUE_TYPES.contains(serializer.getType().getName())
+          || serializer.getType() instanceof SerializableValueType);
+  }
 }
@@ -45,12 +45,14 @@ public class TopicFetchInstruction implements Serializable {
   protected boolean isTenantIdSet = false;
   protected String[] tenantIds;
   protected List<String> variablesToFetch;
+  protected Integer[] partitions;
 
   protected List<QueryVariableValue> filterVariables;
   protected long lockDuration;
   protected boolean deserializeVariables = false;
   protected boolean localVariables = false;
   protected boolean includeExtensionProperties = false;
+  protected boolean lazyVariables = false;
 
   public TopicFetchInstruction(String topicName, long lockDuration) {
     this.topicName = topicName;
@@ -131,6 +133,14 @@ public class TopicFetchInstruction implements Serializable {
     this.tenantIds = tenantIds;
   }
 
+  public Integer[] getPartitions() {
+    return partitions;
+  }
+
+  public void setPartitions(Integer[] partitions) {
+    this.partitions = partitions;
+  }
+
   public List<QueryVariableValue> getFilterVariables() {
     return filterVariables;
   }
@@ -191,4 +201,12 @@ public class TopicFetchInstruction implements Serializable {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public boolean isLazyVariables() {
+    return lazyVariables;
+  }
+
+  public void setLazyVariables(boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+  }
+
 }
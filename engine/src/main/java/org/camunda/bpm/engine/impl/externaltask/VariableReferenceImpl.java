@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.externaltask;
+
+import org.camunda.bpm.engine.externaltask.VariableReference;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+public class VariableReferenceImpl implements VariableReference {
+
+  protected String id;
+  protected String name;
+  protected String typeName;
+  protected String executionId;
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public String getExecutionId() {
+    return executionId;
+  }
+
+  public static VariableReferenceImpl fromEntity(VariableInstanceEntity variableInstance) {
+    VariableReferenceImpl result = new VariableReferenceImpl();
+    result.id = variableInstance.getId();
+    result.name = variableInstance.getName();
+    result.typeName = variableInstance.getTypeName();
+    result.executionId = variableInstance.getExecutionId();
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[id=" + id
+        + ", name=" + name
+        + ", typeName=" + typeName
+        + ", executionId=" + executionId
+        + "]";
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.EntityTypes;
+import org.camunda.bpm.engine.filter.Filter;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.FilterEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Caches the count and the task ids of result pages of stored task filters which
+ * opted in by setting the filter property {@value #CACHE_RESULTS_PROPERTY} to <code>true</code>.
+ *
+ * <p>A filter result depends on the filter revision, the authenticated user, groups and
+ * tenants and on whether authorization and tenant checks are enabled, so all of them are
+ * part of the cache key. Entries expire after the configured time to live, which bounds
+ * the staleness of a cached result with respect to task changes, including the default
+ * authorizations created for tasks. All entries are dropped once a transaction that changed
+ * other authorizations is committed, the entries of a filter once the filter was changed
+ * or deleted.</p>
+ *
+ * <p>Only ids are cached for result pages; the tasks themselves are re-fetched by id so
+ * that no entity is shared between command contexts.</p>
+ */
+public class FilterResultCache {
+
+  public static final String CACHE_RESULTS_PROPERTY = "cacheResults";
+
+  protected static final int COUNT = -1;
+
+  protected final long timeToLive;
+  protected final int maxEntries;
+
+  protected final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Incremented on every invalidation. A result is only stored if no invalidation
+   * happened while it was computed.
+   */
+  protected final AtomicLong generation = new AtomicLong();
+
+  public FilterResultCache(long timeToLive, int maxEntries) {
+    this.timeToLive = timeToLive;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * @return true if results of the given filter can be cached
+   */
+  public static boolean isCacheable(Filter filter) {
+    if (!EntityTypes.TASK.equals(filter.getResourceType())) {
+      return false;
+    }
+    Map<String, Object> properties = filter.getProperties();
+    if (properties == null) {
+      return false;
+    }
+    Object cacheResults = properties.get(CACHE_RESULTS_PROPERTY);
+    return Boolean.TRUE.equals(cacheResults) || "true".equals(cacheResults);
+  }
+
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  public Key countKey(CommandContext commandContext, FilterEntity filter) {
+    return new Key(commandContext, filter, 0, COUNT);
+  }
+
+  public Key pageKey(CommandContext commandContext, FilterEntity filter, int firstResult, int maxResults) {
+    return new Key(commandContext, filter, firstResult, maxResults);
+  }
+
+  public Long getCount(Key key) {
+    return (Long) get(key);
+  }
+
+  public void putCount(Key key, long count, long generation) {
+    put(key, count, generation);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<String> getPage(Key key) {
+    return (List<String>) get(key);
+  }
+
+  public void putPage(Key key, List<String> taskIds, long generation) {
+    put(key, Collections.unmodifiableList(new ArrayList<>(taskIds)), generation);
+  }
+
+  /**
+   * Drops all cached results.
+   */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  /**
+   * Drops all cached results of the given filter.
+   */
+  public void invalidate(String filterId) {
+    generation.incrementAndGet();
+    entries.keySet().removeIf(key -> key.filterId.equals(filterId));
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  protected Object get(Key key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt <= ClockUtil.getCurrentTime().getTime()) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry.value;
+  }
+
+  protected void put(Key key, Object value, long computedInGeneration) {
+    if (computedInGeneration != generation.get()) {
+      // an invalidation happened while the result was computed
+      return;
+    }
+    if (entries.size() >= maxEntries) {
+      evictExpired();
+      if (entries.size() >= maxEntries) {
+        return;
+      }
+    }
+    entries.put(key, new Entry(value, ClockUtil.getCurrentTime().getTime() + timeToLive));
+  }
+
+  protected void evictExpired() {
+    long now = ClockUtil.getCurrentTime().getTime();
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().expiresAt <= now) {
+        iterator.remove();
+      }
+    }
+  }
+
+  protected static class Entry {
+
+    protected final Object value;
+    protected final long expiresAt;
+
+    protected Entry(Object value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  public static class Key {
+
+    protected final String filterId;
+    protected final int filterRevision;
+    protected final String userId;
+    protected final List<String> groupIds;
+    protected final List<String> tenantIds;
+    protected final boolean authorizationCheckEnabled;
+    protected final boolean tenantCheckEnabled;
+    protected final int firstResult;
+    protected final int maxResults;
+    protected final int hashCode;
+
+    protected Key(CommandContext commandContext, FilterEntity filter, int firstResult, int maxResults) {
+      Authentication authentication = commandContext.getAuthentication();
+      this.filterId = filter.getId();
+      this.filterRevision = filter.getRevision();
+      this.userId = authentication != null ? authentication.getUserId() : null;
+      this.groupIds = authentication != null ? sorted(authentication.getGroupIds()) : null;
+      this.tenantIds = authentication != null ? sorted(authentication.getTenantIds()) : null;
+      this.authorizationCheckEnabled = commandContext.isAuthorizationCheckEnabled();
+      this.tenantCheckEnabled = commandContext.isTenantCheckEnabled();
+      this.firstResult = firstResult;
+      this.maxResults = maxResults;
+      this.hashCode = Objects.hash(filterId, filterRevision, userId, groupIds, tenantIds,
+          authorizationCheckEnabled, tenantCheckEnabled, firstResult, maxResults);
+    }
+
+    protected static List<String> sorted(List<String> ids) {
+      if (ids == null) {
+        return null;
+      }
+      List<String> sorted = new ArrayList<>(ids);
+      Collections.sort(sorted);
+      return sorted;
+    }
+
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode
+          && filterRevision == other.filterRevision
+          && authorizationCheckEnabled == other.authorizationCheckEnabled
+          && tenantCheckEnabled == other.tenantCheckEnabled
+          && firstResult == other.firstResult
+          && maxResults == other.maxResults
+          && filterId.equals(other.filterId)
+          && Objects.equals(userId, other.userId)
+          && Objects.equals(groupIds, other.groupIds)
+          && Objects.equals(tenantIds, other.tenantIds);
+    }
+
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history;
+
+import org.camunda.bpm.engine.history.HistoricChangeFeedBuilder;
+import org.camunda.bpm.engine.history.HistoricChangeFeedPage;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.impl.cmd.FetchHistoricChangeFeedCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+
+public class HistoricChangeFeedBuilderImpl<T> implements HistoricChangeFeedBuilder<T> {
+
+  public static final int DEFAULT_MAX_RESULTS = 1000;
+
+  protected CommandExecutor commandExecutor;
+
+  protected HistoricChangeFeedType<T> type;
+  protected String continuationToken;
+  protected int maxResults = DEFAULT_MAX_RESULTS;
+
+  public HistoricChangeFeedBuilderImpl(CommandExecutor commandExecutor, HistoricChangeFeedType<T> type) {
+    this.commandExecutor = commandExecutor;
+    this.type = type;
+  }
+
+  public HistoricChangeFeedBuilder<T> continueAfter(String continuationToken) {
+    this.continuationToken = continuationToken;
+    return this;
+  }
+
+  public HistoricChangeFeedBuilder<T> maxResults(int maxResults) {
+    this.maxResults = maxResults;
+    return this;
+  }
+
+  public HistoricChangeFeedPage<T> fetch() {
+    return commandExecutor.execute(new FetchHistoricChangeFeedCmd<>(type, continuationToken, maxResults));
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history;
+
+import java.util.Date;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+
+/**
+ * Position in a history change feed: the time of the change and the id of the
+ * last entry fetched. Entries are ordered by both, so the next page starts with
+ * entries that changed later or at the same time with a greater id.
+ */
+public class HistoricChangeFeedToken {
+
+  protected static final char SEPARATOR = ':';
+
+  protected final Date time;
+  protected final String id;
+
+  public HistoricChangeFeedToken(Date time, String id) {
+    this.time = time;
+    this.id = id;
+  }
+
+  public Date getTime() {
+    return time;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String toString() {
+    return time.getTime() + String.valueOf(SEPARATOR) + id;
+  }
+
+  public static HistoricChangeFeedToken parse(String token) {
+    int separatorIndex = token.indexOf(SEPARATOR);
+    if (separatorIndex <= 0 || separatorIndex == token.length() - 1) {
+      throw new BadUserRequestException("Invalid continuation token '" + token + "'");
+    }
+
+    try {
+      long time = Long.parseLong(token.substring(0, separatorIndex));
+      return new HistoricChangeFeedToken(new Date(time), token.substring(separatorIndex + 1));
+
+    } catch (NumberFormatException e) {
+      throw new BadUserRequestException("Invalid continuation token '" + token + "'", e);
+    }
+  }
+
+}
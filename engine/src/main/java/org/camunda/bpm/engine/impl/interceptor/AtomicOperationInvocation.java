@@ -19,9 +19,12 @@ package org.camunda.bpm.engine.impl.interceptor;
 import org.camunda.bpm.application.ProcessApplicationReference;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileEntryImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileImpl;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.pvm.runtime.AtomicOperation;
 import org.camunda.bpm.engine.impl.pvm.runtime.operation.PvmAtomicOperation;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
 
 /**
  * An invocation of an atomic operation
@@ -55,6 +58,10 @@ public class AtomicOperationInvocation {
   }
 
   public void execute(BpmnStackTrace stackTrace, ProcessDataContext processDataContext) {
+    execute(stackTrace, processDataContext, null);
+  }
+
+  public void execute(BpmnStackTrace stackTrace, ProcessDataContext processDataContext, SlowCommandProfileImpl profile) {
 
     if(operation != PvmAtomicOperation.ACTIVITY_START_CANCEL_SCOPE
        && operation != PvmAtomicOperation.ACTIVITY_START_INTERRUPT_SCOPE
@@ -96,7 +103,11 @@ public class AtomicOperationInvocation {
       Context.setExecutionContext(execution);
       if(!performAsync) {
         LOG.debugExecutingAtomicOperation(operation, execution);
-        operation.execute(execution);
+        if (profile == null) {
+          operation.execute(execution);
+        } else {
+          executeProfiled(profile);
+        }
       }
       else {
         execution.scheduleAtomicOperationAsync(this);
@@ -109,6 +120,15 @@ public class AtomicOperationInvocation {
     }
   }
 
+  protected void executeProfiled(SlowCommandProfileImpl profile) {
+    SlowCommandProfileEntryImpl entry = profile.enter(SlowCommandProfileEntry.TYPE_OPERATION, operation.getCanonicalName(), execution);
+    try {
+      operation.execute(execution);
+    } finally {
+      profile.exit(entry);
+    }
+  }
+
   // getters / setters ////////////////////////////////////
 
   public AtomicOperation getOperation() {
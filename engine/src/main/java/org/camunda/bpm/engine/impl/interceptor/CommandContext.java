@@ -54,6 +54,8 @@ import org.camunda.bpm.engine.impl.identity.Authentication;
 import org.camunda.bpm.engine.impl.identity.ReadOnlyIdentityProvider;
 import org.camunda.bpm.engine.impl.identity.WritableIdentityProvider;
 import org.camunda.bpm.engine.impl.jobexecutor.FailedJobCommandFactory;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
 import org.camunda.bpm.engine.impl.optimize.OptimizeManager;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentManager;
 import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationManager;
@@ -69,6 +71,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.HistoricActivityInstanceMa
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricBatchManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricCaseActivityInstanceManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricCaseInstanceManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricChangeFeedManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricExternalTaskLogManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricIdentityLinkLogManager;
@@ -86,6 +89,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.MeterLogManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.PropertyManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ReportManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceManager;
@@ -97,6 +101,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.TaskReportManager;
 import org.camunda.bpm.engine.impl.persistence.entity.TenantManager;
 import org.camunda.bpm.engine.impl.persistence.entity.UserOperationLogManager;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceManager;
+import org.camunda.bpm.engine.management.Metrics;
 
 /**
  * @author Tom Baeyens
@@ -185,7 +190,10 @@ public class CommandContext {
 
           if (commandInvocationContext.getThrowable() == null) {
             fireCommandContextClose();
+
+            long flushStart = System.nanoTime();
             flushSessions();
+            recordFlushTime(System.nanoTime() - flushStart);
           }
 
         } catch (Throwable exception) {
@@ -194,7 +202,9 @@ public class CommandContext {
 
           try {
             if (commandInvocationContext.getThrowable() == null) {
+              long commitStart = System.nanoTime();
               transactionContext.commit();
+              recordCommitTime(System.nanoTime() - commitStart);
             }
           } catch (Throwable exception) {
 
@@ -236,6 +246,35 @@ public class CommandContext {
     commandInvocationContext.rethrow();
   }
 
+  protected void recordFlushTime(long nanos) {
+    CommandExecutionStatistics statistics = getCommandStatistics();
+    if (statistics != null) {
+      statistics.addFlushTime(nanos);
+    }
+  }
+
+  protected void recordCommitTime(long nanos) {
+    CommandExecutionStatistics statistics = getCommandStatistics();
+    if (statistics != null) {
+      statistics.addCommitTime(nanos);
+    }
+  }
+
+  /**
+   * @return the statistics of the command that opened this context or <code>null</code>
+   * if command statistics are not enabled
+   */
+  protected CommandExecutionStatistics getCommandStatistics() {
+    CommandStatisticsRecorder recorder = processEngineConfiguration.getCommandStatisticsRecorder();
+    if (recorder != null) {
+      CommandExecutionStatistics statistics = CommandStatisticsRecorder.getCurrentExecution();
+      if (statistics != null && statistics.getRecorder() == recorder) {
+        return statistics;
+      }
+    }
+    return null;
+  }
+
   protected boolean shouldLogInfo(Throwable exception) {
     return exception instanceof TaskAlreadyClaimedException;
   }
@@ -268,9 +307,16 @@ public class CommandContext {
   }
 
   protected void flushSessions() {
+    long startTime = System.nanoTime();
+
     for (int i = 0; i< sessionList.size(); i++) {
       sessionList.get(i).flush();
     }
+
+    if (processEngineConfiguration.isMetricsEnabled() && processEngineConfiguration.getMetricsRegistry() != null) {
+      long durationInMicros = (System.nanoTime() - startTime) / 1000;
+      processEngineConfiguration.getMetricsRegistry().recordValue(Metrics.FLUSH_DURATION, durationInMicros);
+    }
   }
 
   protected void closeSessions(CommandInvocationContext commandInvocationContext) {
@@ -433,6 +479,10 @@ public class CommandContext {
     return getSession(PropertyManager.class);
   }
 
+  public HistoryPartitionManager getHistoryPartitionManager() {
+    return getSession(HistoryPartitionManager.class);
+  }
+
   public StatisticsManager getStatisticsManager() {
     return getSession(StatisticsManager.class);
   }
@@ -670,6 +720,10 @@ public class CommandContext {
     return getSession(OptimizeManager.class);
   }
 
+  public HistoricChangeFeedManager getHistoricChangeFeedManager() {
+    return getSession(HistoricChangeFeedManager.class);
+  }
+
   public <T> void executeWithOperationLogPrevented(Command<T> command) {
     boolean initialLegacyRestrictions =
         isRestrictUserOperationLogToAuthenticatedUsers();
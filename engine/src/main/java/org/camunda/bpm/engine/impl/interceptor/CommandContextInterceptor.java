@@ -22,6 +22,12 @@ import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cmd.CommandLogger;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.context.ProcessEngineContextImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileEntryImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfiler;
+import org.camunda.bpm.engine.impl.util.ClassNameUtil;
+import org.camunda.bpm.engine.management.Metrics;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
 
 /**
  * <p>Interceptor used for opening the {@link CommandContext} and {@link CommandInvocationContext}.</p>
@@ -90,7 +96,11 @@ public class CommandContextInterceptor extends CommandInterceptor {
     boolean isNew = ProcessEngineContextImpl.consume();
     boolean openNew = (context == null || isNew);
 
+    long startTime = openNew ? System.nanoTime() : 0;
+
+    CommandInvocationContext parentInvocationContext = openNew ? null : Context.getCommandInvocationContext();
     CommandInvocationContext commandInvocationContext = new CommandInvocationContext(command, processEngineConfiguration);
+    SlowCommandProfileEntryImpl profileEntry = initProfile(command, commandInvocationContext, parentInvocationContext);
     Context.setCommandInvocationContext(commandInvocationContext);
 
     try {
@@ -121,6 +131,13 @@ public class CommandContextInterceptor extends CommandInterceptor {
           commandInvocationContext.rethrow();
         }
       } finally {
+        if (openNew) {
+          recordCommandDuration(startTime);
+          completeProfile(commandInvocationContext, startTime);
+        } else if (profileEntry != null) {
+          commandInvocationContext.getProfile().exit(profileEntry);
+        }
+
         Context.removeCommandInvocationContext();
         Context.removeCommandContext();
         Context.removeProcessEngineConfiguration();
@@ -133,6 +150,45 @@ public class CommandContextInterceptor extends CommandInterceptor {
     return null;
   }
 
+  /**
+   * Starts a profile for a command that opens a new command context. A command that
+   * reuses the context is added as an entry to the profile of the outer command.
+   *
+   * @return the entry of the reusing command or <code>null</code>
+   */
+  protected SlowCommandProfileEntryImpl initProfile(Command<?> command, CommandInvocationContext invocationContext,
+      CommandInvocationContext parentInvocationContext) {
+
+    if (parentInvocationContext != null) {
+      SlowCommandProfileImpl profile = parentInvocationContext.getProfile();
+      if (profile != null) {
+        invocationContext.setProfile(profile);
+        return profile.enter(SlowCommandProfileEntry.TYPE_COMMAND, ClassNameUtil.getClassNameWithoutPackage(command));
+      }
+    } else {
+      SlowCommandProfiler profiler = processEngineConfiguration.getSlowCommandProfiler();
+      if (profiler != null) {
+        invocationContext.setProfile(profiler.startProfile(ClassNameUtil.getClassNameWithoutPackage(command)));
+      }
+    }
+    return null;
+  }
+
+  protected void completeProfile(CommandInvocationContext invocationContext, long startTime) {
+    SlowCommandProfileImpl profile = invocationContext.getProfile();
+    if (profile != null) {
+      processEngineConfiguration.getSlowCommandProfiler()
+        .completeProfile(profile, System.nanoTime() - startTime, invocationContext.getThrowable() != null);
+    }
+  }
+
+  protected void recordCommandDuration(long startTime) {
+    if (processEngineConfiguration.isMetricsEnabled() && processEngineConfiguration.getMetricsRegistry() != null) {
+      long durationInMicros = (System.nanoTime() - startTime) / 1000;
+      processEngineConfiguration.getMetricsRegistry().recordValue(Metrics.COMMAND_DURATION, durationInMicros);
+    }
+  }
+
   protected boolean isFromSameEngine(CommandContext existingCommandContext) {
     return processEngineConfiguration == existingCommandContext.getProcessEngineConfiguration();
   }
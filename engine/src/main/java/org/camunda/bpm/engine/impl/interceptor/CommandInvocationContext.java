@@ -29,6 +29,7 @@ import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cmd.CommandLogger;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.context.ProcessApplicationContextUtil;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfileImpl;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.pvm.runtime.AtomicOperation;
 
@@ -49,6 +50,7 @@ public class CommandInvocationContext {
   protected List<AtomicOperationInvocation> queuedInvocations = new ArrayList<AtomicOperationInvocation>();
   protected BpmnStackTrace bpmnStackTrace = new BpmnStackTrace();
   protected ProcessDataContext processDataContext;
+  protected SlowCommandProfileImpl profile;
 
   public CommandInvocationContext(Command<?> command, ProcessEngineConfigurationImpl configuration) {
     this.command = command;
@@ -128,7 +130,7 @@ public class CommandInvocationContext {
   protected void invokeNext() {
     AtomicOperationInvocation invocation = queuedInvocations.remove(0);
     try {
-      invocation.execute(bpmnStackTrace, processDataContext);
+      invocation.execute(bpmnStackTrace, processDataContext, profile);
     } catch(RuntimeException e) {
       // log bpmn stacktrace
       bpmnStackTrace.printStackTrace(Context.getProcessEngineConfiguration().isBpmnStacktraceVerbose());
@@ -160,4 +162,15 @@ public class CommandInvocationContext {
   public ProcessDataContext getProcessDataContext() {
     return processDataContext;
   }
+
+  /**
+   * @return the profile of the command if it is sampled by the slow command profiler
+   */
+  public SlowCommandProfileImpl getProfile() {
+    return profile;
+  }
+
+  public void setProfile(SlowCommandProfileImpl profile) {
+    this.profile = profile;
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.interceptor;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.context.ProcessEngineContextImpl;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.impl.util.ClassNameUtil;
+
+/**
+ * Records the {@link CommandExecutionStatistics} of every command that opens a
+ * new command context. Nested commands that reuse the context of the outer
+ * command are accounted to the outer command.
+ *
+ * <p>Must be placed before the {@link CommandContextInterceptor}, so that the
+ * time to flush and commit the command context is included.</p>
+ *
+ * @see org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setCommandStatisticsEnabled(boolean)
+ */
+public class CommandStatisticsInterceptor extends CommandInterceptor {
+
+  protected CommandStatisticsRecorder recorder;
+
+  /** if true, we will always open a new command context and record the command */
+  protected boolean alwaysOpenNew;
+
+  public CommandStatisticsInterceptor(CommandStatisticsRecorder recorder, boolean alwaysOpenNew) {
+    this.recorder = recorder;
+    this.alwaysOpenNew = alwaysOpenNew;
+  }
+
+  @Override
+  public <T> T execute(Command<T> command) {
+    if (!opensNewCommandContext()) {
+      return next.execute(command);
+    }
+
+    CommandExecutionStatistics execution = recorder.startExecution(ClassNameUtil.getClassNameWithoutPackage(command));
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = next.execute(command);
+      failed = false;
+      return result;
+    } finally {
+      recorder.completeExecution(execution, System.nanoTime() - start, failed);
+    }
+  }
+
+  protected boolean opensNewCommandContext() {
+    if (alwaysOpenNew || ProcessEngineContextImpl.get()) {
+      return true;
+    }
+
+    CommandExecutionStatistics current = CommandStatisticsRecorder.getCurrentExecution();
+    return current == null
+        || current.getRecorder() != recorder
+        || Context.getCommandContext() == null;
+  }
+
+}
@@ -27,4 +27,11 @@ public interface SessionFactory {
 
   Session openSession();
 
+  /**
+   * Releases the resources held by the factory. Invoked when the process engine is closed.
+   */
+  default void close() {
+    // nothing to release by default
+  }
+
 }
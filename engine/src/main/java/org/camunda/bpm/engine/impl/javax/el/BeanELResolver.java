@@ -19,9 +19,14 @@ import java.beans.FeatureDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -67,6 +72,7 @@ public class BeanELResolver extends ELResolver {
 
 	protected static final class BeanProperty {
 		private final PropertyDescriptor descriptor;
+		private volatile MethodHandle readHandle;
 
 		public BeanProperty(PropertyDescriptor descriptor) {
 			this.descriptor = descriptor;
@@ -80,6 +86,23 @@ public class BeanELResolver extends ELResolver {
 			return findAccessibleMethod(descriptor.getReadMethod());
 		}
 
+		/**
+		 * @return a handle of type <code>(Object, Object[])Object</code> invoking the read method,
+		 *         or <code>null</code> if the property is not readable.
+		 */
+		public MethodHandle getReadHandle() {
+			MethodHandle handle = readHandle;
+			if (handle == null) {
+				Method method = getReadMethod();
+				if (method == null) {
+					return null;
+				}
+				handle = toMethodHandle(method);
+				readHandle = handle;
+			}
+			return handle;
+		}
+
 		public Method getWriteMethod() {
 			return findAccessibleMethod(descriptor.getWriteMethod());
 		}
@@ -89,6 +112,106 @@ public class BeanELResolver extends ELResolver {
 		}
 	}
 
+	/**
+	 * Key of a resolved method: the method name plus either the formal parameter types or, if these
+	 * are unknown, the number of actual parameters.
+	 */
+	protected static final class MethodKey {
+		private final String name;
+		private final Class<?>[] types;
+		private final int paramCount;
+		private final int hashCode;
+
+		public MethodKey(String name, Class<?>[] types, int paramCount) {
+			this.name = name;
+			this.types = types;
+			this.paramCount = paramCount;
+			this.hashCode = 31 * (31 * name.hashCode() + Arrays.hashCode(types)) + paramCount;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return paramCount == other.paramCount && name.equals(other.name) && Arrays.equals(types, other.types);
+		}
+	}
+
+	/**
+	 * A resolved method together with a handle of type <code>(Object, Object[])Object</code>
+	 * invoking it. Lookups which did not find a method are cached with a <code>null</code> method.
+	 */
+	protected static final class BeanMethod {
+		private final Method method;
+		private final MethodHandle handle;
+
+		public BeanMethod(Method method) {
+			this.method = method;
+			this.handle = method == null ? null : toMethodHandle(method);
+		}
+
+		public Method getMethod() {
+			return method;
+		}
+
+		public MethodHandle getHandle() {
+			return handle;
+		}
+	}
+
+	private static final Object[] NO_PARAMS = new Object[0];
+
+	private static final MethodHandle REFLECTIVE_INVOKE;
+
+	static {
+		try {
+			REFLECTIVE_INVOKE = MethodHandles.lookup().findVirtual(Method.class, "invoke",
+					MethodType.methodType(Object.class, Object.class, Object[].class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Adapt the given method to a handle of type <code>(Object, Object[])Object</code>. If the
+	 * method cannot be unreflected, the handle delegates to {@link Method#invoke(Object, Object...)}.
+	 */
+	private static MethodHandle toMethodHandle(Method method) {
+		int paramCount = method.getParameterTypes().length;
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+		} catch (IllegalAccessException e) {
+			return REFLECTIVE_INVOKE.bindTo(method);
+		}
+		if (Modifier.isStatic(method.getModifiers())) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		return handle
+				.asType(MethodType.genericMethodType(paramCount + 1))
+				.asSpreader(Object[].class, paramCount);
+	}
+
+	private static Object invokeHandle(MethodHandle handle, Object base, Object[] params) {
+		try {
+			return (Object) handle.invokeExact(base, params);
+		} catch (InvocationTargetException e) {
+			throw new ELException(e.getCause());
+		} catch (Throwable e) {
+			throw new ELException(e);
+		}
+	}
+
 	private static Method findAccessibleMethod(Method method) {
 		if (method == null || method.isAccessible()) {
 			return method;
@@ -128,6 +251,7 @@ public class BeanELResolver extends ELResolver {
 
 	private final boolean readOnly;
 	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<MethodKey, BeanMethod>> methodCache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -144,6 +268,7 @@ public class BeanELResolver extends ELResolver {
 	public BeanELResolver(boolean readOnly) {
 		this.readOnly = readOnly;
 		this.cache = new ConcurrentHashMap<Class<?>, BeanProperties>();
+		this.methodCache = new ConcurrentHashMap<Class<?>, ConcurrentHashMap<MethodKey, BeanMethod>>();
 	}
 
 	/**
@@ -295,17 +420,11 @@ public class BeanELResolver extends ELResolver {
 		}
 		Object result = null;
 		if (isResolvable(base)) {
-			Method method = toBeanProperty(base, property).getReadMethod();
-			if (method == null) {
+			MethodHandle handle = toBeanProperty(base, property).getReadHandle();
+			if (handle == null) {
 				throw new PropertyNotFoundException("Cannot read property " + property);
 			}
-			try {
-				result = method.invoke(base);
-			} catch (InvocationTargetException e) {
-				throw new ELException(e.getCause());
-			} catch (Exception e) {
-				throw new ELException(e);
-			}
+			result = invokeHandle(handle, base, NO_PARAMS);
 			context.setPropertyResolved(true);
 		}
 		return result;
@@ -471,23 +590,41 @@ public class BeanELResolver extends ELResolver {
 				params = new Object[0];
 			}
 			String name = method.toString();
-			Method target = findMethod(base, name, paramTypes, params.length);
-			if (target == null) {
+			BeanMethod target = toBeanMethod(base, name, paramTypes, params.length);
+			if (target.getMethod() == null) {
 				throw new MethodNotFoundException("Cannot find method " + name + " with " + params.length + " parameters in " + base.getClass());
 			}
-			try {
-				result = target.invoke(base, coerceParams(getExpressionFactory(context), target, params));
-			} catch (InvocationTargetException e) {
-				throw new ELException(e.getCause());
-			} catch (IllegalAccessException e) {
-				throw new ELException(e);
-			}
+			Object[] args = coerceParams(getExpressionFactory(context), target.getMethod(), params);
+			result = invokeHandle(target.getHandle(), base, args);
 			context.setPropertyResolved(true);
 		}
 		return result;
 	}
 
-  private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+	/**
+	 * Lookup the BeanMethod for the given (base class, method name, parameter types or count). The
+	 * result of the lookup is cached per base class, including lookups which found no method.
+	 */
+	private BeanMethod toBeanMethod(Object base, String name, Class<?>[] types, int paramCount) {
+		Class<?> baseClass = base.getClass();
+		ConcurrentHashMap<MethodKey, BeanMethod> methods = methodCache.get(baseClass);
+		if (methods == null) {
+			ConcurrentHashMap<MethodKey, BeanMethod> newMethods = new ConcurrentHashMap<MethodKey, BeanMethod>();
+			methods = methodCache.putIfAbsent(baseClass, newMethods);
+			if (methods == null) { // put succeeded, use new value
+				methods = newMethods;
+			}
+		}
+		MethodKey key = new MethodKey(name, types, types == null ? paramCount : -1);
+		BeanMethod beanMethod = methods.get(key);
+		if (beanMethod == null) {
+			beanMethod = new BeanMethod(findMethod(base, name, types, paramCount));
+			methods.putIfAbsent(key, beanMethod);
+		}
+		return beanMethod;
+	}
+
+	private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
 				return findAccessibleMethod(base.getClass().getMethod(name, types));
@@ -625,7 +762,7 @@ public class BeanELResolver extends ELResolver {
 
 	/**
 	 * This method is not part of the API, though it can be used (reflectively) by clients of this
-	 * class to remove entries from the cache when the beans are being unloaded.
+	 * class to remove entries from the property and method caches when the beans are being unloaded.
 	 * 
 	 * Note: this method is present in the reference implementation, so we're adding it here to ease
 	 * migration.
@@ -635,7 +772,11 @@ public class BeanELResolver extends ELResolver {
 	 */
 	@SuppressWarnings("unused")
 	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
+		purgeBeanClasses(cache.keySet().iterator(), loader);
+		purgeBeanClasses(methodCache.keySet().iterator(), loader);
+	}
+
+	private static void purgeBeanClasses(Iterator<Class<?>> classes, ClassLoader loader) {
 		while (classes.hasNext()) {
 			if (loader == classes.next().getClassLoader()) {
 				classes.remove();
@@ -42,7 +42,7 @@ import java.util.Map;
  * ELContext instance between two or more threads.
  */
 public abstract class ELContext {
-	private final Map<Class<?>, Object> context = new HashMap<Class<?>, Object>();
+	private Map<Class<?>, Object> context;
 
 	private Locale locale;
 	private boolean resolved;
@@ -63,7 +63,7 @@ public abstract class ELContext {
 	 *             if key is null.
 	 */
 	public Object getContext(Class<?> key) {
-		return context.get(key);
+		return context == null ? null : context.get(key);
 	}
 
 	/**
@@ -131,6 +131,9 @@ public abstract class ELContext {
 	 *             if key is null or contextObject is null.
 	 */
 	public void putContext(Class<?> key, Object contextObject) {
+		if (context == null) {
+			context = new HashMap<Class<?>, Object>();
+		}
 		context.put(key, contextObject);
 	}
 
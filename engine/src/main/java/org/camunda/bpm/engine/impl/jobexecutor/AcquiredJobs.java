@@ -36,6 +36,8 @@ public class AcquiredJobs {
 
   protected int numberOfJobsFailedToLock = 0;
 
+  protected List<Integer> partitions;
+
   public AcquiredJobs(int numberOfJobsAttemptedToAcquire) {
     this.numberOfJobsAttemptedToAcquire = numberOfJobsAttemptedToAcquire;
   }
@@ -92,4 +94,16 @@ public class AcquiredJobs {
     return numberOfJobsAttemptedToAcquire;
   }
 
+  /**
+   * @return the job partitions the jobs were acquired from or null if
+   *   job partitioning is disabled
+   */
+  public List<Integer> getPartitions() {
+    return partitions;
+  }
+
+  public void setPartitions(List<Integer> partitions) {
+    this.partitions = partitions;
+  }
+
 }
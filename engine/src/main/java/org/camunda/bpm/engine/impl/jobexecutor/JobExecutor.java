@@ -74,6 +74,27 @@ public abstract class JobExecutor {
   protected String lockOwner = UUID.randomUUID().toString();
   protected int lockTimeInMillis = 5 * 60 * 1000;
 
+  /**
+   * Timers that become due within this time are leased in advance and executed at
+   * their due date, instead of in the first acquisition cycle after it. Disabled if
+   * less than or equal to zero.
+   */
+  protected int timerPrefetchTimeInMillis = 0;
+
+  /**
+   * Optional channel to notify the job executors of other nodes about new jobs
+   * and to be notified by them.
+   */
+  protected JobNotificationChannel jobNotificationChannel;
+
+  /**
+   * The time a job executor keeps a lease on a job partition (and announces its
+   * presence to the other nodes) without renewing it. Only relevant if job partitioning
+   * is enabled. Should be greater than {@link #maxWait}, since leases are renewed
+   * during job acquisition.
+   */
+  protected int partitionLeaseTimeInMillis = 2 * 60 * 1000;
+
   public void start() {
     if (isActive) {
       return;
@@ -82,6 +103,9 @@ public abstract class JobExecutor {
     ensureInitialization();
     startExecutingJobs();
     isActive = true;
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.start(this);
+    }
   }
 
   public synchronized void shutdown() {
@@ -89,7 +113,13 @@ public abstract class JobExecutor {
       return;
     }
     LOG.shuttingDownTheJobExecutor(getClass().getName());
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.stop();
+    }
     acquireJobsRunnable.stop();
+    for (ProcessEngineImpl processEngine : processEngines) {
+      releasePrefetchedTimers(processEngine);
+    }
     stopExecutingJobs();
     ensureCleanup();
     isActive = false;
@@ -113,6 +143,16 @@ public abstract class JobExecutor {
     }
   }
 
+  /**
+   * Notifies the job executors of other nodes that new jobs are available,
+   * if a {@link JobNotificationChannel} is configured.
+   */
+  public void notifyJobsAvailable() {
+    if (isActive && jobNotificationChannel != null) {
+      jobNotificationChannel.notifyJobsAvailable();
+    }
+  }
+
   public synchronized void registerProcessEngine(ProcessEngineImpl processEngine) {
     processEngines.add(processEngine);
 
@@ -123,6 +163,9 @@ public abstract class JobExecutor {
   }
 
   public synchronized void unregisterProcessEngine(ProcessEngineImpl processEngine) {
+    if (isActive) {
+      releasePrefetchedTimers(processEngine);
+    }
     processEngines.remove(processEngine);
 
     // if we unregister the last process engine, auto-shutdown the jobexecutor
@@ -131,6 +174,16 @@ public abstract class JobExecutor {
     }
   }
 
+  /**
+   * Releases the leases of the timers prefetched for the process engine, so that
+   * other job executors don't have to wait for the leases to expire.
+   */
+  protected void releasePrefetchedTimers(ProcessEngineImpl processEngine) {
+    if (acquireJobsRunnable instanceof SequentialJobAcquisitionRunnable) {
+      ((SequentialJobAcquisitionRunnable) acquireJobsRunnable).releasePrefetchedTimers(processEngine);
+    }
+  }
+
   protected abstract void startExecutingJobs();
   protected abstract void stopExecutingJobs();
   public abstract void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine);
@@ -154,6 +207,14 @@ public abstract class JobExecutor {
     }
   }
 
+  public void logAcquisitionDuration(ProcessEngineImpl engine, long durationInMicros) {
+    if (engine != null && engine.getProcessEngineConfiguration().isMetricsEnabled()) {
+      engine.getProcessEngineConfiguration()
+        .getMetricsRegistry()
+        .recordValue(Metrics.JOB_ACQUISITION_DURATION, durationInMicros);
+    }
+  }
+
   public void logAcquiredJobs(ProcessEngineImpl engine, int numJobs) {
     if (engine != null && engine.getProcessEngineConfiguration().isMetricsEnabled()) {
       engine.getProcessEngineConfiguration()
@@ -244,6 +305,30 @@ public abstract class JobExecutor {
     this.lockTimeInMillis = lockTimeInMillis;
   }
 
+  public int getPartitionLeaseTimeInMillis() {
+    return partitionLeaseTimeInMillis;
+  }
+
+  public void setPartitionLeaseTimeInMillis(int partitionLeaseTimeInMillis) {
+    this.partitionLeaseTimeInMillis = partitionLeaseTimeInMillis;
+  }
+
+  public int getTimerPrefetchTimeInMillis() {
+    return timerPrefetchTimeInMillis;
+  }
+
+  public void setTimerPrefetchTimeInMillis(int timerPrefetchTimeInMillis) {
+    this.timerPrefetchTimeInMillis = timerPrefetchTimeInMillis;
+  }
+
+  public JobNotificationChannel getJobNotificationChannel() {
+    return jobNotificationChannel;
+  }
+
+  public void setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+    this.jobNotificationChannel = jobNotificationChannel;
+  }
+
   public String getLockOwner() {
     return lockOwner;
   }
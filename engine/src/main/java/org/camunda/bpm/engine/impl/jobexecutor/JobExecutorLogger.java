@@ -217,4 +217,30 @@ public class JobExecutorLogger extends ProcessEngineLogger {
     return new ProcessEngineException(exceptionMessage("031", "Invalid configuration for job executor priority range. Reason: {}", reason));
   }
 
+  public void exceptionInJobNotificationChannel(String channelName, Exception e) {
+    logWarn(
+        "032", "Exception in job notification channel '{}', reconnecting: {}", channelName, e.getMessage(), e);
+  }
+
+  public void skipHistoryPartitionCreation(String partitionName) {
+    logWarn(
+        "033", "Skipping creation of history partition '{}', the default partition already contains rows of its range. "
+            + "These rows are removed by the row-based history cleanup.", partitionName);
+  }
+
+  public void exceptionWhileInitializingJobPartitions(Exception e) {
+    logDebug(
+        "034", "Exception while creating the job partition leases, they are acquired in the next acquisition cycle: {}", e.getMessage(), e);
+  }
+
+  public void exceptionDuringHistoryPartitionMaintenance(Exception e) {
+    logWarn(
+        "035", "Exception during the maintenance of history partitions, expired rows are removed by the row-based history cleanup: {}", e.getMessage(), e);
+  }
+
+  public void exceptionWhileReleasingPrefetchedTimers(Exception e) {
+    logWarn(
+        "036", "Exception while releasing the leases of prefetched timers, they are acquired after the leases expired: {}", e.getMessage(), e);
+  }
+
 }
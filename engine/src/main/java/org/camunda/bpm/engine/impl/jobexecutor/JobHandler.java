@@ -30,6 +30,16 @@ public interface JobHandler<T extends JobHandlerConfiguration> {
 
   void execute(T configuration, ExecutionEntity execution, CommandContext commandContext, String tenantId);
 
+  /**
+   * Invoked before the job is executed by {@link #execute(JobHandlerConfiguration, ExecutionEntity, CommandContext, String)}.
+   *
+   * @param configuration the job handler configuration
+   * @param jobEntity the job entity to be executed
+   */
+  default void preExecute(T configuration, JobEntity jobEntity, CommandContext commandContext) {
+    // nothing to do by default
+  }
+
   T newConfiguration(String canonicalString);
 
   /**
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+/**
+ * <p>Propagates the availability of new jobs between the job executors of a cluster.</p>
+ *
+ * <p>
+ *   Without a channel, a job executor only learns about jobs created on its own node
+ *   immediately ({@link JobExecutor#jobWasAdded()}); jobs created on other nodes are
+ *   found in the next acquisition cycle. With a channel, idle job executors are woken up
+ *   as soon as another node commits new jobs, so that the idle wait time
+ *   ({@link JobExecutor#getMaxWait()}) can be increased without adding latency.
+ * </p>
+ *
+ * @see LoopbackJobNotificationChannel
+ * @see PostgresJobNotificationChannel
+ */
+public interface JobNotificationChannel {
+
+  /**
+   * Subscribes the job executor to notifications of other nodes.
+   * Received notifications are passed on to {@link JobExecutor#jobWasAdded()}.
+   */
+  void start(JobExecutor jobExecutor);
+
+  /**
+   * Cancels the subscription and releases all resources of the channel.
+   */
+  void stop();
+
+  /**
+   * Signals the other nodes that new jobs are available. Called after
+   * the transaction that created the jobs was committed.
+   */
+  void notifyJobsAvailable();
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * {@link JobNotificationChannel} that delivers notifications to all job executors
+ * of the same JVM that subscribed to a channel with the same name. Intended for
+ * testing and for setups that run multiple job executors in a single JVM.
+ */
+public class LoopbackJobNotificationChannel implements JobNotificationChannel {
+
+  public static final String DEFAULT_CHANNEL_NAME = "camunda_jobs";
+
+  protected static final Map<String, Set<LoopbackJobNotificationChannel>> SUBSCRIBERS = new ConcurrentHashMap<>();
+
+  protected String channelName;
+  protected JobExecutor jobExecutor;
+
+  public LoopbackJobNotificationChannel() {
+    this(DEFAULT_CHANNEL_NAME);
+  }
+
+  public LoopbackJobNotificationChannel(String channelName) {
+    this.channelName = channelName;
+  }
+
+  public void start(JobExecutor jobExecutor) {
+    this.jobExecutor = jobExecutor;
+    SUBSCRIBERS.computeIfAbsent(channelName, name -> new CopyOnWriteArraySet<>()).add(this);
+  }
+
+  public void stop() {
+    Set<LoopbackJobNotificationChannel> subscribers = SUBSCRIBERS.get(channelName);
+    if (subscribers != null) {
+      subscribers.remove(this);
+    }
+    jobExecutor = null;
+  }
+
+  public void notifyJobsAvailable() {
+    Set<LoopbackJobNotificationChannel> subscribers = SUBSCRIBERS.get(channelName);
+    if (subscribers != null) {
+      for (LoopbackJobNotificationChannel subscriber : subscribers) {
+        if (subscriber != this) {
+          subscriber.receive();
+        }
+      }
+    }
+  }
+
+  protected void receive() {
+    JobExecutor jobExecutor = this.jobExecutor;
+    if (jobExecutor != null) {
+      jobExecutor.jobWasAdded();
+    }
+  }
+
+  public String getChannelName() {
+    return channelName;
+  }
+
+}
@@ -37,5 +37,6 @@ public class MessageAddedNotification implements TransactionListener {
   public void execute(CommandContext commandContext) {
     LOG.debugNotifyingJobExecutor("notifying job executor of new job");
     jobExecutor.jobWasAdded();
+    jobExecutor.notifyJobsAvailable();
   }
 }
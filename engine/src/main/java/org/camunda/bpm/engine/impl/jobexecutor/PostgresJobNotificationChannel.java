@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * <p>{@link JobNotificationChannel} based on PostgreSQL's <code>LISTEN</code> / <code>NOTIFY</code>.</p>
+ *
+ * <p>
+ *   The channel holds a dedicated connection of the given data source on which it listens
+ *   for notifications and publishes its own. Publishing happens asynchronously on the
+ *   listener thread, so multiple notifications requested in between two polls are
+ *   coalesced into a single <code>NOTIFY</code>. Notifications sent by the channel itself
+ *   are ignored. If the connection fails, it is re-established after
+ *   {@link #reconnectDelayInMillis} and the job executor is woken up, since
+ *   notifications may have been missed in between.
+ * </p>
+ *
+ * <p>
+ *   Requires the PostgreSQL JDBC driver, which is accessed reflectively.
+ * </p>
+ */
+public class PostgresJobNotificationChannel implements JobNotificationChannel, Runnable {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final String DEFAULT_CHANNEL_NAME = "camunda_jobs";
+
+  protected static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+  protected static final String PG_NOTIFICATION_CLASS = "org.postgresql.PGNotification";
+
+  protected DataSource dataSource;
+  protected String channelName;
+
+  protected int pollTimeInMillis = 100;
+  protected int reconnectDelayInMillis = 5000;
+
+  protected AtomicBoolean notificationRequested = new AtomicBoolean(false);
+  protected volatile boolean isActive = false;
+  protected JobExecutor jobExecutor;
+  protected Thread listenerThread;
+
+  public PostgresJobNotificationChannel(DataSource dataSource) {
+    this(dataSource, DEFAULT_CHANNEL_NAME);
+  }
+
+  public PostgresJobNotificationChannel(DataSource dataSource, String channelName) {
+    this.dataSource = dataSource;
+    this.channelName = channelName;
+  }
+
+  public synchronized void start(JobExecutor jobExecutor) {
+    if (isActive) {
+      return;
+    }
+    this.jobExecutor = jobExecutor;
+    isActive = true;
+
+    listenerThread = new Thread(this, "JobNotificationChannel[" + channelName + "]");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  public synchronized void stop() {
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+    listenerThread.interrupt();
+    try {
+      listenerThread.join();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    listenerThread = null;
+    jobExecutor = null;
+  }
+
+  public void notifyJobsAvailable() {
+    notificationRequested.set(true);
+  }
+
+  public void run() {
+    while (isActive) {
+      try (Connection connection = dataSource.getConnection()) {
+        listen(connection);
+      }
+      catch (Exception e) {
+        if (isActive) {
+          LOG.exceptionInJobNotificationChannel(channelName, e);
+          sleep(reconnectDelayInMillis);
+        }
+      }
+    }
+  }
+
+  protected void listen(Connection connection) throws Exception {
+    connection.setAutoCommit(true);
+    execute(connection, "LISTEN " + channelName);
+
+    Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS, true, connection.getClass().getClassLoader());
+    Class<?> pgNotificationClass = Class.forName(PG_NOTIFICATION_CLASS, true, connection.getClass().getClassLoader());
+    Object pgConnection = connection.unwrap(pgConnectionClass);
+    Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+    Method getBackendPid = pgConnectionClass.getMethod("getBackendPID");
+    Method getPid = pgNotificationClass.getMethod("getPID");
+
+    int ownPid = (Integer) getBackendPid.invoke(pgConnection);
+
+    // notifications may have been missed while not listening
+    jobWasAdded();
+
+    while (isActive) {
+      if (notificationRequested.getAndSet(false)) {
+        execute(connection, "NOTIFY " + channelName);
+      }
+
+      Object notifications = getNotifications.invoke(pgConnection, pollTimeInMillis);
+      if (notifications != null) {
+        for (int i = 0; i < Array.getLength(notifications); i++) {
+          int pid = (Integer) getPid.invoke(Array.get(notifications, i));
+          if (pid != ownPid) {
+            jobWasAdded();
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  protected void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  protected void jobWasAdded() {
+    JobExecutor jobExecutor = this.jobExecutor;
+    if (jobExecutor != null) {
+      jobExecutor.jobWasAdded();
+    }
+  }
+
+  protected void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e) {
+      // stopped
+    }
+  }
+
+  public String getChannelName() {
+    return channelName;
+  }
+
+  public int getPollTimeInMillis() {
+    return pollTimeInMillis;
+  }
+
+  public void setPollTimeInMillis(int pollTimeInMillis) {
+    this.pollTimeInMillis = pollTimeInMillis;
+  }
+
+  public int getReconnectDelayInMillis() {
+    return reconnectDelayInMillis;
+  }
+
+  public void setReconnectDelayInMillis(int reconnectDelayInMillis) {
+    this.reconnectDelayInMillis = reconnectDelayInMillis;
+  }
+
+}
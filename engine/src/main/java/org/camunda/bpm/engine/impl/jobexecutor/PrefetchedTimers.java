@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Timers a job executor has prefetched (and leased) ahead of their due date,
+ * ordered by due date.</p>
+ *
+ * <p>The number of timers is bounded by the prefetch window, so a binary heap gives
+ * constant-time access to the next due date and logarithmic insertion and removal.</p>
+ */
+public class PrefetchedTimers {
+
+  protected PriorityQueue<PrefetchedTimer> timers = new PriorityQueue<>(
+      Comparator.comparingLong(PrefetchedTimer::getDuedate));
+
+  public synchronized void add(PrefetchedTimer timer) {
+    timers.add(timer);
+  }
+
+  /**
+   * Removes and returns all timers that are due at the given time.
+   */
+  public synchronized List<PrefetchedTimer> pollDue(long now) {
+    List<PrefetchedTimer> dueTimers = new ArrayList<>();
+    while (!timers.isEmpty() && timers.peek().getDuedate() <= now) {
+      dueTimers.add(timers.poll());
+    }
+    return dueTimers;
+  }
+
+  /**
+   * @return the due date of the next timer or {@link Long#MAX_VALUE} if there is none
+   */
+  public synchronized long getNextDuedate() {
+    return timers.isEmpty() ? Long.MAX_VALUE : timers.peek().getDuedate();
+  }
+
+  /**
+   * Removes and returns the timers that belong to none of the given partitions.
+   * Timers that belong to no partition at all are kept.
+   */
+  public synchronized List<PrefetchedTimer> removeOutsidePartitions(Collection<Integer> partitions) {
+    List<PrefetchedTimer> removedTimers = new ArrayList<>();
+    Iterator<PrefetchedTimer> iterator = timers.iterator();
+    while (iterator.hasNext()) {
+      PrefetchedTimer timer = iterator.next();
+      if (timer.getPartition() != null && !partitions.contains(timer.getPartition())) {
+        removedTimers.add(timer);
+        iterator.remove();
+      }
+    }
+    return removedTimers;
+  }
+
+  public synchronized void removeAll(Collection<PrefetchedTimer> timersToRemove) {
+    timers.removeAll(timersToRemove);
+  }
+
+  /**
+   * @return a copy of the timers, in no particular order
+   */
+  public synchronized List<PrefetchedTimer> getTimers() {
+    return new ArrayList<>(timers);
+  }
+
+  public synchronized int size() {
+    return timers.size();
+  }
+
+  /**
+   * Removes and returns all timers.
+   */
+  public synchronized List<PrefetchedTimer> clear() {
+    List<PrefetchedTimer> removedTimers = new ArrayList<>(timers);
+    timers.clear();
+    return removedTimers;
+  }
+
+  public static class PrefetchedTimer {
+
+    protected String id;
+    protected int revision;
+    protected long duedate;
+    protected Integer partition;
+
+    public PrefetchedTimer(String id, int revision, long duedate) {
+      this(id, revision, duedate, null);
+    }
+
+    public PrefetchedTimer(String id, int revision, long duedate, Integer partition) {
+      this.id = id;
+      this.revision = revision;
+      this.duedate = duedate;
+      this.partition = partition;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    /**
+     * @return the revision of the job after it was leased; a different revision
+     *   means the job was modified in the meantime
+     */
+    public int getRevision() {
+      return revision;
+    }
+
+    public long getDuedate() {
+      return duedate;
+    }
+
+    /**
+     * @return the job partition of the timer or null if it belongs to no partition
+     */
+    public Integer getPartition() {
+      return partition;
+    }
+
+    @Override
+    public String toString() {
+      return "PrefetchedTimer[id=" + id + ", revision=" + revision + ", duedate=" + duedate + ", partition=" + partition + "]";
+    }
+  }
+
+}
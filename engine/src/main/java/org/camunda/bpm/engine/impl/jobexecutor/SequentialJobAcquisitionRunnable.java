@@ -18,12 +18,21 @@ package org.camunda.bpm.engine.impl.jobexecutor;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.ProcessEngineImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.AcquireJobPartitionsCmd;
+import org.camunda.bpm.engine.impl.cmd.AcquirePrefetchedTimersCmd;
+import org.camunda.bpm.engine.impl.cmd.PrefetchTimersCmd;
+import org.camunda.bpm.engine.impl.cmd.ReleasePrefetchedTimersCmd;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers.PrefetchedTimer;
 import org.camunda.bpm.engine.impl.util.ClassLoaderUtil;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
 
 
 /**
@@ -50,6 +59,9 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
   protected JobAcquisitionContext acquisitionContext;
 
+  // accessed by the threads that unregister process engines as well
+  protected Map<String, PrefetchedTimers> prefetchedTimersByEngine = new ConcurrentHashMap<>();
+
   public SequentialJobAcquisitionRunnable(JobExecutor jobExecutor) {
     super(jobExecutor);
     acquisitionContext = initializeAcquisitionContext();
@@ -79,6 +91,10 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
           AcquiredJobs acquiredJobs = acquireJobs(acquisitionContext, acquisitionStrategy, currentProcessEngine);
           executeJobs(acquisitionContext, currentProcessEngine, acquiredJobs);
+
+          if (jobExecutor.getTimerPrefetchTimeInMillis() > 0) {
+            acquireAndPrefetchTimers(currentProcessEngine, acquiredJobs);
+          }
         }
       } catch (Exception e) {
         LOG.exceptionDuringJobAcquisition(e);
@@ -96,7 +112,7 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
       //reconfigure with this flag
       clearJobAddedNotification();
 
-      long waitTime = acquisitionStrategy.getWaitTime();
+      long waitTime = Math.min(acquisitionStrategy.getWaitTime(), getWaitTimeForPrefetchedTimers());
       // wait the requested wait time minus the time that acquisition itself took
       // this makes the intervals of job acquisition more constant and therefore predictable
       waitTime = Math.max(0, (acquisitionContext.getAcquisitionTime() + waitTime) - System.currentTimeMillis());
@@ -148,6 +164,110 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
     }
   }
 
+  /**
+   * Executes the prefetched timers that are due and prefetches the timers that become due
+   * within the prefetch window, up to the maximum number of jobs per acquisition.
+   * Prefetched timers that were modified or whose partition is no longer leased are dropped
+   * and their leases are released.
+   */
+  protected void acquireAndPrefetchTimers(ProcessEngineImpl currentProcessEngine, AcquiredJobs acquiredJobs) {
+    CommandExecutor commandExecutor = currentProcessEngine.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired();
+    PrefetchedTimers prefetchedTimers = prefetchedTimersByEngine
+        .computeIfAbsent(currentProcessEngine.getName(), name -> new PrefetchedTimers());
+
+    List<Integer> partitions = getPartitions(currentProcessEngine, acquiredJobs);
+    if (partitions != null) {
+      List<PrefetchedTimer> timersOfLostPartitions = prefetchedTimers.removeOutsidePartitions(partitions);
+      if (!timersOfLostPartitions.isEmpty()) {
+        commandExecutor.execute(new ReleasePrefetchedTimersCmd(jobExecutor, timersOfLostPartitions, false));
+      }
+    }
+
+    if (prefetchedTimers.size() > 0) {
+      List<PrefetchedTimer> modifiedTimers = commandExecutor
+          .execute(new ReleasePrefetchedTimersCmd(jobExecutor, prefetchedTimers.getTimers(), true));
+      prefetchedTimers.removeAll(modifiedTimers);
+    }
+
+    List<PrefetchedTimer> dueTimers = prefetchedTimers.pollDue(ClockUtil.getCurrentTime().getTime());
+    if (!dueTimers.isEmpty()) {
+      AcquiredJobs acquiredTimers = commandExecutor.execute(new AcquirePrefetchedTimersCmd(jobExecutor, dueTimers));
+      for (List<String> jobIds : acquiredTimers.getJobIdBatches()) {
+        LOG.executeJobs(currentProcessEngine.getName(), jobIds);
+
+        jobExecutor.executeJobs(jobIds, currentProcessEngine);
+      }
+    }
+
+    int numTimersToPrefetch = jobExecutor.getMaxJobsPerAcquisition() - prefetchedTimers.size();
+    if (numTimersToPrefetch > 0) {
+      List<PrefetchedTimer> timers = commandExecutor.execute(new PrefetchTimersCmd(jobExecutor, numTimersToPrefetch, partitions));
+      for (PrefetchedTimer timer : timers) {
+        prefetchedTimers.add(timer);
+      }
+    }
+  }
+
+  /**
+   * @return the job partitions leased in the current acquisition cycle or null if
+   *   job partitioning is disabled
+   */
+  protected List<Integer> getPartitions(ProcessEngineImpl currentProcessEngine, AcquiredJobs acquiredJobs) {
+    ProcessEngineConfigurationImpl configuration = currentProcessEngine.getProcessEngineConfiguration();
+    int partitionCount = configuration.getJobExecutorPartitionCount();
+    if (partitionCount <= 0) {
+      return null;
+    }
+
+    if (acquiredJobs.getPartitions() != null) {
+      return acquiredJobs.getPartitions();
+    }
+
+    // no jobs were acquired in this cycle; the leases are flushed in their own
+    // transaction, so that only successfully leased partitions are returned
+    return configuration.getCommandExecutorTxRequiresNew()
+        .execute(new AcquireJobPartitionsCmd(jobExecutor, partitionCount));
+  }
+
+  /**
+   * Drops the prefetched timers of the process engine and releases their leases,
+   * so that other job executors can acquire them at their due date.
+   */
+  public void releasePrefetchedTimers(ProcessEngineImpl processEngine) {
+    PrefetchedTimers prefetchedTimers = prefetchedTimersByEngine.remove(processEngine.getName());
+    if (prefetchedTimers == null) {
+      return;
+    }
+
+    List<PrefetchedTimer> timers = prefetchedTimers.clear();
+    if (!timers.isEmpty()) {
+      try {
+        processEngine.getProcessEngineConfiguration()
+          .getCommandExecutorTxRequired()
+          .execute(new ReleasePrefetchedTimersCmd(jobExecutor, timers, false));
+      }
+      catch (RuntimeException e) {
+        LOG.exceptionWhileReleasingPrefetchedTimers(e);
+      }
+    }
+  }
+
+  /**
+   * @return the time until the next prefetched timer is due
+   */
+  protected long getWaitTimeForPrefetchedTimers() {
+    long nextDuedate = Long.MAX_VALUE;
+    for (PrefetchedTimers prefetchedTimers : prefetchedTimersByEngine.values()) {
+      nextDuedate = Math.min(nextDuedate, prefetchedTimers.getNextDuedate());
+    }
+
+    if (nextDuedate == Long.MAX_VALUE) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(0, nextDuedate - ClockUtil.getCurrentTime().getTime());
+  }
+
   protected AcquiredJobs acquireJobs(
       JobAcquisitionContext context,
       JobAcquisitionStrategy acquisitionStrategy,
@@ -161,7 +281,9 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
     if (numJobsToAcquire > 0) {
       jobExecutor.logAcquisitionAttempt(currentProcessEngine);
+      long startTime = System.nanoTime();
       acquiredJobs = commandExecutor.execute(jobExecutor.getAcquireJobsCmd(numJobsToAcquire));
+      jobExecutor.logAcquisitionDuration(currentProcessEngine, (System.nanoTime() - startTime) / 1000);
     }
     else {
       acquiredJobs = new AcquiredJobs(numJobsToAcquire);
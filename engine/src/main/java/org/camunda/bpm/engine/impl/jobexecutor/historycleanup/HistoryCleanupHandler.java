@@ -48,6 +48,14 @@ public abstract class HistoryCleanupHandler implements TransactionListener {
 
   abstract boolean shouldRescheduleNow();
 
+  /**
+   * Updates the job handler configuration for the next run; the configuration is
+   * persisted when the job is rescheduled.
+   */
+  void prepareNextRun() {
+    // nothing to do by default
+  }
+
   public HistoryCleanupJobHandlerConfiguration getConfiguration() {
     return configuration;
   }
@@ -73,6 +81,7 @@ public abstract class HistoryCleanupHandler implements TransactionListener {
 
       Map<String, Long> report = reportMetrics();
       boolean isRescheduleNow = shouldRescheduleNow();
+      prepareNextRun();
 
       new HistoryCleanupSchedulerCmd(isRescheduleNow, report, configuration, jobId).execute(commandContext);
 
@@ -34,6 +34,7 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
   public static final String JOB_CONFIG_EXECUTE_AT_ONCE = "immediatelyDue";
   public static final String JOB_CONFIG_MINUTE_FROM = "minuteFrom";
   public static final String JOB_CONFIG_MINUTE_TO = "minuteTo";
+  public static final String JOB_CONFIG_BATCH_SIZE = "batchSize";
 
   /**
    * Counts runs without data. Is used within batch window to calculate the delay between two job runs in case no data for cleanup was found.
@@ -52,6 +53,11 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
 
   private int minuteTo = 59;
 
+  /**
+   * Batch size adapted to the duration of the previous runs, 0 if the configured batch size is used.
+   */
+  private int batchSize = 0;
+
   public HistoryCleanupJobHandlerConfiguration() {
   }
 
@@ -62,6 +68,9 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
     JsonUtil.addField(json, JOB_CONFIG_EXECUTE_AT_ONCE, immediatelyDue);
     JsonUtil.addField(json, JOB_CONFIG_MINUTE_FROM, minuteFrom);
     JsonUtil.addField(json, JOB_CONFIG_MINUTE_TO, minuteTo);
+    if (batchSize > 0) {
+      JsonUtil.addField(json, JOB_CONFIG_BATCH_SIZE, batchSize);
+    }
     return json.toString();
   }
 
@@ -75,6 +84,9 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
     }
     config.setMinuteFrom(JsonUtil.getInt(jsonObject, JOB_CONFIG_MINUTE_FROM));
     config.setMinuteTo(JsonUtil.getInt(jsonObject, JOB_CONFIG_MINUTE_TO));
+    if (jsonObject.has(JOB_CONFIG_BATCH_SIZE)) {
+      config.setBatchSize(JsonUtil.getInt(jsonObject, JOB_CONFIG_BATCH_SIZE));
+    }
     return config;
   }
 
@@ -126,5 +138,13 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
   public void setMinuteTo(int minuteTo) {
     this.minuteTo = minuteTo;
   }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
 }
 
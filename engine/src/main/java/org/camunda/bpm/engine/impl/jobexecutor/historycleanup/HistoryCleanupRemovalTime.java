@@ -19,12 +19,17 @@ package org.camunda.bpm.engine.impl.jobexecutor.historycleanup;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.batch.history.HistoricBatchEntity;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.MaintainHistoryPartitionsCmd;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.history.event.HistoricDecisionInstanceEntity;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskMeterLogEntity;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.management.Metrics;
@@ -34,9 +39,20 @@ import org.camunda.bpm.engine.management.Metrics;
  */
 public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
 
+  protected static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
   protected Map<Class<? extends DbEntity>, DbOperation> deleteOperations = new HashMap<>();
 
+  protected int batchSize;
+  protected long startTime;
+
   public void performCleanup() {
+    batchSize = resolveBatchSize();
+    // the deletes are flushed on commit, so the duration is measured until the handler is notified
+    startTime = System.currentTimeMillis();
+
+    performPartitionMaintenance();
+
     deleteOperations.putAll(performProcessCleanup());
 
     if (isDmnEnabled()) {
@@ -52,6 +68,27 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
     }
   }
 
+  /**
+   * Drops the expired partitions of partitioned history tables, which removes their rows without
+   * row-by-row deletes, and creates upcoming partitions. Only performed by the job of the first
+   * minute slice to avoid concurrent DDL. The maintenance runs in a separate transaction, a failure
+   * doesn't roll back the cleanup.
+   */
+  protected void performPartitionMaintenance() {
+    HistoryPartitionManager partitionManager = Context.getCommandContext().getHistoryPartitionManager();
+
+    if (configuration.getMinuteFrom() == 0 && partitionManager.isHistoryPartitioningSupported()) {
+      try {
+        Context.getProcessEngineConfiguration()
+          .getCommandExecutorTxRequiresNew()
+          .execute(new MaintainHistoryPartitionsCmd(ClockUtil.getCurrentTime()));
+      }
+      catch (RuntimeException e) {
+        LOG.exceptionDuringHistoryPartitionMaintenance(e);
+      }
+    }
+  }
+
   protected Map<Class<? extends DbEntity>, DbOperation> performDmnCleanup() {
     return Context
         .getCommandContext()
@@ -123,8 +160,6 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
   }
 
   protected boolean shouldRescheduleNow() {
-    int batchSize = getBatchSize();
-
     for (DbOperation deleteOperation : deleteOperations.values()) {
       if (deleteOperation.getRowsAffected() == batchSize) {
         return true;
@@ -135,9 +170,41 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
   }
 
   public int getBatchSize() {
-    return Context
-        .getProcessEngineConfiguration()
-        .getHistoryCleanupBatchSize();
+    return batchSize;
+  }
+
+  protected int resolveBatchSize() {
+    ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
+    if (engineConfiguration.isHistoryCleanupAdaptiveBatchSizeEnabled() && configuration.getBatchSize() > 0) {
+      return Math.min(configuration.getBatchSize(), engineConfiguration.getHistoryCleanupAdaptiveBatchSizeMax());
+    }
+    return engineConfiguration.getHistoryCleanupBatchSize();
+  }
+
+  void prepareNextRun() {
+    ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
+    if (engineConfiguration.isHistoryCleanupAdaptiveBatchSizeEnabled() && batchSize > 0) {
+      long duration = System.currentTimeMillis() - startTime;
+      configuration.setBatchSize(calculateNextBatchSize(duration, engineConfiguration));
+    }
+  }
+
+  /**
+   * Doubles the batch size after a full run that took less than half of the target duration and
+   * halves it after a run that exceeded the target duration.
+   */
+  protected int calculateNextBatchSize(long duration, ProcessEngineConfigurationImpl engineConfiguration) {
+    long targetDuration = engineConfiguration.getHistoryCleanupAdaptiveBatchDurationInMillis();
+
+    if (duration > targetDuration) {
+      return Math.max(1, batchSize / 2);
+    }
+    else if (duration * 2 < targetDuration && shouldRescheduleNow()) {
+      return (int) Math.min((long) batchSize * 2, engineConfiguration.getHistoryCleanupAdaptiveBatchSizeMax());
+    }
+    else {
+      return batchSize;
+    }
   }
 
 }
@@ -16,24 +16,39 @@
 package org.camunda.bpm.engine.impl.juel;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 
 /**
  * Simple (thread-safe) LRU cache.
- * After the cache size reached a certain limit, the least recently used entry is removed,
- * when adding a new entry.
+ * After the cache size reached a certain limit, a least recently used entry is removed,
+ * when adding a new entry. Lookups do not lock; recency is approximated by a
+ * second-chance (clock) policy instead of an access-ordered map.
  *
  * @author Christoph Beck
  */
 public final class Cache implements TreeCache {
-  private final Map<String,Tree> primary;
+  private final Map<String,Entry> primary;
+  private final Queue<String> order;
+  private final AtomicInteger primarySize;
+  private final int size;
   private final Map<String,Tree> secondary;
 
+  private static final class Entry {
+    private final Tree tree;
+    private volatile boolean used;
+
+    Entry(Tree tree) {
+      this.tree = tree;
+    }
+  }
+
   /**
    * Constructor.
    * Use a {@link WeakHashMap} as secondary map.
@@ -50,36 +65,58 @@ public final class Cache implements TreeCache {
    * @param size maximum primary cache size
 	 * @param secondary the secondary map (may be <code>null</code>)
 	 */
-	@SuppressWarnings("serial")
-	public Cache(final int size, Map<String,Tree> secondary) {
-		this.primary = Collections.synchronizedMap(new LinkedHashMap<String,Tree>(16, 0.75f, true) {
-			@Override
-			protected boolean removeEldestEntry(Entry<String,Tree> eldest) {
-				if (size() > size) {
-					if (Cache.this.secondary != null) { // move to secondary cache
-						Cache.this.secondary.put(eldest.getKey(), eldest.getValue());
-					}
-					return true;
-				}
-				return false;
-			}
-		});
+	public Cache(int size, Map<String,Tree> secondary) {
+		this.primary = new ConcurrentHashMap<String,Entry>(Math.min(size, 1024));
+		this.order = new ConcurrentLinkedQueue<String>();
+		this.primarySize = new AtomicInteger();
+		this.size = size;
 		this.secondary = secondary == null ? null : Collections.synchronizedMap(secondary);
 	}
 
 	public Tree get(String expression) {
-		if (secondary == null) {
-			return primary.get(expression);
-		} else {
-			Tree tree = primary.get(expression);
-			if (tree == null) {
-				tree = secondary.get(expression);
+		Entry entry = primary.get(expression);
+		if (entry != null) {
+			if (!entry.used) {
+				entry.used = true;
 			}
-			return tree;
+			return entry.tree;
 		}
+		return secondary == null ? null : secondary.get(expression);
 	}
 
 	public void put(String expression, Tree tree) {
-		primary.put(expression, tree);
+		if (primary.put(expression, new Entry(tree)) == null) {
+			order.offer(expression);
+			if (primarySize.incrementAndGet() > size) {
+				removeEldest();
+			}
+		}
+	}
+
+	/**
+	 * Remove an entry which has not been used since it was last visited, giving recently used
+	 * entries a second chance. Removed entries are moved to the secondary map.
+	 */
+	private void removeEldest() {
+		for (int visited = 0; ; visited++) {
+			String expression = order.poll();
+			if (expression == null) {
+				return;
+			}
+			Entry entry = primary.get(expression);
+			if (entry != null && entry.used && visited < 2 * size) {
+				entry.used = false;
+				order.offer(expression);
+				continue;
+			}
+			entry = primary.remove(expression);
+			if (entry != null) {
+				primarySize.decrementAndGet();
+				if (secondary != null) { // move to secondary cache
+					secondary.put(expression, entry.tree);
+				}
+			}
+			return;
+		}
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative long values with a fixed relative precision, in
+ * the spirit of an HDR histogram.
+ *
+ * <p>Values below {@link #SUB_BUCKET_COUNT} are counted exactly. Larger values are
+ * counted in buckets of exponentially growing width, with {@link #SUB_BUCKET_COUNT}
+ * linear sub-buckets per power of two, so that the error of a reported percentile
+ * is below 1 / {@link #SUB_BUCKET_COUNT} of its value.</p>
+ *
+ * <p>Recording is lock-free: every bucket is a {@link LongAdder}.</p>
+ */
+public class Histogram {
+
+  protected static final int SUB_BUCKET_BITS = 5;
+  protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  protected static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  protected String name;
+
+  protected LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+  protected LongAdder totalValue = new LongAdder();
+  protected LongAccumulator minValue = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  protected LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+  public Histogram(String name) {
+    this.name = name;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  public void recordValue(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+
+    counts[getBucketIndex(value)].increment();
+    totalValue.add(value);
+    minValue.accumulate(value);
+    maxValue.accumulate(value);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return a consistent copy of the recorded values; may miss values that are recorded concurrently
+   */
+  public HistogramSnapshotImpl getSnapshot() {
+    long[] bucketCounts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = counts[i].sum();
+      count += bucketCounts[i];
+    }
+
+    long min = count > 0 ? minValue.get() : 0;
+    long max = maxValue.get();
+
+    return new HistogramSnapshotImpl(name, bucketCounts, count, totalValue.sum(), min, max);
+  }
+
+  public void reset() {
+    for (LongAdder bucketCount : counts) {
+      bucketCount.reset();
+    }
+    totalValue.reset();
+    minValue.reset();
+    maxValue.reset();
+  }
+
+  public static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the highest value that is counted in the bucket with the given index
+   */
+  public static long getHighestValueOfBucket(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+
+    int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+    long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    long lowestValue = subBucket << shift;
+    return lowestValue + (1L << shift) - 1;
+  }
+
+}
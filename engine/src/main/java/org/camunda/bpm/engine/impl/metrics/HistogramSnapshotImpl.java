@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics;
+
+import org.camunda.bpm.engine.management.HistogramSnapshot;
+
+public class HistogramSnapshotImpl implements HistogramSnapshot {
+
+  protected String name;
+  protected long[] bucketCounts;
+  protected long count;
+  protected long total;
+  protected long min;
+  protected long max;
+
+  public HistogramSnapshotImpl(String name, long[] bucketCounts, long count, long total, long min, long max) {
+    this.name = name;
+    this.bucketCounts = bucketCounts;
+    this.count = count;
+    this.total = total;
+    this.min = min;
+    this.max = max;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public long getTotal() {
+    return total;
+  }
+
+  @Override
+  public long getMin() {
+    return min;
+  }
+
+  @Override
+  public long getMax() {
+    return max;
+  }
+
+  @Override
+  public double getMean() {
+    return count > 0 ? (double) total / count : 0;
+  }
+
+  @Override
+  public long getValueAtPercentile(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+
+    double boundedPercentile = Math.min(Math.max(percentile, 0), 100);
+    long countAtPercentile = Math.max(1, (long) Math.ceil(boundedPercentile / 100 * count));
+
+    long seen = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      seen += bucketCounts[i];
+      if (seen >= countAtPercentile) {
+        return Math.min(Histogram.getHighestValueOfBucket(i), max);
+      }
+    }
+
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return "HistogramSnapshotImpl ["
+        + "name=" + name
+        + ", count=" + count
+        + ", min=" + min
+        + ", max=" + max
+        + ", mean=" + getMean()
+        + "]";
+  }
+
+}
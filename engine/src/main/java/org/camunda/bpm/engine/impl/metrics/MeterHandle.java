@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics;
+
+/**
+ * A pre-resolved reference to the database and telemetry {@link Meter} of a metric,
+ * such that marking an occurrence needs no lookup by name.
+ */
+public class MeterHandle {
+
+  protected Meter dbMeter;
+  protected Meter telemetryMeter;
+
+  public MeterHandle(Meter dbMeter, Meter telemetryMeter) {
+    this.dbMeter = dbMeter;
+    this.telemetryMeter = telemetryMeter;
+  }
+
+  public void mark() {
+    markTimes(1);
+  }
+
+  public void markTimes(long times) {
+    if (dbMeter != null) {
+      dbMeter.markTimes(times);
+    }
+    if (telemetryMeter != null) {
+      telemetryMeter.markTimes(times);
+    }
+  }
+
+  public Meter getDbMeter() {
+    return dbMeter;
+  }
+
+  public Meter getTelemetryMeter() {
+    return telemetryMeter;
+  }
+
+}
@@ -32,4 +32,14 @@ public class MetricsLogger extends ProcessEngineLogger {
         "001", "Could not collect and log metrics", e);
   }
 
+  public void couldNotRegisterCommandStatisticsMBean(String processEngineName, Exception e) {
+    logWarn(
+        "002", "Could not register command statistics MBean for process engine '{}'", processEngineName, e);
+  }
+
+  public void couldNotUnregisterCommandStatisticsMBean(String objectName, Exception e) {
+    logWarn(
+        "003", "Could not unregister command statistics MBean '{}'", objectName, e);
+  }
+
 }
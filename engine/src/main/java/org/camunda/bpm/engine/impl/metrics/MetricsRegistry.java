@@ -27,6 +27,8 @@ public class MetricsRegistry {
 
   protected Map<String, Meter> dbMeters = new HashMap<>();
   protected Map<String, Meter> telemetryMeters = new HashMap<>();
+  protected Map<String, MeterHandle> meterHandles = new HashMap<>();
+  protected Map<String, Histogram> histograms = new HashMap<>();
 
   public Meter getDbMeterByName(String name) {
     return dbMeters.get(name);
@@ -49,8 +51,11 @@ public class MetricsRegistry {
   }
 
   public void markOccurrence(String name, long times) {
-    markOccurrence(dbMeters, name, times);
-    markOccurrence(telemetryMeters, name, times);
+    MeterHandle meterHandle = meterHandles.get(name);
+
+    if (meterHandle != null) {
+      meterHandle.markTimes(times);
+    }
   }
 
   public void markTelemetryOccurrence(String name, long times) {
@@ -74,6 +79,8 @@ public class MetricsRegistry {
 
     Meter telemetryMeter = new Meter(name);
     telemetryMeters.put(name, telemetryMeter);
+
+    meterHandles.put(name, new MeterHandle(dbMeter, telemetryMeter));
   }
 
   /**
@@ -82,5 +89,30 @@ public class MetricsRegistry {
   public void createDbMeter(String name) {
     Meter dbMeter = new Meter(name);
     dbMeters.put(name, dbMeter);
+
+    meterHandles.put(name, new MeterHandle(dbMeter, telemetryMeters.get(name)));
+  }
+
+  /**
+   * Creates a histogram that is kept in memory only.
+   */
+  public void createHistogram(String name) {
+    histograms.put(name, new Histogram(name));
+  }
+
+  public Histogram getHistogram(String name) {
+    return histograms.get(name);
+  }
+
+  public Map<String, Histogram> getHistograms() {
+    return histograms;
+  }
+
+  public void recordValue(String name, long value) {
+    Histogram histogram = histograms.get(name);
+
+    if (histogram != null) {
+      histogram.recordValue(value);
+    }
   }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of all executions of a command since the recorder was created
+ * or last reset.
+ */
+public class CommandAggregateStatistics {
+
+  protected final String commandName;
+
+  protected long count;
+  protected long failedCount;
+  protected long durationNanos;
+  protected long maxDurationNanos;
+  protected long flushNanos;
+  protected long commitNanos;
+
+  protected Map<String, SqlStatementStatistics> sqlStatements = new HashMap<>();
+
+  public CommandAggregateStatistics(String commandName) {
+    this.commandName = commandName;
+  }
+
+  protected CommandAggregateStatistics(CommandAggregateStatistics other) {
+    this.commandName = other.commandName;
+    this.count = other.count;
+    this.failedCount = other.failedCount;
+    this.durationNanos = other.durationNanos;
+    this.maxDurationNanos = other.maxDurationNanos;
+    this.flushNanos = other.flushNanos;
+    this.commitNanos = other.commitNanos;
+    for (SqlStatementStatistics statement : other.sqlStatements.values()) {
+      this.sqlStatements.put(statement.getStatementId(), statement.copy());
+    }
+  }
+
+  public synchronized void add(CommandExecutionStatistics execution) {
+    count++;
+    if (execution.isFailed()) {
+      failedCount++;
+    }
+    durationNanos += execution.getDurationNanos();
+    maxDurationNanos = Math.max(maxDurationNanos, execution.getDurationNanos());
+    flushNanos += execution.getFlushNanos();
+    commitNanos += execution.getCommitNanos();
+
+    for (SqlStatementStatistics statement : execution.getSqlStatements()) {
+      SqlStatementStatistics aggregate = sqlStatements.get(statement.getStatementId());
+      if (aggregate == null) {
+        sqlStatements.put(statement.getStatementId(), statement.copy());
+      } else {
+        aggregate.add(statement);
+      }
+    }
+  }
+
+  /**
+   * @return a consistent copy of this aggregate
+   */
+  public synchronized CommandAggregateStatistics copy() {
+    return new CommandAggregateStatistics(this);
+  }
+
+  public String getCommandName() {
+    return commandName;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getFailedCount() {
+    return failedCount;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  public long getMaxDurationNanos() {
+    return maxDurationNanos;
+  }
+
+  public long getExecutionNanos() {
+    return Math.max(0, durationNanos - flushNanos - commitNanos);
+  }
+
+  public long getFlushNanos() {
+    return flushNanos;
+  }
+
+  public long getCommitNanos() {
+    return commitNanos;
+  }
+
+  public long getSqlStatementCount() {
+    long sqlCount = 0;
+    for (SqlStatementStatistics statement : sqlStatements.values()) {
+      sqlCount += statement.getCount();
+    }
+    return sqlCount;
+  }
+
+  public List<SqlStatementStatistics> getSqlStatements() {
+    return new ArrayList<>(sqlStatements.values());
+  }
+
+  public SqlStatementStatistics getSqlStatement(String statementId) {
+    return sqlStatements.get(statementId);
+  }
+
+  @Override
+  public String toString() {
+    long mean = count == 0 ? 0 : durationNanos / count;
+    long sqlPerCommand = count == 0 ? 0 : getSqlStatementCount() / count;
+    return commandName
+        + ": count=" + count
+        + ", failed=" + failedCount
+        + ", meanMs=" + toMillis(mean)
+        + ", maxMs=" + toMillis(maxDurationNanos)
+        + ", executionMs=" + toMillis(getExecutionNanos())
+        + ", flushMs=" + toMillis(flushNanos)
+        + ", commitMs=" + toMillis(commitNanos)
+        + ", sqlStatements=" + getSqlStatementCount()
+        + ", sqlStatementsPerCommand=" + sqlPerCommand;
+  }
+
+  protected static double toMillis(long nanos) {
+    return nanos / 1000L / 1000.0;
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timing and SQL statistics of a single command execution. The wall time of
+ * the command is split into execution, flush and commit time; every SQL
+ * statement issued on behalf of the command is counted by its MyBatis
+ * statement id.
+ *
+ * <p>An instance is only modified by the thread executing the command. Once the
+ * command has completed, it is handed to the {@link CommandStatisticsRecorder}
+ * and not modified anymore.</p>
+ */
+public class CommandExecutionStatistics {
+
+  protected final CommandStatisticsRecorder recorder;
+  protected final String commandName;
+  protected final String threadName;
+  protected final long startTime;
+
+  protected long durationNanos;
+  protected long flushNanos;
+  protected long commitNanos;
+  protected boolean failed;
+
+  protected Map<String, SqlStatementStatistics> sqlStatements = new LinkedHashMap<>();
+
+  public CommandExecutionStatistics(CommandStatisticsRecorder recorder, String commandName) {
+    this.recorder = recorder;
+    this.commandName = commandName;
+    this.threadName = Thread.currentThread().getName();
+    this.startTime = System.currentTimeMillis();
+  }
+
+  public void addFlushTime(long nanos) {
+    flushNanos += nanos;
+  }
+
+  public void addCommitTime(long nanos) {
+    commitNanos += nanos;
+  }
+
+  public void recordSqlStatement(String statementId, long nanos, long rows) {
+    recordSqlStatement(statementId, 1, nanos, rows);
+  }
+
+  public void recordSqlStatement(String statementId, long count, long nanos, long rows) {
+    SqlStatementStatistics statement = sqlStatements.get(statementId);
+    if (statement == null) {
+      statement = new SqlStatementStatistics(statementId);
+      sqlStatements.put(statementId, statement);
+    }
+    statement.record(count, nanos, rows);
+  }
+
+  protected void complete(long durationNanos, boolean failed) {
+    this.durationNanos = durationNanos;
+    this.failed = failed;
+  }
+
+  public CommandStatisticsRecorder getRecorder() {
+    return recorder;
+  }
+
+  public String getCommandName() {
+    return commandName;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  /**
+   * @return the time in milliseconds since epoch at which the command started
+   */
+  public long getStartTime() {
+    return startTime;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * @return the time spent outside of flush and commit
+   */
+  public long getExecutionNanos() {
+    return Math.max(0, durationNanos - flushNanos - commitNanos);
+  }
+
+  public long getFlushNanos() {
+    return flushNanos;
+  }
+
+  public long getCommitNanos() {
+    return commitNanos;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+
+  public Collection<SqlStatementStatistics> getSqlStatements() {
+    return sqlStatements.values();
+  }
+
+  public SqlStatementStatistics getSqlStatement(String statementId) {
+    return sqlStatements.get(statementId);
+  }
+
+  public long getSqlStatementCount() {
+    long count = 0;
+    for (SqlStatementStatistics statement : sqlStatements.values()) {
+      count += statement.getCount();
+    }
+    return count;
+  }
+
+  public long getSqlDurationNanos() {
+    long nanos = 0;
+    for (SqlStatementStatistics statement : sqlStatements.values()) {
+      nanos += statement.getDurationNanos();
+    }
+    return nanos;
+  }
+
+  @Override
+  public String toString() {
+    List<SqlStatementStatistics> statements = new ArrayList<>(sqlStatements.values());
+    return getClass().getSimpleName()
+        + "[commandName=" + commandName
+        + ", threadName=" + threadName
+        + ", startTime=" + startTime
+        + ", durationNanos=" + durationNanos
+        + ", flushNanos=" + flushNanos
+        + ", commitNanos=" + commitNanos
+        + ", failed=" + failed
+        + ", sqlStatements=" + statements
+        + "]";
+  }
+
+}
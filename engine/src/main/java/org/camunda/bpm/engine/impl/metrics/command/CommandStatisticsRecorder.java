@@ -0,0 +1,299 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.metrics.MetricsLogger;
+
+/**
+ * Collects the {@link CommandExecutionStatistics} of completed commands. Keeps
+ * the most recent executions in a ring buffer of fixed capacity and aggregates
+ * all executions per command.
+ *
+ * <p>The statistics of the command currently executed by a thread are kept in a
+ * thread local stack, so that the {@link SqlStatisticsInterceptor} and the
+ * command context can attribute SQL statements, flush and commit time to it.</p>
+ */
+public class CommandStatisticsRecorder implements CommandStatisticsRecorderMBean {
+
+  protected static final MetricsLogger LOG = ProcessEngineLogger.METRICS_LOGGER;
+
+  public static final String MBEAN_DOMAIN = "org.camunda.bpm.engine";
+
+  protected static final ThreadLocal<Deque<CommandExecutionStatistics>> CURRENT_EXECUTIONS
+      = new ThreadLocal<Deque<CommandExecutionStatistics>>() {
+    @Override
+    protected Deque<CommandExecutionStatistics> initialValue() {
+      return new ArrayDeque<>();
+    }
+  };
+
+  protected final int capacity;
+  protected final CommandExecutionStatistics[] recentExecutions;
+  protected long position = 0;
+
+  protected final AtomicLong recordedCommandCount = new AtomicLong();
+  protected final ConcurrentMap<String, CommandAggregateStatistics> aggregates = new ConcurrentHashMap<>();
+  protected final List<CommandStatisticsListener> listeners = new CopyOnWriteArrayList<>();
+
+  protected ObjectName objectName;
+
+  public CommandStatisticsRecorder(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity of the command statistics must be positive");
+    }
+    this.capacity = capacity;
+    this.recentExecutions = new CommandExecutionStatistics[capacity];
+  }
+
+  // current execution /////////////////////////////////////////////
+
+  /**
+   * @return the statistics of the innermost command that is executed by the current thread
+   * or <code>null</code> if no command is recorded
+   */
+  public static CommandExecutionStatistics getCurrentExecution() {
+    return CURRENT_EXECUTIONS.get().peek();
+  }
+
+  public CommandExecutionStatistics startExecution(String commandName) {
+    CommandExecutionStatistics execution = new CommandExecutionStatistics(this, commandName);
+    CURRENT_EXECUTIONS.get().push(execution);
+    return execution;
+  }
+
+  public void completeExecution(CommandExecutionStatistics execution, long durationNanos, boolean failed) {
+    Deque<CommandExecutionStatistics> currentExecutions = CURRENT_EXECUTIONS.get();
+    currentExecutions.remove(execution);
+    if (currentExecutions.isEmpty()) {
+      CURRENT_EXECUTIONS.remove();
+    }
+
+    execution.complete(durationNanos, failed);
+    record(execution);
+  }
+
+  // recording /////////////////////////////////////////////////////
+
+  protected void record(CommandExecutionStatistics execution) {
+    synchronized (recentExecutions) {
+      recentExecutions[(int) (position % capacity)] = execution;
+      position++;
+    }
+    recordedCommandCount.incrementAndGet();
+
+    CommandAggregateStatistics aggregate = aggregates.get(execution.getCommandName());
+    if (aggregate == null) {
+      CommandAggregateStatistics newAggregate = new CommandAggregateStatistics(execution.getCommandName());
+      aggregate = aggregates.putIfAbsent(execution.getCommandName(), newAggregate);
+      if (aggregate == null) {
+        aggregate = newAggregate;
+      }
+    }
+    aggregate.add(execution);
+
+    for (CommandStatisticsListener listener : listeners) {
+      listener.onCommandCompleted(execution);
+    }
+  }
+
+  public void addListener(CommandStatisticsListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(CommandStatisticsListener listener) {
+    listeners.remove(listener);
+  }
+
+  // queries ///////////////////////////////////////////////////////
+
+  /**
+   * @return the executions held by the ring buffer, newest first
+   */
+  public List<CommandExecutionStatistics> getRecentCommandExecutions() {
+    return getRecentCommandExecutions(null);
+  }
+
+  /**
+   * @param commandName the command to filter for or <code>null</code> for all commands
+   * @return the executions of the given command held by the ring buffer, newest first
+   */
+  public List<CommandExecutionStatistics> getRecentCommandExecutions(String commandName) {
+    List<CommandExecutionStatistics> result = new ArrayList<>();
+    synchronized (recentExecutions) {
+      long oldest = Math.max(0, position - capacity);
+      for (long i = position - 1; i >= oldest; i--) {
+        CommandExecutionStatistics execution = recentExecutions[(int) (i % capacity)];
+        if (commandName == null || commandName.equals(execution.getCommandName())) {
+          result.add(execution);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param limit the maximum number of executions to return
+   * @return the slowest executions held by the ring buffer, slowest first
+   */
+  public List<CommandExecutionStatistics> getSlowestCommandExecutions(int limit) {
+    List<CommandExecutionStatistics> executions = getRecentCommandExecutions();
+    Collections.sort(executions, new Comparator<CommandExecutionStatistics>() {
+      public int compare(CommandExecutionStatistics e1, CommandExecutionStatistics e2) {
+        return Long.compare(e2.getDurationNanos(), e1.getDurationNanos());
+      }
+    });
+    return executions.subList(0, Math.min(limit, executions.size()));
+  }
+
+  /**
+   * @return copies of the per command aggregates, keyed by command name
+   */
+  public Map<String, CommandAggregateStatistics> getCommandAggregates() {
+    Map<String, CommandAggregateStatistics> result = new HashMap<>();
+    for (CommandAggregateStatistics aggregate : aggregates.values()) {
+      result.put(aggregate.getCommandName(), aggregate.copy());
+    }
+    return result;
+  }
+
+  public CommandAggregateStatistics getCommandAggregate(String commandName) {
+    CommandAggregateStatistics aggregate = aggregates.get(commandName);
+    return aggregate != null ? aggregate.copy() : null;
+  }
+
+  /**
+   * @return the statistics of all SQL statements over all commands, keyed by statement id
+   */
+  public Map<String, SqlStatementStatistics> getSqlStatementAggregates() {
+    Map<String, SqlStatementStatistics> result = new HashMap<>();
+    for (CommandAggregateStatistics aggregate : getCommandAggregates().values()) {
+      for (SqlStatementStatistics statement : aggregate.getSqlStatements()) {
+        SqlStatementStatistics total = result.get(statement.getStatementId());
+        if (total == null) {
+          result.put(statement.getStatementId(), statement.copy());
+        } else {
+          total.add(statement);
+        }
+      }
+    }
+    return result;
+  }
+
+  // MBean /////////////////////////////////////////////////////////
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getRecordedCommandCount() {
+    return recordedCommandCount.get();
+  }
+
+  public String[] getCommandSummaries() {
+    List<CommandAggregateStatistics> commands = new ArrayList<>(getCommandAggregates().values());
+    Collections.sort(commands, new Comparator<CommandAggregateStatistics>() {
+      public int compare(CommandAggregateStatistics c1, CommandAggregateStatistics c2) {
+        return Long.compare(c2.getDurationNanos(), c1.getDurationNanos());
+      }
+    });
+
+    String[] summaries = new String[commands.size()];
+    for (int i = 0; i < summaries.length; i++) {
+      summaries[i] = commands.get(i).toString();
+    }
+    return summaries;
+  }
+
+  public String[] getSqlStatementSummaries() {
+    List<SqlStatementStatistics> statements = new ArrayList<>(getSqlStatementAggregates().values());
+    Collections.sort(statements, new Comparator<SqlStatementStatistics>() {
+      public int compare(SqlStatementStatistics s1, SqlStatementStatistics s2) {
+        return Long.compare(s2.getDurationNanos(), s1.getDurationNanos());
+      }
+    });
+
+    String[] summaries = new String[statements.size()];
+    for (int i = 0; i < summaries.length; i++) {
+      summaries[i] = statements.get(i).toString();
+    }
+    return summaries;
+  }
+
+  public String[] getRecentExecutions() {
+    List<CommandExecutionStatistics> executions = getRecentCommandExecutions();
+    String[] result = new String[executions.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = executions.get(i).toString();
+    }
+    return result;
+  }
+
+  public void reset() {
+    synchronized (recentExecutions) {
+      for (int i = 0; i < capacity; i++) {
+        recentExecutions[i] = null;
+      }
+      position = 0;
+    }
+    aggregates.clear();
+    recordedCommandCount.set(0);
+  }
+
+  public void registerMBean(String processEngineName) {
+    try {
+      ObjectName name = new ObjectName(MBEAN_DOMAIN + ":type=CommandStatistics,engine=" + ObjectName.quote(processEngineName));
+      MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+      if (!mBeanServer.isRegistered(name)) {
+        mBeanServer.registerMBean(this, name);
+        objectName = name;
+      }
+    } catch (Exception e) {
+      LOG.couldNotRegisterCommandStatisticsMBean(processEngineName, e);
+    }
+  }
+
+  public void unregisterMBean() {
+    if (objectName != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+      } catch (Exception e) {
+        LOG.couldNotUnregisterCommandStatisticsMBean(objectName.toString(), e);
+      } finally {
+        objectName = null;
+      }
+    }
+  }
+
+}
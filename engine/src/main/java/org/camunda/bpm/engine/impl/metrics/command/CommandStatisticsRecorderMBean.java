@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+/**
+ * Management interface of the {@link CommandStatisticsRecorder}, registered as
+ * <code>org.camunda.bpm.engine:type=CommandStatistics,engine=&lt;engine name&gt;</code>.
+ */
+public interface CommandStatisticsRecorderMBean {
+
+  int getCapacity();
+
+  long getRecordedCommandCount();
+
+  /**
+   * @return one line per command with count, mean and max duration, the split
+   * into execution, flush and commit time and the number of SQL statements
+   */
+  String[] getCommandSummaries();
+
+  /**
+   * @return one line per MyBatis statement id, ordered by total execution time
+   */
+  String[] getSqlStatementSummaries();
+
+  /**
+   * @return the most recent command executions, newest first
+   */
+  String[] getRecentExecutions();
+
+  void reset();
+
+}
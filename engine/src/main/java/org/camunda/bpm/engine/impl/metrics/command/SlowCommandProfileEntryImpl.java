@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+
+public class SlowCommandProfileEntryImpl implements SlowCommandProfileEntry {
+
+  protected String type;
+  protected String name;
+  protected String activityId;
+  protected String processInstanceId;
+  protected String processDefinitionId;
+  protected String detail;
+  protected int depth;
+  protected long startOffsetNanos;
+  protected long durationNanos;
+
+  public SlowCommandProfileEntryImpl(String type, String name, int depth, long startOffsetNanos) {
+    this.type = type;
+    this.name = name;
+    this.depth = depth;
+    this.startOffsetNanos = startOffsetNanos;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getActivityId() {
+    return activityId;
+  }
+
+  public void setActivityId(String activityId) {
+    this.activityId = activityId;
+  }
+
+  public String getProcessInstanceId() {
+    return processInstanceId;
+  }
+
+  public void setProcessInstanceId(String processInstanceId) {
+    this.processInstanceId = processInstanceId;
+  }
+
+  public String getProcessDefinitionId() {
+    return processDefinitionId;
+  }
+
+  public void setProcessDefinitionId(String processDefinitionId) {
+    this.processDefinitionId = processDefinitionId;
+  }
+
+  public String getDetail() {
+    return detail;
+  }
+
+  public void setDetail(String detail) {
+    this.detail = detail;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  public long getStartOffset() {
+    return startOffsetNanos / 1000;
+  }
+
+  public long getDuration() {
+    return durationNanos / 1000;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  public void setDurationNanos(long durationNanos) {
+    this.durationNanos = durationNanos;
+  }
+
+  @Override
+  public String toString() {
+    return type
+        + " " + name
+        + (activityId != null ? " (activityId=" + activityId + ")" : "")
+        + (detail != null ? " [" + detail + "]" : "")
+        + " " + getDuration() + "us";
+  }
+
+}
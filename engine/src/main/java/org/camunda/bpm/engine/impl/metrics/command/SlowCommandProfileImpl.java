@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+
+/**
+ * Collects the entries of a command execution while the command is running.
+ * Only accessed by the thread that executes the command until the command
+ * completes and the profile is handed to the {@link SlowCommandProfiler}.
+ */
+public class SlowCommandProfileImpl implements SlowCommandProfile {
+
+  protected final int maxEntries;
+
+  protected String id;
+  protected String commandName;
+  protected String threadName;
+  protected Date startTime;
+  protected long startNanos;
+  protected long durationNanos;
+  protected boolean failed;
+
+  protected List<SlowCommandProfileEntry> entries = new ArrayList<>();
+  protected long droppedEntryCount;
+  protected int depth;
+
+  public SlowCommandProfileImpl(String commandName, int maxEntries) {
+    this.commandName = commandName;
+    this.maxEntries = maxEntries;
+    this.threadName = Thread.currentThread().getName();
+    this.startTime = new Date();
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Starts an entry that is completed by {@link #exit(SlowCommandProfileEntryImpl)}.
+   * Every call must be followed by a call to exit, even if it returns <code>null</code>.
+   *
+   * @return the started entry or <code>null</code> if the profile is full
+   */
+  public SlowCommandProfileEntryImpl enter(String type, String name) {
+    SlowCommandProfileEntryImpl entry = createEntry(type, name, System.nanoTime());
+    depth++;
+    return entry;
+  }
+
+  public SlowCommandProfileEntryImpl enter(String type, String name, ExecutionEntity execution) {
+    SlowCommandProfileEntryImpl entry = enter(type, name);
+    if (entry != null && execution != null) {
+      entry.setActivityId(execution.getActivityId());
+      entry.setProcessInstanceId(execution.getProcessInstanceId());
+      entry.setProcessDefinitionId(execution.getProcessDefinitionId());
+    }
+    return entry;
+  }
+
+  public void exit(SlowCommandProfileEntryImpl entry) {
+    depth--;
+    if (entry != null) {
+      entry.setDurationNanos(System.nanoTime() - startNanos - entry.startOffsetNanos);
+    }
+  }
+
+  /**
+   * Adds an entry that has already completed, like an executed SQL statement.
+   */
+  public void add(String type, String name, long durationNanos, String detail) {
+    SlowCommandProfileEntryImpl entry = createEntry(type, name, System.nanoTime() - durationNanos);
+    if (entry != null) {
+      entry.setDurationNanos(durationNanos);
+      entry.setDetail(detail);
+    }
+  }
+
+  protected SlowCommandProfileEntryImpl createEntry(String type, String name, long startNanos) {
+    if (entries.size() >= maxEntries) {
+      droppedEntryCount++;
+      return null;
+    }
+
+    SlowCommandProfileEntryImpl entry = new SlowCommandProfileEntryImpl(type, name, depth, startNanos - this.startNanos);
+    entries.add(entry);
+    return entry;
+  }
+
+  protected void complete(String id, long durationNanos, boolean failed) {
+    this.id = id;
+    this.durationNanos = durationNanos;
+    this.failed = failed;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getCommandName() {
+    return commandName;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  public Date getStartTime() {
+    return startTime;
+  }
+
+  public long getDuration() {
+    return durationNanos / 1000;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+
+  public List<SlowCommandProfileEntry> getEntries() {
+    return Collections.unmodifiableList(entries);
+  }
+
+  public long getDroppedEntryCount() {
+    return droppedEntryCount;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(commandName).append(" ").append(getDuration()).append("us");
+    if (failed) {
+      builder.append(" (failed)");
+    }
+    for (SlowCommandProfileEntry entry : entries) {
+      builder.append("\n");
+      for (int i = 0; i <= entry.getDepth(); i++) {
+        builder.append("  ");
+      }
+      builder.append(entry);
+    }
+    if (droppedEntryCount > 0) {
+      builder.append("\n  ... ").append(droppedEntryCount).append(" more");
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandInvocationContext;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
+
+/**
+ * Profiles a sample of the executed commands and retains the profiles of
+ * commands that took longer than a threshold in a buffer of fixed capacity.
+ * When the buffer is full, the oldest profile is discarded.
+ *
+ * <p>A profile is started for the command that opens a command context and is
+ * shared by all commands that reuse the context; it is kept in the
+ * {@link CommandInvocationContext}.</p>
+ */
+public class SlowCommandProfiler {
+
+  public static final int DEFAULT_MAX_ENTRIES_PER_PROFILE = 1000;
+
+  protected final long thresholdNanos;
+  protected final int capacity;
+  protected final double samplingRate;
+  protected int maxEntriesPerProfile = DEFAULT_MAX_ENTRIES_PER_PROFILE;
+
+  protected final Deque<SlowCommandProfileImpl> profiles = new ArrayDeque<>();
+  protected final AtomicLong idGenerator = new AtomicLong();
+
+  /**
+   * @param thresholdMillis the minimum duration of a command whose profile is retained
+   * @param capacity the number of retained profiles
+   * @param samplingRate the fraction of commands to profile, between <code>0</code> and <code>1</code>
+   */
+  public SlowCommandProfiler(long thresholdMillis, int capacity, double samplingRate) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity of the slow command profiler must be positive");
+    }
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    this.capacity = capacity;
+    this.samplingRate = samplingRate;
+  }
+
+  /**
+   * @return the profile of the command currently executed by this thread or <code>null</code>
+   */
+  public static SlowCommandProfileImpl getCurrentProfile() {
+    CommandInvocationContext invocationContext = Context.getCommandInvocationContext();
+    return invocationContext != null ? invocationContext.getProfile() : null;
+  }
+
+  /**
+   * @return a new profile or <code>null</code> if the command is not sampled
+   */
+  public SlowCommandProfileImpl startProfile(String commandName) {
+    if (samplingRate < 1 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+      return null;
+    }
+    return new SlowCommandProfileImpl(commandName, maxEntriesPerProfile);
+  }
+
+  public void completeProfile(SlowCommandProfileImpl profile, long durationNanos, boolean failed) {
+    if (durationNanos < thresholdNanos) {
+      return;
+    }
+
+    profile.complete(String.valueOf(idGenerator.incrementAndGet()), durationNanos, failed);
+
+    synchronized (profiles) {
+      if (profiles.size() >= capacity) {
+        profiles.removeLast();
+      }
+      profiles.addFirst(profile);
+    }
+  }
+
+  /**
+   * @return the retained profiles, newest first
+   */
+  public List<SlowCommandProfile> getProfiles() {
+    synchronized (profiles) {
+      return new ArrayList<SlowCommandProfile>(profiles);
+    }
+  }
+
+  public SlowCommandProfile getProfile(String id) {
+    synchronized (profiles) {
+      for (SlowCommandProfileImpl profile : profiles) {
+        if (profile.getId().equals(id)) {
+          return profile;
+        }
+      }
+    }
+    return null;
+  }
+
+  public void clear() {
+    synchronized (profiles) {
+      profiles.clear();
+    }
+  }
+
+  public long getThresholdNanos() {
+    return thresholdNanos;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public double getSamplingRate() {
+    return samplingRate;
+  }
+
+  public int getMaxEntriesPerProfile() {
+    return maxEntriesPerProfile;
+  }
+
+  public void setMaxEntriesPerProfile(int maxEntriesPerProfile) {
+    this.maxEntriesPerProfile = maxEntriesPerProfile;
+  }
+
+}
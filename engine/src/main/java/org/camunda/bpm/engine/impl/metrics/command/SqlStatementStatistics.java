@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+/**
+ * Number of executions, accumulated execution time and number of rows
+ * of a single MyBatis statement.
+ *
+ * <p>For selects, the rows are the rows returned; for inserts, updates and
+ * deletes they are the rows affected as reported by the JDBC driver.</p>
+ */
+public class SqlStatementStatistics {
+
+  protected final String statementId;
+
+  protected long count;
+  protected long durationNanos;
+  protected long rows;
+
+  public SqlStatementStatistics(String statementId) {
+    this.statementId = statementId;
+  }
+
+  protected SqlStatementStatistics(SqlStatementStatistics other) {
+    this.statementId = other.statementId;
+    this.count = other.count;
+    this.durationNanos = other.durationNanos;
+    this.rows = other.rows;
+  }
+
+  public void record(long count, long durationNanos, long rows) {
+    this.count += count;
+    this.durationNanos += durationNanos;
+    if (rows > 0) {
+      this.rows += rows;
+    }
+  }
+
+  public void add(SqlStatementStatistics other) {
+    this.count += other.count;
+    this.durationNanos += other.durationNanos;
+    this.rows += other.rows;
+  }
+
+  public SqlStatementStatistics copy() {
+    return new SqlStatementStatistics(this);
+  }
+
+  public String getStatementId() {
+    return statementId;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  @Override
+  public String toString() {
+    return statementId
+        + "[count=" + count
+        + ", durationNanos=" + durationNanos
+        + ", rows=" + rows
+        + "]";
+  }
+
+}
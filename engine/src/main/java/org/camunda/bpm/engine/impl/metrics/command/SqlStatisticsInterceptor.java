@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics.command;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+
+/**
+ * MyBatis plugin that attributes every statement executed through a
+ * {@link org.camunda.bpm.engine.impl.db.sql.DbSqlSession} to the
+ * {@link CommandExecutionStatistics} and the slow command profile of the
+ * command currently executed by the thread. Statements issued outside of a
+ * recorded or profiled command are ignored.
+ *
+ * <p>With JDBC batch processing, updates are only queued when they are issued;
+ * they are counted together with their rows affected when the batch is flushed.
+ * The time to execute the batch is split evenly between the statements of
+ * the batch.</p>
+ */
+@Intercepts({
+  @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+  @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+  @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+  @Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class SqlStatisticsInterceptor implements Interceptor {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object intercept(Invocation invocation) throws Throwable {
+    CommandExecutionStatistics execution = CommandStatisticsRecorder.getCurrentExecution();
+    SlowCommandProfileImpl profile = SlowCommandProfiler.getCurrentProfile();
+    if (execution == null && profile == null) {
+      return invocation.proceed();
+    }
+
+    long start = System.nanoTime();
+    Object result = invocation.proceed();
+    long duration = System.nanoTime() - start;
+
+    if ("flushStatements".equals(invocation.getMethod().getName())) {
+      recordBatchResults(execution, profile, (List<BatchResult>) result, duration);
+    } else if (!isQueuedInBatch(result)) {
+      MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+      record(execution, profile, statement.getId(), 1, duration, getRows(result));
+    }
+
+    return result;
+  }
+
+  protected void recordBatchResults(CommandExecutionStatistics execution, SlowCommandProfileImpl profile,
+      List<BatchResult> batchResults, long duration) {
+    if (batchResults == null || batchResults.isEmpty()) {
+      return;
+    }
+
+    long durationPerStatement = duration / batchResults.size();
+    for (BatchResult batchResult : batchResults) {
+      long rows = 0;
+      for (int updateCount : batchResult.getUpdateCounts()) {
+        if (updateCount > 0) {
+          rows += updateCount;
+        }
+      }
+      record(execution, profile, batchResult.getMappedStatement().getId(),
+          batchResult.getParameterObjects().size(), durationPerStatement, rows);
+    }
+  }
+
+  protected void record(CommandExecutionStatistics execution, SlowCommandProfileImpl profile,
+      String statementId, int count, long duration, long rows) {
+    if (execution != null) {
+      execution.recordSqlStatement(statementId, count, duration, rows);
+    }
+    if (profile != null) {
+      profile.add(SlowCommandProfileEntry.TYPE_SQL, statementId, duration, "count=" + count + ", rows=" + rows);
+    }
+  }
+
+  protected boolean isQueuedInBatch(Object result) {
+    // the update is recorded once the batch is flushed
+    return result instanceof Integer && (Integer) result == BatchExecutor.BATCH_UPDATE_RETURN_VALUE;
+  }
+
+  protected long getRows(Object result) {
+    if (result instanceof Integer) {
+      return Math.max(0, (Integer) result);
+    } else if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    } else {
+      return 0;
+    }
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    return Plugin.wrap(target, this);
+  }
+
+  @Override
+  public void setProperties(Properties properties) {
+    // nothing to configure
+  }
+
+}
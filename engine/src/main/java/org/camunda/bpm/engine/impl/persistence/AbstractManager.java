@@ -298,13 +298,7 @@ public abstract class AbstractManager implements Session {
         public Void call() {
           AuthorizationManager authorizationManager = getAuthorizationManager();
           for (AuthorizationEntity authorization : authorizations) {
-
-            if(authorization.getId() == null) {
-              authorizationManager.insert(authorization);
-            } else {
-              authorizationManager.update(authorization);
-            }
-
+            authorizationManager.saveDefaultAuthorization(authorization);
           }
           return null;
         }
@@ -318,7 +312,7 @@ public abstract class AbstractManager implements Session {
         public Void call() {
           AuthorizationManager authorizationManager = getAuthorizationManager();
           for (AuthorizationEntity authorization : authorizations) {
-            authorizationManager.delete(authorization);
+            authorizationManager.deleteDefaultAuthorization(authorization);
           }
           return null;
         }
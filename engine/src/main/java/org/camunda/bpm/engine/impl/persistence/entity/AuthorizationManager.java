@@ -89,6 +89,8 @@ import org.camunda.bpm.engine.impl.batch.BatchQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.batch.history.HistoricBatchQueryImpl;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.AuthorizationCheck;
 import org.camunda.bpm.engine.impl.db.CompositePermissionCheck;
@@ -100,6 +102,7 @@ import org.camunda.bpm.engine.impl.db.PermissionCheckBuilder;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionQueryImpl;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.identity.Authentication;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
@@ -131,6 +134,12 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Boolean isRevokeAuthCheckUsed = null;
 
+  /**
+   * True once the invalidation of the {@link FilterResultCache} has been registered
+   * for the current transaction.
+   */
+  protected boolean filterResultCacheInvalidationRegistered = false;
+
   public PermissionCheckBuilder newPermissionCheckBuilder() {
     return new PermissionCheckBuilder();
   }
@@ -142,6 +151,11 @@ public class AuthorizationManager extends AbstractManager {
 
   @Override
   public void insert(DbEntity authorization) {
+    insertAuthorization(authorization);
+    invalidateFilterResultCache();
+  }
+
+  protected void insertAuthorization(DbEntity authorization) {
     checkAuthorization(CREATE, AUTHORIZATION, null);
     getDbEntityManager().insert(authorization);
   }
@@ -180,17 +194,83 @@ public class AuthorizationManager extends AbstractManager {
   }
 
   public void update(AuthorizationEntity authorization) {
+    updateAuthorization(authorization);
+    invalidateFilterResultCache();
+  }
+
+  protected void updateAuthorization(AuthorizationEntity authorization) {
     checkAuthorization(UPDATE, AUTHORIZATION, authorization.getId());
     getDbEntityManager().merge(authorization);
   }
 
   @Override
   public void delete(DbEntity authorization) {
+    deleteAuthorization(authorization);
+    invalidateFilterResultCache();
+  }
+
+  protected void deleteAuthorization(DbEntity authorization) {
     checkAuthorization(DELETE, AUTHORIZATION, authorization.getId());
     deleteAuthorizationsByResourceId(AUTHORIZATION, authorization.getId());
     super.delete(authorization);
   }
 
+  /**
+   * Saves a default authorization of the {@link ResourceAuthorizationProvider}. Default
+   * authorizations of tasks change whenever a task is assigned or its candidates change;
+   * like other task changes, they don't invalidate the {@link FilterResultCache}. Its time
+   * to live bounds the staleness of cached counts, and cached result pages are re-fetched
+   * with authorization checks.
+   */
+  public void saveDefaultAuthorization(AuthorizationEntity authorization) {
+    if (authorization.getId() == null) {
+      insertAuthorization(authorization);
+    }
+    else {
+      updateAuthorization(authorization);
+    }
+
+    if (!isTaskAuthorization(authorization)) {
+      invalidateFilterResultCache();
+    }
+  }
+
+  /**
+   * Deletes a default authorization of the {@link ResourceAuthorizationProvider},
+   * see {@link #saveDefaultAuthorization(AuthorizationEntity)}.
+   */
+  public void deleteDefaultAuthorization(AuthorizationEntity authorization) {
+    deleteAuthorization(authorization);
+
+    if (!isTaskAuthorization(authorization)) {
+      invalidateFilterResultCache();
+    }
+  }
+
+  protected boolean isTaskAuthorization(AuthorizationEntity authorization) {
+    return authorization.getResourceType() == TASK.resourceType();
+  }
+
+  /**
+   * Drops the cached filter results once now and once the current transaction is committed,
+   * since changed authorizations can change which tasks a filter returns.
+   */
+  protected void invalidateFilterResultCache() {
+    final FilterResultCache cache = Context.getProcessEngineConfiguration().getFilterResultCache();
+    if (cache == null) {
+      return;
+    }
+
+    cache.invalidateAll();
+
+    if (!filterResultCacheInvalidationRegistered) {
+      filterResultCacheInvalidationRegistered = true;
+      Context.getCommandContext()
+        .getTransactionContext()
+        .addTransactionListener(TransactionState.COMMITTED, commandContext -> cache.invalidateAll());
+    }
+  }
+
   // authorization checks ///////////////////////////////////////////
 
   public void checkAuthorization(CompositePermissionCheck compositePermissionCheck) {
@@ -457,6 +537,28 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceType", resource.resourceType());
       deleteParams.put("resourceId", resourceId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+
+      // the authorizations of a deleted task can no longer change a filter result
+      if (!TASK.equals(resource)) {
+        invalidateFilterResultCache();
+      }
+    }
+
+  }
+
+  /**
+   * Deletes the authorizations of the given process instances and of their tasks.
+   */
+  public void deleteAuthorizationsByProcessInstanceIds(List<String> processInstanceIds) {
+
+    if(isAuthorizationEnabled()) {
+      Map<String, Object> deleteParams = new HashMap<>();
+      deleteParams.put("processInstanceResourceType", PROCESS_INSTANCE.resourceType());
+      deleteParams.put("taskResourceType", TASK.resourceType());
+      deleteParams.put("processInstanceIds", processInstanceIds);
+      getDbEntityManager().deletePreserveOrder(AuthorizationEntity.class, "deleteAuthorizationsForProcessInstanceIds", deleteParams);
+
+      invalidateFilterResultCache();
     }
 
   }
@@ -473,6 +575,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceId", resourceId);
       deleteParams.put("userId", userId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      invalidateFilterResultCache();
     }
 
   }
@@ -489,6 +592,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceId", resourceId);
       deleteParams.put("groupId", groupId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      invalidateFilterResultCache();
     }
 
   }
@@ -1147,7 +1251,7 @@ public class AuthorizationManager extends AbstractManager {
     return availableAuthorizedGroupIds;
   }
 
-  protected boolean isAuthCheckExecuted() {
+  public boolean isAuthCheckExecuted() {
 
     Authentication currentAuthentication = getCurrentAuthentication();
     CommandContext commandContext = Context.getCommandContext();
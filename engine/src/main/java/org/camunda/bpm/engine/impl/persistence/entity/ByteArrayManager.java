@@ -18,12 +18,15 @@ package org.camunda.bpm.engine.impl.persistence.entity;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
 
 /**
  * @author Joram Barrez
@@ -40,6 +43,19 @@ public class ByteArrayManager extends AbstractManager {
     getDbEntityManager().delete(ByteArrayEntity.class, "deleteByteArrayNoRevisionCheck", byteArrayEntityId);
   }
 
+  /**
+   * Deletes the byte arrays with the given ids without optimistic locking, see
+   * {@link #deleteByteArrayById(String)}.
+   */
+  public void deleteByteArraysByIds(List<String> byteArrayIds) {
+    if (!byteArrayIds.isEmpty()) {
+      // break down parameter list to not hit query parameter limitations
+      for (List<String> partition : CollectionUtil.partition(byteArrayIds, DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS)) {
+        getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteByteArraysByIds", partition);
+      }
+    }
+  }
+
   public void insertByteArray(ByteArrayEntity arr) {
     arr.setCreateTime(ClockUtil.getCurrentTime());
     getDbEntityManager().insert(arr);
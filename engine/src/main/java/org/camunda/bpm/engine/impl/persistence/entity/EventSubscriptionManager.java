@@ -65,6 +65,10 @@ public class EventSubscriptionManager extends AbstractManager {
     }
   }
 
+  public void deleteEventSubscriptionsByProcessInstanceIds(List<String> processInstanceIds) {
+    getDbEntityManager().deletePreserveOrder(EventSubscriptionEntity.class, "deleteEventSubscriptionsByProcessInstanceIds", processInstanceIds);
+  }
+
   public void deleteAndFlushEventSubscription(EventSubscriptionEntity persistentObject) {
     deleteEventSubscription(persistentObject);
     getDbEntityManager().flushEntity(persistentObject);
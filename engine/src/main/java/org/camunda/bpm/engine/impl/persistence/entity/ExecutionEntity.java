@@ -51,6 +51,7 @@ import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore.VariablesProvider;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.HasDbReferences;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.event.EventType;
@@ -96,7 +97,7 @@ import org.camunda.bpm.model.xml.type.ModelElementType;
  * @author Daniel Meyer
  * @author Falko Menge
  */
-public class ExecutionEntity extends PvmExecutionImpl implements Execution, ProcessInstance, DbEntity, HasDbRevision, HasDbReferences, VariablesProvider<VariableInstanceEntity> {
+public class ExecutionEntity extends PvmExecutionImpl implements Execution, ProcessInstance, DbEntity, HasDbRevision, HasDbReferences, HasDbChangedProperties, VariablesProvider<VariableInstanceEntity> {
 
   private static final long serialVersionUID = 1L;
 
@@ -174,6 +175,8 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
 
   protected int revision = 1;
 
+  protected transient Set<String> changedProperties;
+
   /**
    * persisted reference to the processDefinition.
    *
@@ -1337,6 +1340,20 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
       if(execution.eventSubscriptions == null && eventSubscriptions != null) {
         execution.eventSubscriptions = new ArrayList<>();
       }
+      // initialize the references of all executions, so that executions
+      // without such entities do not lazy load them afterwards
+      if (execution.jobs == null && jobs != null) {
+        execution.jobs = new ArrayList<>();
+      }
+      if (execution.tasks == null && tasks != null) {
+        execution.tasks = new ArrayList<>();
+      }
+      if (execution.incidents == null && incidents != null) {
+        execution.incidents = new ArrayList<>();
+      }
+      if (execution.externalTasks == null && externalTasks != null) {
+        execution.externalTasks = new ArrayList<>();
+      }
       if(variables != null) {
         execution.variableStore.setVariablesProvider(
             new VariableCollectionProvider<>(variablesByScope.get(execution.id)));
@@ -1402,7 +1419,9 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
       for (ExternalTaskEntity externalTask : externalTasks) {
         ExecutionEntity execution = executionsMap.get(externalTask.getExecutionId());
         externalTask.setExecution(execution);
-        execution.addExternalTask(externalTask);
+        if (!execution.externalTasks.contains(externalTask)) {
+          execution.addExternalTask(externalTask);
+        }
       }
     }
   }
@@ -1438,6 +1457,14 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
     return revision + 1;
   }
 
+  public void setChangedProperties(Set<String> changedProperties) {
+    this.changedProperties = changedProperties;
+  }
+
+  public boolean isPropertyChanged(String property) {
+    return changedProperties == null || changedProperties.contains(property);
+  }
+
   public void forceUpdate() {
     Context.getCommandContext().getDbEntityManager().forceUpdate(this);
   }
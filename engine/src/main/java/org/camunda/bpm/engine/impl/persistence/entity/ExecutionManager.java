@@ -16,21 +16,37 @@
  */
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.delegate.TaskListener;
 import org.camunda.bpm.engine.impl.AbstractQuery;
 import org.camunda.bpm.engine.impl.ExecutionQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.bpmn.behavior.UserTaskActivityBehavior;
 import org.camunda.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.core.variable.mapping.IoMapping;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.incident.DefaultIncidentHandler;
+import org.camunda.bpm.engine.impl.incident.IncidentHandler;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.pvm.delegate.ActivityBehavior;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.camunda.bpm.engine.impl.task.TaskDefinition;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.impl.util.ImmutablePair;
 import org.camunda.bpm.engine.runtime.Execution;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -79,7 +95,7 @@ public class ExecutionManager extends AbstractManager {
 
   public void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade, boolean skipCustomListeners, boolean externallyTerminated,
       boolean skipIoMappings, boolean skipSubprocesses) {
-    ExecutionEntity execution = findExecutionById(processInstanceId);
+    ExecutionEntity execution = findProcessInstanceWithRuntimeState(processInstanceId);
 
     if(execution == null) {
       throw LOG.requestedProcessInstanceNotFoundException(processInstanceId);
@@ -95,6 +111,129 @@ public class ExecutionManager extends AbstractManager {
     }
   }
 
+  /**
+   * Deletes the given process instances with set-based statements instead of cascading
+   * through their execution trees. A process instance is only deleted this way if its
+   * definition has no output mappings and, unless custom listeners are skipped, no custom
+   * end or task delete listeners, and if it has no super or sub instances, no standalone
+   * subtasks and no locked jobs. No history events are produced, so callers have to make
+   * sure that none are required.
+   *
+   * @return the ids of the deleted process instances
+   */
+  public List<String> deleteProcessInstancesInBulk(List<String> processInstanceIds, boolean skipCustomListeners) {
+    List<String> deletedProcessInstanceIds = new ArrayList<>();
+
+    if (!processInstanceIds.isEmpty()) {
+      // break down parameter list to not hit query parameter limitations,
+      // some statements use the ids twice
+      int partitionSize = DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS / 2;
+      for (List<String> partition : CollectionUtil.partition(processInstanceIds, partitionSize)) {
+        List<String> deletableProcessInstanceIds = findProcessInstanceIdsForBulkDeletion(partition, skipCustomListeners);
+        if (!deletableProcessInstanceIds.isEmpty()) {
+          deleteProcessInstancesByIds(deletableProcessInstanceIds);
+          deletedProcessInstanceIds.addAll(deletableProcessInstanceIds);
+        }
+      }
+    }
+
+    return deletedProcessInstanceIds;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<String> findProcessInstanceIdsForBulkDeletion(List<String> processInstanceIds, boolean skipCustomListeners) {
+    List<String> processDefinitionIds = getDbEntityManager()
+      .selectList("selectProcessDefinitionIdsByProcessInstanceIds", processInstanceIds);
+
+    DeploymentCache deploymentCache = Context.getProcessEngineConfiguration().getDeploymentCache();
+    List<String> deletableProcessDefinitionIds = new ArrayList<>();
+    for (String processDefinitionId : processDefinitionIds) {
+      ProcessDefinitionEntity processDefinition = deploymentCache.findDeployedProcessDefinitionById(processDefinitionId);
+      if (isBulkDeletionApplicable(processDefinition, skipCustomListeners)) {
+        deletableProcessDefinitionIds.add(processDefinitionId);
+      }
+    }
+
+    if (deletableProcessDefinitionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("processDefinitionIds", deletableProcessDefinitionIds);
+    // custom incident handlers must be notified about deleted incidents
+    parameters.put("excludeIncidents", !hasDefaultIncidentHandlersOnly());
+    return getDbEntityManager().selectList("selectProcessInstanceIdsForBulkDeletion", parameters);
+  }
+
+  /**
+   * @return true if cancelling the scope and its activities invokes no output mappings and,
+   * unless custom listeners are skipped, no custom end or task delete listeners
+   */
+  protected boolean isBulkDeletionApplicable(ScopeImpl scope, boolean skipCustomListeners) {
+    if (!skipCustomListeners && hasCustomListeners(scope, ExecutionListener.EVENTNAME_END)) {
+      return false;
+    }
+
+    for (ActivityImpl activity : scope.getActivities()) {
+      IoMapping ioMapping = activity.getIoMapping();
+      if (ioMapping != null && !ioMapping.getOutputParameters().isEmpty()) {
+        return false;
+      }
+
+      ActivityBehavior activityBehavior = activity.getActivityBehavior();
+      if (!skipCustomListeners && activityBehavior instanceof UserTaskActivityBehavior) {
+        TaskDefinition taskDefinition = ((UserTaskActivityBehavior) activityBehavior).getTaskDefinition();
+        if (hasCustomTaskListeners(taskDefinition, TaskListener.EVENTNAME_DELETE)) {
+          return false;
+        }
+      }
+
+      if (!isBulkDeletionApplicable(activity, skipCustomListeners)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected boolean hasCustomListeners(ScopeImpl scope, String eventName) {
+    return scope.getListeners(eventName).size() > scope.getBuiltInListeners(eventName).size();
+  }
+
+  protected boolean hasCustomTaskListeners(TaskDefinition taskDefinition, String eventName) {
+    List<TaskListener> listeners = taskDefinition.getTaskListeners(eventName);
+    List<TaskListener> builtInListeners = taskDefinition.getBuiltinTaskListeners(eventName);
+    int listenerCount = listeners != null ? listeners.size() : 0;
+    int builtInListenerCount = builtInListeners != null ? builtInListeners.size() : 0;
+    return listenerCount > builtInListenerCount;
+  }
+
+  protected boolean hasDefaultIncidentHandlersOnly() {
+    for (IncidentHandler incidentHandler : Context.getProcessEngineConfiguration().getIncidentHandlers().values()) {
+      if (incidentHandler.getClass() != DefaultIncidentHandler.class) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void deleteProcessInstancesByIds(List<String> processInstanceIds) {
+    // referencing rows first; task authorizations are found through the tasks
+    getAuthorizationManager().deleteAuthorizationsByProcessInstanceIds(processInstanceIds);
+    getTaskManager().deleteTasksByProcessInstanceIds(processInstanceIds);
+    getVariableInstanceManager().deleteVariableInstancesByProcessInstanceIds(processInstanceIds);
+    getEventSubscriptionManager().deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+    getSession(ExternalTaskManager.class).deleteExternalTasksByProcessInstanceIds(processInstanceIds);
+    getJobManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+    getSession(IncidentManager.class).deleteIncidentsByProcessInstanceIds(processInstanceIds);
+
+    // executions reference their parents, and all of them the process instance
+    getDbEntityManager().updatePreserveOrder(ExecutionEntity.class, "updateExecutionParentsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExecutionEntity.class, "deleteExecutionsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExecutionEntity.class, "deleteProcessInstancesByIds", processInstanceIds);
+  }
+
   public ExecutionEntity findSubProcessInstanceBySuperExecutionId(String superExecutionId) {
     return (ExecutionEntity) getDbEntityManager().selectOne("selectSubProcessInstanceBySuperExecutionId", superExecutionId);
   }
@@ -117,6 +256,39 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectById(ExecutionEntity.class, executionId);
   }
 
+  /**
+   * Loads a process instance together with all its executions, event subscriptions, variables,
+   * tasks, jobs, incidents and external tasks, issuing one query per entity type, and links them
+   * to the execution tree. Navigating the runtime state of the process instance afterwards does
+   * not issue a query per execution and relation.
+   *
+   * <p>If execution tree prefetching is disabled or the execution tree of the process instance has
+   * already been initialized in the current command, the process instance is returned as it is.</p>
+   *
+   * @return the process instance or null if no execution exists for the id
+   */
+  public ExecutionEntity findProcessInstanceWithRuntimeState(String processInstanceId) {
+    ExecutionEntity processInstance = findExecutionById(processInstanceId);
+
+    if (processInstance == null
+        || !processInstance.isProcessInstanceExecution()
+        || processInstance.executions != null
+        || !Context.getProcessEngineConfiguration().isExecutionTreePrefetchEnabled()) {
+      return processInstance;
+    }
+
+    processInstance.restoreProcessInstance(
+        findExecutionsByProcessInstanceId(processInstanceId),
+        getEventSubscriptionManager().findEventSubscriptionsByProcessInstanceId(processInstanceId),
+        getVariableInstanceManager().findVariableInstancesByProcessInstanceId(processInstanceId),
+        getTaskManager().findTasksByProcessInstanceId(processInstanceId),
+        getJobManager().findJobsByProcessInstanceId(processInstanceId),
+        getSession(IncidentManager.class).findIncidentsByProcessInstance(processInstanceId),
+        getSession(ExternalTaskManager.class).findExternalTasksByProcessInstanceId(processInstanceId));
+
+    return processInstance;
+  }
+
   public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
     configureQuery(executionQuery);
     return (Long) getDbEntityManager().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -187,6 +359,13 @@ public class ExecutionManager extends AbstractManager {
     getDbEntityManager().update(ExecutionEntity.class, "updateExecutionSuspensionStateByParameters", configureParameterizedQuery(parameters));
   }
 
+  public void updateExecutionSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(ExecutionEntity.class, "updateExecutionSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateExecutionSuspensionStateByProcessDefinitionKey(String processDefinitionKey, SuspensionState suspensionState) {
     Map<String, Object> parameters = new HashMap<>();
     parameters.put("processDefinitionKey", processDefinitionKey);
@@ -45,6 +45,7 @@ import org.camunda.bpm.engine.impl.pvm.delegate.ActivityExecution;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
 import org.camunda.bpm.engine.impl.util.ExceptionUtil;
+import org.camunda.bpm.engine.impl.util.PartitionUtil;
 import org.camunda.bpm.engine.repository.ResourceTypes;
 import org.camunda.bpm.engine.runtime.Incident;
 
@@ -97,6 +98,8 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
 
   protected String lastFailureLogId;
 
+  protected Integer partition;
+
   @Override
   public String getId() {
     return id;
@@ -568,6 +571,11 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     ProcessDefinitionEntity processDefinition = execution.getProcessDefinition();
     externalTask.setProcessDefinitionKey(processDefinition.getKey());
 
+    int partitionCount = Context.getProcessEngineConfiguration().getExternalTaskPartitionCount();
+    if (partitionCount > 0) {
+      externalTask.setPartition(PartitionUtil.getPartition(execution.getProcessInstanceId(), partitionCount));
+    }
+
     externalTask.insert();
     externalTask.produceHistoricExternalTaskCreatedEvent();
 
@@ -628,4 +636,12 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     this.lastFailureLogId = lastFailureLogId;
   }
 
+  public Integer getPartition() {
+    return partition;
+  }
+
+  public void setPartition(Integer partition) {
+    this.partition = partition;
+  }
+
 }
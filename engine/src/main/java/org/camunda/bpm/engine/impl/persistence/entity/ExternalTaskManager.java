@@ -62,6 +62,13 @@ public class ExternalTaskManager extends AbstractManager {
     getDbEntityManager().delete(externalTask);
   }
 
+  @SuppressWarnings("unchecked")
+  public void deleteExternalTasksByProcessInstanceIds(List<String> processInstanceIds) {
+    List<String> errorDetailsIds = getDbEntityManager().selectList("selectExternalTaskErrorDetailsIdsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExternalTaskEntity.class, "deleteExternalTasksByProcessInstanceIds", processInstanceIds);
+    getByteArrayManager().deleteByteArraysByIds(errorDetailsIds);
+  }
+
   @SuppressWarnings("unchecked")
   public List<ExternalTaskEntity> findExternalTasksByExecutionId(String id) {
     return getDbEntityManager().selectList("selectExternalTasksByExecutionId", id);
@@ -139,6 +146,14 @@ public class ExternalTaskManager extends AbstractManager {
     updateExternalTaskSuspensionState(processInstanceId, null, null, suspensionState);
   }
 
+  public void updateExternalTaskSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("isProcessDefinitionTenantIdSet", false);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(ExternalTaskEntity.class, "updateExternalTaskSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateExternalTaskSuspensionStateByProcessDefinitionId(String processDefinitionId, SuspensionState suspensionState) {
     updateExternalTaskSuspensionState(null, processDefinitionId, null, suspensionState);
   }
@@ -29,7 +29,10 @@ import java.util.List;
 import org.camunda.bpm.engine.filter.Filter;
 import org.camunda.bpm.engine.impl.AbstractQuery;
 import org.camunda.bpm.engine.impl.QueryValidators.StoredQueryValidator;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.filter.FilterQueryImpl;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 
 /**
@@ -55,6 +58,7 @@ public class FilterManager extends AbstractManager {
     else {
       checkAuthorization(UPDATE, FILTER, filter.getId());
       getDbEntityManager().merge((FilterEntity) filter);
+      invalidateFilterResultCache(filter.getId());
     }
 
     return filter;
@@ -70,6 +74,8 @@ public class FilterManager extends AbstractManager {
     deleteAuthorizations(FILTER, filterId);
     // delete the filter itself
     getDbEntityManager().delete(filter);
+
+    invalidateFilterResultCache(filterId);
   }
 
   public FilterEntity findFilterById(String filterId) {
@@ -93,6 +99,20 @@ public class FilterManager extends AbstractManager {
     return (Long) getDbEntityManager().selectOne("selectFilterCountByQueryCriteria", filterQuery);
   }
 
+  /**
+   * Drops the cached results of the filter once the current transaction is committed.
+   * Results of a previous filter revision are never returned, but would be kept until
+   * they expire.
+   */
+  protected void invalidateFilterResultCache(final String filterId) {
+    final FilterResultCache cache = Context.getProcessEngineConfiguration().getFilterResultCache();
+    if (cache != null) {
+      Context.getCommandContext()
+        .getTransactionContext()
+        .addTransactionListener(TransactionState.COMMITTED, commandContext -> cache.invalidate(filterId));
+    }
+  }
+
   // authorization utils /////////////////////////////////
 
   protected void createDefaultAuthorizations(Filter filter) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import static org.camunda.bpm.engine.authorization.Authorization.ANY;
+import static org.camunda.bpm.engine.authorization.Permissions.READ;
+import static org.camunda.bpm.engine.authorization.Permissions.READ_HISTORY;
+import static org.camunda.bpm.engine.authorization.Resources.DECISION_DEFINITION;
+import static org.camunda.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+import static org.camunda.bpm.engine.authorization.Resources.TENANT;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricTaskInstance;
+import org.camunda.bpm.engine.history.HistoricVariableUpdate;
+import org.camunda.bpm.engine.history.UserOperationLogEntry;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.CompositePermissionCheck;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.PermissionCheckBuilder;
+import org.camunda.bpm.engine.impl.history.HistoricChangeFeedToken;
+import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Selects the entries of history change feeds. The entries of a feed are ordered by
+ * a time column and the id, which allows to continue a feed after the last fetched
+ * entry even if several entries share the same time. Entries younger than the
+ * configured safety lag are not selected.
+ */
+public class HistoricChangeFeedManager extends AbstractManager {
+
+  protected static final Map<HistoricChangeFeedType<?>, ChangeFeed<?>> CHANGE_FEEDS = new HashMap<>();
+
+  static {
+    addChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED,
+        "selectHistoricProcessInstanceChangeFeed", "START_TIME_", HistoricProcessInstance::getStartTime);
+    addChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_COMPLETED,
+        "selectHistoricProcessInstanceChangeFeed", "END_TIME_", HistoricProcessInstance::getEndTime);
+    addChangeFeed(HistoricChangeFeedType.ACTIVITY_INSTANCE_STARTED,
+        "selectHistoricActivityInstanceChangeFeed", "START_TIME_", HistoricActivityInstance::getStartTime);
+    addChangeFeed(HistoricChangeFeedType.ACTIVITY_INSTANCE_COMPLETED,
+        "selectHistoricActivityInstanceChangeFeed", "END_TIME_", HistoricActivityInstance::getEndTime);
+    addChangeFeed(HistoricChangeFeedType.TASK_INSTANCE_STARTED,
+        "selectHistoricTaskInstanceChangeFeed", "START_TIME_", HistoricTaskInstance::getStartTime);
+    addChangeFeed(HistoricChangeFeedType.TASK_INSTANCE_COMPLETED,
+        "selectHistoricTaskInstanceChangeFeed", "END_TIME_", HistoricTaskInstance::getEndTime);
+    addChangeFeed(HistoricChangeFeedType.VARIABLE_UPDATE,
+        "selectHistoricVariableUpdateChangeFeed", "TIME_", HistoricVariableUpdate::getTime);
+    addChangeFeed(HistoricChangeFeedType.USER_OPERATION,
+        "selectUserOperationLogChangeFeed", "TIMESTAMP_", UserOperationLogEntry::getTimestamp);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> List<T> findChanges(HistoricChangeFeedType<T> type, HistoricChangeFeedToken after, int maxResults) {
+    checkIsAuthorizedToReadHistoryAndTenants();
+
+    ChangeFeed<T> changeFeed = getChangeFeed(type);
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("timeColumn", changeFeed.timeColumn);
+    params.put("maxResults", maxResults);
+    params.put("beforeTime", getUpperBound());
+    if (after != null) {
+      params.put("afterTime", after.getTime());
+      params.put("afterId", after.getId());
+    }
+
+    return getDbEntityManager().selectList(changeFeed.statement, params);
+  }
+
+  /**
+   * Entries may commit after newer entries, so the feed never reads entries of the recent past
+   * that could still be followed by entries of running transactions.
+   */
+  protected Date getUpperBound() {
+    long safetyLag = Context.getProcessEngineConfiguration().getHistoricChangeFeedSafetyLagInMillis();
+    return new Date(ClockUtil.getCurrentTime().getTime() - safetyLag);
+  }
+
+  /**
+   * @return the position of the given entry in its change feed
+   */
+  public <T> HistoricChangeFeedToken createToken(HistoricChangeFeedType<T> type, T entry) {
+    Date time = getChangeFeed(type).time.apply(entry);
+    return new HistoricChangeFeedToken(time, ((DbEntity) entry).getId());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> ChangeFeed<T> getChangeFeed(HistoricChangeFeedType<T> type) {
+    return (ChangeFeed<T>) CHANGE_FEEDS.get(type);
+  }
+
+  protected void checkIsAuthorizedToReadHistoryAndTenants() {
+    CompositePermissionCheck necessaryPermissions = new PermissionCheckBuilder()
+      .conjunctive()
+      .atomicCheckForResourceId(PROCESS_DEFINITION, ANY, READ_HISTORY)
+      .atomicCheckForResourceId(DECISION_DEFINITION, ANY, READ_HISTORY)
+      .atomicCheckForResourceId(TENANT, ANY, READ)
+      .build();
+    getAuthorizationManager().checkAuthorization(necessaryPermissions);
+  }
+
+  protected static <T> void addChangeFeed(HistoricChangeFeedType<T> type, String statement, String timeColumn,
+      Function<T, Date> time) {
+    CHANGE_FEEDS.put(type, new ChangeFeed<>(statement, timeColumn, time));
+  }
+
+  protected static class ChangeFeed<T> {
+
+    protected final String statement;
+    protected final String timeColumn;
+    protected final Function<T, Date> time;
+
+    protected ChangeFeed(String statement, String timeColumn, Function<T, Date> time) {
+      this.statement = statement;
+      this.timeColumn = timeColumn;
+      this.time = time;
+    }
+
+  }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSession;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
+import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+
+/**
+ * <p>Maintains the monthly partitions of history tables that are range-partitioned by
+ * <code>REMOVAL_TIME_</code> (see <code>db/partitioning/postgres_history_partitioning.sql</code>).</p>
+ *
+ * <p>A partition <code>&lt;table&gt;_p&lt;yyyyMM&gt;</code> holds the rows with a removal time
+ * within the given month. Once the month has passed, all rows of the partition are due for
+ * removal and the partition is dropped as a whole.</p>
+ *
+ * @see ProcessEngineConfigurationImpl#isHistoryPartitioningEnabled()
+ */
+public class HistoryPartitionManager extends AbstractManager {
+
+  protected static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final List<String> PARTITIONED_TABLES = Collections.unmodifiableList(Arrays.asList(
+      "act_hi_procinst",
+      "act_hi_actinst",
+      "act_hi_taskinst",
+      "act_hi_varinst",
+      "act_hi_detail",
+      "act_hi_identitylink",
+      "act_hi_comment",
+      "act_hi_attachment",
+      "act_hi_op_log",
+      "act_hi_incident",
+      "act_hi_job_log",
+      "act_hi_ext_task_log"));
+
+  public static final String DEFAULT_PARTITION_SUFFIX = "_pdefault";
+
+  protected static final Pattern MONTHLY_PARTITION_PATTERN = Pattern.compile("^(.+)_p(\\d{6})$");
+
+  public boolean isHistoryPartitioningSupported() {
+    ProcessEngineConfigurationImpl configuration = Context.getProcessEngineConfiguration();
+    return configuration.isHistoryPartitioningEnabled()
+        && DbSqlSessionFactory.POSTGRES.equals(configuration.getDatabaseType());
+  }
+
+  /**
+   * Drops all partitions whose month ended before the given date.
+   *
+   * @return the number of dropped partitions
+   */
+  public int dropExpiredPartitions(Date removalTime) {
+    int droppedPartitions = 0;
+    for (String tableName : PARTITIONED_TABLES) {
+      droppedPartitions += dropExpiredPartitions(tableName, removalTime);
+    }
+    return droppedPartitions;
+  }
+
+  public int dropExpiredPartitions(String tableName, Date removalTime) {
+    int droppedPartitions = 0;
+
+    for (String partitionName : findPartitionNames(tableName)) {
+      Date upperBound = getPartitionUpperBound(partitionName);
+
+      if (upperBound != null && !upperBound.after(removalTime)) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("partitionName", partitionName);
+        getDbSqlSession().executeUpdate("dropHistoryPartition", parameters);
+        droppedPartitions++;
+      }
+    }
+
+    return droppedPartitions;
+  }
+
+  /**
+   * Creates the missing partitions for the month of the given date and the following months.
+   */
+  public void createPartitions(Date date, int monthsAhead) {
+    for (String tableName : PARTITIONED_TABLES) {
+      createPartitions(tableName, date, monthsAhead);
+    }
+  }
+
+  /**
+   * Creates the missing partitions of a table for the month of the given date and the following
+   * months. Tables without partitions have not been converted and are skipped. A partition is
+   * skipped if the default partition already contains rows of its month since PostgreSQL rejects
+   * such a partition.
+   */
+  public void createPartitions(String tableName, Date date, int monthsAhead) {
+    List<String> partitionNames = findPartitionNames(tableName);
+    if (partitionNames.isEmpty()) {
+      return;
+    }
+
+    Date from = getStartOfMonth(date);
+    for (int i = 0; i <= monthsAhead; i++) {
+      Date to = addMonths(from, 1);
+      String partitionName = getPartitionName(tableName, from);
+
+      if (!partitionNames.contains(partitionName)) {
+        if (partitionNames.contains(tableName + DEFAULT_PARTITION_SUFFIX)
+            && countDefaultPartitionRows(tableName, from, to) > 0) {
+          LOG.skipHistoryPartitionCreation(partitionName);
+        }
+        else {
+          createPartition(tableName, partitionName, from, to);
+        }
+      }
+
+      from = to;
+    }
+  }
+
+  /**
+   * @return the names of the partitions of the table in the configured schema, without table prefix
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findPartitionNames(String tableName) {
+    DbSqlSession dbSqlSession = getDbSqlSession();
+    // unquoted identifiers are stored in lower case
+    String relationPrefix = dbSqlSession.prependDatabaseTablePrefix("").toLowerCase();
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("schema", dbSqlSession.getDbSqlSessionFactory().getDatabaseSchema());
+    parameters.put("tableName", relationPrefix + tableName);
+    List<String> relationNames = (List<String>) dbSqlSession.selectList("selectHistoryPartitionNames", parameters);
+
+    List<String> partitionNames = new ArrayList<>();
+    for (String relationName : relationNames) {
+      partitionNames.add(relationName.substring(relationPrefix.length()));
+    }
+    return partitionNames;
+  }
+
+  protected long countDefaultPartitionRows(String tableName, Date from, Date to) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("partitionName", tableName + DEFAULT_PARTITION_SUFFIX);
+    parameters.put("from", from);
+    parameters.put("to", to);
+    return (Long) getDbSqlSession().selectOne("selectHistoryPartitionRowCount", parameters);
+  }
+
+  protected void createPartition(String tableName, String partitionName, Date from, Date to) {
+    SimpleDateFormat timestampFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("tableName", tableName);
+    parameters.put("partitionName", partitionName);
+    parameters.put("fromValue", timestampFormat.format(from));
+    parameters.put("toValue", timestampFormat.format(to));
+    getDbSqlSession().executeUpdate("createHistoryPartition", parameters);
+  }
+
+  public static String getPartitionName(String tableName, Date month) {
+    return tableName + "_p" + new SimpleDateFormat("yyyyMM").format(month);
+  }
+
+  /**
+   * @return the start of the month following the month of the partition, or null
+   * if the name does not denote a monthly partition
+   */
+  public static Date getPartitionUpperBound(String partitionName) {
+    Matcher matcher = MONTHLY_PARTITION_PATTERN.matcher(partitionName);
+    if (!matcher.matches()) {
+      return null;
+    }
+
+    String month = matcher.group(2);
+    Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(Integer.parseInt(month.substring(0, 4)), Integer.parseInt(month.substring(4)) - 1, 1);
+    calendar.add(Calendar.MONTH, 1);
+    return calendar.getTime();
+  }
+
+  protected static Date getStartOfMonth(Date date) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    int year = calendar.get(Calendar.YEAR);
+    int month = calendar.get(Calendar.MONTH);
+    calendar.clear();
+    calendar.set(year, month, 1);
+    return calendar.getTime();
+  }
+
+  protected static Date addMonths(Date date, int months) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    calendar.add(Calendar.MONTH, months);
+    return calendar.getTime();
+  }
+
+}
@@ -40,6 +40,12 @@ public class IncidentManager extends AbstractManager {
     return getDbEntityManager().selectList("selectIncidentsByProcessInstanceId", id);
   }
 
+  public void deleteIncidentsByProcessInstanceIds(List<String> processInstanceIds) {
+    // incidents of a process instance can be causes of each other
+    getDbEntityManager().updatePreserveOrder(IncidentEntity.class, "updateIncidentCausesByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(IncidentEntity.class, "deleteIncidentsByProcessInstanceIds", processInstanceIds);
+  }
+
   public long findIncidentCountByQueryCriteria(IncidentQueryImpl incidentQuery) {
     configureQuery(incidentQuery);
     return (Long) getDbEntityManager().selectOne("selectIncidentCountByQueryCriteria", incidentQuery);
@@ -35,6 +35,7 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.DbEntityLifecycleAware;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.HasDbReferences;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.incident.IncidentContext;
@@ -62,7 +63,7 @@ import org.camunda.bpm.engine.runtime.Job;
  */
 public abstract class JobEntity extends AcquirableJobEntity
     implements Serializable, Job, DbEntity,
-    HasDbRevision, HasDbReferences, DbEntityLifecycleAware {
+    HasDbRevision, HasDbReferences, HasDbChangedProperties, DbEntityLifecycleAware {
 
   private final static EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
 
@@ -112,8 +113,13 @@ public abstract class JobEntity extends AcquirableJobEntity
   // last failing activity id ///////////////////////
   protected String failedActivityId;
 
+  // job acquisition partition ///////////////////////
+  protected Integer partition;
+
   protected Map<String, Class> persistedDependentEntities;
 
+  protected transient Set<String> changedProperties;
+
   public void execute(CommandContext commandContext) {
     if (executionId != null) {
       ExecutionEntity execution = getExecution();
@@ -130,6 +136,8 @@ public abstract class JobEntity extends AcquirableJobEntity
     JobHandler jobHandler = getJobHandler();
     JobHandlerConfiguration configuration = getJobHandlerConfiguration();
     ensureNotNull("Cannot find job handler '" + jobHandlerType + "' from job '" + this + "'", "jobHandler", jobHandler);
+
+    jobHandler.preExecute(configuration, this, commandContext);
     jobHandler.execute(configuration, execution, commandContext, tenantId);
     postExecute(commandContext);
   }
@@ -217,6 +225,14 @@ public abstract class JobEntity extends AcquirableJobEntity
     return persistentState;
   }
 
+  public void setChangedProperties(Set<String> changedProperties) {
+    this.changedProperties = changedProperties;
+  }
+
+  public boolean isPropertyChanged(String property) {
+    return changedProperties == null || changedProperties.contains(property);
+  }
+
   public void setExecution(ExecutionEntity execution) {
     if (execution != null) {
       this.execution = execution;
@@ -673,6 +689,14 @@ public abstract class JobEntity extends AcquirableJobEntity
     this.failedActivityId = failedActivityId;
   }
 
+  public Integer getPartition() {
+    return partition;
+  }
+
+  public void setPartition(Integer partition) {
+    this.partition = partition;
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName()
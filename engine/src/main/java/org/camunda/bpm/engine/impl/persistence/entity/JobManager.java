@@ -51,6 +51,7 @@ import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.impl.util.ImmutablePair;
+import org.camunda.bpm.engine.impl.util.PartitionUtil;
 import org.camunda.bpm.engine.runtime.Job;
 
 
@@ -78,6 +79,13 @@ public class JobManager extends AbstractManager {
     job.setCreateTime(ClockUtil.getCurrentTime());
 
     getDbEntityManager().insert(job);
+
+    int partitionCount = Context.getProcessEngineConfiguration().getJobExecutorPartitionCount();
+    if (partitionCount > 0) {
+      // jobs of the same process instance share a partition, so that exclusive jobs are acquired by the same node
+      String partitionKey = job.getProcessInstanceId() != null ? job.getProcessInstanceId() : job.getId();
+      job.setPartition(PartitionUtil.getPartition(partitionKey, partitionCount));
+    }
     getHistoricJobLogManager().fireJobCreatedEvent(job);
   }
 
@@ -94,6 +102,17 @@ public class JobManager extends AbstractManager {
 
   }
 
+  /**
+   * Deletes the jobs of the given process instances and their exception stack traces
+   * with set-based statements, without creating historic job log entries.
+   */
+  @SuppressWarnings("unchecked")
+  public void deleteJobsByProcessInstanceIds(List<String> processInstanceIds) {
+    List<String> exceptionStackIds = getDbEntityManager().selectList("selectJobExceptionStackIdsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(JobEntity.class, "deleteJobsByProcessInstanceIds", processInstanceIds);
+    getByteArrayManager().deleteByteArraysByIds(exceptionStackIds);
+  }
+
   public void insertAndHintJobExecutor(JobEntity jobEntity) {
     jobEntity.insert();
     if (Context.getProcessEngineConfiguration().isHintJobExecutor()) {
@@ -199,8 +218,64 @@ public class JobManager extends AbstractManager {
     return (JobEntity) getDbEntityManager().selectOne("selectJob", jobId);
   }
 
-  @SuppressWarnings("unchecked")
   public List<AcquirableJobEntity> findNextJobsToExecute(Page page) {
+    return findNextJobsToExecute(page, null);
+  }
+
+  /**
+   * @param partitions if not null, only jobs that belong to one of the given partitions
+   *   or to no partition at all are returned
+   */
+  @SuppressWarnings("unchecked")
+  public List<AcquirableJobEntity> findNextJobsToExecute(Page page, List<Integer> partitions) {
+    ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
+
+    Map<String,Object> params = createJobAcquisitionParameters(partitions);
+
+    List<QueryOrderingProperty> orderingProperties = new ArrayList<>();
+    if (engineConfiguration.isJobExecutorAcquireByPriority()) {
+      orderingProperties.add(JOB_PRIORITY_ORDERING_PROPERTY);
+    }
+    if (engineConfiguration.isJobExecutorPreferTimerJobs()) {
+      orderingProperties.add(JOB_TYPE_ORDERING_PROPERTY);
+    }
+    if (engineConfiguration.isJobExecutorAcquireByDueDate()) {
+      orderingProperties.add(JOB_DUEDATE_ORDERING_PROPERTY);
+    }
+
+    params.put("orderingProperties", orderingProperties);
+    // don't apply default sorting
+    params.put("applyOrdering", !orderingProperties.isEmpty());
+
+    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+  }
+
+  /**
+   * Finds acquirable timers that are not due yet but become due until the given date,
+   * ordered by due date.
+   *
+   * @param partitions if not null, only timers that belong to one of the given partitions
+   *   or to no partition at all are returned
+   */
+  @SuppressWarnings("unchecked")
+  public List<AcquirableJobEntity> findNextTimersToPrefetch(Page page, Date prefetchUntil, List<Integer> partitions) {
+    Map<String,Object> params = createJobAcquisitionParameters(partitions);
+    params.put("prefetchUntil", prefetchUntil);
+
+    List<QueryOrderingProperty> orderingProperties = new ArrayList<>();
+    orderingProperties.add(JOB_DUEDATE_ORDERING_PROPERTY);
+    params.put("orderingProperties", orderingProperties);
+    params.put("applyOrdering", true);
+
+    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<AcquirableJobEntity> findAcquirableJobsByIds(List<String> jobIds) {
+    return getDbEntityManager().selectList("selectAcquirableJobsByIds", jobIds);
+  }
+
+  protected Map<String, Object> createJobAcquisitionParameters(List<Integer> partitions) {
     ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
 
     Map<String,Object> params = new HashMap<>();
@@ -220,22 +295,12 @@ public class JobManager extends AbstractManager {
 
     params.put("historyCleanupEnabled", engineConfiguration.isHistoryCleanupEnabled());
 
-    List<QueryOrderingProperty> orderingProperties = new ArrayList<>();
-    if (engineConfiguration.isJobExecutorAcquireByPriority()) {
-      orderingProperties.add(JOB_PRIORITY_ORDERING_PROPERTY);
+    params.put("partitioned", partitions != null);
+    if (partitions != null && !partitions.isEmpty()) {
+      params.put("partitions", partitions);
     }
-    if (engineConfiguration.isJobExecutorPreferTimerJobs()) {
-      orderingProperties.add(JOB_TYPE_ORDERING_PROPERTY);
-    }
-    if (engineConfiguration.isJobExecutorAcquireByDueDate()) {
-      orderingProperties.add(JOB_DUEDATE_ORDERING_PROPERTY);
-    }
-
-    params.put("orderingProperties", orderingProperties);
-    // don't apply default sorting
-    params.put("applyOrdering", !orderingProperties.isEmpty());
 
-    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+    return params;
   }
 
   @SuppressWarnings("unchecked")
@@ -338,6 +403,13 @@ public class JobManager extends AbstractManager {
     getDbEntityManager().update(JobEntity.class, "updateJobSuspensionStateByParameters", configureParameterizedQuery(parameters));
   }
 
+  public void updateJobSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(JobEntity.class, "updateJobSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateJobSuspensionStateByProcessDefinitionId(String processDefinitionId, SuspensionState suspensionState) {
     Map<String, Object> parameters = new HashMap<>();
     parameters.put("processDefinitionId", processDefinitionId);
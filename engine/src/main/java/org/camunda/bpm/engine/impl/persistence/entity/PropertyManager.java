@@ -16,6 +16,8 @@
  */
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import java.util.List;
+
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 
 
@@ -29,6 +31,15 @@ public class PropertyManager extends AbstractManager {
     return getDbEntityManager().selectById(PropertyEntity.class, propertyId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<PropertyEntity> findPropertiesByNamePrefix(String namePrefix) {
+    return getDbEntityManager().selectList("selectPropertiesByNamePrefix", namePrefix + "%");
+  }
+
+  public void deleteProperty(PropertyEntity property) {
+    getDbEntityManager().delete(property);
+  }
+
   public void acquireExclusiveLock() {
     // We lock a special deployment lock property
     getDbEntityManager().lock("lockDeploymentLockProperty");
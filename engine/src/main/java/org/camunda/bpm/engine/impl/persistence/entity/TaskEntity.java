@@ -62,6 +62,7 @@ import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore.VariablesProvider;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangedProperties;
 import org.camunda.bpm.engine.impl.db.HasDbReferences;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
@@ -91,7 +92,7 @@ import org.camunda.bpm.model.xml.type.ModelElementType;
  * @author Falko Menge
  * @author Deivarayan Azhagappan
  */
-public class TaskEntity extends AbstractVariableScope implements Task, DelegateTask, Serializable, DbEntity, HasDbRevision, HasDbReferences, CommandContextListener, VariablesProvider<VariableInstanceEntity> {
+public class TaskEntity extends AbstractVariableScope implements Task, DelegateTask, Serializable, DbEntity, HasDbRevision, HasDbReferences, HasDbChangedProperties, CommandContextListener, VariablesProvider<VariableInstanceEntity> {
 
   protected static final List<VariableInstanceLifecycleListener<CoreVariableInstance>> DEFAULT_VARIABLE_LIFECYCLE_LISTENERS =
     Arrays.<VariableInstanceLifecycleListener<CoreVariableInstance>>asList(
@@ -109,6 +110,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   protected String id;
   protected int revision;
+  protected transient Set<String> changedProperties;
 
   protected String owner;
   protected String assignee;
@@ -449,6 +451,14 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     return revision+1;
   }
 
+  public void setChangedProperties(Set<String> changedProperties) {
+    this.changedProperties = changedProperties;
+  }
+
+  public boolean isPropertyChanged(String property) {
+    return changedProperties == null || changedProperties.contains(property);
+  }
+
   public void ensureParentTaskActive() {
     if (parentTaskId != null) {
       TaskEntity parentTask = Context
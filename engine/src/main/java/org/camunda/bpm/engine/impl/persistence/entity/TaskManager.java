@@ -71,6 +71,15 @@ public class TaskManager extends AbstractManager {
       }
   }
 
+  /**
+   * Deletes the tasks of the given process instances and their identity links
+   * with set-based statements, without firing task listeners.
+   */
+  public void deleteTasksByProcessInstanceIds(List<String> processInstanceIds) {
+    getDbEntityManager().deletePreserveOrder(IdentityLinkEntity.class, "deleteTaskIdentityLinksByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(TaskEntity.class, "deleteTasksByProcessInstanceIds", processInstanceIds);
+  }
+
   public void deleteTask(TaskEntity task, String deleteReason, boolean cascade, boolean skipCustomListeners) {
     if (!task.isDeleted()) {
       task.setDeleted(true);
@@ -171,6 +180,13 @@ public class TaskManager extends AbstractManager {
     getDbEntityManager().update(TaskEntity.class, "updateTaskSuspensionStateByParameters", configureParameterizedQuery(parameters));
   }
 
+  public void updateTaskSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(TaskEntity.class, "updateTaskSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateTaskSuspensionStateByProcessDefinitionKey(String processDefinitionKey, SuspensionState suspensionState) {
     Map<String, Object> parameters = new HashMap<String, Object>();
     parameters.put("processDefinitionKey", processDefinitionKey);
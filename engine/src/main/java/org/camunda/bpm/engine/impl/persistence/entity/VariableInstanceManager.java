@@ -81,6 +81,13 @@ public class VariableInstanceManager extends AbstractManager {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  public void deleteVariableInstancesByProcessInstanceIds(List<String> processInstanceIds) {
+    List<String> byteArrayIds = getDbEntityManager().selectList("selectVariableByteArrayIdsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(VariableInstanceEntity.class, "deleteVariableInstancesByProcessInstanceIds", processInstanceIds);
+    getByteArrayManager().deleteByteArraysByIds(byteArrayIds);
+  }
+
   public long findVariableInstanceCountByQueryCriteria(VariableInstanceQueryImpl variableInstanceQuery) {
     configureQuery(variableInstanceQuery);
     return (Long) getDbEntityManager().selectOne("selectVariableInstanceCountByQueryCriteria", variableInstanceQuery);
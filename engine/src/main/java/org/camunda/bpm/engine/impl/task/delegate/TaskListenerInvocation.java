@@ -45,4 +45,9 @@ public class TaskListenerInvocation extends DelegateInvocation {
     taskListenerInstance.notify(delegateTask);
   }
 
+  @Override
+  public String getTargetName() {
+    return taskListenerInstance.getClass().getName();
+  }
+
 }
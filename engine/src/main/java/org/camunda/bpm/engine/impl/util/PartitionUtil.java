@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+/**
+ * Assigns entities to a fixed number of partitions based on the hash of an id,
+ * so that all entities with the same id end up in the same partition.
+ */
+public class PartitionUtil {
+
+  /**
+   * @param id the id to partition by, e.g. a process instance id
+   * @param partitionCount the number of partitions, must be positive
+   *
+   * @return the partition in the range <code>[0, partitionCount)</code> or
+   *   <code>null</code> if no id is given
+   */
+  public static Integer getPartition(String id, int partitionCount) {
+    if (id == null) {
+      return null;
+    }
+    return (id.hashCode() & Integer.MAX_VALUE) % partitionCount;
+  }
+
+}
@@ -45,4 +45,9 @@ public class CaseVariableListenerInvocation extends DelegateInvocation {
     variableListenerInstance.notify(variableInstance);
   }
 
+  @Override
+  public String getTargetName() {
+    return variableListenerInstance.getClass().getName();
+  }
+
 }
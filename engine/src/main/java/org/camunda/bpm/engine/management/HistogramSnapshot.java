@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.management;
+
+/**
+ * A point-in-time view of a latency histogram recorded by the process engine.
+ * Durations are recorded in microseconds.
+ *
+ * @see Metrics#COMMAND_DURATION
+ * @see Metrics#JOB_EXECUTION_DURATION
+ * @see Metrics#JOB_ACQUISITION_DURATION
+ * @see Metrics#FLUSH_DURATION
+ */
+public interface HistogramSnapshot {
+
+  /**
+   * @return the name of the histogram
+   */
+  String getName();
+
+  /**
+   * @return the number of recorded values
+   */
+  long getCount();
+
+  /**
+   * @return the sum of all recorded values
+   */
+  long getTotal();
+
+  /**
+   * @return the smallest recorded value or <code>0</code> if no value was recorded
+   */
+  long getMin();
+
+  /**
+   * @return the largest recorded value or <code>0</code> if no value was recorded
+   */
+  long getMax();
+
+  /**
+   * @return the arithmetic mean of the recorded values
+   */
+  double getMean();
+
+  /**
+   * @param percentile a percentile between <code>0</code> and <code>100</code>, e.g. <code>99.9</code>
+   * @return the value below or at which the given percentage of the recorded values lies,
+   *   with a relative error below 1/32 of the value
+   */
+  long getValueAtPercentile(double percentile);
+
+}
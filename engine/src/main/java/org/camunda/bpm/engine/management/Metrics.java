@@ -84,4 +84,26 @@ public class Metrics {
    */
   public static final String UNIQUE_TASK_WORKERS = "unique-task-workers";
   public static final String TASK_USERS = "task-users";
+
+  /**
+   * Histogram of the duration of top-level commands in microseconds,
+   * including flush and commit.
+   */
+  public static final String COMMAND_DURATION = "command-duration";
+
+  /**
+   * Histogram of the duration of job executions in microseconds,
+   * excluding flush and commit.
+   */
+  public static final String JOB_EXECUTION_DURATION = "job-execution-duration";
+
+  /**
+   * Histogram of the duration of job acquisitions in microseconds.
+   */
+  public static final String JOB_ACQUISITION_DURATION = "job-acquisition-duration";
+
+  /**
+   * Histogram of the duration of flushing the sessions of a command context in microseconds.
+   */
+  public static final String FLUSH_DURATION = "flush-duration";
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.management;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The profile of a command whose execution took longer than the configured
+ * slow command threshold. Contains the atomic operations, delegate and listener
+ * invocations, nested commands and SQL statements performed by the command, in
+ * the order they were started. Durations are recorded in microseconds.
+ *
+ * @see org.camunda.bpm.engine.ManagementService#getSlowCommandProfiles()
+ */
+public interface SlowCommandProfile {
+
+  /**
+   * @return the id of the profile, unique within the process engine
+   */
+  String getId();
+
+  /**
+   * @return the simple class name of the command
+   */
+  String getCommandName();
+
+  /**
+   * @return the name of the thread that executed the command
+   */
+  String getThreadName();
+
+  Date getStartTime();
+
+  /**
+   * @return the wall time of the command including flush and commit
+   */
+  long getDuration();
+
+  /**
+   * @return true if the command failed with an exception
+   */
+  boolean isFailed();
+
+  /**
+   * @return the entries of the profile in the order they were started
+   */
+  List<SlowCommandProfileEntry> getEntries();
+
+  /**
+   * @return the number of entries that were not retained because the profile was full
+   */
+  long getDroppedEntryCount();
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.management;
+
+/**
+ * A single step of a {@link SlowCommandProfile}. Entries nest: an entry of
+ * depth <code>n + 1</code> was performed within the closest preceding entry of
+ * depth <code>n</code>. Durations are recorded in microseconds.
+ */
+public interface SlowCommandProfileEntry {
+
+  /** an atomic operation; the name is the canonical name of the operation */
+  String TYPE_OPERATION = "operation";
+
+  /** an invocation of user code like a delegate, listener, script or expression;
+   * the name is the class name of the invoked object or the expression */
+  String TYPE_DELEGATE = "delegate";
+
+  /** a command executed within the command context of the profiled command;
+   * the name is the simple class name of the command */
+  String TYPE_COMMAND = "command";
+
+  /** a SQL statement; the name is the MyBatis statement id */
+  String TYPE_SQL = "sql";
+
+  String getType();
+
+  String getName();
+
+  /**
+   * @return the id of the activity the entry was performed in, if any
+   */
+  String getActivityId();
+
+  String getProcessInstanceId();
+
+  String getProcessDefinitionId();
+
+  /**
+   * @return additional information like the number of rows of a SQL statement
+   */
+  String getDetail();
+
+  int getDepth();
+
+  /**
+   * @return the time between the start of the command and the start of this entry
+   */
+  long getStartOffset();
+
+  long getDuration();
+
+}
@@ -17,6 +17,8 @@
 package org.camunda.bpm.engine.query;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
@@ -83,4 +85,31 @@ public interface Query<T extends Query< ? , ? >, U extends Object> {
    */
   List<U> listPage(int firstResult, int maxResults);
 
+  /**
+   * Executes the query in batches of the given size and passes each result to the
+   * consumer. Only one batch is held in memory at a time. If no ordering is specified,
+   * queries that support it seek past the id of the last result of the previous batch
+   * instead of paging by offset, which keeps the cost per batch constant for large
+   * result sets.
+   *
+   * @param batchSize the maximum number of results fetched by a single database query
+   * @param consumer receives each result
+   * @throws BadUserRequestException
+   *   When {@param batchSize} is not positive or exceeds the maximum results limit.
+   */
+  void forEach(int batchSize, Consumer<U> consumer);
+
+  /**
+   * Executes the query lazily and returns a sequential stream of the results.
+   * Results are fetched in batches of 1000 as described in {@link #forEach(int, Consumer)}.
+   * The stream is not thread-safe and must not be used while the query is modified.
+   */
+  Stream<U> stream();
+
+  /**
+   * Executes the query lazily and returns a sequential stream of the results,
+   * fetched in batches of the given size as described in {@link #forEach(int, Consumer)}.
+   */
+  Stream<U> stream(int batchSize);
+
 }
@@ -300,4 +300,13 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
    * this exception, {@link #or()} must be invoked first.
    * */
   ProcessInstanceQuery endOr();
+
+  /**
+   * Only select process instances with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  ProcessInstanceQuery afterId(String id);
+
 }
@@ -1045,4 +1045,13 @@ public interface TaskQuery extends Query<TaskQuery, Task>{
    * this exception, {@link #or()} must be invoked first.
    * */
   TaskQuery endOr();
+
+  /**
+   * Only select tasks with an id greater than the given id.
+   * Combined with the default ordering by id, this allows to page through large
+   * result sets by passing the id of the last result of the previous page
+   * instead of an offset.
+   */
+  TaskQuery afterId(String id);
+
 }
@@ -132,6 +132,7 @@ create table ACT_RU_JOB (
     TENANT_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     LAST_FAILURE_LOG_ID_ varchar(64),
+    PARTITION_ integer,
     primary key (ID_)
 );
 
@@ -336,6 +337,7 @@ create table ACT_RU_EXT_TASK (
   TENANT_ID_ varchar(64),
   PRIORITY_ bigint NOT NULL DEFAULT 0,
   LAST_FAILURE_LOG_ID_ varchar(64),
+  PARTITION_ integer,
   primary key (ID_)
 );
 
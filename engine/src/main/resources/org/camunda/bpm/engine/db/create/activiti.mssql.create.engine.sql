@@ -132,6 +132,7 @@ create table ACT_RU_JOB (
     TENANT_ID_ nvarchar(64),
     CREATE_TIME_ datetime2,
     LAST_FAILURE_LOG_ID_ nvarchar(64),
+    PARTITION_ int,
     primary key (ID_)
 );
 
@@ -336,6 +337,7 @@ create table ACT_RU_EXT_TASK (
   TENANT_ID_ nvarchar(64),
   PRIORITY_ numeric(19,0) NOT NULL DEFAULT 0,
   LAST_FAILURE_LOG_ID_ nvarchar(64),
+  PARTITION_ int,
   primary key (ID_)
 );
 
@@ -132,6 +132,7 @@ create table ACT_RU_JOB (
     TENANT_ID_ NVARCHAR2(64),
     CREATE_TIME_ TIMESTAMP(6),
     LAST_FAILURE_LOG_ID_ NVARCHAR2(64),
+    PARTITION_ INTEGER,
     primary key (ID_)
 );
 
@@ -336,6 +337,7 @@ create table ACT_RU_EXT_TASK (
   TENANT_ID_ NVARCHAR2(64),
   PRIORITY_ NUMBER(19,0) DEFAULT 0 NOT NULL,
   LAST_FAILURE_LOG_ID_ NVARCHAR2(64),
+  PARTITION_ INTEGER,
   primary key (ID_)
 );
 
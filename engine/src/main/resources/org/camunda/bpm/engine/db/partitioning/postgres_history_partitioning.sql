@@ -0,0 +1,81 @@
+--
+-- Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+-- under one or more contributor license agreements. See the NOTICE file
+-- distributed with this work for additional information regarding copyright
+-- ownership. Camunda licenses this file to you under the Apache License,
+-- Version 2.0; you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Converts the history tables written by process instances into tables that are
+-- range-partitioned by REMOVAL_TIME_ (PostgreSQL 11 or later).
+--
+-- Run this script once while the process engine is stopped, then enable the
+-- historyPartitioningEnabled engine property. The removal-time-based history
+-- cleanup then creates monthly partitions in advance and drops partitions that
+-- expired as a whole instead of deleting their rows.
+--
+-- Rows without a removal time and rows in months without a partition are kept in
+-- the default partition <table>_pdefault and are still removed row by row.
+--
+-- PostgreSQL requires unique indexes of partitioned tables to include the
+-- partition key. The primary keys and unique constraints of the converted tables
+-- are therefore replaced by unique indexes on the original columns plus
+-- REMOVAL_TIME_, e.g. (ID_, REMOVAL_TIME_). A primary key is not possible, since
+-- primary key columns must not be null and rows of running process instances
+-- have no removal time yet. As null values are distinct in unique indexes, the
+-- database does not enforce unique ids for rows without removal time; the ids
+-- are generated by the process engine and remain unique.
+
+do $$
+declare
+  tbl text;
+  def text;
+  defs text[];
+begin
+  foreach tbl in array array[
+    'act_hi_procinst',
+    'act_hi_actinst',
+    'act_hi_taskinst',
+    'act_hi_varinst',
+    'act_hi_detail',
+    'act_hi_identitylink',
+    'act_hi_comment',
+    'act_hi_attachment',
+    'act_hi_op_log',
+    'act_hi_incident',
+    'act_hi_job_log',
+    'act_hi_ext_task_log'
+  ] loop
+
+    execute format('alter table %I rename to %I', tbl, tbl || '_unpartitioned');
+
+    defs := array(
+      select indexdef from pg_indexes
+      where schemaname = current_schema() and tablename = tbl || '_unpartitioned');
+
+    execute format('create table %I (like %I including defaults) partition by range (removal_time_)',
+      tbl, tbl || '_unpartitioned');
+    execute format('create table %I partition of %I default', tbl || '_pdefault', tbl);
+
+    execute format('insert into %I select * from %I', tbl, tbl || '_unpartitioned');
+    execute format('drop table %I', tbl || '_unpartitioned');
+
+    foreach def in array defs loop
+      def := replace(def, tbl || '_unpartitioned ', tbl || ' ');
+      if def like 'CREATE UNIQUE INDEX%' then
+        -- unique indexes of partitioned tables must contain the partition key
+        def := regexp_replace(def, '\)$', ', removal_time_)');
+      end if;
+      execute def;
+    end loop;
+
+  end loop;
+end $$;
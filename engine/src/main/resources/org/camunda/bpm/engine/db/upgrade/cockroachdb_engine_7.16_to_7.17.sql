@@ -24,3 +24,11 @@ ALTER TABLE ACT_RU_EXT_TASK
 
 insert into ACT_GE_SCHEMA_LOG
 values ('600', CURRENT_TIMESTAMP, '7.17.0');
+
+-- external task partitioning --
+ALTER TABLE ACT_RU_EXT_TASK
+  ADD COLUMN PARTITION_ integer;
+
+-- job acquisition partitioning --
+ALTER TABLE ACT_RU_JOB
+  ADD COLUMN PARTITION_ integer;
@@ -24,3 +24,11 @@ ALTER TABLE ACT_RU_JOB
   
 ALTER TABLE ACT_RU_EXT_TASK 
   ADD COLUMN LAST_FAILURE_LOG_ID_ varchar(64);
+
+-- external task partitioning --
+ALTER TABLE ACT_RU_EXT_TASK
+  ADD COLUMN PARTITION_ integer;
+
+-- job acquisition partitioning --
+ALTER TABLE ACT_RU_JOB
+  ADD COLUMN PARTITION_ integer;
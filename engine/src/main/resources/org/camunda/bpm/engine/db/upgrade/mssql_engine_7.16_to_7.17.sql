@@ -24,3 +24,11 @@ ALTER TABLE ACT_RU_JOB
   
 ALTER TABLE ACT_RU_EXT_TASK
   ADD LAST_FAILURE_LOG_ID_ nvarchar(64);
+
+-- external task partitioning --
+ALTER TABLE ACT_RU_EXT_TASK
+  ADD PARTITION_ int;
+
+-- job acquisition partitioning --
+ALTER TABLE ACT_RU_JOB
+  ADD PARTITION_ int;
@@ -24,3 +24,11 @@ ALTER TABLE ACT_RU_JOB
   
 ALTER TABLE ACT_RU_EXT_TASK
   ADD LAST_FAILURE_LOG_ID_ NVARCHAR2(64);
+
+-- external task partitioning --
+ALTER TABLE ACT_RU_EXT_TASK
+  ADD PARTITION_ INTEGER;
+
+-- job acquisition partitioning --
+ALTER TABLE ACT_RU_JOB
+  ADD PARTITION_ INTEGER;
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BatchAdaptiveInvocationsPerJobTest {
+
+  @Rule
+  public ProvidedProcessEngineRule processEngineRule = new ProvidedProcessEngineRule();
+
+  protected ManagementService managementService;
+  protected RuntimeService runtimeService;
+  protected ProcessEngineConfigurationImpl engineConfiguration;
+
+  @Before
+  public void assignServices() {
+    managementService = processEngineRule.getManagementService();
+    runtimeService = processEngineRule.getRuntimeService();
+    engineConfiguration = processEngineRule.getProcessEngineConfiguration();
+
+    engineConfiguration
+        .setAdaptiveInvocationsPerBatchJob(true)
+        .setAdaptiveBatchJobTargetDuration(2000)
+        .setInvocationsPerBatchJob(2);
+    engineConfiguration.setBatchJobsPerSeed(1);
+  }
+
+  @After
+  public void tearDown() {
+    engineConfiguration
+        .setAdaptiveInvocationsPerBatchJob(false)
+        .setAdaptiveBatchJobTargetDuration(2000)
+        .setInvocationsPerBatchJob(ProcessEngineConfigurationImpl.DEFAULT_INVOCATIONS_PER_BATCH_JOB);
+    engineConfiguration.setBatchJobsPerSeed(100);
+
+    managementService.createBatchQuery()
+        .list()
+        .forEach(this::cascadeDeleteBatch);
+  }
+
+  @Test
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void shouldIncreaseInvocationsPerBatchJobForFastBatchJobs() {
+    // given
+    startProcessInstances(10);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(runtimeService.createProcessInstanceQuery(), null);
+
+    // 250 ms per invocation would allow 8 invocations per batch job
+    engineConfiguration.getBatchJobExecutionTimes().record(batch.getBatchJobDefinitionId(), 500, 2);
+
+    // when
+    executeSeedJob(batch);
+
+    // then the invocations are at most doubled per seed job execution
+    Batch adaptedBatch = managementService.createBatchQuery().singleResult();
+    assertThat(adaptedBatch.getInvocationsPerBatchJob()).isEqualTo(4);
+    assertThat(adaptedBatch.getJobsCreated()).isEqualTo(1);
+    assertThat(adaptedBatch.getTotalJobs()).isEqualTo(3);
+  }
+
+  @Test
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void shouldDecreaseInvocationsPerBatchJobForSlowBatchJobs() {
+    // given
+    engineConfiguration.setInvocationsPerBatchJob(4);
+    startProcessInstances(10);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(runtimeService.createProcessInstanceQuery(), null);
+
+    // 1500 ms per invocation would allow a single invocation per batch job
+    engineConfiguration.getBatchJobExecutionTimes().record(batch.getBatchJobDefinitionId(), 6000, 4);
+
+    // when
+    executeSeedJob(batch);
+
+    // then the invocations are at most halved per seed job execution
+    Batch adaptedBatch = managementService.createBatchQuery().singleResult();
+    assertThat(adaptedBatch.getInvocationsPerBatchJob()).isEqualTo(2);
+    assertThat(adaptedBatch.getTotalJobs()).isEqualTo(5);
+  }
+
+  @Test
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void shouldKeepInvocationsPerBatchJobWithinBounds() {
+    // given
+    engineConfiguration.setMaxInvocationsPerBatchJob(3);
+    startProcessInstances(10);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(runtimeService.createProcessInstanceQuery(), null);
+
+    engineConfiguration.getBatchJobExecutionTimes().record(batch.getBatchJobDefinitionId(), 2, 2);
+
+    try {
+      // when
+      executeSeedJob(batch);
+
+      // then
+      Batch adaptedBatch = managementService.createBatchQuery().singleResult();
+      assertThat(adaptedBatch.getInvocationsPerBatchJob()).isEqualTo(3);
+      assertThat(adaptedBatch.getTotalJobs()).isEqualTo(4);
+
+    } finally {
+      engineConfiguration.setMaxInvocationsPerBatchJob(1000);
+    }
+  }
+
+  @Test
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void shouldRecordExecutionTimeOfBatchJobs() {
+    // given
+    startProcessInstances(2);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(runtimeService.createProcessInstanceQuery(), null);
+    executeSeedJob(batch);
+
+    // when
+    for (Job job : managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).list()) {
+      managementService.executeJob(job.getId());
+    }
+
+    // then
+    assertThat(engineConfiguration.getBatchJobExecutionTimes()
+        .getAverageInvocationTime(batch.getBatchJobDefinitionId())).isNotNull();
+  }
+
+  @Test
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void shouldRemoveExecutionTimesOnBatchDeletion() {
+    // given
+    startProcessInstances(2);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(runtimeService.createProcessInstanceQuery(), null);
+    engineConfiguration.getBatchJobExecutionTimes().record(batch.getBatchJobDefinitionId(), 10, 2);
+
+    // when
+    managementService.deleteBatch(batch.getId(), true);
+
+    // then
+    assertThat(engineConfiguration.getBatchJobExecutionTimes()
+        .getAverageInvocationTime(batch.getBatchJobDefinitionId())).isNull();
+  }
+
+  // helper ////////////////////////////////////////////////////////////////////////////////////////
+
+  protected void startProcessInstances(int count) {
+    for (int i = 0; i < count; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+  }
+
+  protected void executeSeedJob(Batch batch) {
+    Job seedJob = managementService.createJobQuery()
+        .jobDefinitionId(batch.getSeedJobDefinitionId())
+        .singleResult();
+    managementService.executeJob(seedJob.getId());
+  }
+
+  protected void cascadeDeleteBatch(Batch batch) {
+    managementService.deleteBatch(batch.getId(), true);
+  }
+
+}
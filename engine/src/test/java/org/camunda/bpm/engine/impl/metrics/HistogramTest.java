@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.camunda.bpm.engine.management.HistogramSnapshot;
+import org.junit.Test;
+
+public class HistogramTest {
+
+  @Test
+  public void shouldReturnZeroForEmptyHistogram() {
+    // given
+    Histogram histogram = new Histogram("test");
+
+    // when
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+
+    // then
+    assertThat(snapshot.getCount()).isZero();
+    assertThat(snapshot.getMin()).isZero();
+    assertThat(snapshot.getMax()).isZero();
+    assertThat(snapshot.getMean()).isZero();
+    assertThat(snapshot.getValueAtPercentile(99)).isZero();
+  }
+
+  @Test
+  public void shouldCountSmallValuesExactly() {
+    // given
+    Histogram histogram = new Histogram("test");
+
+    // when
+    for (int i = 1; i <= 10; i++) {
+      histogram.recordValue(i);
+    }
+
+    // then
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+    assertThat(snapshot.getCount()).isEqualTo(10);
+    assertThat(snapshot.getTotal()).isEqualTo(55);
+    assertThat(snapshot.getMin()).isEqualTo(1);
+    assertThat(snapshot.getMax()).isEqualTo(10);
+    assertThat(snapshot.getMean()).isEqualTo(5.5);
+    assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(5);
+    assertThat(snapshot.getValueAtPercentile(90)).isEqualTo(9);
+    assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldReportPercentilesWithBoundedRelativeError() {
+    // given
+    Histogram histogram = new Histogram("test");
+
+    // when
+    for (int i = 1; i <= 100_000; i++) {
+      histogram.recordValue(i);
+    }
+
+    // then
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+    assertThat(snapshot.getCount()).isEqualTo(100_000);
+    assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(50_000, within(50_000 / 32.0));
+    assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(99_000, within(99_000 / 32.0));
+    assertThat((double) snapshot.getValueAtPercentile(99.9)).isCloseTo(99_900, within(99_900 / 32.0));
+    assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(100_000);
+  }
+
+  @Test
+  public void shouldMapEveryValueToBucketContainingIt() {
+    long[] values = { 0, 31, 32, 33, 63, 64, 1000, 123_456_789, Long.MAX_VALUE };
+
+    for (long value : values) {
+      int bucketIndex = Histogram.getBucketIndex(value);
+
+      assertThat(Histogram.getHighestValueOfBucket(bucketIndex)).isGreaterThanOrEqualTo(value);
+      if (bucketIndex > 0) {
+        assertThat(Histogram.getHighestValueOfBucket(bucketIndex - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  @Test
+  public void shouldResetRecordedValues() {
+    // given
+    Histogram histogram = new Histogram("test");
+    histogram.recordValue(42);
+
+    // when
+    histogram.reset();
+
+    // then
+    assertThat(histogram.getSnapshot().getCount()).isZero();
+    assertThat(histogram.getSnapshot().getMax()).isZero();
+  }
+
+}
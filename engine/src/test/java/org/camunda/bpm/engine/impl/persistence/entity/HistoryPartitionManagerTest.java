@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class HistoryPartitionManagerTest {
+
+  @Test
+  public void shouldNamePartitionByMonth() throws ParseException {
+    Date date = parse("2026-10-19 13:45:00");
+
+    assertThat(HistoryPartitionManager.getPartitionName("act_hi_procinst", date)).isEqualTo("act_hi_procinst_p202610");
+  }
+
+  @Test
+  public void shouldReturnStartOfNextMonthAsUpperBound() throws ParseException {
+    assertThat(HistoryPartitionManager.getPartitionUpperBound("act_hi_procinst_p202610"))
+      .isEqualTo(parse("2026-11-01 00:00:00"));
+    assertThat(HistoryPartitionManager.getPartitionUpperBound("act_hi_job_log_p202612"))
+      .isEqualTo(parse("2027-01-01 00:00:00"));
+  }
+
+  @Test
+  public void shouldIgnoreDefaultPartition() {
+    assertThat(HistoryPartitionManager.getPartitionUpperBound("act_hi_procinst" + HistoryPartitionManager.DEFAULT_PARTITION_SUFFIX))
+      .isNull();
+  }
+
+  @Test
+  public void shouldCalculateStartOfMonth() throws ParseException {
+    assertThat(HistoryPartitionManager.getStartOfMonth(parse("2026-10-19 13:45:00")))
+      .isEqualTo(parse("2026-10-01 00:00:00"));
+  }
+
+  protected Date parse(String date) throws ParseException {
+    return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(date);
+  }
+
+}
@@ -55,12 +55,14 @@ import org.camunda.bpm.engine.externaltask.ExternalTask;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryBuilder;
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.externaltask.VariableReference;
 import org.camunda.bpm.engine.history.HistoricExternalTaskLog;
 import org.camunda.bpm.engine.history.HistoricIncident;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.impl.util.PartitionUtil;
 import org.camunda.bpm.engine.runtime.ActivityInstance;
 import org.camunda.bpm.engine.runtime.Incident;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -73,6 +75,7 @@ import org.camunda.bpm.engine.test.util.AssertUtil;
 import org.camunda.bpm.engine.test.util.PluggableProcessEngineTest;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.joda.time.DateTime;
@@ -105,6 +108,7 @@ public class ExternalTaskServiceTest extends PluggableProcessEngineTest {
   @After
   public void tearDown() throws Exception {
     ClockUtil.reset();
+    processEngineConfiguration.setExternalTaskPartitionCount(0);
   }
 
   @Test
@@ -534,6 +538,114 @@ public class ExternalTaskServiceTest extends PluggableProcessEngineTest {
     assertEquals("value1", receivedCustomValue.getTestValue());
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldFetchBinaryVariablesLazily() {
+    // given
+    ExternalTaskCustomValue customValue = new ExternalTaskCustomValue();
+    customValue.setTestValue("value1");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+        Variables.createVariables()
+          .putValue("processVar1", customValue)
+          .putValue("processVar2", "foo".getBytes())
+          .putValue("processVar3", "bar"));
+
+    // when
+    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
+        .topic(TOPIC_NAME, LOCK_TIME)
+        .variables("processVar1", "processVar2", "processVar3")
+        .lazyVariables()
+        .execute();
+
+    // then
+    LockedExternalTask task = externalTasks.get(0);
+    VariableMap variables = task.getVariables();
+    assertEquals(1, variables.size());
+    assertEquals("bar", variables.get("processVar3"));
+
+    Map<String, VariableReference> variableReferences = task.getVariableReferences();
+    assertEquals(2, variableReferences.size());
+
+    VariableReference objectReference = variableReferences.get("processVar1");
+    assertEquals("processVar1", objectReference.getName());
+    assertEquals(ValueType.OBJECT.getName(), objectReference.getTypeName());
+    assertEquals(processInstance.getId(), objectReference.getExecutionId());
+
+    VariableInstance variableInstance = runtimeService.createVariableInstanceQuery()
+        .variableId(objectReference.getId())
+        .singleResult();
+    assertEquals("value1", ((ExternalTaskCustomValue) variableInstance.getValue()).getTestValue());
+
+    VariableReference bytesReference = variableReferences.get("processVar2");
+    assertEquals(ValueType.BYTES.getName(), bytesReference.getTypeName());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldNotReturnVariableReferencesByDefault() {
+    // given
+    runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+        Variables.createVariables().putValue("processVar1", "foo".getBytes()));
+
+    // when
+    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
+        .topic(TOPIC_NAME, LOCK_TIME)
+        .variables("processVar1")
+        .execute();
+
+    // then
+    LockedExternalTask task = externalTasks.get(0);
+    assertEquals(1, task.getVariables().size());
+    assertTrue(task.getVariableReferences().isEmpty());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  public void shouldFetchByPartition() {
+    // given
+    processEngineConfiguration.setExternalTaskPartitionCount(2);
+    for (int i = 0; i < 10; i++) {
+      runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    }
+
+    // when
+    List<LockedExternalTask> tasksOfFirstPartition = externalTaskService.fetchAndLock(10, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .partitionIn(0)
+      .execute();
+
+    List<LockedExternalTask> tasksOfSecondPartition = externalTaskService.fetchAndLock(10, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .partitionIn(1)
+      .execute();
+
+    // then
+    assertEquals(10, tasksOfFirstPartition.size() + tasksOfSecondPartition.size());
+    for (LockedExternalTask task : tasksOfFirstPartition) {
+      assertEquals(Integer.valueOf(0), PartitionUtil.getPartition(task.getProcessInstanceId(), 2));
+    }
+    for (LockedExternalTask task : tasksOfSecondPartition) {
+      assertEquals(Integer.valueOf(1), PartitionUtil.getPartition(task.getProcessInstanceId(), 2));
+    }
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  public void shouldNotFetchUnpartitionedTasksByPartition() {
+    // given
+    runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+
+    // when
+    List<LockedExternalTask> tasks = externalTaskService.fetchAndLock(10, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .partitionIn(0, 1)
+      .execute();
+
+    // then
+    assertTrue(tasks.isEmpty());
+    assertEquals(1, externalTaskService.fetchAndLock(10, WORKER_ID).topic(TOPIC_NAME, LOCK_TIME).execute().size());
+  }
+
   @Deployment(resources = { "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskVariablesTest.testExternalTaskVariablesLocal.bpmn20.xml" })
   @Test
   public void testFetchOnlyLocalVariables() {
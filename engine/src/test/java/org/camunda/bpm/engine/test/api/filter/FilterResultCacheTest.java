@@ -0,0 +1,305 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.AuthorizationService;
+import org.camunda.bpm.engine.FilterService;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.authorization.Authorization;
+import org.camunda.bpm.engine.authorization.Permission;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resource;
+import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.filter.Filter;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.filter.FilterResultCache;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class FilterResultCacheTest {
+
+  protected static final long TIME_TO_LIVE = 1000;
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      .setFilterResultCacheEnabled(true)
+      .setFilterResultCacheTimeToLive(TIME_TO_LIVE));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+
+  protected FilterService filterService;
+  protected TaskService taskService;
+  protected AuthorizationService authorizationService;
+  protected IdentityService identityService;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected FilterResultCache cache;
+
+  protected List<String> taskIds = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    filterService = engineRule.getFilterService();
+    taskService = engineRule.getTaskService();
+    authorizationService = engineRule.getAuthorizationService();
+    identityService = engineRule.getIdentityService();
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    cache = processEngineConfiguration.getFilterResultCache();
+
+    ClockUtil.setCurrentTime(new Date());
+    cache.invalidateAll();
+  }
+
+  @After
+  public void tearDown() {
+    processEngineConfiguration.setAuthorizationEnabled(false);
+    identityService.clearAuthentication();
+
+    for (Filter filter : filterService.createFilterQuery().list()) {
+      filterService.deleteFilter(filter.getId());
+    }
+    for (String taskId : taskIds) {
+      taskService.deleteTask(taskId, true);
+    }
+    for (Authorization authorization : authorizationService.createAuthorizationQuery().list()) {
+      authorizationService.deleteAuthorization(authorization.getId());
+    }
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldCacheCountUntilExpired() {
+    // given
+    Filter filter = saveFilter(true);
+    createTask("a");
+    assertThat(filterService.count(filter.getId())).isEqualTo(1);
+
+    // when
+    createTask("b");
+
+    // then
+    assertThat(filterService.count(filter.getId())).isEqualTo(1);
+
+    // when
+    ClockUtil.offset(TIME_TO_LIVE);
+
+    // then
+    assertThat(filterService.count(filter.getId())).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReturnCurrentStateOfCachedTasks() {
+    // given
+    Filter filter = saveFilter(true);
+    String first = createTask("a");
+    String second = createTask("b");
+    assertThat(taskNames(filterService.listPage(filter.getId(), 0, 10))).containsExactly("a", "b");
+
+    // when
+    Task task = taskService.createTaskQuery().taskId(first).singleResult();
+    task.setName("c");
+    taskService.saveTask(task);
+    taskService.deleteTask(second, true);
+    taskIds.remove(second);
+
+    // then
+    assertThat(taskNames(filterService.listPage(filter.getId(), 0, 10))).containsExactly("c");
+  }
+
+  @Test
+  public void shouldNotCacheWithoutProperty() {
+    // given
+    Filter filter = saveFilter(false);
+    createTask("a");
+    assertThat(filterService.count(filter.getId())).isEqualTo(1);
+
+    // when
+    createTask("b");
+
+    // then
+    assertThat(filterService.count(filter.getId())).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotShareCachedCountWithUncachedFilterOfSameQuery() {
+    // given
+    Filter cachedFilter = saveFilter(true);
+    Filter uncachedFilter = saveFilter(false);
+    createTask("a");
+    assertThat(filterService.count(cachedFilter.getId())).isEqualTo(1);
+
+    // when
+    createTask("b");
+    Map<String, Long> counts = filterService.countAll(Arrays.asList(cachedFilter.getId(), uncachedFilter.getId()));
+
+    // then
+    assertThat(counts).containsEntry(cachedFilter.getId(), 1L);
+    assertThat(counts).containsEntry(uncachedFilter.getId(), 2L);
+  }
+
+  @Test
+  public void shouldNotCacheExtendedQuery() {
+    // given
+    Filter filter = saveFilter(true);
+    createTask("a");
+
+    // when
+    filterService.count(filter.getId(), taskService.createTaskQuery().taskName("a"));
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotUseCachedResultOfPreviousFilterRevision() {
+    // given
+    Filter filter = saveFilter(true);
+    createTask("a");
+    createTask("b");
+    assertThat(filterService.count(filter.getId())).isEqualTo(2);
+
+    // when
+    filter = filterService.getFilter(filter.getId());
+    filter.setQuery(taskService.createTaskQuery().taskName("a"));
+    filterService.saveFilter(filter);
+
+    // then
+    assertThat(filterService.count(filter.getId())).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldInvalidateOnAuthorizationChange() {
+    // given
+    Filter filter = saveFilter(true);
+    createTask("a");
+    filterService.count(filter.getId());
+    assertThat(cache.size()).isEqualTo(1);
+
+    // when
+    Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setUserId("demo");
+    authorization.setResource(Resources.TASK);
+    authorization.setResourceId("*");
+    authorization.addPermission(Permissions.READ);
+    authorizationService.saveAuthorization(authorization);
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotInvalidateOnDefaultTaskAuthorizationChange() {
+    // given
+    Filter filter = saveFilter(true);
+    String taskId = createTask("a");
+    createTask("b");
+    grant(Resources.FILTER, Permissions.READ);
+    grant(Resources.TASK, Permissions.ALL);
+
+    processEngineConfiguration.setAuthorizationEnabled(true);
+    identityService.setAuthenticatedUserId("demo");
+
+    assertThat(filterService.count(filter.getId())).isEqualTo(2);
+    assertThat(taskNames(filterService.listPage(filter.getId(), 0, 10))).containsExactly("a", "b");
+    assertThat(cache.size()).isEqualTo(2);
+
+    // when the assignment creates a default authorization for the assignee
+    taskService.setAssignee(taskId, "john");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(filterService.count(filter.getId())).isEqualTo(2);
+    assertThat(taskNames(filterService.listPage(filter.getId(), 0, 10))).containsExactly("a", "b");
+
+    processEngineConfiguration.setAuthorizationEnabled(false);
+    assertThat(authorizationService.createAuthorizationQuery()
+        .userIdIn("john")
+        .resourceType(Resources.TASK)
+        .resourceId(taskId)
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldDropCachedResultsOfDeletedFilter() {
+    // given
+    Filter filter = saveFilter(true);
+    Filter otherFilter = saveFilter(true);
+    createTask("a");
+    filterService.count(filter.getId());
+    filterService.count(otherFilter.getId());
+    assertThat(cache.size()).isEqualTo(2);
+
+    // when
+    filterService.deleteFilter(filter.getId());
+
+    // then
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  protected Filter saveFilter(boolean cacheResults) {
+    Filter filter = filterService.newTaskFilter("filter")
+        .setQuery(taskService.createTaskQuery().orderByTaskName().asc());
+    if (cacheResults) {
+      filter.setProperties(Collections.<String, Object>singletonMap(FilterResultCache.CACHE_RESULTS_PROPERTY, true));
+    }
+    return filterService.saveFilter(filter);
+  }
+
+  protected void grant(Resource resource, Permission permission) {
+    Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setUserId("demo");
+    authorization.setResource(resource);
+    authorization.setResourceId(Authorization.ANY);
+    authorization.addPermission(permission);
+    authorizationService.saveAuthorization(authorization);
+  }
+
+  protected String createTask(String name) {
+    Task task = taskService.newTask();
+    task.setName(name);
+    taskService.saveTask(task);
+    taskIds.add(task.getId());
+    return task.getId();
+  }
+
+  protected List<String> taskNames(List<Task> tasks) {
+    List<String> names = new ArrayList<>();
+    for (Task task : tasks) {
+      names.add(task.getName());
+    }
+    return names;
+  }
+
+}
@@ -1163,6 +1163,41 @@ public class FilterTaskQueryTest extends PluggableProcessEngineTest {
     assertEquals(2, count);
   }
 
+  @Test
+  public void testExecuteTaskQueryCountAll() {
+    saveQuery(taskService.createTaskQuery());
+
+    Filter resolvedFilter = filterService.newTaskFilter("resolved")
+        .setQuery(taskService.createTaskQuery().taskDelegationState(DelegationState.RESOLVED));
+    filterService.saveFilter(resolvedFilter);
+
+    Filter sameQueryFilter = filterService.newTaskFilter("same query")
+        .setQuery(taskService.createTaskQuery());
+    filterService.saveFilter(sameQueryFilter);
+
+    Map<String, Long> counts = filterService.countAll(
+        Arrays.asList(resolvedFilter.getId(), filter.getId(), sameQueryFilter.getId(), resolvedFilter.getId()));
+
+    assertThat(counts).hasSize(3);
+    assertThat(counts.keySet()).containsExactly(resolvedFilter.getId(), filter.getId(), sameQueryFilter.getId());
+    assertEquals(2L, (long) counts.get(resolvedFilter.getId()));
+    assertEquals(3L, (long) counts.get(filter.getId()));
+    assertEquals(3L, (long) counts.get(sameQueryFilter.getId()));
+  }
+
+  @Test
+  public void testExecuteTaskQueryCountAllWithUnknownFilter() {
+    saveQuery(taskService.createTaskQuery());
+
+    try {
+      filterService.countAll(Arrays.asList(filter.getId(), "unknown"));
+      fail("Exception expected");
+    }
+    catch (ProcessEngineException e) {
+      // expected
+    }
+  }
+
   @Test
   public void testExtendingTaskQueryCount() {
     TaskQuery query = taskService.createTaskQuery();
@@ -0,0 +1,267 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.HistoricChangeFeedPage;
+import org.camunda.bpm.engine.history.HistoricChangeFeedType;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricVariableUpdate;
+import org.camunda.bpm.engine.history.UserOperationLogEntry;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+public class HistoricChangeFeedTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance USER_TASK_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+
+    testRule.deploy(USER_TASK_PROCESS);
+  }
+
+  @After
+  public void resetClock() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldFetchEntriesSharingTheSameTimestampWithoutDuplicates() {
+    // given
+    ClockUtil.setCurrentTime(new Date(1_000_000L));
+    List<String> processInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      processInstanceIds.add(runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId());
+    }
+    passSafetyLag();
+
+    // when
+    List<String> fetchedIds = new ArrayList<>();
+    String token = null;
+    HistoricChangeFeedPage<HistoricProcessInstance> page;
+    do {
+      page = historyService.createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED)
+          .continueAfter(token)
+          .maxResults(2)
+          .fetch();
+      for (HistoricProcessInstance processInstance : page.getResults()) {
+        fetchedIds.add(processInstance.getId());
+      }
+      token = page.getContinuationToken();
+    } while (!page.getResults().isEmpty());
+
+    // then
+    assertThat(fetchedIds).containsOnlyElementsOf(processInstanceIds).hasSameSizeAs(processInstanceIds);
+    assertThat(fetchedIds).isSorted();
+  }
+
+  @Test
+  public void shouldContinueWithNewEntries() {
+    // given
+    ClockUtil.setCurrentTime(new Date(1_000_000L));
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    completeTasks();
+    passSafetyLag();
+
+    HistoricChangeFeedPage<HistoricProcessInstance> firstPage = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_COMPLETED)
+        .fetch();
+    String token = firstPage.getContinuationToken();
+
+    // when
+    HistoricChangeFeedPage<HistoricProcessInstance> emptyPage = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_COMPLETED)
+        .continueAfter(token)
+        .fetch();
+
+    ClockUtil.setCurrentTime(new Date(2_000_000L));
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    completeTasks();
+    passSafetyLag();
+
+    HistoricChangeFeedPage<HistoricProcessInstance> nextPage = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_COMPLETED)
+        .continueAfter(token)
+        .fetch();
+
+    // then
+    assertThat(firstPage.getResults()).hasSize(1);
+    assertThat(emptyPage.getResults()).isEmpty();
+    assertThat(emptyPage.getContinuationToken()).isEqualTo(token);
+    assertThat(nextPage.getResults()).extracting("id").containsExactly(processInstance.getId());
+  }
+
+  @Test
+  public void shouldNotFetchEntriesWithinSafetyLag() {
+    // given
+    ClockUtil.setCurrentTime(new Date(1_000_000L));
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // when
+    ClockUtil.setCurrentTime(new Date(1_000_000L + engineRule.getProcessEngineConfiguration().getHistoricChangeFeedSafetyLagInMillis()));
+    HistoricChangeFeedPage<HistoricProcessInstance> pageWithinLag = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED)
+        .fetch();
+
+    passSafetyLag();
+    HistoricChangeFeedPage<HistoricProcessInstance> pageAfterLag = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED)
+        .fetch();
+
+    // then
+    assertThat(pageWithinLag.getResults()).isEmpty();
+    assertThat(pageAfterLag.getResults()).hasSize(1);
+  }
+
+  @Test
+  public void shouldFetchVariableUpdates() {
+    // given
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY, Variables.createVariables()
+        .putValue("aString", "foo")
+        .putValue("aNumber", 42));
+    passSafetyLag();
+
+    // when
+    List<HistoricVariableUpdate> updates = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.VARIABLE_UPDATE)
+        .fetch()
+        .getResults();
+
+    // then
+    assertThat(updates).extracting("variableName").containsOnly("aString", "aNumber");
+    assertThat(updates).extracting("value").containsOnly("foo", 42);
+  }
+
+  @Test
+  public void shouldFetchUserOperations() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    engineRule.getIdentityService().setAuthenticatedUserId("demo");
+    try {
+      runtimeService.suspendProcessInstanceById(processInstance.getId());
+    } finally {
+      engineRule.getIdentityService().clearAuthentication();
+    }
+    passSafetyLag();
+
+    // when
+    List<UserOperationLogEntry> entries = historyService
+        .createHistoricChangeFeed(HistoricChangeFeedType.USER_OPERATION)
+        .fetch()
+        .getResults();
+
+    // then
+    assertThat(entries).extracting("operationType").containsOnly(UserOperationLogEntry.OPERATION_TYPE_SUSPEND);
+  }
+
+  @Test
+  public void shouldFetchActivityAndTaskInstances() {
+    // given
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    completeTasks();
+    passSafetyLag();
+
+    // then
+    assertThat(historyService.createHistoricChangeFeed(HistoricChangeFeedType.ACTIVITY_INSTANCE_STARTED)
+        .fetch().getResults()).hasSize(3);
+    assertThat(historyService.createHistoricChangeFeed(HistoricChangeFeedType.ACTIVITY_INSTANCE_COMPLETED)
+        .maxResults(2).fetch().getResults()).hasSize(2);
+    assertThat(historyService.createHistoricChangeFeed(HistoricChangeFeedType.TASK_INSTANCE_STARTED)
+        .fetch().getResults()).hasSize(1);
+    assertThat(historyService.createHistoricChangeFeed(HistoricChangeFeedType.TASK_INSTANCE_COMPLETED)
+        .fetch().getResults()).hasSize(1);
+  }
+
+  @Test
+  public void shouldFailWithInvalidToken() {
+    assertThatThrownBy(() -> historyService.createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED)
+        .continueAfter("invalid")
+        .fetch())
+      .isInstanceOf(BadUserRequestException.class)
+      .hasMessageContaining("Invalid continuation token");
+  }
+
+  @Test
+  public void shouldFailWithInvalidMaxResults() {
+    assertThatThrownBy(() -> historyService.createHistoricChangeFeed(HistoricChangeFeedType.PROCESS_INSTANCE_STARTED)
+        .maxResults(0)
+        .fetch())
+      .isInstanceOf(BadUserRequestException.class);
+  }
+
+  @Test
+  public void shouldResolveTypeByName() {
+    assertThat(HistoricChangeFeedType.forName("variable-update")).isSameAs(HistoricChangeFeedType.VARIABLE_UPDATE);
+    assertThat(HistoricChangeFeedType.forName("unknown")).isNull();
+  }
+
+  protected void passSafetyLag() {
+    long safetyLag = engineRule.getProcessEngineConfiguration().getHistoricChangeFeedSafetyLagInMillis();
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + safetyLag + 1));
+  }
+
+  protected void completeTasks() {
+    for (Task task : taskService.createTaskQuery().list()) {
+      taskService.complete(task.getId());
+    }
+  }
+
+}
@@ -85,6 +85,7 @@ import org.camunda.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvider;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupJobHandler;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricJobLogEventEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
@@ -95,6 +96,7 @@ import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.task.Attachment;
 import org.camunda.bpm.engine.task.Comment;
+import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.test.Deployment;
 import org.camunda.bpm.engine.test.ProcessEngineRule;
 import org.camunda.bpm.engine.test.RequiredHistoryLevel;
@@ -163,6 +165,7 @@ public class HistoryCleanupRemovalTimeTest {
     engineConfiguration.setHistoryCleanupBatchSize(MAX_BATCH_SIZE);
     engineConfiguration.setHistoryCleanupBatchWindowStartTime(null);
     engineConfiguration.setHistoryCleanupDegreeOfParallelism(1);
+    engineConfiguration.setHistoryCleanupAdaptiveBatchSizeEnabled(false);
 
     engineConfiguration.setBatchOperationHistoryTimeToLive(null);
     engineConfiguration.setBatchOperationsForHistoryCleanup(null);
@@ -200,6 +203,8 @@ public class HistoryCleanupRemovalTimeTest {
       engineConfiguration.setHistoryCleanupBatchSize(MAX_BATCH_SIZE);
       engineConfiguration.setHistoryCleanupBatchWindowStartTime(null);
       engineConfiguration.setHistoryCleanupDegreeOfParallelism(1);
+      engineConfiguration.setHistoryCleanupAdaptiveBatchSizeEnabled(false);
+      engineConfiguration.setHistoryCleanupAdaptiveBatchDurationInMillis(1000);
 
       engineConfiguration.setBatchOperationHistoryTimeToLive(null);
       engineConfiguration.setBatchOperationsForHistoryCleanup(null);
@@ -1356,6 +1361,123 @@ public class HistoryCleanupRemovalTimeTest {
     assumeWhenThenParallelizedCleanup(jobs, processInstanceQuery::count, 15L);
   }
 
+  @Test
+  public void shouldAllowDegreeOfParallelismAboveEndTimeBasedLimit() {
+    // given
+    engineConfiguration.setHistoryCleanupDegreeOfParallelism(12);
+    engineConfiguration.initHistoryCleanup();
+
+    // when
+    historyService.cleanUpHistoryAsync(true);
+
+    // then
+    List<Job> jobs = historyService.findHistoryCleanupJobs();
+    for (Job job : jobs) {
+      jobIds.add(job.getId());
+    }
+    assertThat(jobs.size(), is(12));
+  }
+
+  @Test
+  public void shouldCleanupUnpartitionedTablesWithHistoryPartitioningEnabled() {
+    // given
+    testRule.deploy(PROCESS);
+
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    String taskId = taskService.createTaskQuery().singleResult().getId();
+    taskService.complete(taskId);
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 5));
+
+    engineConfiguration.setHistoryPartitioningEnabled(true);
+
+    try {
+      // when
+      runHistoryCleanup();
+    } finally {
+      engineConfiguration.setHistoryPartitioningEnabled(false);
+    }
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(0L));
+  }
+
+  @Test
+  public void shouldIncreaseAdaptiveBatchSize() {
+    // given
+    testRule.deploy(PROCESS);
+
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    for (Task task : taskService.createTaskQuery().list()) {
+      taskService.complete(task.getId());
+    }
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 5));
+
+    engineConfiguration.setHistoryCleanupBatchSize(2);
+    engineConfiguration.setHistoryCleanupAdaptiveBatchSizeEnabled(true);
+    engineConfiguration.setHistoryCleanupAdaptiveBatchDurationInMillis(60 * 60 * 1000);
+    engineConfiguration.initHistoryCleanup();
+
+    // when
+    List<Job> jobs = runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(3L));
+    assertThat(getAdaptedBatchSize(jobs.get(0).getId()), is(4));
+
+    // when
+    managementService.executeJob(jobs.get(0).getId());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(0L));
+    // the activity instances still filled the batch
+    assertThat(getAdaptedBatchSize(jobs.get(0).getId()), is(8));
+
+    cleanupRemainingHistory();
+  }
+
+  @Test
+  public void shouldDecreaseAdaptiveBatchSize() {
+    // given
+    testRule.deploy(PROCESS);
+
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    for (Task task : taskService.createTaskQuery().list()) {
+      taskService.complete(task.getId());
+    }
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 5));
+
+    engineConfiguration.setHistoryCleanupBatchSize(4);
+    engineConfiguration.setHistoryCleanupAdaptiveBatchSizeEnabled(true);
+    // every run exceeds the target duration
+    engineConfiguration.setHistoryCleanupAdaptiveBatchDurationInMillis(-1);
+    engineConfiguration.initHistoryCleanup();
+
+    // when
+    List<Job> jobs = runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(1L));
+    assertThat(getAdaptedBatchSize(jobs.get(0).getId()), is(2));
+
+    cleanupRemainingHistory();
+  }
+
   @Test
   public void shouldDistributeWorkForActivityInstances() {
     // given
@@ -2192,6 +2314,19 @@ public class HistoryCleanupRemovalTimeTest {
     }
   }
 
+  protected void cleanupRemainingHistory() {
+    engineConfiguration.setHistoryCleanupAdaptiveBatchSizeEnabled(false);
+    engineConfiguration.setHistoryCleanupBatchSize(MAX_BATCH_SIZE);
+    engineConfiguration.initHistoryCleanup();
+
+    runHistoryCleanup();
+  }
+
+  protected int getAdaptedBatchSize(String jobId) {
+    JobEntity job = (JobEntity) managementService.createJobQuery().jobId(jobId).singleResult();
+    return new HistoryCleanupJobHandler().newConfiguration(job.getJobHandlerConfigurationRaw()).getBatchSize();
+  }
+
   protected List<Job> runHistoryCleanup() {
     historyService.cleanUpHistoryAsync(true);
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.history.removaltime.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
+import org.camunda.bpm.engine.impl.test.RequiredDatabase;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Maintains the partitions of a table that is range-partitioned by removal time
+ * like the tables converted by <code>postgres_history_partitioning.sql</code>.
+ */
+@RequiredDatabase(includes = DbSqlSessionFactory.POSTGRES)
+public class HistoryPartitionMaintenanceTest {
+
+  protected static final String TABLE_NAME = "act_hi_test_partitioned";
+
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+
+  protected ProcessEngineConfigurationImpl engineConfiguration;
+  protected CommandExecutor commandExecutor;
+
+  @Before
+  public void setUp() throws SQLException {
+    engineConfiguration = engineRule.getProcessEngineConfiguration();
+    commandExecutor = engineConfiguration.getCommandExecutorTxRequired();
+
+    executeStatement("create table " + TABLE_NAME + " (ID_ varchar(64), REMOVAL_TIME_ timestamp) "
+        + "partition by range (REMOVAL_TIME_)");
+    executeStatement("create table " + TABLE_NAME + HistoryPartitionManager.DEFAULT_PARTITION_SUFFIX
+        + " partition of " + TABLE_NAME + " default");
+  }
+
+  @After
+  public void tearDown() throws SQLException {
+    executeStatement("drop table if exists " + TABLE_NAME);
+  }
+
+  @Test
+  public void shouldCreatePartitionsInAdvance() throws ParseException {
+    // when
+    createPartitions(parse("2026-10-19"), 2);
+
+    // then
+    assertThat(findPartitionNames()).containsExactlyInAnyOrder(
+        TABLE_NAME + HistoryPartitionManager.DEFAULT_PARTITION_SUFFIX,
+        TABLE_NAME + "_p202610",
+        TABLE_NAME + "_p202611",
+        TABLE_NAME + "_p202612");
+  }
+
+  @Test
+  public void shouldNotCreatePartitionOfRowsInDefaultPartition() throws Exception {
+    // given
+    insertRow("1", parse("2026-10-05"));
+
+    // when
+    createPartitions(parse("2026-10-19"), 1);
+
+    // then
+    assertThat(findPartitionNames()).containsExactlyInAnyOrder(
+        TABLE_NAME + HistoryPartitionManager.DEFAULT_PARTITION_SUFFIX,
+        TABLE_NAME + "_p202611");
+  }
+
+  @Test
+  public void shouldDropExpiredPartitions() throws Exception {
+    // given
+    createPartitions(parse("2026-10-19"), 1);
+    insertRow("1", parse("2026-10-05"));
+    insertRow("2", parse("2026-11-05"));
+    insertRow("3", null);
+    Date removalTime = parse("2026-11-15");
+
+    // when
+    int droppedPartitions = commandExecutor.execute(commandContext -> commandContext
+        .getHistoryPartitionManager()
+        .dropExpiredPartitions(TABLE_NAME, removalTime));
+
+    // then
+    assertThat(droppedPartitions).isEqualTo(1);
+    assertThat(findPartitionNames()).containsExactlyInAnyOrder(
+        TABLE_NAME + HistoryPartitionManager.DEFAULT_PARTITION_SUFFIX,
+        TABLE_NAME + "_p202611");
+    assertThat(countRows()).isEqualTo(2);
+  }
+
+  protected void createPartitions(Date date, int monthsAhead) {
+    commandExecutor.execute(commandContext -> {
+      commandContext.getHistoryPartitionManager().createPartitions(TABLE_NAME, date, monthsAhead);
+      return null;
+    });
+  }
+
+  protected List<String> findPartitionNames() {
+    return commandExecutor.execute(commandContext -> commandContext
+        .getHistoryPartitionManager()
+        .findPartitionNames(TABLE_NAME));
+  }
+
+  protected void executeStatement(String sql) throws SQLException {
+    try (Connection connection = engineConfiguration.getDataSource().getConnection();
+        Statement statement = connection.createStatement()) {
+      connection.setAutoCommit(true);
+      statement.execute(sql);
+    }
+  }
+
+  protected void insertRow(String id, Date removalTime) throws SQLException {
+    try (Connection connection = engineConfiguration.getDataSource().getConnection();
+        PreparedStatement statement = connection.prepareStatement("insert into " + TABLE_NAME + " values (?, ?)")) {
+      connection.setAutoCommit(true);
+      statement.setString(1, id);
+      statement.setTimestamp(2, removalTime != null ? new Timestamp(removalTime.getTime()) : null);
+      statement.executeUpdate();
+    }
+  }
+
+  protected long countRows() throws SQLException {
+    try (Connection connection = engineConfiguration.getDataSource().getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("select count(*) from " + TABLE_NAME)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  protected Date parse(String date) throws ParseException {
+    return new SimpleDateFormat("yyyy-MM-dd").parse(date);
+  }
+
+}
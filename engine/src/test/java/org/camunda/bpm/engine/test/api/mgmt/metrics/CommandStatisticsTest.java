@@ -0,0 +1,207 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.metrics.command.CommandAggregateStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsListener;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.impl.metrics.command.SqlStatementStatistics;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CommandStatisticsTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance USER_TASK_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      .setCommandStatisticsEnabled(true)
+      .setCommandStatisticsCapacity(5));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  @Rule
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected CommandStatisticsRecorder recorder;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    recorder = processEngineConfiguration.getCommandStatisticsRecorder();
+
+    testRule.deploy(USER_TASK_PROCESS);
+    recorder.reset();
+  }
+
+  @After
+  public void resetRecorder() {
+    recorder.reset();
+  }
+
+  @Test
+  public void shouldRecordCommandExecution() {
+    // when
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // then
+    List<CommandExecutionStatistics> executions = recorder.getRecentCommandExecutions("StartProcessInstanceCmd");
+    assertThat(executions).hasSize(1);
+
+    CommandExecutionStatistics execution = executions.get(0);
+    assertThat(execution.isFailed()).isFalse();
+    assertThat(execution.getDurationNanos()).isPositive();
+    assertThat(execution.getFlushNanos()).isPositive();
+    assertThat(execution.getCommitNanos()).isPositive();
+    assertThat(execution.getDurationNanos())
+      .isEqualTo(execution.getExecutionNanos() + execution.getFlushNanos() + execution.getCommitNanos());
+  }
+
+  @Test
+  public void shouldRecordSqlStatements() {
+    // given
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    Task task = taskService.createTaskQuery().listPage(0, 1).get(0);
+
+    // when
+    taskService.complete(task.getId());
+
+    // then
+    CommandExecutionStatistics completion = findExecution("CompleteTaskCmd");
+    assertThat(completion.getSqlStatementCount()).isPositive();
+
+    SqlStatementStatistics deleteTask = completion.getSqlStatement(
+        "org.camunda.bpm.engine.impl.persistence.entity.TaskEntity.deleteTask");
+    assertThat(deleteTask).isNotNull();
+    assertThat(deleteTask.getCount()).isEqualTo(1);
+    assertThat(deleteTask.getRows()).isEqualTo(1);
+
+    SqlStatementStatistics selectTasks = findExecution("TaskQueryImpl")
+        .getSqlStatement("org.camunda.bpm.engine.impl.persistence.entity.TaskEntity.selectTaskByQueryCriteria");
+    assertThat(selectTasks.getCount()).isEqualTo(1);
+    assertThat(selectTasks.getRows()).isEqualTo(1);
+
+    CommandAggregateStatistics starts = recorder.getCommandAggregate("StartProcessInstanceCmd");
+    assertThat(starts.getCount()).isEqualTo(2);
+    assertThat(starts.getSqlStatement("org.camunda.bpm.engine.impl.persistence.entity.TaskEntity.insertTask").getCount())
+      .isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRecordFailedCommand() {
+    // when
+    try {
+      taskService.complete("unknown");
+    } catch (Exception e) {
+      // expected
+    }
+
+    // then
+    CommandExecutionStatistics execution = findExecution("CompleteTaskCmd");
+    assertThat(execution.isFailed()).isTrue();
+    assertThat(recorder.getCommandAggregate("CompleteTaskCmd").getFailedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepMostRecentExecutions() {
+    // when
+    for (int i = 0; i < 7; i++) {
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    // then
+    assertThat(recorder.getRecentCommandExecutions()).hasSize(5);
+    assertThat(recorder.getRecordedCommandCount()).isEqualTo(7);
+    assertThat(recorder.getCommandAggregate("StartProcessInstanceCmd").getCount()).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldNotifyListener() {
+    // given
+    final List<String> commands = new ArrayList<>();
+    CommandStatisticsListener listener = new CommandStatisticsListener() {
+      public void onCommandCompleted(CommandExecutionStatistics statistics) {
+        commands.add(statistics.getCommandName());
+      }
+    };
+    recorder.addListener(listener);
+
+    try {
+      // when
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+      // then
+      assertThat(commands).containsExactly("StartProcessInstanceCmd");
+    } finally {
+      recorder.removeListener(listener);
+    }
+  }
+
+  @Test
+  public void shouldRegisterMBean() throws Exception {
+    // given
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(CommandStatisticsRecorder.MBEAN_DOMAIN
+        + ":type=CommandStatistics,engine=" + ObjectName.quote(engineRule.getProcessEngine().getName()));
+
+    // when
+    String[] summaries = (String[]) mBeanServer.getAttribute(name, "CommandSummaries");
+
+    // then
+    assertThat(summaries[0]).startsWith("StartProcessInstanceCmd:");
+  }
+
+  protected CommandExecutionStatistics findExecution(String commandName) {
+    List<CommandExecutionStatistics> executions = recorder.getRecentCommandExecutions(commandName);
+    return executions.isEmpty() ? null : executions.get(0);
+  }
+
+}
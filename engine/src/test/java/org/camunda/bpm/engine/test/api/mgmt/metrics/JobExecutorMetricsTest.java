@@ -19,6 +19,7 @@ package org.camunda.bpm.engine.test.api.mgmt.metrics;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
@@ -32,6 +33,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.CallerRunsRejectedJobsHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.test.RequiredDatabase;
+import org.camunda.bpm.engine.management.HistogramSnapshot;
 import org.camunda.bpm.engine.management.Metrics;
 import org.camunda.bpm.engine.test.Deployment;
 import org.camunda.bpm.engine.test.concurrency.ConcurrencyTestHelper.ThreadControl;
@@ -62,6 +64,28 @@ public class JobExecutorMetricsTest extends AbstractMetricsTest {
     processEngineConfiguration.setJobExecutor(defaultJobExecutor);
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/mgmt/metrics/asyncServiceTaskProcess.bpmn20.xml")
+  @Test
+  public void testJobDurationHistograms() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+    }
+
+    // when
+    testRule.waitForJobExecutorToProcessAllJobs(5000);
+
+    // then
+    Map<String, HistogramSnapshot> histograms = managementService.getMetricHistograms();
+    assertTrue(histograms.get(Metrics.JOB_EXECUTION_DURATION).getCount() >= 3);
+    assertTrue(histograms.get(Metrics.JOB_ACQUISITION_DURATION).getCount() >= 1);
+    assertTrue(histograms.get(Metrics.COMMAND_DURATION).getCount() >= 3);
+    assertTrue(histograms.get(Metrics.FLUSH_DURATION).getCount() >= 3);
+
+    HistogramSnapshot jobExecutionDuration = histograms.get(Metrics.JOB_EXECUTION_DURATION);
+    assertTrue(jobExecutionDuration.getValueAtPercentile(99) <= jobExecutionDuration.getMax());
+  }
+
   @Deployment(resources = "org/camunda/bpm/engine/test/api/mgmt/metrics/asyncServiceTaskProcess.bpmn20.xml")
   @Test
   public void testJobAcquisitionMetricReporting() {
@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.metrics.command.SlowCommandProfiler;
+import org.camunda.bpm.engine.management.SlowCommandProfile;
+import org.camunda.bpm.engine.management.SlowCommandProfileEntry;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SlowCommandProfilerTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance SERVICE_TASK_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .serviceTask("serviceTask").camundaClass(FailingDelegate.class.getName())
+      .serviceTask("queryTask")
+        .camundaExpression("${execution.getProcessEngineServices().getRuntimeService().createProcessInstanceQuery().count()}")
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      .setSlowCommandProfilingEnabled(true)
+      .setSlowCommandThreshold(0)
+      .setSlowCommandProfileCapacity(3));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  @Rule
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected SlowCommandProfiler profiler;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    profiler = processEngineConfiguration.getSlowCommandProfiler();
+
+    testRule.deploy(SERVICE_TASK_PROCESS);
+    managementService.clearSlowCommandProfiles();
+  }
+
+  @After
+  public void reset() {
+    processEngineConfiguration.setSlowCommandProfiler(profiler);
+    managementService.clearSlowCommandProfiles();
+  }
+
+  @Test
+  public void shouldProfileOperationsDelegatesAndSql() {
+    // when
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // then
+    SlowCommandProfile profile = findProfile("StartProcessInstanceCmd");
+    assertThat(profile.isFailed()).isFalse();
+    assertThat(profile.getDuration()).isPositive();
+
+    SlowCommandProfileEntry operation = findEntry(profile, SlowCommandProfileEntry.TYPE_OPERATION, "activity-execute");
+    assertThat(operation.getActivityId()).isNotNull();
+    assertThat(operation.getProcessInstanceId()).isNotNull();
+
+    SlowCommandProfileEntry delegate = findEntry(profile, SlowCommandProfileEntry.TYPE_DELEGATE, FailingDelegate.class.getName());
+    assertThat(delegate.getDepth()).isPositive();
+
+    SlowCommandProfileEntry nestedCommand = findEntry(profile, SlowCommandProfileEntry.TYPE_COMMAND, "ProcessInstanceQueryImpl");
+    SlowCommandProfileEntry selectCount = findEntry(profile, SlowCommandProfileEntry.TYPE_SQL,
+        "org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity.selectProcessInstanceCountByQueryCriteria");
+    assertThat(selectCount.getDepth()).isGreaterThan(nestedCommand.getDepth());
+
+    findEntry(profile, SlowCommandProfileEntry.TYPE_SQL,
+        "org.camunda.bpm.engine.impl.persistence.entity.HistoricProcessInstanceEntity.insertHistoricProcessInstanceEvent");
+  }
+
+  @Test
+  public void shouldProfileFailedCommand() {
+    // when
+    try {
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY, Variables.createVariables().putValue("fail", true));
+      fail("exception expected");
+    } catch (ProcessEngineException e) {
+      // expected
+    }
+
+    // then
+    assertThat(findProfile("StartProcessInstanceCmd").isFailed()).isTrue();
+  }
+
+  @Test
+  public void shouldRetainProfilesUpToCapacity() {
+    // when
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    // then
+    List<SlowCommandProfile> profiles = managementService.getSlowCommandProfiles();
+    assertThat(profiles).hasSize(3);
+    assertThat(Long.parseLong(profiles.get(0).getId())).isGreaterThan(Long.parseLong(profiles.get(1).getId()));
+  }
+
+  @Test
+  public void shouldNotRetainFastCommands() {
+    // given
+    processEngineConfiguration.setSlowCommandProfiler(new SlowCommandProfiler(60000, 3, 1.0));
+
+    // when
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // then
+    assertThat(processEngineConfiguration.getSlowCommandProfiler().getProfiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotProfileUnsampledCommands() {
+    // given
+    processEngineConfiguration.setSlowCommandProfiler(new SlowCommandProfiler(0, 3, 0.0));
+
+    // when
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // then
+    assertThat(processEngineConfiguration.getSlowCommandProfiler().getProfiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldLimitEntriesPerProfile() {
+    // given
+    profiler.setMaxEntriesPerProfile(5);
+
+    try {
+      // when
+      runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+      // then
+      SlowCommandProfile profile = findProfile("StartProcessInstanceCmd");
+      assertThat(profile.getEntries()).hasSize(5);
+      assertThat(profile.getDroppedEntryCount()).isPositive();
+    } finally {
+      profiler.setMaxEntriesPerProfile(SlowCommandProfiler.DEFAULT_MAX_ENTRIES_PER_PROFILE);
+    }
+  }
+
+  protected SlowCommandProfile findProfile(String commandName) {
+    for (SlowCommandProfile profile : profiler.getProfiles()) {
+      if (commandName.equals(profile.getCommandName())) {
+        return profile;
+      }
+    }
+    fail("no profile for command " + commandName);
+    return null;
+  }
+
+  protected SlowCommandProfileEntry findEntry(SlowCommandProfile profile, String type, String name) {
+    for (SlowCommandProfileEntry entry : profile.getEntries()) {
+      if (type.equals(entry.getType()) && name.equals(entry.getName())) {
+        return entry;
+      }
+    }
+    fail("no entry " + type + " " + name + " in " + profile);
+    return null;
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class QueryStreamTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance USER_TASK_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+
+  protected List<String> processInstanceIds;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+
+    testRule.deploy(USER_TASK_PROCESS);
+
+    processInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY,
+          Variables.createVariables().putValue("index", i));
+      processInstanceIds.add(processInstance.getId());
+    }
+    Collections.sort(processInstanceIds);
+  }
+
+  @Test
+  public void shouldStreamInBatches() {
+    // when
+    List<String> ids = runtimeService.createProcessInstanceQuery()
+        .processDefinitionKey(PROCESS_KEY)
+        .stream(2)
+        .map(ProcessInstance::getId)
+        .collect(Collectors.toList());
+
+    // then
+    assertThat(ids).containsExactlyElementsOf(processInstanceIds);
+  }
+
+  @Test
+  public void shouldStreamWithDefaultBatchSize() {
+    // when
+    long count = taskService.createTaskQuery().stream().count();
+
+    // then
+    assertThat(count).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldForEachInBatches() {
+    // given
+    List<String> ids = new ArrayList<>();
+
+    // when
+    runtimeService.createProcessInstanceQuery().forEach(3, processInstance -> ids.add(processInstance.getId()));
+
+    // then
+    assertThat(ids).containsExactlyElementsOf(processInstanceIds);
+  }
+
+  @Test
+  public void shouldForEachWithOrdering() {
+    // given
+    List<String> taskProcessInstanceIds = new ArrayList<>();
+
+    // when
+    taskService.createTaskQuery()
+        .orderByProcessInstanceId().desc()
+        .forEach(2, task -> taskProcessInstanceIds.add(task.getProcessInstanceId()));
+
+    // then
+    List<String> expectedIds = new ArrayList<>(processInstanceIds);
+    Collections.reverse(expectedIds);
+    assertThat(taskProcessInstanceIds).containsExactlyElementsOf(expectedIds);
+  }
+
+  @Test
+  public void shouldStreamQueryWithoutKeysetPagination() {
+    // when
+    long count = engineRule.getRepositoryService().createProcessDefinitionQuery().stream(1).count();
+
+    // then
+    assertThat(count).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStreamWithAfterId() {
+    // when
+    List<String> ids = runtimeService.createProcessInstanceQuery()
+        .afterId(processInstanceIds.get(1))
+        .stream(2)
+        .map(ProcessInstance::getId)
+        .collect(Collectors.toList());
+
+    // then
+    assertThat(ids).containsExactlyElementsOf(processInstanceIds.subList(2, 5));
+  }
+
+  @Test
+  public void shouldSelectAfterId() {
+    // when
+    List<Task> tasks = taskService.createTaskQuery()
+        .afterId(taskService.createTaskQuery().listPage(0, 1).get(0).getId())
+        .list();
+
+    // then
+    assertThat(tasks).hasSize(4);
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void shouldStreamHistory() {
+    // when
+    List<String> ids = historyService.createHistoricProcessInstanceQuery()
+        .stream(2)
+        .map(HistoricProcessInstance::getId)
+        .collect(Collectors.toList());
+    List<Object> values = historyService.createHistoricVariableInstanceQuery()
+        .stream(2)
+        .map(HistoricVariableInstance::getValue)
+        .collect(Collectors.toList());
+
+    // then
+    assertThat(ids).containsExactlyElementsOf(processInstanceIds);
+    assertThat(values).containsOnly(0, 1, 2, 3, 4);
+    assertThat(historyService.createHistoricActivityInstanceQuery().stream(3).count()).isEqualTo(10);
+    assertThat(historyService.createHistoricTaskInstanceQuery().afterId(" ").stream(4).count()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldFailWithInvalidBatchSize() {
+    assertThatThrownBy(() -> taskService.createTaskQuery().forEach(0, task -> { }))
+      .isInstanceOf(BadUserRequestException.class);
+  }
+
+}
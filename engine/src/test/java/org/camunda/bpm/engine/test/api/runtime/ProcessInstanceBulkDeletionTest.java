@@ -0,0 +1,293 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.bpmn.executionlistener.RecorderExecutionListener;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ProcessInstanceBulkDeletionTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance PARALLEL_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .parallelGateway("fork")
+        .userTask("task")
+        .boundaryEvent("timer").timerWithDuration("PT1H")
+        .endEvent()
+      .moveToNode("fork")
+        .subProcess()
+        .embeddedSubProcess()
+          .startEvent()
+          .serviceTask("externalTask").camundaExternalTask("topic")
+          .endEvent()
+        .subProcessDone()
+      .moveToNode("fork")
+        .receiveTask("receiveTask").message("message")
+      .moveToNode("fork")
+        .serviceTask("failingTask").camundaAsyncBefore().camundaExpression("${unknownBean.call()}")
+      .done();
+
+  protected static final String BULK_DELETE_STATEMENT =
+      "org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity.deleteProcessInstancesByIds";
+  protected static final String DELETE_EXECUTION_STATEMENT =
+      "org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity.deleteExecution";
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      // the history level of the shared test database cannot be changed
+      .setJdbcUrl("jdbc:h2:mem:" + ProcessInstanceBulkDeletionTest.class.getSimpleName())
+      .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+      .setHistory(ProcessEngineConfiguration.HISTORY_NONE)
+      .setBulkProcessInstanceDeletionEnabled(true)
+      .setCommandStatisticsEnabled(true));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  @Rule
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected ManagementService managementService;
+  protected ExternalTaskService externalTaskService;
+  protected CommandStatisticsRecorder recorder;
+  protected int businessKeyCounter;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    managementService = engineRule.getManagementService();
+    externalTaskService = engineRule.getExternalTaskService();
+    recorder = engineRule.getProcessEngineConfiguration().getCommandStatisticsRecorder();
+  }
+
+  @After
+  public void resetRecorder() {
+    recorder.reset();
+    RecorderExecutionListener.clear();
+  }
+
+  @Test
+  public void shouldDeleteRuntimeStateInBulk() {
+    // given
+    testRule.deploy(PARALLEL_PROCESS);
+    Map<String, Long> tableCounts = managementService.getTableCount();
+
+    List<String> processInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      processInstanceIds.add(startProcessInstanceWithRuntimeState());
+    }
+    recorder.reset();
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", false, true);
+
+    // then
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(managementService.getTableCount()).isEqualTo(tableCounts);
+
+    CommandExecutionStatistics deletion = recorder.getRecentCommandExecutions("DeleteProcessInstancesCmd").get(0);
+    assertThat(deletion.getSqlStatement(BULK_DELETE_STATEMENT).getCount()).isEqualTo(1);
+    assertThat(deletion.getSqlStatement(BULK_DELETE_STATEMENT).getRows()).isEqualTo(3);
+    assertThat(deletion.getSqlStatement(DELETE_EXECUTION_STATEMENT)).isNull();
+  }
+
+  @Test
+  public void shouldDeleteInBulkWithBatch() {
+    // given
+    testRule.deploy(PARALLEL_PROCESS);
+    Map<String, Long> tableCounts = managementService.getTableCount();
+    List<String> processInstanceIds = Arrays.asList(
+        startProcessInstanceWithRuntimeState(),
+        startProcessInstanceWithRuntimeState());
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processInstanceIds, null, "test", true);
+    executeBatch(batch);
+
+    // then
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(managementService.getTableCount()).isEqualTo(tableCounts);
+    assertThat(recorder.getCommandAggregate("ExecuteJobsCmd")
+        .getSqlStatement(BULK_DELETE_STATEMENT).getRows()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldInvokeCustomEndListeners() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .startEvent()
+        .userTask("task")
+          .camundaExecutionListenerClass("end", RecorderExecutionListener.class.getName())
+        .endEvent()
+        .done());
+    String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+    recorder.reset();
+
+    // when
+    runtimeService.deleteProcessInstances(Collections.singletonList(processInstanceId), "test", false, true);
+
+    // then
+    assertThat(RecorderExecutionListener.getRecordedEvents()).hasSize(1);
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(recorder.getRecentCommandExecutions("DeleteProcessInstancesCmd").get(0)
+        .getSqlStatement(DELETE_EXECUTION_STATEMENT)).isNotNull();
+  }
+
+  @Test
+  public void shouldSkipCustomEndListenersInBulk() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .startEvent()
+        .userTask("task")
+          .camundaExecutionListenerClass("end", RecorderExecutionListener.class.getName())
+        .endEvent()
+        .done());
+    String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+    recorder.reset();
+
+    // when
+    runtimeService.deleteProcessInstances(Collections.singletonList(processInstanceId), "test", true, true);
+
+    // then
+    assertThat(RecorderExecutionListener.getRecordedEvents()).isEmpty();
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(recorder.getRecentCommandExecutions("DeleteProcessInstancesCmd").get(0)
+        .getSqlStatement(BULK_DELETE_STATEMENT)).isNotNull();
+  }
+
+  @Test
+  public void shouldDeleteProcessInstancesWithSubProcessInstancesOneByOne() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess("subProcess")
+        .startEvent()
+        .userTask()
+        .endEvent()
+        .done());
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .startEvent()
+        .callActivity().calledElement("subProcess")
+        .endEvent()
+        .done());
+    String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+    recorder.reset();
+
+    // when
+    runtimeService.deleteProcessInstances(Collections.singletonList(processInstanceId), "test", false, true);
+
+    // then
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(taskService.createTaskQuery().count()).isZero();
+    assertThat(recorder.getRecentCommandExecutions("DeleteProcessInstancesCmd").get(0)
+        .getSqlStatement(BULK_DELETE_STATEMENT)).isNull();
+  }
+
+  @Test
+  public void shouldFailForNonExistingProcessInstance() {
+    // given
+    testRule.deploy(PARALLEL_PROCESS);
+    String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+
+    try {
+      // when
+      runtimeService.deleteProcessInstances(Arrays.asList(processInstanceId, "unknown"), "test", false, true);
+      fail("exception expected");
+    } catch (NotFoundException e) {
+      // then
+      assertThat(e.getMessage()).contains("unknown");
+    }
+
+    assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+  }
+
+  protected String startProcessInstanceWithRuntimeState() {
+    String businessKey = "instance" + businessKeyCounter++;
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY, businessKey,
+        Variables.createVariables().putValue("bytes", "content".getBytes()));
+
+    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+    taskService.addCandidateUser(task.getId(), "demo");
+    taskService.setVariableLocal(task.getId(), "taskBytes", "content".getBytes());
+
+    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, "worker")
+        .topic("topic", 1000L)
+        .businessKey(businessKey)
+        .execute();
+    externalTaskService.handleFailure(externalTasks.get(0).getId(), "worker", "failure", "details", 1, 0);
+
+    // a failed job with an exception stack trace and an incident
+    Job job = managementService.createJobQuery()
+        .processInstanceId(processInstance.getId())
+        .activityId("failingTask")
+        .singleResult();
+    try {
+      managementService.executeJob(job.getId());
+      fail("exception expected");
+    } catch (Exception e) {
+      // expected
+    }
+    managementService.setJobRetries(job.getId(), 0);
+
+    return processInstance.getId();
+  }
+
+  protected void executeBatch(Batch batch) {
+    Job seedJob = managementService.createJobQuery().jobDefinitionId(batch.getSeedJobDefinitionId()).singleResult();
+    managementService.executeJob(seedJob.getId());
+
+    for (Job job : managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).list()) {
+      managementService.executeJob(job.getId());
+    }
+
+    Job monitorJob = managementService.createJobQuery().jobDefinitionId(batch.getMonitorJobDefinitionId()).singleResult();
+    managementService.executeJob(monitorJob.getId());
+  }
+
+}
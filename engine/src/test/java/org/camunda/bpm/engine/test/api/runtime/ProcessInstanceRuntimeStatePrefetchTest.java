@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.impl.metrics.command.SqlStatementStatistics;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ProcessInstanceRuntimeStatePrefetchTest {
+
+  protected static final String PROCESS_KEY = "process";
+  protected static final BpmnModelInstance PARALLEL_PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+      .startEvent()
+      .parallelGateway("fork")
+        .userTask("task1")
+        .boundaryEvent("timer").timerWithDuration("PT1H")
+        .endEvent()
+      .moveToNode("fork")
+        .userTask("task2")
+      .moveToNode("fork")
+        .serviceTask("externalTask").camundaExternalTask("topic")
+      .moveToNode("fork")
+        .receiveTask("receiveTask").message("message")
+      .done();
+
+  /**
+   * Statements which load the entities of a single execution.
+   */
+  protected static final List<String> PER_EXECUTION_STATEMENTS = Arrays.asList(
+      "selectEventSubscriptionsByExecution",
+      "selectTasksByExecutionId",
+      "selectExternalTasksByExecutionId",
+      "selectJobsByExecutionId",
+      "selectIncidentsByExecutionId",
+      "selectVariablesByExecutionId",
+      "selectExecutionsByParentExecutionId");
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      .setCommandStatisticsEnabled(true));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  @Rule
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  protected RuntimeService runtimeService;
+  protected CommandStatisticsRecorder recorder;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    recorder = engineRule.getProcessEngineConfiguration().getCommandStatisticsRecorder();
+
+    testRule.deploy(PARALLEL_PROCESS);
+  }
+
+  @After
+  public void resetRecorder() {
+    recorder.reset();
+  }
+
+  @Test
+  public void shouldLoadRuntimeStateOfProcessInstance() {
+    // given
+    String processInstanceId = startProcessInstance();
+
+    // when
+    ExecutionEntity processInstance = engineRule.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired()
+        .execute(commandContext -> {
+          ExecutionEntity instance = commandContext.getExecutionManager().findProcessInstanceWithRuntimeState(processInstanceId);
+          // navigate the whole tree
+          for (ExecutionEntity execution : instance.getExecutions()) {
+            execution.getTasks();
+            execution.getJobs();
+            execution.getIncidents();
+            execution.getExternalTasks();
+            execution.getEventSubscriptions();
+            execution.getVariablesLocal();
+          }
+          return instance;
+        });
+
+    // then
+    assertThat(processInstance.getExecutions()).hasSize(4);
+    assertThat(perExecutionStatements(recorder.getRecentCommandExecutions().get(0))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLoadEntitiesPerExecutionOnDeletion() {
+    // given
+    String processInstanceId = startProcessInstance();
+
+    // when
+    runtimeService.deleteProcessInstance(processInstanceId, null);
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(perExecutionStatements(findExecution("DeleteProcessInstanceCmd"))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLoadEntitiesPerExecutionOnModification() {
+    // given
+    String processInstanceId = startProcessInstance();
+
+    // when
+    runtimeService.createProcessInstanceModification(processInstanceId)
+      .cancelAllForActivity("task2")
+      .cancelAllForActivity("externalTask")
+      .execute();
+
+    // then
+    assertThat(runtimeService.getActivityInstance(processInstanceId).getChildActivityInstances()).hasSize(2);
+    assertThat(perExecutionStatements(findExecution("ModifyProcessInstanceCmd"))).isEmpty();
+  }
+
+  protected String startProcessInstance() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY,
+        Variables.createVariables().putValue("a", 1).putValue("b", "two"));
+    recorder.reset();
+    return processInstance.getId();
+  }
+
+  protected CommandExecutionStatistics findExecution(String commandName) {
+    List<CommandExecutionStatistics> executions = recorder.getRecentCommandExecutions(commandName);
+    assertThat(executions).isNotEmpty();
+    return executions.get(0);
+  }
+
+  protected List<String> perExecutionStatements(CommandExecutionStatistics execution) {
+    List<String> statements = new ArrayList<>();
+    for (SqlStatementStatistics statement : execution.getSqlStatements()) {
+      String statementId = statement.getStatementId();
+      String name = statementId.substring(statementId.lastIndexOf('.') + 1);
+      if (PER_EXECUTION_STATEMENTS.contains(name)) {
+        statements.add(name);
+      }
+    }
+    return statements;
+  }
+
+}
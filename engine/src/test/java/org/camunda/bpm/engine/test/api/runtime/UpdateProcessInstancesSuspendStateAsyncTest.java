@@ -92,6 +92,50 @@ public class UpdateProcessInstancesSuspendStateAsyncTest {
 
   }
 
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  @Deployment(resources = {"org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml",
+    "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void shouldSuspendSubResourcesAndUpdateHistoryOnBatchSuspension() {
+    // given
+    ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    // when
+    Batch suspendprocess = runtimeService.updateProcessInstanceSuspensionState().byProcessInstanceIds(Arrays.asList(processInstance1.getId(), processInstance2.getId())).suspendAsync();
+    helper.completeSeedJobs(suspendprocess);
+    helper.executeJobs(suspendprocess);
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().suspended().count()).isEqualTo(2);
+    assertThat(engineRule.getExternalTaskService().createExternalTaskQuery().suspended().count()).isEqualTo(1);
+    assertThat(engineRule.getTaskService().createTaskQuery().suspended().count()).isEqualTo(1);
+    assertThat(historyService.createHistoricProcessInstanceQuery().suspended().count()).isEqualTo(2);
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  @Deployment(resources = {"org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml",
+    "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void shouldActivateSubResourcesAndUpdateHistoryOnBatchActivation() {
+    // given
+    ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.suspendProcessInstanceById(processInstance1.getId());
+    runtimeService.suspendProcessInstanceById(processInstance2.getId());
+
+    // when
+    Batch activateprocess = runtimeService.updateProcessInstanceSuspensionState().byProcessInstanceIds(Arrays.asList(processInstance1.getId(), processInstance2.getId())).activateAsync();
+    helper.completeSeedJobs(activateprocess);
+    helper.executeJobs(activateprocess);
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().active().count()).isEqualTo(2);
+    assertThat(engineRule.getExternalTaskService().createExternalTaskQuery().active().count()).isEqualTo(1);
+    assertThat(engineRule.getTaskService().createTaskQuery().active().count()).isEqualTo(1);
+    assertThat(historyService.createHistoricProcessInstanceQuery().active().count()).isEqualTo(2);
+  }
+
   @Test
   public void testBatchSuspensionByIdsInDifferentDeployments() {
     // given
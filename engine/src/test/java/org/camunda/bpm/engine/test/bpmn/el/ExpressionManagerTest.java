@@ -29,6 +29,7 @@ import org.camunda.bpm.engine.test.Deployment;
 import org.camunda.bpm.engine.test.RequiredHistoryLevel;
 import org.camunda.bpm.engine.test.util.PluggableProcessEngineTest;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
 import org.junit.Test;
 
 /**
@@ -108,4 +109,36 @@ public class ExpressionManagerTest extends PluggableProcessEngineTest {
     // then
     assertEquals(1L, historyService.createHistoricVariableInstanceQuery().variableValueEquals("myCounter", 6).count());
   }
+
+  @Test
+  public void testResolvesVariablesFromParentScopes() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .subProcess()
+        .embeddedSubProcess()
+          .startEvent()
+          .exclusiveGateway()
+            .condition("null variable", "${nullVar == null && count > 1}")
+            .userTask("task")
+              .camundaAssignee("${assignee}")
+            .endEvent()
+          .moveToLastGateway()
+            .condition("otherwise", "${nullVar != null || count <= 1}")
+            .endEvent()
+        .subProcessDone()
+        .endEvent()
+        .done());
+
+    // when
+    runtimeService.startProcessInstanceByKey("process", Variables.createVariables()
+        .putValue("assignee", "kermit")
+        .putValue("count", 2)
+        .putValue("nullVar", null));
+
+    // then
+    Task task = taskService.createTaskQuery().singleResult();
+    assertEquals("task", task.getTaskDefinitionKey());
+    assertEquals("kermit", task.getAssignee());
+  }
 }
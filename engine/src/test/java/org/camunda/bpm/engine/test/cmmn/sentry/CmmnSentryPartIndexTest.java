@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.cmmn.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.impl.cmmn.model.CmmnSentryDeclaration.IF_PART;
+import static org.camunda.bpm.engine.impl.cmmn.model.CmmnSentryDeclaration.PLAN_ITEM_ON_PART;
+import static org.camunda.bpm.engine.impl.cmmn.model.CmmnSentryDeclaration.VARIABLE_ON_PART;
+
+import java.util.Arrays;
+
+import org.camunda.bpm.engine.impl.cmmn.execution.CaseSentryPartImpl;
+import org.camunda.bpm.engine.impl.cmmn.execution.CmmnSentryPart;
+import org.camunda.bpm.engine.impl.cmmn.execution.CmmnSentryPartIndex;
+import org.junit.Test;
+
+public class CmmnSentryPartIndexTest {
+
+  @Test
+  public void shouldIndexSentryParts() {
+    // given
+    CmmnSentryPart onPartA = onPart("sentry1", "PI_A", "complete");
+    CmmnSentryPart onPartB = onPart("sentry1", "PI_B", "complete");
+    CmmnSentryPart otherOnPartA = onPart("sentry2", "PI_A", "terminate");
+    CmmnSentryPart ifPart = part("sentry2", IF_PART);
+    CmmnSentryPart variableOnPart = part("sentry3", VARIABLE_ON_PART);
+    variableOnPart.setVariableName("amount");
+    variableOnPart.setVariableEvent("update");
+
+    // when
+    CmmnSentryPartIndex index = new CmmnSentryPartIndex(
+        Arrays.asList(onPartA, onPartB, otherOnPartA, ifPart, variableOnPart));
+
+    // then
+    assertThat(index.getPartsBySource("PI_A")).containsExactly(onPartA, otherOnPartA);
+    assertThat(index.getPartsBySource("PI_B")).containsExactly(onPartB);
+    assertThat(index.getPartsBySource("PI_C")).isEmpty();
+    assertThat(index.getVariableOnParts("amount")).containsExactly(variableOnPart);
+    assertThat(index.getVariableOnParts("other")).isEmpty();
+    assertThat(index.getSentriesWithIfPart()).containsExactly("sentry2");
+  }
+
+  protected CmmnSentryPart onPart(String sentryId, String source, String standardEvent) {
+    CmmnSentryPart sentryPart = part(sentryId, PLAN_ITEM_ON_PART);
+    sentryPart.setSource(source);
+    sentryPart.setStandardEvent(standardEvent);
+    return sentryPart;
+  }
+
+  protected CmmnSentryPart part(String sentryId, String type) {
+    CmmnSentryPart sentryPart = new CaseSentryPartImpl();
+    sentryPart.setSentryId(sentryId);
+    sentryPart.setType(type);
+    return sentryPart;
+  }
+
+}
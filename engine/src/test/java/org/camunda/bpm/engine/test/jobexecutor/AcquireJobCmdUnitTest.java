@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cmd.AcquireJobsCmd;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
@@ -57,6 +58,7 @@ public class AcquireJobCmdUnitTest {
     acquireJobsCmd = new AcquireJobsCmd(jobExecutor);
 
     commandContext = mock(CommandContext.class);
+    when(commandContext.getProcessEngineConfiguration()).thenReturn(mock(ProcessEngineConfigurationImpl.class));
 
     DbEntityManager dbEntityManager = mock(DbEntityManager.class);
     when(commandContext.getDbEntityManager()).thenReturn(dbEntityManager);
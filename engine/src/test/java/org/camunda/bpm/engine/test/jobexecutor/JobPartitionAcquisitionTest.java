@@ -0,0 +1,250 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.AcquireJobPartitionsCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.impl.util.PartitionUtil;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class JobPartitionAcquisitionTest {
+
+  protected static final int PARTITION_COUNT = 4;
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .serviceTask()
+        .camundaAsyncBefore()
+        .camundaExpression("${true}")
+      .endEvent()
+      .done();
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected CommandExecutor commandExecutor;
+
+  @Before
+  public void setUp() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    commandExecutor = configuration.getCommandExecutorTxRequired();
+
+    configuration.setJobExecutorPartitionCount(PARTITION_COUNT);
+  }
+
+  @After
+  public void tearDown() {
+    configuration.setJobExecutorPartitionCount(0);
+    ClockUtil.reset();
+
+    commandExecutor.execute(commandContext -> {
+      PropertyManager propertyManager = commandContext.getPropertyManager();
+      for (PropertyEntity property : propertyManager.findPropertiesByNamePrefix("jobexecutor.")) {
+        propertyManager.deleteProperty(property);
+      }
+      return null;
+    });
+  }
+
+  @Test
+  public void shouldAssignPartitionByProcessInstanceId() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+
+    // when
+    String processInstanceId = runtimeService.startProcessInstanceByKey("process").getId();
+
+    // then
+    Job job = managementService.createJobQuery().singleResult();
+    assertThat(getPartition(job.getId())).isEqualTo(PartitionUtil.getPartition(processInstanceId, PARTITION_COUNT));
+  }
+
+  @Test
+  public void shouldNotAssignPartitionIfDisabled() {
+    // given
+    configuration.setJobExecutorPartitionCount(0);
+    testRule.deploy(ASYNC_PROCESS);
+
+    // when
+    runtimeService.startProcessInstanceByKey("process");
+
+    // then
+    Job job = managementService.createJobQuery().singleResult();
+    assertThat(getPartition(job.getId())).isNull();
+  }
+
+  @Test
+  public void shouldOnlyFindJobsOfGivenPartitions() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 20; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+
+    // when
+    List<AcquirableJobEntity> jobs = commandExecutor.execute(commandContext ->
+      commandContext.getJobManager().findNextJobsToExecute(new Page(0, 100), Arrays.asList(1, 2)));
+
+    // then
+    assertThat(jobs).isNotEmpty();
+    for (AcquirableJobEntity job : jobs) {
+      assertThat(PartitionUtil.getPartition(job.getProcessInstanceId(), PARTITION_COUNT)).isIn(1, 2);
+    }
+  }
+
+  @Test
+  public void shouldLeaseAllPartitionsAsSingleJobExecutor() {
+    // when
+    List<Integer> partitions = acquirePartitions(createJobExecutor("node1"));
+
+    // then
+    assertThat(partitions).containsExactlyInAnyOrder(0, 1, 2, 3);
+  }
+
+  @Test
+  public void shouldKeepLeasesOnRenewal() {
+    // given
+    JobExecutor jobExecutor = createJobExecutor("node1");
+    acquirePartitions(jobExecutor);
+
+    // when
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + jobExecutor.getPartitionLeaseTimeInMillis() / 2));
+    List<Integer> partitions = acquirePartitions(jobExecutor);
+
+    // then
+    assertThat(partitions).containsExactlyInAnyOrder(0, 1, 2, 3);
+  }
+
+  @Test
+  public void shouldRebalancePartitionsWithNewJobExecutor() {
+    // given
+    JobExecutor firstJobExecutor = createJobExecutor("node1");
+    JobExecutor secondJobExecutor = createJobExecutor("node2");
+    acquirePartitions(firstJobExecutor);
+
+    // when
+    List<Integer> secondPartitionsBeforeRebalancing = acquirePartitions(secondJobExecutor);
+    List<Integer> firstPartitions = acquirePartitions(firstJobExecutor);
+    List<Integer> secondPartitions = acquirePartitions(secondJobExecutor);
+
+    // then
+    assertThat(secondPartitionsBeforeRebalancing).isEmpty();
+    assertThat(firstPartitions).hasSize(2);
+    assertThat(secondPartitions).hasSize(2);
+    assertThat(secondPartitions).doesNotContainAnyElementsOf(firstPartitions);
+  }
+
+  @Test
+  public void shouldTakeOverPartitionsOfExpiredJobExecutor() {
+    // given
+    JobExecutor firstJobExecutor = createJobExecutor("node1");
+    JobExecutor secondJobExecutor = createJobExecutor("node2");
+    acquirePartitions(firstJobExecutor);
+    acquirePartitions(secondJobExecutor);
+    acquirePartitions(firstJobExecutor);
+    acquirePartitions(secondJobExecutor);
+
+    // when the first job executor stops renewing its leases
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + firstJobExecutor.getPartitionLeaseTimeInMillis() + 1));
+    List<Integer> partitions = acquirePartitions(secondJobExecutor);
+
+    // then
+    assertThat(partitions).containsExactlyInAnyOrder(0, 1, 2, 3);
+    assertThat(findProperty(AcquireJobPartitionsCmd.getHeartbeatPropertyName("node1"))).isNull();
+  }
+
+  @Test
+  public void shouldNotReturnPartitionLeasedConcurrently() {
+    // given
+    JobExecutor jobExecutor = createJobExecutor("node1");
+    String leaseName = AcquireJobPartitionsCmd.getPartitionPropertyName(0);
+
+    // when another job executor leases partition 0 before the acquisition is flushed
+    List<Integer> partitions = commandExecutor.execute(commandContext -> {
+      List<Integer> acquiredPartitions = new AcquireJobPartitionsCmd(jobExecutor, PARTITION_COUNT).execute(commandContext);
+
+      configuration.getCommandExecutorTxRequiresNew().execute(otherCommandContext -> {
+        long expirationTime = ClockUtil.getCurrentTime().getTime() + jobExecutor.getPartitionLeaseTimeInMillis();
+        otherCommandContext.getPropertyManager().findPropertyById(leaseName).setValue(expirationTime + "|node2");
+        return null;
+      });
+
+      return acquiredPartitions;
+    });
+
+    // then
+    assertThat(partitions).containsExactlyInAnyOrder(1, 2, 3);
+    assertThat(findProperty(leaseName).getValue()).endsWith("|node2");
+  }
+
+  protected JobExecutor createJobExecutor(String lockOwner) {
+    JobExecutor jobExecutor = new DefaultJobExecutor();
+    jobExecutor.setLockOwner(lockOwner);
+    return jobExecutor;
+  }
+
+  protected List<Integer> acquirePartitions(JobExecutor jobExecutor) {
+    return commandExecutor.execute(new AcquireJobPartitionsCmd(jobExecutor, PARTITION_COUNT));
+  }
+
+  protected Integer getPartition(String jobId) {
+    return commandExecutor.execute(commandContext -> {
+      JobEntity job = commandContext.getJobManager().findJobById(jobId);
+      return job.getPartition();
+    });
+  }
+
+  protected PropertyEntity findProperty(String name) {
+    return commandExecutor.execute(commandContext -> commandContext.getPropertyManager().findPropertyById(name));
+  }
+
+}
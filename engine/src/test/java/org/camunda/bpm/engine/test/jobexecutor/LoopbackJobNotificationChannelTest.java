@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobNotificationChannel;
+import org.camunda.bpm.engine.impl.jobexecutor.LoopbackJobNotificationChannel;
+import org.camunda.bpm.engine.impl.jobexecutor.MessageAddedNotification;
+import org.junit.After;
+import org.junit.Test;
+
+public class LoopbackJobNotificationChannelTest {
+
+  protected LoopbackJobNotificationChannel firstChannel = new LoopbackJobNotificationChannel("test");
+  protected LoopbackJobNotificationChannel secondChannel = new LoopbackJobNotificationChannel("test");
+  protected LoopbackJobNotificationChannel otherChannel = new LoopbackJobNotificationChannel("other");
+
+  @After
+  public void stopChannels() {
+    firstChannel.stop();
+    secondChannel.stop();
+    otherChannel.stop();
+  }
+
+  @Test
+  public void shouldWakeUpJobExecutorsOfOtherSubscribers() {
+    // given
+    JobExecutor firstJobExecutor = mock(JobExecutor.class);
+    JobExecutor secondJobExecutor = mock(JobExecutor.class);
+    firstChannel.start(firstJobExecutor);
+    secondChannel.start(secondJobExecutor);
+
+    // when
+    firstChannel.notifyJobsAvailable();
+
+    // then
+    verify(secondJobExecutor).jobWasAdded();
+    verify(firstJobExecutor, never()).jobWasAdded();
+  }
+
+  @Test
+  public void shouldNotWakeUpJobExecutorsOfOtherChannels() {
+    // given
+    JobExecutor firstJobExecutor = mock(JobExecutor.class);
+    JobExecutor otherJobExecutor = mock(JobExecutor.class);
+    firstChannel.start(firstJobExecutor);
+    otherChannel.start(otherJobExecutor);
+
+    // when
+    firstChannel.notifyJobsAvailable();
+
+    // then
+    verify(otherJobExecutor, never()).jobWasAdded();
+  }
+
+  @Test
+  public void shouldNotWakeUpStoppedSubscribers() {
+    // given
+    JobExecutor secondJobExecutor = mock(JobExecutor.class);
+    firstChannel.start(mock(JobExecutor.class));
+    secondChannel.start(secondJobExecutor);
+    secondChannel.stop();
+
+    // when
+    firstChannel.notifyJobsAvailable();
+
+    // then
+    verify(secondJobExecutor, never()).jobWasAdded();
+  }
+
+  @Test
+  public void shouldNotifyOtherNodesAfterJobWasAdded() {
+    // given
+    JobNotificationChannel channel = mock(JobNotificationChannel.class);
+    JobExecutor jobExecutor = new NoopJobExecutor();
+    jobExecutor.setJobNotificationChannel(channel);
+    jobExecutor.start();
+
+    try {
+      // when
+      new MessageAddedNotification(jobExecutor).execute(null);
+
+      // then
+      verify(channel).start(jobExecutor);
+      verify(channel).notifyJobsAvailable();
+    }
+    finally {
+      jobExecutor.shutdown();
+    }
+
+    verify(channel).stop();
+  }
+
+  public static class NoopJobExecutor extends JobExecutor {
+
+    protected void startExecutingJobs() {
+    }
+
+    protected void stopExecutingJobs() {
+    }
+
+    public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    }
+  }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.AcquirePrefetchedTimersCmd;
+import org.camunda.bpm.engine.impl.cmd.PrefetchTimersCmd;
+import org.camunda.bpm.engine.impl.cmd.ReleasePrefetchedTimersCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers;
+import org.camunda.bpm.engine.impl.jobexecutor.PrefetchedTimers.PrefetchedTimer;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class TimerPrefetchTest {
+
+  protected static final int PREFETCH_TIME = 10 * 1000;
+
+  protected static final BpmnModelInstance SHORT_TIMER_PROCESS = createTimerProcess("shortTimer", "PT5S");
+  protected static final BpmnModelInstance LONG_TIMER_PROCESS = createTimerProcess("longTimer", "PT1H");
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected CommandExecutor commandExecutor;
+
+  protected JobExecutor jobExecutor;
+  protected Date now;
+
+  @Before
+  public void setUp() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    commandExecutor = configuration.getCommandExecutorTxRequired();
+
+    jobExecutor = new DefaultJobExecutor();
+    jobExecutor.setLockOwner("prefetchingNode");
+    jobExecutor.setTimerPrefetchTimeInMillis(PREFETCH_TIME);
+
+    now = new Date(1_000_000_000L);
+    ClockUtil.setCurrentTime(now);
+
+    testRule.deploy(SHORT_TIMER_PROCESS, LONG_TIMER_PROCESS);
+  }
+
+  @After
+  public void tearDown() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldLeaseTimersDueWithinPrefetchWindow() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    runtimeService.startProcessInstanceByKey("longTimer");
+    JobEntity shortTimer = (JobEntity) managementService.createJobQuery().processDefinitionKey("shortTimer").singleResult();
+
+    // when
+    List<PrefetchedTimer> timers = prefetchTimers();
+
+    // then
+    assertThat(timers).extracting("id").containsExactly(shortTimer.getId());
+    assertThat(timers.get(0).getDuedate()).isEqualTo(shortTimer.getDuedate().getTime());
+
+    JobEntity leasedTimer = (JobEntity) managementService.createJobQuery().jobId(shortTimer.getId()).singleResult();
+    assertThat(leasedTimer.getLockOwner()).isEqualTo("prefetchingNode");
+    assertThat(leasedTimer.getLockExpirationTime()).isEqualTo(new Date(shortTimer.getDuedate().getTime() + PREFETCH_TIME));
+  }
+
+  @Test
+  public void shouldNotAcquireLeasedTimerByOtherNodes() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    prefetchTimers();
+
+    // when the timer is due
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 6000));
+
+    // then
+    assertThat(findAcquirableJobs()).isEmpty();
+  }
+
+  @Test
+  public void shouldAcquireTimerAfterLeaseExpired() {
+    // given a node that prefetched the timer and failed
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    prefetchTimers();
+
+    // when
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 5000 + PREFETCH_TIME + 1));
+
+    // then
+    assertThat(findAcquirableJobs()).hasSize(1);
+  }
+
+  @Test
+  public void shouldAcquireDuePrefetchedTimer() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 5000));
+
+    // when
+    AcquiredJobs acquiredJobs = commandExecutor.execute(new AcquirePrefetchedTimersCmd(jobExecutor, timers));
+
+    // then
+    assertThat(acquiredJobs.size()).isEqualTo(1);
+    assertThat(acquiredJobs.contains(timers.get(0).getId())).isTrue();
+
+    JobEntity timer = (JobEntity) managementService.createJobQuery().singleResult();
+    assertThat(timer.getLockExpirationTime())
+      .isEqualTo(new Date(now.getTime() + 5000 + jobExecutor.getLockTimeInMillis()));
+  }
+
+  @Test
+  public void shouldNotAcquirePrefetchedTimerModifiedInBetween() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+    managementService.suspendJobById(timers.get(0).getId());
+
+    // when
+    AcquiredJobs acquiredJobs = commandExecutor.execute(new AcquirePrefetchedTimersCmd(jobExecutor, timers));
+
+    // then
+    assertThat(acquiredJobs.size()).isEqualTo(0);
+
+    JobEntity timer = (JobEntity) managementService.createJobQuery().singleResult();
+    assertThat(timer.getLockOwner()).isNull();
+    assertThat(timer.getLockExpirationTime()).isNull();
+  }
+
+  @Test
+  public void shouldReleaseLeaseOfTimerWithChangedDuedate() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+    managementService.setJobDuedate(timers.get(0).getId(), new Date(now.getTime() + 2000));
+
+    // when
+    List<PrefetchedTimer> releasedTimers = commandExecutor.execute(new ReleasePrefetchedTimersCmd(jobExecutor, timers, true));
+
+    // then
+    assertThat(releasedTimers).containsExactlyElementsOf(timers);
+
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 2000));
+    assertThat(findAcquirableJobs()).extracting("id").containsExactly(timers.get(0).getId());
+  }
+
+  @Test
+  public void shouldKeepLeaseOfUnmodifiedTimer() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+
+    // when
+    List<PrefetchedTimer> releasedTimers = commandExecutor.execute(new ReleasePrefetchedTimersCmd(jobExecutor, timers, true));
+
+    // then
+    assertThat(releasedTimers).isEmpty();
+
+    JobEntity timer = (JobEntity) managementService.createJobQuery().singleResult();
+    assertThat(timer.getLockOwner()).isEqualTo("prefetchingNode");
+  }
+
+  @Test
+  public void shouldReleaseLeasesOfPrefetchedTimers() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+
+    // when
+    List<PrefetchedTimer> releasedTimers = commandExecutor.execute(new ReleasePrefetchedTimersCmd(jobExecutor, timers, false));
+
+    // then
+    assertThat(releasedTimers).containsExactlyElementsOf(timers);
+
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 5000));
+    assertThat(findAcquirableJobs()).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotReleaseLeaseOfOtherNode() {
+    // given
+    runtimeService.startProcessInstanceByKey("shortTimer");
+    List<PrefetchedTimer> timers = prefetchTimers();
+
+    JobExecutor otherJobExecutor = new DefaultJobExecutor();
+    otherJobExecutor.setLockOwner("otherNode");
+
+    // when
+    commandExecutor.execute(new ReleasePrefetchedTimersCmd(otherJobExecutor, timers, false));
+
+    // then
+    JobEntity timer = (JobEntity) managementService.createJobQuery().singleResult();
+    assertThat(timer.getLockOwner()).isEqualTo("prefetchingNode");
+  }
+
+  @Test
+  public void shouldPollDueTimersInOrder() {
+    // given
+    PrefetchedTimers prefetchedTimers = new PrefetchedTimers();
+    prefetchedTimers.add(new PrefetchedTimer("late", 1, 300));
+    prefetchedTimers.add(new PrefetchedTimer("early", 1, 100));
+    prefetchedTimers.add(new PrefetchedTimer("middle", 1, 200));
+
+    // when
+    List<PrefetchedTimer> dueTimers = prefetchedTimers.pollDue(200);
+
+    // then
+    assertThat(dueTimers).extracting("id").containsExactly("early", "middle");
+    assertThat(prefetchedTimers.getNextDuedate()).isEqualTo(300);
+  }
+
+  @Test
+  public void shouldRemoveTimersOfLostPartitions() {
+    // given
+    PrefetchedTimers prefetchedTimers = new PrefetchedTimers();
+    prefetchedTimers.add(new PrefetchedTimer("owned", 1, 100, 0));
+    prefetchedTimers.add(new PrefetchedTimer("lost", 1, 200, 1));
+    prefetchedTimers.add(new PrefetchedTimer("unpartitioned", 1, 300));
+
+    // when
+    List<PrefetchedTimer> removedTimers = prefetchedTimers.removeOutsidePartitions(Arrays.asList(0, 2));
+
+    // then
+    assertThat(removedTimers).extracting("id").containsExactly("lost");
+    assertThat(prefetchedTimers.clear()).extracting("id").containsExactlyInAnyOrder("owned", "unpartitioned");
+    assertThat(prefetchedTimers.size()).isZero();
+  }
+
+  protected List<PrefetchedTimer> prefetchTimers() {
+    return commandExecutor.execute(new PrefetchTimersCmd(jobExecutor, 10, null));
+  }
+
+  protected List<AcquirableJobEntity> findAcquirableJobs() {
+    return commandExecutor.execute(commandContext ->
+      commandContext.getJobManager().findNextJobsToExecute(new Page(0, 100)));
+  }
+
+  protected static BpmnModelInstance createTimerProcess(String key, String duration) {
+    return Bpmn.createExecutableProcess(key)
+        .startEvent()
+        .intermediateCatchEvent()
+          .timerWithDuration(duration)
+        .endEvent()
+        .done();
+  }
+
+}
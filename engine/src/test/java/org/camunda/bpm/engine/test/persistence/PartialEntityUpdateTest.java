@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PartialEntityUpdateTest {
+
+  protected static final BpmnModelInstance USER_TASK_PROCESS = Bpmn.createExecutableProcess("userTaskProcess")
+      .startEvent()
+      .userTask("task")
+        .name("original")
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("asyncProcess")
+      .startEvent()
+      .serviceTask("service")
+        .camundaAsyncBefore()
+        .camundaExpression("${true}")
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(config -> config
+      .setDbEntityPartialUpdatesEnabled(true));
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  @Rule
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected ManagementService managementService;
+
+  @Before
+  public void init() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    managementService = engineRule.getManagementService();
+  }
+
+  @Test
+  public void shouldOnlyWriteChangedTaskColumns() {
+    // given
+    testRule.deploy(USER_TASK_PROCESS);
+    runtimeService.startProcessInstanceByKey("userTaskProcess");
+    String taskId = taskService.createTaskQuery().singleResult().getId();
+
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      TaskEntity task = commandContext.getTaskManager().findTaskById(taskId);
+      // the name is changed behind the back of the cached entity
+      updateColumn(commandContext, "ACT_RU_TASK", "NAME_", "changed", taskId);
+      task.setAssignee("kermit");
+      return null;
+    });
+
+    // then
+    Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+    assertThat(task.getAssignee()).isEqualTo("kermit");
+    assertThat(task.getName()).isEqualTo("changed");
+  }
+
+  @Test
+  public void shouldOnlyWriteChangedJobColumns() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    runtimeService.startProcessInstanceByKey("asyncProcess");
+    String jobId = managementService.createJobQuery().singleResult().getId();
+
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      JobEntity job = commandContext.getJobManager().findJobById(jobId);
+      updateColumn(commandContext, "ACT_RU_JOB", "EXCEPTION_MSG_", "changed", jobId);
+      job.setRetries(1);
+      return null;
+    });
+
+    // then
+    Job job = managementService.createJobQuery().jobId(jobId).singleResult();
+    assertThat(job.getRetries()).isEqualTo(1);
+    assertThat(job.getExceptionMessage()).isEqualTo("changed");
+  }
+
+  @Test
+  public void shouldOnlyWriteChangedExecutionColumns() {
+    // given
+    testRule.deploy(USER_TASK_PROCESS);
+    String processInstanceId = runtimeService.startProcessInstanceByKey("userTaskProcess", "original").getId();
+
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      ExecutionEntity processInstance = commandContext.getExecutionManager().findExecutionById(processInstanceId);
+      updateColumn(commandContext, "ACT_RU_EXECUTION", "BUSINESS_KEY_", "changed", processInstanceId);
+      processInstance.setSuspensionState(SuspensionState.SUSPENDED.getStateCode());
+      return null;
+    });
+
+    // then
+    ProcessInstance processInstance = runtimeService.createProcessInstanceQuery()
+        .processInstanceId(processInstanceId)
+        .singleResult();
+    assertThat(processInstance.isSuspended()).isTrue();
+    assertThat(processInstance.getBusinessKey()).isEqualTo("changed");
+  }
+
+  @Test
+  public void shouldWriteAllColumnsOnForcedUpdate() {
+    // given
+    testRule.deploy(USER_TASK_PROCESS);
+    runtimeService.startProcessInstanceByKey("userTaskProcess");
+    String taskId = taskService.createTaskQuery().singleResult().getId();
+
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      TaskEntity task = commandContext.getTaskManager().findTaskById(taskId);
+      updateColumn(commandContext, "ACT_RU_TASK", "NAME_", "changed", taskId);
+      commandContext.getDbEntityManager().forceUpdate(task);
+      return null;
+    });
+
+    // then
+    Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+    assertThat(task.getName()).isEqualTo("original");
+  }
+
+  protected void updateColumn(CommandContext commandContext, String table, String column, String value, String id) {
+    String tablePrefix = processEngineConfiguration.getDatabaseTablePrefix();
+    Connection connection = commandContext.getDbSqlSession().getSqlSession().getConnection();
+
+    try (PreparedStatement statement = connection.prepareStatement(
+        "update " + tablePrefix + table + " set " + column + " = ? where ID_ = ?")) {
+      statement.setString(1, value);
+      statement.setString(2, id);
+      statement.executeUpdate();
+    } catch (SQLException e) {
+      throw new ProcessEngineException(e);
+    }
+  }
+
+}
@@ -19,6 +19,7 @@ package org.camunda.bpm.engine.test.standalone.db.entitymanager;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
@@ -217,6 +218,86 @@ public class DbOperationsOrderingTest {
     assertHappensBefore(execution1, execution2, deleteOperations);
   }
 
+  @Test
+  public void testInsertReferenceOrderingLargeTree() {
+    // given a tree whose children have smaller ids than their parents
+    List<ExecutionEntity> executions = createExecutionTree(1000);
+    for (ExecutionEntity execution : executions) {
+      entityManager.insert(execution);
+    }
+
+    // when
+    entityManager.flushEntityCache();
+    List<DbOperation> insertOperations = entityManager.getDbOperationManager().calculateFlush();
+
+    // then every parent is inserted before its children
+    assertEquals(executions.size(), insertOperations.size());
+    for (ExecutionEntity execution : executions) {
+      if (execution.getParent() != null) {
+        assertHappensAfter(execution, execution.getParent(), insertOperations);
+      }
+    }
+  }
+
+  @Test
+  public void testDeleteReferenceOrderingLargeTree() {
+    // given
+    List<ExecutionEntity> executions = createExecutionTree(1000);
+    for (ExecutionEntity execution : executions) {
+      entityManager.getDbEntityCache().putPersistent(execution);
+    }
+
+    // when
+    for (ExecutionEntity execution : executions) {
+      entityManager.delete(execution);
+    }
+    entityManager.flushEntityCache();
+    List<DbOperation> deleteOperations = entityManager.getDbOperationManager().calculateFlush();
+
+    // then every child is deleted before its parent
+    assertEquals(executions.size(), deleteOperations.size());
+    for (ExecutionEntity execution : executions) {
+      if (execution.getParent() != null) {
+        assertHappensBefore(execution, execution.getParent(), deleteOperations);
+      }
+    }
+  }
+
+  @Test
+  public void testInsertCyclicReferences() {
+    // given
+    execution1.setParentExecution(execution2);
+    execution2.setParentExecution(execution1);
+
+    entityManager.insert(execution1);
+    entityManager.insert(execution2);
+
+    // when
+    entityManager.flushEntityCache();
+    List<DbOperation> insertOperations = entityManager.getDbOperationManager().calculateFlush();
+
+    // then both entities are inserted once
+    assertEquals(2, insertOperations.size());
+  }
+
+  /**
+   * Creates a tree in which every execution has up to two children. Children
+   * have smaller ids than their parents so that the id order contradicts the
+   * reference order.
+   */
+  protected List<ExecutionEntity> createExecutionTree(int size) {
+    List<ExecutionEntity> executions = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      ExecutionEntity execution = new ExecutionEntity();
+      execution.setId(String.format("tree-%04d", size - i));
+      if (i > 0) {
+        execution.setParentExecution(executions.get((i - 1) / 2));
+      }
+      executions.add(execution);
+    }
+    return executions;
+  }
+
   protected void assertHappensAfter(DbEntity entity1, DbEntity entity2, List<DbOperation> operations) {
     int idx1 = indexOfEntity(entity1, operations);
     int idx2 = indexOfEntity(entity2, operations);
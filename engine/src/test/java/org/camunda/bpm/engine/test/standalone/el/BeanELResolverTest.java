@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.javax.el.BeanELResolver;
+import org.camunda.bpm.engine.impl.javax.el.ELContext;
+import org.camunda.bpm.engine.impl.javax.el.ELException;
+import org.camunda.bpm.engine.impl.javax.el.ExpressionFactory;
+import org.camunda.bpm.engine.impl.javax.el.MethodNotFoundException;
+import org.camunda.bpm.engine.impl.juel.ExpressionFactoryImpl;
+import org.camunda.bpm.engine.impl.juel.SimpleContext;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanELResolverTest {
+
+  protected BeanELResolver resolver;
+  protected ELContext context;
+
+  @Before
+  public void setUp() {
+    resolver = new BeanELResolver();
+    context = new SimpleContext(resolver);
+    context.putContext(ExpressionFactory.class, new ExpressionFactoryImpl());
+  }
+
+  @Test
+  public void shouldInvokeMethod() {
+    // when
+    Object result = resolver.invoke(context, new Bean(), "greet", null, new Object[] { "Kermit" });
+
+    // then
+    assertThat(result).isEqualTo("Hello Kermit");
+    assertThat(context.isPropertyResolved()).isTrue();
+  }
+
+  @Test
+  public void shouldInvokeMethodWithParameterTypes() {
+    // when
+    Object result = resolver.invoke(context, new Bean(), "add", new Class<?>[] { int.class, int.class }, new Object[] { "1", 2L });
+
+    // then
+    assertThat(result).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldInvokeStaticMethod() {
+    // when
+    Object result = resolver.invoke(context, new Bean(), "twice", null, new Object[] { 21 });
+
+    // then
+    assertThat(result).isEqualTo(42L);
+  }
+
+  @Test
+  public void shouldInvokeVarArgsMethod() {
+    // given
+    Bean bean = new Bean();
+
+    // then
+    assertThat(resolver.invoke(context, bean, "join", null, new Object[] { "a", "b", "c" })).isEqualTo("a,b,c");
+    assertThat(resolver.invoke(context, bean, "join", null, new Object[] { "a" })).isEqualTo("a");
+    assertThat(resolver.invoke(context, bean, "join", null, new Object[0])).isEqualTo("");
+  }
+
+  @Test
+  public void shouldInvokeVoidMethod() {
+    // given
+    Bean bean = new Bean();
+
+    // when
+    Object result = resolver.invoke(context, bean, "touch", null, null);
+
+    // then
+    assertThat(result).isNull();
+    assertThat(bean.touched).isTrue();
+  }
+
+  @Test
+  public void shouldReadProperty() {
+    // when
+    Object result = resolver.getValue(context, new Bean(), "name");
+
+    // then
+    assertThat(result).isEqualTo("bean");
+    assertThat(context.isPropertyResolved()).isTrue();
+  }
+
+  @Test
+  public void shouldWrapExceptionOfMethod() {
+    assertThatThrownBy(() -> resolver.invoke(context, new Bean(), "fail", null, null))
+      .isInstanceOf(ELException.class)
+      .hasCauseInstanceOf(IllegalStateException.class);
+
+    assertThatThrownBy(() -> resolver.getValue(context, new Bean(), "broken"))
+      .isInstanceOf(ELException.class)
+      .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldFailRepeatedlyForUnknownMethod() {
+    assertThatThrownBy(() -> resolver.invoke(context, new Bean(), "unknown", null, null))
+      .isInstanceOf(MethodNotFoundException.class);
+
+    assertThatThrownBy(() -> resolver.invoke(context, new Bean(), "unknown", null, null))
+      .isInstanceOf(MethodNotFoundException.class);
+  }
+
+  @Test
+  public void shouldPurgeBeanClasses() throws Exception {
+    // given
+    resolver.invoke(context, new Bean(), "greet", null, new Object[] { "Kermit" });
+    resolver.getValue(context, new Bean(), "name");
+    assertThat(getCache("cache")).containsKey(Bean.class);
+    assertThat(getCache("methodCache")).containsKey(Bean.class);
+
+    // when
+    Method purge = BeanELResolver.class.getDeclaredMethod("purgeBeanClasses", ClassLoader.class);
+    purge.setAccessible(true);
+    purge.invoke(resolver, Bean.class.getClassLoader());
+
+    // then
+    assertThat(getCache("cache")).isEmpty();
+    assertThat(getCache("methodCache")).isEmpty();
+    assertThat(resolver.invoke(context, new Bean(), "greet", null, new Object[] { "Kermit" })).isEqualTo("Hello Kermit");
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Map<Class<?>, ?> getCache(String name) throws Exception {
+    Field field = BeanELResolver.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return (Map<Class<?>, ?>) field.get(resolver);
+  }
+
+  public static class Bean {
+
+    protected boolean touched;
+
+    public String getName() {
+      return "bean";
+    }
+
+    public String getBroken() {
+      throw new IllegalStateException("broken");
+    }
+
+    public String greet(String name) {
+      return "Hello " + name;
+    }
+
+    public int add(int a, int b) {
+      return a + b;
+    }
+
+    public static long twice(long value) {
+      return 2 * value;
+    }
+
+    public String join(String... values) {
+      return String.join(",", values);
+    }
+
+    public void touch() {
+      touched = true;
+    }
+
+    public void fail() {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.juel.Builder;
+import org.camunda.bpm.engine.impl.juel.Cache;
+import org.camunda.bpm.engine.impl.juel.Tree;
+import org.junit.Test;
+
+public class TreeCacheTest {
+
+  protected Builder builder = new Builder();
+
+  @Test
+  public void shouldMoveEvictedTreesToSecondaryMap() {
+    // given
+    Map<String, Tree> secondary = new HashMap<>();
+    Cache cache = new Cache(2, secondary);
+
+    // when
+    put(cache, "${a}");
+    put(cache, "${b}");
+    put(cache, "${c}");
+
+    // then
+    assertThat(secondary).containsOnlyKeys("${a}");
+    assertThat(cache.get("${a}")).isSameAs(secondary.get("${a}"));
+    assertThat(cache.get("${b}")).isNotNull();
+    assertThat(cache.get("${c}")).isNotNull();
+  }
+
+  @Test
+  public void shouldKeepRecentlyUsedTree() {
+    // given
+    Map<String, Tree> secondary = new HashMap<>();
+    Cache cache = new Cache(2, secondary);
+    put(cache, "${a}");
+    put(cache, "${b}");
+
+    // when
+    cache.get("${a}");
+    put(cache, "${c}");
+
+    // then
+    assertThat(secondary).containsOnlyKeys("${b}");
+  }
+
+  @Test
+  public void shouldNotExceedSizeUnderConcurrentAccess() throws Exception {
+    // given
+    final Map<String, Tree> secondary = new HashMap<>();
+    final Cache cache = new Cache(50, secondary);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int thread = 0; thread < 4; thread++) {
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < 500; i++) {
+          String expression = "${x" + (i % 200) + "}";
+          if (cache.get(expression) == null) {
+            put(cache, expression);
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // then
+    int cached = 0;
+    for (int i = 0; i < 200; i++) {
+      String expression = "${x" + i + "}";
+      Tree tree = cache.get(expression);
+      if (tree != null && !secondary.containsKey(expression)) {
+        cached++;
+      }
+    }
+    assertThat(cached).isLessThanOrEqualTo(50);
+  }
+
+  protected void put(Cache cache, String expression) {
+    cache.put(expression, builder.build(expression));
+  }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.steps;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestRunContext;
+
+/**
+ * Deletes the process instance whose id is stored under the given key.
+ */
+public class DeleteProcessInstanceStep extends ProcessEngineAwareStep {
+
+  protected String processInstanceIdKey;
+
+  public DeleteProcessInstanceStep(ProcessEngine processEngine, String processInstanceIdKey) {
+    super(processEngine);
+    this.processInstanceIdKey = processInstanceIdKey;
+  }
+
+  public void execute(PerfTestRunContext context) {
+    String processInstanceId = context.getVariable(processInstanceIdKey);
+    runtimeService.deleteProcessInstance(processInstanceId, null);
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.bpmn;
+
+import static org.camunda.bpm.qa.performance.engine.steps.PerfTestConstants.PROCESS_INSTANCE_ID;
+
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.qa.performance.engine.junit.ProcessEnginePerformanceTestCase;
+import org.camunda.bpm.qa.performance.engine.steps.DeleteProcessInstanceStep;
+import org.camunda.bpm.qa.performance.engine.steps.StartProcessInstanceStep;
+import org.junit.Test;
+
+/**
+ * Measures commands whose flush contains a large number of entity operations:
+ * starting a parallel multi-instance activity with 1000 instances inserts the
+ * whole execution tree at once and deleting the process instance removes it again.
+ */
+public class LargeFlushPerformanceTest extends ProcessEnginePerformanceTestCase {
+
+  @Test
+  @Deployment
+  public void parallelMultiInstanceUserTasks() {
+    performanceTest()
+      .step(new StartProcessInstanceStep(engine, "process"))
+      .step(new DeleteProcessInstanceStep(engine, PROCESS_INSTANCE_ID))
+    .run();
+  }
+
+}
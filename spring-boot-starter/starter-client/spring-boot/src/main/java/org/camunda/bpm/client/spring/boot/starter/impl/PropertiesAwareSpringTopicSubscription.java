@@ -86,6 +86,9 @@ public class PropertiesAwareSpringTopicSubscription extends SpringTopicSubscript
       if (subscriptionProperties.getTenantIdIn() != null) {
         merge.setTenantIdIn(subscriptionProperties.getTenantIdIn());
       }
+      if (subscriptionProperties.getPartitionIn() != null) {
+        merge.setPartitionIn(subscriptionProperties.getPartitionIn());
+      }
       if (subscriptionProperties.getIncludeExtensionProperties() != null) {
         merge.setIncludeExtensionProperties(subscriptionProperties.getIncludeExtensionProperties());
       }
@@ -156,6 +156,12 @@ public @interface ExternalTaskSubscription {
    */
   boolean includeExtensionProperties() default false;
 
+  /**
+   * @return partitions to filter for external tasks that are supposed to be fetched and locked.
+   * External tasks of all partitions are fetched by default.
+   */
+  int[] partitionIn() default {};
+
   /**
    * Element of {@link #processVariables()}
    */
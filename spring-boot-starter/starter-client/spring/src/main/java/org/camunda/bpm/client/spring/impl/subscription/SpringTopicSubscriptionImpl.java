@@ -116,6 +116,10 @@ public class SpringTopicSubscriptionImpl
     if (tenantIdIn != null) {
       topicSubscriptionBuilder.tenantIdIn(toArray(tenantIdIn));
     }
+    List<Integer> partitionIn = subscriptionConfiguration.getPartitionIn();
+    if (partitionIn != null) {
+      topicSubscriptionBuilder.partitionIn(partitionIn.toArray(new Integer[0]));
+    }
     Boolean includeExtensionProperties = subscriptionConfiguration.getIncludeExtensionProperties();
     if (includeExtensionProperties != null && includeExtensionProperties) {
       topicSubscriptionBuilder.includeExtensionProperties(true);
@@ -260,6 +264,11 @@ public class SpringTopicSubscriptionImpl
     return subscriptionConfiguration.getTenantIdIn();
   }
 
+  @Override
+  public List<Integer> getPartitionIn() {
+    return subscriptionConfiguration.getPartitionIn();
+  }
+
   @Override
   public boolean isIncludeExtensionProperties() {
     return subscriptionConfiguration.getIncludeExtensionProperties();
@@ -46,6 +46,7 @@ public class SubscriptionConfiguration {
   protected Boolean withoutTenantId;
   protected List<String> tenantIdIn;
   protected Boolean includeExtensionProperties;
+  protected List<Integer> partitionIn;
 
   public Boolean getAutoOpen() {
     return autoOpen;
@@ -159,6 +160,14 @@ public class SubscriptionConfiguration {
     this.tenantIdIn = tenantIdIn;
   }
 
+  public List<Integer> getPartitionIn() {
+    return partitionIn;
+  }
+
+  public void setPartitionIn(List<Integer> partitionIn) {
+    this.partitionIn = partitionIn;
+  }
+
   public Boolean getIncludeExtensionProperties() {
     return includeExtensionProperties;
   }
@@ -212,6 +221,10 @@ public class SubscriptionConfiguration {
     setTenantIdIn(isNull(tenantIdIn) ? null : Arrays.asList(tenantIdIn));
 
     setIncludeExtensionProperties(config.includeExtensionProperties());
+
+    int[] partitionIn = config.partitionIn();
+    setPartitionIn(partitionIn.length == 0 ? null :
+        Arrays.stream(partitionIn).boxed().collect(Collectors.toList()));
   }
 
   protected static boolean isNull(String[] values) {
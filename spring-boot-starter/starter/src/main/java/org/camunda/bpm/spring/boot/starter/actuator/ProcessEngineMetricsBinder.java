@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.spring.boot.starter.actuator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.metrics.Histogram;
+import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.management.HistogramSnapshot;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the latency histograms of the process engine to Micrometer. Every
+ * histogram is exposed as a counter of recorded values and as gauges of its
+ * mean, maximum and percentiles, in microseconds.
+ *
+ * <p>If command statistics are enabled, every completed command is recorded as
+ * a timer per phase (execution, flush and commit) and a counter of the SQL
+ * statements it issued, both tagged with the command name.</p>
+ */
+public class ProcessEngineMetricsBinder implements MeterBinder {
+
+  protected static final String METER_PREFIX = "camunda.";
+  protected static final String BASE_UNIT = "microseconds";
+  protected static final double[] PERCENTILES = { 50, 95, 99, 99.9 };
+  protected static final String COMMAND_METER_PREFIX = METER_PREFIX + "command.";
+
+  private final ProcessEngine processEngine;
+
+  public ProcessEngineMetricsBinder(ProcessEngine processEngine) {
+    Assert.notNull(processEngine, "processEngine must not be null");
+    this.processEngine = processEngine;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+    MetricsRegistry metricsRegistry = configuration.getMetricsRegistry();
+    if (metricsRegistry != null) {
+      for (Map.Entry<String, Histogram> entry : metricsRegistry.getHistograms().entrySet()) {
+        bindHistogram(registry, METER_PREFIX + entry.getKey(), entry.getValue());
+      }
+    }
+
+    CommandStatisticsRecorder commandStatisticsRecorder = configuration.getCommandStatisticsRecorder();
+    if (commandStatisticsRecorder != null) {
+      commandStatisticsRecorder.addListener(statistics -> recordCommand(registry, statistics));
+    }
+  }
+
+  protected void recordCommand(MeterRegistry registry, CommandExecutionStatistics statistics) {
+    String command = statistics.getCommandName();
+    recordCommandPhase(registry, command, "execution", statistics.getExecutionNanos());
+    recordCommandPhase(registry, command, "flush", statistics.getFlushNanos());
+    recordCommandPhase(registry, command, "commit", statistics.getCommitNanos());
+
+    Counter.builder(COMMAND_METER_PREFIX + "sql.statements")
+        .tag("engine", processEngine.getName())
+        .tag("command", command)
+        .register(registry)
+        .increment(statistics.getSqlStatementCount());
+  }
+
+  protected void recordCommandPhase(MeterRegistry registry, String command, String phase, long nanos) {
+    Timer.builder(COMMAND_METER_PREFIX + "duration")
+        .tag("engine", processEngine.getName())
+        .tag("command", command)
+        .tag("phase", phase)
+        .register(registry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  protected void bindHistogram(MeterRegistry registry, String name, Histogram histogram) {
+    FunctionCounter.builder(name + ".count", histogram, h -> h.getSnapshot().getCount())
+        .tag("engine", processEngine.getName())
+        .register(registry);
+
+    bindGauge(registry, name + ".mean", histogram, HistogramSnapshot::getMean, null);
+    bindGauge(registry, name + ".max", histogram, HistogramSnapshot::getMax, null);
+
+    for (double percentile : PERCENTILES) {
+      String percentileTag = String.valueOf(percentile / 100);
+      bindGauge(registry, name + ".percentile", histogram, s -> s.getValueAtPercentile(percentile), percentileTag);
+    }
+  }
+
+  protected void bindGauge(MeterRegistry registry, String name, Histogram histogram,
+      ToDoubleFunction<HistogramSnapshot> value, String percentileTag) {
+
+    Gauge.Builder<Histogram> builder = Gauge.builder(name, histogram, h -> value.applyAsDouble(h.getSnapshot()))
+        .baseUnit(BASE_UNIT)
+        .tag("engine", processEngine.getName());
+
+    if (percentileTag != null) {
+      builder.tag("percentile", percentileTag);
+    }
+
+    builder.register(registry);
+  }
+
+}
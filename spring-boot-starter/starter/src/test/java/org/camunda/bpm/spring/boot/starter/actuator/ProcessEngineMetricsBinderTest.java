@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.spring.boot.starter.actuator;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
+import org.camunda.bpm.engine.impl.metrics.command.CommandExecutionStatistics;
+import org.camunda.bpm.engine.impl.metrics.command.CommandStatisticsRecorder;
+import org.camunda.bpm.engine.management.Metrics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProcessEngineMetricsBinderTest {
+
+  private static final String PROCESS_ENGINE_NAME = "process engine name";
+
+  @Mock
+  private ProcessEngine processEngine;
+
+  @Mock
+  private ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullTest() {
+    new ProcessEngineMetricsBinder(null);
+  }
+
+  @Test
+  public void histogramTest() {
+    MetricsRegistry metricsRegistry = new MetricsRegistry();
+    metricsRegistry.createHistogram(Metrics.COMMAND_DURATION);
+    metricsRegistry.recordValue(Metrics.COMMAND_DURATION, 10);
+    metricsRegistry.recordValue(Metrics.COMMAND_DURATION, 20);
+
+    when(processEngine.getName()).thenReturn(PROCESS_ENGINE_NAME);
+    when(processEngine.getProcessEngineConfiguration()).thenReturn(processEngineConfiguration);
+    when(processEngineConfiguration.getMetricsRegistry()).thenReturn(metricsRegistry);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new ProcessEngineMetricsBinder(processEngine).bindTo(registry);
+
+    assertEquals(2, registry.get("camunda.command-duration.count").functionCounter().count(), 0);
+    assertEquals(20, registry.get("camunda.command-duration.max").gauge().value(), 0);
+    assertEquals(15, registry.get("camunda.command-duration.mean").gauge().value(), 0);
+    assertEquals(20, registry.get("camunda.command-duration.percentile").tag("percentile", "0.99").gauge().value(), 0);
+  }
+
+  @Test
+  public void commandStatisticsTest() {
+    CommandStatisticsRecorder recorder = new CommandStatisticsRecorder(10);
+
+    when(processEngine.getName()).thenReturn(PROCESS_ENGINE_NAME);
+    when(processEngine.getProcessEngineConfiguration()).thenReturn(processEngineConfiguration);
+    when(processEngineConfiguration.getCommandStatisticsRecorder()).thenReturn(recorder);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new ProcessEngineMetricsBinder(processEngine).bindTo(registry);
+
+    CommandExecutionStatistics execution = recorder.startExecution("StartProcessInstanceCmd");
+    execution.recordSqlStatement("insertExecution", 1000, 1);
+    execution.recordSqlStatement("insertTask", 1000, 1);
+    execution.addFlushTime(2000);
+    recorder.completeExecution(execution, 5000, false);
+
+    Timer flush = registry.get("camunda.command.duration")
+        .tag("command", "StartProcessInstanceCmd")
+        .tag("phase", "flush")
+        .timer();
+    assertEquals(1, flush.count());
+    assertEquals(2000, flush.totalTime(TimeUnit.NANOSECONDS), 0);
+    assertEquals(3000, registry.get("camunda.command.duration").tag("phase", "execution").timer().totalTime(TimeUnit.NANOSECONDS), 0);
+    assertEquals(2, registry.get("camunda.command.sql.statements").counter().count(), 0);
+  }
+}